@@ -2353,3 +2353,669 @@ CREATE INDEX IF NOT EXISTS idx_users_locked_until
     ON users (locked_until)
     WHERE deleted = FALSE;
 
+-- ===========================================================================
+-- Source: src/main/resources/db/migration/V35__analytics_daily_rollups.sql
+-- ===========================================================================
+-- Per-tenant analytics rollups maintained by row triggers on the source tables.
+-- Writers take a shared per-tenant advisory lock; analytics_rebuild_rollups takes it exclusively.
+
+CREATE TABLE analytics_collection_daily (
+    tenant_id UUID NOT NULL REFERENCES tenant (id),
+    rollup_date DATE NOT NULL,
+    billed_amount NUMERIC(16, 2) NOT NULL DEFAULT 0,
+    collected_amount NUMERIC(16, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (tenant_id, rollup_date)
+);
+
+CREATE TABLE analytics_ledger_daily (
+    tenant_id UUID NOT NULL REFERENCES tenant (id),
+    rollup_date DATE NOT NULL,
+    entry_type VARCHAR(20) NOT NULL,
+    category VARCHAR(80) NOT NULL,
+    entry_count BIGINT NOT NULL DEFAULT 0,
+    amount NUMERIC(16, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (tenant_id, rollup_date, entry_type, category)
+);
+
+CREATE TABLE analytics_visitor_daily (
+    tenant_id UUID NOT NULL REFERENCES tenant (id),
+    visit_date DATE NOT NULL,
+    visitor_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (tenant_id, visit_date)
+);
+
+CREATE TABLE analytics_defaulter_period (
+    tenant_id UUID NOT NULL REFERENCES tenant (id),
+    bill_year INTEGER NOT NULL,
+    bill_month INTEGER NOT NULL,
+    unit_id UUID NOT NULL,
+    outstanding_bills INTEGER NOT NULL DEFAULT 0,
+    outstanding_amount NUMERIC(16, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (tenant_id, bill_year, bill_month, unit_id)
+);
+
+CREATE OR REPLACE FUNCTION analytics_rollup_lock_key(p_tenant_id UUID) RETURNS BIGINT AS $$
+    SELECT hashtextextended('analytics_rollup:' || p_tenant_id::text, 0);
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION analytics_apply_collection(
+        p_tenant_id UUID,
+        p_rollup_date DATE,
+        p_billed NUMERIC,
+        p_collected NUMERIC) RETURNS VOID AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock_shared(analytics_rollup_lock_key(p_tenant_id));
+    INSERT INTO analytics_collection_daily AS r (tenant_id, rollup_date, billed_amount, collected_amount)
+    VALUES (p_tenant_id, p_rollup_date, p_billed, p_collected)
+    ON CONFLICT (tenant_id, rollup_date) DO UPDATE
+    SET billed_amount = r.billed_amount + EXCLUDED.billed_amount,
+        collected_amount = r.collected_amount + EXCLUDED.collected_amount,
+        updated_at = CURRENT_TIMESTAMP;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION analytics_apply_ledger(
+        p_tenant_id UUID,
+        p_rollup_date DATE,
+        p_entry_type VARCHAR,
+        p_category VARCHAR,
+        p_count BIGINT,
+        p_amount NUMERIC) RETURNS VOID AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock_shared(analytics_rollup_lock_key(p_tenant_id));
+    INSERT INTO analytics_ledger_daily AS r (tenant_id, rollup_date, entry_type, category, entry_count, amount)
+    VALUES (p_tenant_id, p_rollup_date, p_entry_type, p_category, p_count, p_amount)
+    ON CONFLICT (tenant_id, rollup_date, entry_type, category) DO UPDATE
+    SET entry_count = r.entry_count + EXCLUDED.entry_count,
+        amount = r.amount + EXCLUDED.amount,
+        updated_at = CURRENT_TIMESTAMP;
+
+    IF p_count < 0 THEN
+        DELETE FROM analytics_ledger_daily
+        WHERE tenant_id = p_tenant_id
+          AND rollup_date = p_rollup_date
+          AND entry_type = p_entry_type
+          AND category = p_category
+          AND entry_count <= 0;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION analytics_apply_visitor(
+        p_tenant_id UUID,
+        p_visit_date DATE,
+        p_count BIGINT) RETURNS VOID AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock_shared(analytics_rollup_lock_key(p_tenant_id));
+    INSERT INTO analytics_visitor_daily AS r (tenant_id, visit_date, visitor_count)
+    VALUES (p_tenant_id, p_visit_date, p_count)
+    ON CONFLICT (tenant_id, visit_date) DO UPDATE
+    SET visitor_count = r.visitor_count + EXCLUDED.visitor_count,
+        updated_at = CURRENT_TIMESTAMP;
+
+    IF p_count < 0 THEN
+        DELETE FROM analytics_visitor_daily
+        WHERE tenant_id = p_tenant_id
+          AND visit_date = p_visit_date
+          AND visitor_count <= 0;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION analytics_apply_defaulter(
+        p_tenant_id UUID,
+        p_year INTEGER,
+        p_month INTEGER,
+        p_unit_id UUID,
+        p_bills INTEGER,
+        p_amount NUMERIC) RETURNS VOID AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock_shared(analytics_rollup_lock_key(p_tenant_id));
+    INSERT INTO analytics_defaulter_period AS r (tenant_id, bill_year, bill_month, unit_id, outstanding_bills, outstanding_amount)
+    VALUES (p_tenant_id, p_year, p_month, p_unit_id, p_bills, p_amount)
+    ON CONFLICT (tenant_id, bill_year, bill_month, unit_id) DO UPDATE
+    SET outstanding_bills = r.outstanding_bills + EXCLUDED.outstanding_bills,
+        outstanding_amount = r.outstanding_amount + EXCLUDED.outstanding_amount,
+        updated_at = CURRENT_TIMESTAMP;
+
+    IF p_bills < 0 THEN
+        DELETE FROM analytics_defaulter_period
+        WHERE tenant_id = p_tenant_id
+          AND bill_year = p_year
+          AND bill_month = p_month
+          AND unit_id = p_unit_id
+          AND outstanding_bills <= 0;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION analytics_rollup_maintenance_bill() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        IF NOT OLD.deleted THEN
+            PERFORM analytics_apply_collection(OLD.tenant_id, OLD.due_date, -OLD.amount, 0);
+            IF OLD.status IN ('PENDING', 'OVERDUE') THEN
+                PERFORM analytics_apply_defaulter(OLD.tenant_id, OLD.year, OLD.month, OLD.unit_id, -1, -OLD.amount);
+            END IF;
+        END IF;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        IF NOT NEW.deleted THEN
+            PERFORM analytics_apply_collection(NEW.tenant_id, NEW.due_date, NEW.amount, 0);
+            IF NEW.status IN ('PENDING', 'OVERDUE') THEN
+                PERFORM analytics_apply_defaulter(NEW.tenant_id, NEW.year, NEW.month, NEW.unit_id, 1, NEW.amount);
+            END IF;
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION analytics_rollup_payment() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        IF NOT OLD.deleted THEN
+            PERFORM analytics_apply_collection(
+                    OLD.tenant_id, CAST(COALESCE(OLD.paid_at, OLD.created_at) AS DATE), 0, -OLD.amount);
+        END IF;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        IF NOT NEW.deleted THEN
+            PERFORM analytics_apply_collection(
+                    NEW.tenant_id, CAST(COALESCE(NEW.paid_at, NEW.created_at) AS DATE), 0, NEW.amount);
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION analytics_rollup_ledger_entry() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        IF NOT OLD.deleted THEN
+            PERFORM analytics_apply_ledger(OLD.tenant_id, OLD.entry_date, OLD.type, OLD.category, -1, -OLD.amount);
+        END IF;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        IF NOT NEW.deleted THEN
+            PERFORM analytics_apply_ledger(NEW.tenant_id, NEW.entry_date, NEW.type, NEW.category, 1, NEW.amount);
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION analytics_rollup_visitor_pass() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        IF NOT OLD.deleted THEN
+            PERFORM analytics_apply_visitor(OLD.tenant_id, CAST(OLD.valid_from AS DATE), -1);
+        END IF;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        IF NOT NEW.deleted THEN
+            PERFORM analytics_apply_visitor(NEW.tenant_id, CAST(NEW.valid_from AS DATE), 1);
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Updates only touch the rollups when a contributing column actually changes.
+CREATE TRIGGER trg_maintenance_bill_analytics_rollup
+    AFTER INSERT OR DELETE ON maintenance_bill
+    FOR EACH ROW EXECUTE FUNCTION analytics_rollup_maintenance_bill();
+
+CREATE TRIGGER trg_maintenance_bill_analytics_rollup_update
+    AFTER UPDATE ON maintenance_bill
+    FOR EACH ROW
+    WHEN (OLD.tenant_id IS DISTINCT FROM NEW.tenant_id
+        OR OLD.unit_id IS DISTINCT FROM NEW.unit_id
+        OR OLD.year IS DISTINCT FROM NEW.year
+        OR OLD.month IS DISTINCT FROM NEW.month
+        OR OLD.amount IS DISTINCT FROM NEW.amount
+        OR OLD.due_date IS DISTINCT FROM NEW.due_date
+        OR OLD.status IS DISTINCT FROM NEW.status
+        OR OLD.deleted IS DISTINCT FROM NEW.deleted)
+    EXECUTE FUNCTION analytics_rollup_maintenance_bill();
+
+CREATE TRIGGER trg_payment_analytics_rollup
+    AFTER INSERT OR DELETE ON payment
+    FOR EACH ROW EXECUTE FUNCTION analytics_rollup_payment();
+
+CREATE TRIGGER trg_payment_analytics_rollup_update
+    AFTER UPDATE ON payment
+    FOR EACH ROW
+    WHEN (OLD.tenant_id IS DISTINCT FROM NEW.tenant_id
+        OR OLD.amount IS DISTINCT FROM NEW.amount
+        OR OLD.paid_at IS DISTINCT FROM NEW.paid_at
+        OR OLD.created_at IS DISTINCT FROM NEW.created_at
+        OR OLD.deleted IS DISTINCT FROM NEW.deleted)
+    EXECUTE FUNCTION analytics_rollup_payment();
+
+CREATE TRIGGER trg_ledger_entry_analytics_rollup
+    AFTER INSERT OR DELETE ON ledger_entry
+    FOR EACH ROW EXECUTE FUNCTION analytics_rollup_ledger_entry();
+
+CREATE TRIGGER trg_ledger_entry_analytics_rollup_update
+    AFTER UPDATE ON ledger_entry
+    FOR EACH ROW
+    WHEN (OLD.tenant_id IS DISTINCT FROM NEW.tenant_id
+        OR OLD.type IS DISTINCT FROM NEW.type
+        OR OLD.category IS DISTINCT FROM NEW.category
+        OR OLD.amount IS DISTINCT FROM NEW.amount
+        OR OLD.entry_date IS DISTINCT FROM NEW.entry_date
+        OR OLD.deleted IS DISTINCT FROM NEW.deleted)
+    EXECUTE FUNCTION analytics_rollup_ledger_entry();
+
+CREATE TRIGGER trg_visitor_pass_analytics_rollup
+    AFTER INSERT OR DELETE ON visitor_pass
+    FOR EACH ROW EXECUTE FUNCTION analytics_rollup_visitor_pass();
+
+CREATE TRIGGER trg_visitor_pass_analytics_rollup_update
+    AFTER UPDATE ON visitor_pass
+    FOR EACH ROW
+    WHEN (OLD.tenant_id IS DISTINCT FROM NEW.tenant_id
+        OR OLD.valid_from IS DISTINCT FROM NEW.valid_from
+        OR OLD.deleted IS DISTINCT FROM NEW.deleted)
+    EXECUTE FUNCTION analytics_rollup_visitor_pass();
+
+CREATE OR REPLACE FUNCTION analytics_rebuild_rollups(p_tenant_id UUID) RETURNS VOID AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(analytics_rollup_lock_key(p_tenant_id));
+
+    DELETE FROM analytics_collection_daily WHERE tenant_id = p_tenant_id;
+    DELETE FROM analytics_ledger_daily WHERE tenant_id = p_tenant_id;
+    DELETE FROM analytics_visitor_daily WHERE tenant_id = p_tenant_id;
+    DELETE FROM analytics_defaulter_period WHERE tenant_id = p_tenant_id;
+
+    INSERT INTO analytics_collection_daily (tenant_id, rollup_date, billed_amount, collected_amount)
+    SELECT p_tenant_id, rollup_date, SUM(billed_amount), SUM(collected_amount)
+    FROM (
+        SELECT due_date AS rollup_date, amount AS billed_amount, 0 AS collected_amount
+        FROM maintenance_bill
+        WHERE tenant_id = p_tenant_id AND deleted = FALSE
+        UNION ALL
+        SELECT CAST(COALESCE(paid_at, created_at) AS DATE), 0, amount
+        FROM payment
+        WHERE tenant_id = p_tenant_id AND deleted = FALSE
+    ) source
+    GROUP BY rollup_date;
+
+    INSERT INTO analytics_ledger_daily (tenant_id, rollup_date, entry_type, category, entry_count, amount)
+    SELECT p_tenant_id, entry_date, type, category, COUNT(*), SUM(amount)
+    FROM ledger_entry
+    WHERE tenant_id = p_tenant_id AND deleted = FALSE
+    GROUP BY entry_date, type, category;
+
+    INSERT INTO analytics_visitor_daily (tenant_id, visit_date, visitor_count)
+    SELECT p_tenant_id, CAST(valid_from AS DATE), COUNT(*)
+    FROM visitor_pass
+    WHERE tenant_id = p_tenant_id AND deleted = FALSE
+    GROUP BY CAST(valid_from AS DATE);
+
+    INSERT INTO analytics_defaulter_period (tenant_id, bill_year, bill_month, unit_id, outstanding_bills, outstanding_amount)
+    SELECT p_tenant_id, year, month, unit_id, COUNT(*), SUM(amount)
+    FROM maintenance_bill
+    WHERE tenant_id = p_tenant_id
+      AND deleted = FALSE
+      AND status IN ('PENDING', 'OVERDUE')
+    GROUP BY year, month, unit_id;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT analytics_rebuild_rollups(id) FROM tenant;
+
+-- ===========================================================================
+-- Source: src/main/resources/db/migration/V36__financial_report_indexes.sql
+-- ===========================================================================
+CREATE INDEX idx_ledger_entry_report
+    ON ledger_entry (tenant_id, entry_date)
+    INCLUDE (account_head_id, type, amount)
+    WHERE deleted = FALSE;
+
+CREATE INDEX idx_vendor_payment_status_date
+    ON vendor_payment (tenant_id, status, payment_date)
+    WHERE deleted = FALSE;
+
+-- ===========================================================================
+-- Source: src/main/resources/db/migration/V37__export_stream_indexes.sql
+-- ===========================================================================
+CREATE INDEX idx_audit_log_tenant_created_at
+    ON audit_log (tenant_id, created_at DESC)
+    WHERE deleted = FALSE;
+
+CREATE INDEX idx_system_log_tenant_created_at
+    ON system_log (tenant_id, created_at DESC)
+    WHERE deleted = FALSE;
+
+CREATE INDEX idx_api_request_log_tenant_created_at
+    ON api_request_log (tenant_id, created_at DESC)
+    WHERE deleted = FALSE;
+
+CREATE INDEX idx_visitor_entry_exit_log_tenant_entry_time
+    ON visitor_entry_exit_log (tenant_id, entry_time DESC)
+    WHERE deleted = FALSE;
+
+-- ===========================================================================
+-- Source: src/main/resources/db/migration/V38__notification_dispatch_outbox.sql
+-- ===========================================================================
+ALTER TABLE notification_email_log
+    ADD COLUMN attempt_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN next_attempt_at TIMESTAMP;
+
+CREATE INDEX idx_notification_email_log_due
+    ON notification_email_log (next_attempt_at)
+    WHERE status = 'PENDING' AND deleted = FALSE;
+
+-- ===========================================================================
+-- Source: src/main/resources/db/migration/V39__announcement_audience_filters.sql
+-- ===========================================================================
+ALTER TABLE announcement
+    ADD COLUMN target_block VARCHAR(50),
+    ADD COLUMN target_ownership_status VARCHAR(20);
+
+CREATE INDEX idx_users_tenant_active_recipient
+    ON users (tenant_id, id)
+    INCLUDE (role, unit_id, email)
+    WHERE status = 'ACTIVE' AND deleted = FALSE;
+
+CREATE INDEX idx_unit_tenant_block ON unit (tenant_id, block_name) WHERE deleted = FALSE;
+
+-- ===========================================================================
+-- Source: src/main/resources/db/migration/V40__domain_event_outbox.sql
+-- ===========================================================================
+CREATE TABLE domain_event_outbox (
+    sequence BIGSERIAL PRIMARY KEY,
+    id UUID NOT NULL UNIQUE,
+    tenant_id UUID,
+    actor_id UUID,
+    event_type VARCHAR(128) NOT NULL,
+    aggregate_type VARCHAR(128) NOT NULL,
+    aggregate_id UUID,
+    payload TEXT,
+    occurred_at TIMESTAMP NOT NULL,
+    attempt_count INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    locked_until TIMESTAMP,
+    published_at TIMESTAMP,
+    dead_lettered_at TIMESTAMP,
+    last_error VARCHAR(1000)
+);
+
+CREATE INDEX idx_domain_event_outbox_pending
+    ON domain_event_outbox (sequence)
+    WHERE published_at IS NULL AND dead_lettered_at IS NULL;
+
+CREATE INDEX idx_domain_event_outbox_aggregate
+    ON domain_event_outbox (aggregate_type, aggregate_id, sequence)
+    WHERE published_at IS NULL AND dead_lettered_at IS NULL;
+
+CREATE INDEX idx_domain_event_outbox_published
+    ON domain_event_outbox (published_at)
+    WHERE published_at IS NOT NULL;
+
+-- ===========================================================================
+-- Source: src/main/resources/db/migration/V41__amenity_booking_exclusion.sql
+-- ===========================================================================
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Bookings that slipped past the old check-then-insert race cannot coexist with the constraint below.
+-- Walk the contested bookings oldest first and reject one only if it overlaps a booking that is still live,
+-- so a rejected booking never knocks out a later one it alone overlapped.
+DO $$
+DECLARE
+    candidate RECORD;
+BEGIN
+    FOR candidate IN
+        SELECT b.id, b.amenity_id, b.start_time, b.end_time, b.created_at
+        FROM amenity_booking b
+        WHERE b.deleted = FALSE
+          AND b.status IN ('PENDING', 'CONFIRMED')
+          AND EXISTS (
+              SELECT 1
+              FROM amenity_booking o
+              WHERE o.amenity_id = b.amenity_id
+                AND o.id <> b.id
+                AND o.deleted = FALSE
+                AND o.status IN ('PENDING', 'CONFIRMED')
+                AND o.start_time < b.end_time
+                AND o.end_time > b.start_time)
+        ORDER BY b.created_at, b.id
+    LOOP
+        UPDATE amenity_booking b
+        SET status = 'REJECTED',
+            notes = LEFT(CONCAT_WS(' ', b.notes, '[Rejected: overlapped an earlier booking]'), 500),
+            updated_at = CURRENT_TIMESTAMP
+        WHERE b.id = candidate.id
+          AND EXISTS (
+              SELECT 1
+              FROM amenity_booking o
+              WHERE o.amenity_id = candidate.amenity_id
+                AND o.id <> candidate.id
+                AND o.deleted = FALSE
+                AND o.status IN ('PENDING', 'CONFIRMED')
+                AND o.start_time < candidate.end_time
+                AND o.end_time > candidate.start_time
+                AND (o.created_at, o.id) < (candidate.created_at, candidate.id));
+    END LOOP;
+END $$;
+
+ALTER TABLE amenity_booking
+    ADD CONSTRAINT ex_amenity_booking_no_overlap
+    EXCLUDE USING gist (
+        amenity_id WITH =,
+        tsrange(start_time, end_time, '[)') WITH &&)
+    WHERE (deleted = FALSE AND status IN ('PENDING', 'CONFIRMED'));
+
+-- ===========================================================================
+-- Source: src/main/resources/db/migration/V42__gate_qr_index_sync.sql
+-- ===========================================================================
+-- The gate QR indexes re-read recently changed passes and cards on every sync and warm from the valid set at startup.
+CREATE INDEX idx_visitor_pass_updated_at ON visitor_pass (updated_at);
+CREATE INDEX idx_visitor_pass_gate_valid ON visitor_pass (valid_to)
+    WHERE deleted = FALSE AND status IN ('APPROVED', 'ACTIVE');
+CREATE INDEX idx_digital_id_card_updated_at ON digital_id_card (updated_at);
+
+-- ===========================================================================
+-- Source: src/main/resources/db/migration/V43__visitor_gate_event.sql
+-- ===========================================================================
+-- Idempotency ledger for batched gate events from offline guard devices. A key is recorded only once its event has
+-- been applied, so rejected events can be corrected and resent under the same key.
+CREATE TABLE visitor_gate_event (
+    tenant_id UUID NOT NULL REFERENCES tenant (id),
+    idempotency_key VARCHAR(100) NOT NULL,
+    event_type VARCHAR(10) NOT NULL,
+    visitor_pass_id UUID NOT NULL REFERENCES visitor_pass (id),
+    visitor_log_id UUID NOT NULL REFERENCES visitor_entry_exit_log (id),
+    occurred_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (tenant_id, idempotency_key)
+);
+
+CREATE INDEX idx_visitor_gate_event_created_at ON visitor_gate_event (created_at);
+
+-- ===========================================================================
+-- Source: src/main/resources/db/migration/V44__search_indexes.sql
+-- ===========================================================================
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Visitor search matches any part of the name or phone number, so both columns get trigram indexes that serve
+-- LIKE '%...%' without a sequential scan.
+CREATE INDEX idx_visitor_name_trgm ON visitor USING GIN (lower(visitor_name) gin_trgm_ops);
+CREATE INDEX idx_visitor_phone_trgm ON visitor USING GIN (phone gin_trgm_ops);
+
+-- Listings and documents are searched by word prefix and ranked with ts_rank over weighted, generated vectors.
+ALTER TABLE marketplace_listing
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+CREATE INDEX idx_marketplace_listing_search ON marketplace_listing USING GIN (search_vector);
+
+ALTER TABLE document
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(document_name, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(tags, '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+    ) STORED;
+CREATE INDEX idx_document_search ON document USING GIN (search_vector);
+
+-- ===========================================================================
+-- Source: src/main/resources/db/migration/V45__billing_runs.sql
+-- ===========================================================================
+-- Invoice numbers come from a per-tenant, per-year counter instead of random probing, so they are unique per tenant.
+CREATE TABLE invoice_number_sequence (
+    tenant_id UUID NOT NULL REFERENCES tenant (id),
+    invoice_year INTEGER NOT NULL,
+    last_value BIGINT NOT NULL,
+    PRIMARY KEY (tenant_id, invoice_year)
+);
+
+ALTER TABLE invoice DROP CONSTRAINT IF EXISTS invoice_invoice_number_key;
+ALTER TABLE invoice ADD CONSTRAINT uk_invoice_tenant_number UNIQUE (tenant_id, invoice_number);
+
+-- A billing run invoices every eligible unit of a cycle in unit-id order; last_unit_id is the resume cursor.
+CREATE TABLE billing_run (
+    tenant_id UUID NOT NULL REFERENCES tenant (id),
+    billing_cycle_id UUID NOT NULL REFERENCES billing_cycle(id),
+    invoice_date DATE NOT NULL,
+    due_date DATE NOT NULL,
+    subtotal NUMERIC(12, 2) NOT NULL,
+    late_fee NUMERIC(12, 2) NOT NULL DEFAULT 0,
+    gst_amount NUMERIC(12, 2) NOT NULL DEFAULT 0,
+    other_charges NUMERIC(12, 2) NOT NULL DEFAULT 0,
+    status VARCHAR(20) NOT NULL,
+    total_units INTEGER NOT NULL DEFAULT 0,
+    processed_units INTEGER NOT NULL DEFAULT 0,
+    generated_invoices INTEGER NOT NULL DEFAULT 0,
+    skipped_units INTEGER NOT NULL DEFAULT 0,
+    last_unit_id UUID,
+    requested_by UUID REFERENCES users(id),
+    started_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP,
+    last_error VARCHAR(1000),
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
+    deleted BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+CREATE INDEX idx_billing_run_cycle ON billing_run (tenant_id, billing_cycle_id);
+CREATE UNIQUE INDEX uk_billing_run_cycle_running ON billing_run (tenant_id, billing_cycle_id)
+    WHERE status = 'RUNNING' AND deleted = FALSE;
+CREATE INDEX idx_unit_billing_cursor ON unit (tenant_id, id) WHERE deleted = FALSE;
+
+-- ===========================================================================
+-- Source: src/main/resources/db/migration/V46__sla_deadlines.sql
+-- ===========================================================================
+-- SLA deadlines are computed on write; the breach sweeper only visits rows whose deadline has passed.
+ALTER TABLE complaint ADD COLUMN sla_deadline TIMESTAMP;
+
+UPDATE complaint
+SET sla_deadline = created_at + make_interval(hours => sla_hours)
+WHERE sla_hours IS NOT NULL AND sla_hours > 0;
+
+UPDATE complaint
+SET sla_breach = TRUE
+WHERE sla_deadline <= CURRENT_TIMESTAMP AND resolved_at IS NULL AND deleted = FALSE;
+
+CREATE INDEX idx_complaint_sla_due ON complaint (sla_deadline)
+    WHERE sla_breach = FALSE AND resolved_at IS NULL AND deleted = FALSE;
+
+ALTER TABLE helpdesk_ticket
+    ADD COLUMN sla_deadline TIMESTAMP,
+    ADD COLUMN sla_breach BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE helpdesk_ticket t
+SET sla_deadline = t.created_at + make_interval(hours => c.sla_hours)
+FROM helpdesk_category c
+WHERE c.id = t.category_id AND c.deleted = FALSE AND c.sla_hours IS NOT NULL AND c.sla_hours > 0;
+
+UPDATE helpdesk_ticket
+SET sla_breach = TRUE
+WHERE sla_deadline <= CURRENT_TIMESTAMP AND status IN ('OPEN', 'IN_PROGRESS') AND deleted = FALSE;
+
+CREATE INDEX idx_helpdesk_ticket_sla_due ON helpdesk_ticket (sla_deadline)
+    WHERE sla_breach = FALSE AND status IN ('OPEN', 'IN_PROGRESS') AND deleted = FALSE;
+CREATE INDEX idx_helpdesk_ticket_sla_breach ON helpdesk_ticket (tenant_id, sla_breach);
+
+-- ===========================================================================
+-- Source: src/main/resources/db/migration/V47__staff_attendance_date_index.sql
+-- ===========================================================================
+-- Attendance summaries aggregate a tenant's rows over a date range.
+CREATE INDEX idx_staff_attendance_tenant_date ON staff_attendance (tenant_id, attendance_date) WHERE deleted = FALSE;
+
+-- ===========================================================================
+-- Source: src/main/resources/db/migration/V48__vote_counters.sql
+-- ===========================================================================
+-- Poll results are served from per-option counters that each vote increments atomically.
+ALTER TABLE poll_option ADD COLUMN vote_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE poll_option o
+SET vote_count = counts.votes
+FROM (
+    SELECT option_id, count(*) AS votes
+    FROM poll_vote
+    WHERE deleted = FALSE
+    GROUP BY option_id
+) counts
+WHERE counts.option_id = o.id;
+
+-- One live vote per member and resolution; keep only the latest if duplicates slipped in.
+UPDATE meeting_vote v
+SET deleted = TRUE
+WHERE v.deleted = FALSE
+  AND EXISTS (
+      SELECT 1 FROM meeting_vote newer
+      WHERE newer.resolution_id = v.resolution_id
+        AND newer.user_id = v.user_id
+        AND newer.deleted = FALSE
+        AND (newer.voted_at, newer.id) > (v.voted_at, v.id));
+
+CREATE UNIQUE INDEX uk_meeting_vote_resolution_user ON meeting_vote (resolution_id, user_id) WHERE deleted = FALSE;
+
+UPDATE meeting_resolution r
+SET votes_for = COALESCE(counts.votes_for, 0),
+    votes_against = COALESCE(counts.votes_against, 0),
+    votes_abstain = COALESCE(counts.votes_abstain, 0)
+FROM meeting_resolution target
+LEFT JOIN (
+    SELECT resolution_id,
+        count(*) FILTER (WHERE vote = 'FOR') AS votes_for,
+        count(*) FILTER (WHERE vote = 'AGAINST') AS votes_against,
+        count(*) FILTER (WHERE vote = 'ABSTAIN') AS votes_abstain
+    FROM meeting_vote
+    WHERE deleted = FALSE
+    GROUP BY resolution_id
+) counts ON counts.resolution_id = target.id
+WHERE target.id = r.id;
+
+-- ===========================================================================
+-- Source: src/main/resources/db/migration/V49__keyset_pagination_indexes.sql
+-- ===========================================================================
+-- Keyset pages walk (created_at, id) backwards from the cursor; these indexes serve both the page scan and the
+-- created_at ordered CSV exports, so the V37 single-column variants are dropped.
+CREATE INDEX idx_audit_log_tenant_created_at_id
+    ON audit_log (tenant_id, created_at DESC, id DESC)
+    WHERE deleted = FALSE;
+DROP INDEX IF EXISTS idx_audit_log_tenant_created_at;
+
+CREATE INDEX idx_system_log_tenant_created_at_id
+    ON system_log (tenant_id, created_at DESC, id DESC)
+    WHERE deleted = FALSE;
+DROP INDEX IF EXISTS idx_system_log_tenant_created_at;
+
+CREATE INDEX idx_api_request_log_tenant_created_at_id
+    ON api_request_log (tenant_id, created_at DESC, id DESC)
+    WHERE deleted = FALSE;
+DROP INDEX IF EXISTS idx_api_request_log_tenant_created_at;
+
+CREATE INDEX idx_visitor_entry_exit_log_tenant_created_at_id
+    ON visitor_entry_exit_log (tenant_id, created_at DESC, id DESC)
+    WHERE deleted = FALSE;
@@ -381,6 +381,10 @@ generate_compose() {
       echo "      PASSWORD_POLICY_REQUIRE_SPECIAL: \${PASSWORD_POLICY_REQUIRE_SPECIAL}"
       echo "      USER_LOCKOUT_MAX_FAILED_ATTEMPTS: \${USER_LOCKOUT_MAX_FAILED_ATTEMPTS}"
       echo "      USER_LOCKOUT_DURATION_MINUTES: \${USER_LOCKOUT_DURATION_MINUTES}"
+      echo "      LOGIN_RATE_LIMIT_STORE: redis"
+      echo "      SPRING_DATA_REDIS_HOST: redis"
+      echo "      SPRING_DATA_REDIS_PORT: 6379"
+      echo "      CACHE_REDIS_ENABLED: true"
       echo "      NOTIFICATION_EMAIL_ENABLED: \${NOTIFICATION_EMAIL_ENABLED}"
       echo "      NOTIFICATION_EMAIL_FROM: \${NOTIFICATION_EMAIL_FROM}"
       echo "      SPRING_MAIL_HOST: \${SPRING_MAIL_HOST}"
@@ -4,13 +4,12 @@ import com.shield.audit.dto.SystemLogResponse;
 import com.shield.audit.service.AuditQueryService;
 import com.shield.common.dto.ApiResponse;
 import com.shield.common.dto.PagedResponse;
+import com.shield.common.export.CsvExportResponses;
 import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,6 +17,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/system-logs")
@@ -25,13 +25,14 @@ import org.springframework.web.bind.annotation.RestController;
 @PreAuthorize("hasAnyRole('ADMIN','COMMITTEE')")
 public class SystemLogController {
 
-    private static final MediaType CSV_MEDIA_TYPE = new MediaType("text", "csv");
-
     private final AuditQueryService auditQueryService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<PagedResponse<SystemLogResponse>>> list(Pageable pageable) {
-        return ResponseEntity.ok(ApiResponse.ok("System logs fetched", auditQueryService.listSystemLogs(pageable)));
+    public ResponseEntity<ApiResponse<PagedResponse<SystemLogResponse>>> list(
+            Pageable pageable,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(ApiResponse.ok("System logs fetched", auditQueryService.listSystemLogs(pageable, after, includeTotal)));
     }
 
     @GetMapping("/{id}")
@@ -57,10 +58,10 @@ public class SystemLogController {
     }
 
     @GetMapping("/export")
-    public ResponseEntity<String> export() {
-        return ResponseEntity.ok()
-                .contentType(CSV_MEDIA_TYPE)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=system-logs.csv")
-                .body(auditQueryService.exportSystemLogsCsv());
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        return CsvExportResponses.attachment("system-logs.csv", gzip, auditQueryService.exportSystemLogsCsv(from, to));
     }
 }
@@ -1,7 +1,7 @@
 package com.shield.audit.filter;
 
 import com.shield.audit.service.ApiRequestLogCommand;
-import com.shield.audit.service.ApiRequestLogService;
+import com.shield.audit.service.ApiRequestLogWriter;
 import com.shield.common.logging.CorrelationIdFilter;
 import com.shield.security.model.ShieldPrincipal;
 import jakarta.servlet.FilterChain;
@@ -23,7 +23,7 @@ public class ApiRequestLoggingFilter extends OncePerRequestFilter {
     private static final int MAX_USER_AGENT = 1000;
     private static final int MAX_ENDPOINT = 255;
 
-    private final ApiRequestLogService apiRequestLogService;
+    private final ApiRequestLogWriter apiRequestLogWriter;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -65,7 +65,7 @@ public class ApiRequestLoggingFilter extends OncePerRequestFilter {
                     requestId = request.getHeader(CorrelationIdFilter.HEADER);
                 }
 
-                apiRequestLogService.logRequest(new ApiRequestLogCommand(
+                apiRequestLogWriter.submit(new ApiRequestLogCommand(
                         requestId,
                         tenantId,
                         userId,
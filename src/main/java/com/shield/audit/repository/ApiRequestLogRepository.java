@@ -8,11 +8,33 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ApiRequestLogRepository extends JpaRepository<ApiRequestLogEntity, UUID> {
 
     Page<ApiRequestLogEntity> findAllByTenantIdAndDeletedFalse(UUID tenantId, Pageable pageable);
 
+    List<ApiRequestLogEntity> findAllByTenantIdAndDeletedFalseOrderByCreatedAtDescIdDesc(UUID tenantId, Pageable pageable);
+
+    @Query(value = """
+            SELECT l.*
+            FROM api_request_log l
+            WHERE l.tenant_id = :tenantId
+              AND l.deleted = FALSE
+              AND (l.created_at, l.id) < (:afterCreatedAt, :afterId)
+            ORDER BY l.created_at DESC, l.id DESC
+            LIMIT :limit
+            """,
+            nativeQuery = true)
+    List<ApiRequestLogEntity> findKeysetPageAfter(
+            @Param("tenantId") UUID tenantId,
+            @Param("afterCreatedAt") Instant afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit);
+
+    long countByTenantIdAndDeletedFalse(UUID tenantId);
+
     Optional<ApiRequestLogEntity> findByIdAndTenantIdAndDeletedFalse(UUID id, UUID tenantId);
 
     Page<ApiRequestLogEntity> findAllByTenantIdAndUserIdAndDeletedFalse(UUID tenantId, UUID userId, Pageable pageable);
@@ -33,6 +55,4 @@ public interface ApiRequestLogRepository extends JpaRepository<ApiRequestLogEnti
             UUID tenantId,
             Integer responseStatus,
             Pageable pageable);
-
-    List<ApiRequestLogEntity> findAllByTenantIdAndDeletedFalseOrderByCreatedAtDesc(UUID tenantId);
 }
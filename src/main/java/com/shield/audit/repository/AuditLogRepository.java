@@ -8,11 +8,33 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AuditLogRepository extends JpaRepository<AuditLogEntity, UUID> {
 
     Page<AuditLogEntity> findAllByTenantIdAndDeletedFalse(UUID tenantId, Pageable pageable);
 
+    List<AuditLogEntity> findAllByTenantIdAndDeletedFalseOrderByCreatedAtDescIdDesc(UUID tenantId, Pageable pageable);
+
+    @Query(value = """
+            SELECT l.*
+            FROM audit_log l
+            WHERE l.tenant_id = :tenantId
+              AND l.deleted = FALSE
+              AND (l.created_at, l.id) < (:afterCreatedAt, :afterId)
+            ORDER BY l.created_at DESC, l.id DESC
+            LIMIT :limit
+            """,
+            nativeQuery = true)
+    List<AuditLogEntity> findKeysetPageAfter(
+            @Param("tenantId") UUID tenantId,
+            @Param("afterCreatedAt") Instant afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit);
+
+    long countByTenantIdAndDeletedFalse(UUID tenantId);
+
     Optional<AuditLogEntity> findByIdAndTenantIdAndDeletedFalse(UUID id, UUID tenantId);
 
     Page<AuditLogEntity> findAllByTenantIdAndUserIdAndDeletedFalse(UUID tenantId, UUID userId, Pageable pageable);
@@ -26,6 +48,4 @@ public interface AuditLogRepository extends JpaRepository<AuditLogEntity, UUID>
     Page<AuditLogEntity> findAllByTenantIdAndActionAndDeletedFalse(UUID tenantId, String action, Pageable pageable);
 
     Page<AuditLogEntity> findAllByTenantIdAndCreatedAtBetweenAndDeletedFalse(UUID tenantId, Instant from, Instant to, Pageable pageable);
-
-    List<AuditLogEntity> findAllByTenantIdAndDeletedFalseOrderByCreatedAtDesc(UUID tenantId);
 }
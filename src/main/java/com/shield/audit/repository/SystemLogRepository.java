@@ -8,16 +8,36 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface SystemLogRepository extends JpaRepository<SystemLogEntity, UUID> {
 
     Page<SystemLogEntity> findAllByTenantIdAndDeletedFalse(UUID tenantId, Pageable pageable);
 
+    List<SystemLogEntity> findAllByTenantIdAndDeletedFalseOrderByCreatedAtDescIdDesc(UUID tenantId, Pageable pageable);
+
+    @Query(value = """
+            SELECT l.*
+            FROM system_log l
+            WHERE l.tenant_id = :tenantId
+              AND l.deleted = FALSE
+              AND (l.created_at, l.id) < (:afterCreatedAt, :afterId)
+            ORDER BY l.created_at DESC, l.id DESC
+            LIMIT :limit
+            """,
+            nativeQuery = true)
+    List<SystemLogEntity> findKeysetPageAfter(
+            @Param("tenantId") UUID tenantId,
+            @Param("afterCreatedAt") Instant afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit);
+
+    long countByTenantIdAndDeletedFalse(UUID tenantId);
+
     Optional<SystemLogEntity> findByIdAndTenantIdAndDeletedFalse(UUID id, UUID tenantId);
 
     Page<SystemLogEntity> findAllByTenantIdAndLogLevelAndDeletedFalse(UUID tenantId, String logLevel, Pageable pageable);
 
     Page<SystemLogEntity> findAllByTenantIdAndCreatedAtBetweenAndDeletedFalse(UUID tenantId, Instant from, Instant to, Pageable pageable);
-
-    List<SystemLogEntity> findAllByTenantIdAndDeletedFalseOrderByCreatedAtDesc(UUID tenantId);
 }
@@ -0,0 +1,7 @@
+package com.shield.audit.service;
+
+public enum ApiRequestLogOverflowPolicy {
+    DROP,
+    SAMPLE,
+    BLOCK
+}
@@ -0,0 +1,229 @@
+package com.shield.audit.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class ApiRequestLogWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO api_request_log (
+                request_id, tenant_id, user_id, endpoint, http_method, request_body,
+                response_status, response_time_ms, ip_address, user_agent, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final ApiRequestLogService apiRequestLogService;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean asyncEnabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final ApiRequestLogOverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final int sampleThreshold;
+    private final long blockTimeoutMs;
+    private final BlockingQueue<PendingApiRequestLog> queue;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong sampleCounter = new AtomicLong();
+
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private Thread drainer;
+
+    public ApiRequestLogWriter(
+            ApiRequestLogService apiRequestLogService,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${shield.audit.api-request-log.async-enabled:true}") boolean asyncEnabled,
+            @Value("${shield.audit.api-request-log.queue-capacity:10000}") int queueCapacity,
+            @Value("${shield.audit.api-request-log.batch-size:200}") int batchSize,
+            @Value("${shield.audit.api-request-log.flush-interval-ms:1000}") long flushIntervalMs,
+            @Value("${shield.audit.api-request-log.overflow-policy:DROP}") ApiRequestLogOverflowPolicy overflowPolicy,
+            @Value("${shield.audit.api-request-log.sample-rate:10}") int sampleRate,
+            @Value("${shield.audit.api-request-log.block-timeout-ms:50}") long blockTimeoutMs) {
+        this.apiRequestLogService = apiRequestLogService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.asyncEnabled = asyncEnabled;
+        int capacity = Math.max(1, queueCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = Math.max(10L, flushIntervalMs);
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.sampleThreshold = Math.max(1, (capacity * 3) / 4);
+        this.blockTimeoutMs = Math.max(0L, blockTimeoutMs);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.accepting = asyncEnabled;
+
+        Gauge.builder("shield.api.request.log.queue.depth", queue, BlockingQueue::size)
+                .description("API request logs waiting to be persisted")
+                .register(meterRegistry);
+        FunctionCounter.builder("shield.api.request.log.dropped", droppedCount, AtomicLong::get)
+                .description("API request logs discarded because of buffer overflow or write failure")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!asyncEnabled) {
+            return;
+        }
+        running = true;
+        drainer = new Thread(this::drainLoop, "api-request-log-writer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        accepting = false;
+        running = false;
+        if (drainer != null) {
+            try {
+                drainer.join(flushIntervalMs + 5000L);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushPending();
+    }
+
+    public void submit(ApiRequestLogCommand command) {
+        if (!accepting) {
+            apiRequestLogService.logRequest(command);
+            return;
+        }
+
+        PendingApiRequestLog entry = new PendingApiRequestLog(command, Instant.now());
+        boolean accepted = switch (overflowPolicy) {
+            case DROP -> queue.offer(entry);
+            case SAMPLE -> admitSampled() && queue.offer(entry);
+            case BLOCK -> offerBlocking(entry);
+        };
+        if (!accepted) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    public long droppedCount() {
+        return droppedCount.get();
+    }
+
+    void flushPending() {
+        List<PendingApiRequestLog> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private boolean admitSampled() {
+        if (queue.size() < sampleThreshold) {
+            return true;
+        }
+        return sampleCounter.incrementAndGet() % sampleRate == 0;
+    }
+
+    private boolean offerBlocking(PendingApiRequestLog entry) {
+        try {
+            return queue.offer(entry, blockTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingApiRequestLog> batch = new ArrayList<>(batchSize);
+        long flushDeadline = 0L;
+        while (running) {
+            long waitMs = batch.isEmpty() ? flushIntervalMs : Math.max(0L, flushDeadline - System.currentTimeMillis());
+            try {
+                PendingApiRequestLog next = queue.poll(waitMs, TimeUnit.MILLISECONDS);
+                if (next != null) {
+                    if (batch.isEmpty()) {
+                        flushDeadline = System.currentTimeMillis() + flushIntervalMs;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            if (!batch.isEmpty() && (batch.size() >= batchSize || System.currentTimeMillis() >= flushDeadline)) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<PendingApiRequestLog> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind);
+        } catch (RuntimeException ex) {
+            log.warn("Batch insert of {} API request logs failed, retrying row by row", batch.size(), ex);
+            for (PendingApiRequestLog entry : batch) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, entry));
+                } catch (RuntimeException rowEx) {
+                    droppedCount.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void bind(PreparedStatement ps, PendingApiRequestLog entry) throws SQLException {
+        ApiRequestLogCommand command = entry.command();
+        ps.setString(1, command.requestId());
+        setUuid(ps, 2, command.tenantId());
+        setUuid(ps, 3, command.userId());
+        ps.setString(4, command.endpoint());
+        ps.setString(5, command.httpMethod());
+        ps.setString(6, command.requestBody());
+        ps.setInt(7, command.responseStatus() == null ? 0 : command.responseStatus());
+        ps.setLong(8, command.responseTimeMs() == null ? 0L : command.responseTimeMs());
+        ps.setString(9, command.ipAddress());
+        ps.setString(10, command.userAgent());
+        ps.setTimestamp(11, Timestamp.from(entry.recordedAt()));
+    }
+
+    private void setUuid(PreparedStatement ps, int index, UUID value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.OTHER);
+        } else {
+            ps.setObject(index, value, Types.OTHER);
+        }
+    }
+
+    private record PendingApiRequestLog(ApiRequestLogCommand command, Instant recordedAt) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.shield.audit.service;
+
+import com.shield.common.event.DomainEvent;
+import com.shield.common.event.DomainEventSubscriber;
+import java.sql.Timestamp;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes one {@code audit_log} row per domain event. The row reuses the event id, so a redelivered event is a no-op.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditDomainEventSubscriber implements DomainEventSubscriber {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_log (id, tenant_id, user_id, action, entity_type, entity_id, payload, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void handle(DomainEvent event) {
+        jdbcTemplate.update(
+                INSERT_SQL,
+                event.id(),
+                event.tenantId(),
+                event.actorId(),
+                event.eventType(),
+                event.aggregateType(),
+                event.aggregateId(),
+                event.payload(),
+                Timestamp.from(event.occurredAt()));
+    }
+}
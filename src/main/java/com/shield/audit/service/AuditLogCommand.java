@@ -0,0 +1,11 @@
+package com.shield.audit.service;
+
+import java.util.UUID;
+
+public record AuditLogCommand(
+        UUID tenantId,
+        UUID userId,
+        String action,
+        String entityType,
+        UUID entityId,
+        String payload) {}
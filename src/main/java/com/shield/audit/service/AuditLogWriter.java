@@ -0,0 +1,311 @@
+package com.shield.audit.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * Collects audit rows per transaction and writes them with multi-row inserts just before commit, so a bulk operation
+ * costs one round-trip per {@code batch-size} rows instead of one per action while still rolling back with the
+ * business write. Actions listed in {@code async-actions} skip the transaction and are queued for a background
+ * writer once the caller has committed.
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO audit_log (id, tenant_id, user_id, action, entity_type, entity_id, payload, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 8;
+    private static final int MAX_BIND_PARAMETERS = 65_535;
+    private static final int MAX_ROWS_PER_STATEMENT = MAX_BIND_PARAMETERS / COLUMNS;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTemplate;
+    private final int batchSize;
+    private final boolean asyncEnabled;
+    private final Set<String> asyncActions;
+    private final long flushIntervalMs;
+    private final String fullBatchSql;
+    private final BlockingQueue<PendingAuditLog> queue;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Timer transactionalWriteTimer;
+    private final Timer asyncWriteTimer;
+    private final Timer directWriteTimer;
+    private final DistributionSummary batchRows;
+
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private Thread drainer;
+
+    public AuditLogWriter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${shield.audit.log.batch-size:500}") int batchSize,
+            @Value("${shield.audit.log.async-enabled:false}") boolean asyncEnabled,
+            @Value("${shield.audit.log.async-actions:}") Set<String> asyncActions,
+            @Value("${shield.audit.log.queue-capacity:10000}") int queueCapacity,
+            @Value("${shield.audit.log.flush-interval-ms:1000}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = Math.min(Math.max(1, batchSize), MAX_ROWS_PER_STATEMENT);
+        this.asyncActions = asyncActions.stream()
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toUnmodifiableSet());
+        this.asyncEnabled = asyncEnabled && !this.asyncActions.isEmpty();
+        this.flushIntervalMs = Math.max(10L, flushIntervalMs);
+        this.fullBatchSql = insertSql(this.batchSize);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.accepting = this.asyncEnabled;
+
+        this.transactionalWriteTimer = writeTimer(meterRegistry, "transactional");
+        this.asyncWriteTimer = writeTimer(meterRegistry, "async");
+        this.directWriteTimer = writeTimer(meterRegistry, "direct");
+        this.batchRows = DistributionSummary.builder("shield.audit.write.rows")
+                .description("Audit rows written per flush")
+                .register(meterRegistry);
+        Gauge.builder("shield.audit.async.queue.depth", queue, BlockingQueue::size)
+                .description("Asynchronous audit rows waiting to be persisted")
+                .register(meterRegistry);
+        FunctionCounter.builder("shield.audit.async.dropped", droppedCount, AtomicLong::get)
+                .description("Asynchronous audit rows that could not be persisted")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!asyncEnabled) {
+            return;
+        }
+        running = true;
+        drainer = new Thread(this::drainLoop, "audit-log-writer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        accepting = false;
+        running = false;
+        if (drainer != null) {
+            try {
+                drainer.join(flushIntervalMs + 5000L);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushPending();
+    }
+
+    public void submit(AuditLogCommand command) {
+        PendingAuditLog entry = new PendingAuditLog(UUID.randomUUID(), command, Instant.now());
+        boolean async = asyncEnabled && asyncActions.contains(command.action());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            if (async) {
+                enqueue(entry);
+            } else {
+                write(List.of(entry), directWriteTimer);
+            }
+            return;
+        }
+
+        TransactionBuffer buffer = currentBuffer();
+        if (async) {
+            buffer.deferred.add(entry);
+        } else {
+            buffer.entries.add(entry);
+        }
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    void flushPending() {
+        List<PendingAuditLog> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flushAsync(batch);
+            batch.clear();
+        }
+    }
+
+    private TransactionBuffer currentBuffer() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof TransactionBuffer buffer && buffer.owner() == this) {
+                return buffer;
+            }
+        }
+        TransactionBuffer buffer = new TransactionBuffer();
+        TransactionSynchronizationManager.registerSynchronization(buffer);
+        return buffer;
+    }
+
+    private void enqueue(PendingAuditLog entry) {
+        if (accepting && queue.offer(entry)) {
+            return;
+        }
+        requiresNewTemplate.executeWithoutResult(status -> write(List.of(entry), directWriteTimer));
+    }
+
+    private void drainLoop() {
+        List<PendingAuditLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingAuditLog next = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (next == null) {
+                    continue;
+                }
+                batch.add(next);
+                queue.drainTo(batch, batchSize - 1);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            flushAsync(batch);
+            batch.clear();
+        }
+
+        if (!batch.isEmpty()) {
+            flushAsync(batch);
+        }
+    }
+
+    private void flushAsync(List<PendingAuditLog> batch) {
+        try {
+            write(batch, asyncWriteTimer);
+        } catch (RuntimeException ex) {
+            log.warn("Batch insert of {} audit logs failed, retrying row by row", batch.size(), ex);
+            for (PendingAuditLog entry : batch) {
+                try {
+                    write(List.of(entry), asyncWriteTimer);
+                } catch (RuntimeException rowEx) {
+                    droppedCount.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void write(List<PendingAuditLog> entries, Timer timer) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        timer.record(() -> {
+            for (int from = 0; from < entries.size(); from += batchSize) {
+                List<PendingAuditLog> chunk = entries.subList(from, Math.min(entries.size(), from + batchSize));
+                String sql = chunk.size() == batchSize ? fullBatchSql : insertSql(chunk.size());
+                jdbcTemplate.update(sql, ps -> bind(ps, chunk));
+            }
+        });
+        batchRows.record(entries.size());
+    }
+
+    private void bind(PreparedStatement ps, List<PendingAuditLog> chunk) throws SQLException {
+        int index = 1;
+        for (PendingAuditLog entry : chunk) {
+            AuditLogCommand command = entry.command();
+            setUuid(ps, index++, entry.id());
+            setUuid(ps, index++, command.tenantId());
+            setUuid(ps, index++, command.userId());
+            ps.setString(index++, command.action());
+            ps.setString(index++, command.entityType());
+            setUuid(ps, index++, command.entityId());
+            ps.setString(index++, command.payload());
+            ps.setTimestamp(index++, Timestamp.from(entry.recordedAt()));
+        }
+    }
+
+    private void setUuid(PreparedStatement ps, int index, UUID value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.OTHER);
+        } else {
+            ps.setObject(index, value, Types.OTHER);
+        }
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDERS.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDERS);
+        }
+        return sql.toString();
+    }
+
+    private static Timer writeTimer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("shield.audit.write")
+                .description("Time spent persisting audit rows")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Per-transaction buffer. Rows are written in {@code beforeCommit} on the caller's connection; read-only
+     * transactions cannot insert, so their rows are written after commit in a separate transaction instead.
+     */
+    private final class TransactionBuffer implements TransactionSynchronization {
+
+        private final List<PendingAuditLog> entries = new ArrayList<>();
+        private final List<PendingAuditLog> deferred = new ArrayList<>();
+
+        private AuditLogWriter owner() {
+            return AuditLogWriter.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (readOnly || entries.isEmpty()) {
+                return;
+            }
+            write(entries, transactionalWriteTimer);
+            entries.clear();
+        }
+
+        @Override
+        public void afterCommit() {
+            if (!entries.isEmpty()) {
+                List<PendingAuditLog> readOnlyEntries = List.copyOf(entries);
+                requiresNewTemplate.executeWithoutResult(status -> write(readOnlyEntries, transactionalWriteTimer));
+            }
+            deferred.forEach(AuditLogWriter.this::enqueue);
+        }
+    }
+
+    private record PendingAuditLog(UUID id, AuditLogCommand command, Instant recordedAt) {
+    }
+}
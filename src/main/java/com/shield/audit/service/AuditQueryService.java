@@ -9,18 +9,22 @@ import com.shield.audit.entity.SystemLogEntity;
 import com.shield.audit.repository.ApiRequestLogRepository;
 import com.shield.audit.repository.AuditLogRepository;
 import com.shield.audit.repository.SystemLogRepository;
+import com.shield.common.dto.KeysetCursor;
 import com.shield.common.dto.PagedResponse;
 import com.shield.common.exception.BadRequestException;
 import com.shield.common.exception.ResourceNotFoundException;
+import com.shield.common.export.CsvStreamExporter;
 import com.shield.tenant.context.TenantContext;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Service
 @Transactional
@@ -29,21 +33,33 @@ public class AuditQueryService {
     private final AuditLogRepository auditLogRepository;
     private final SystemLogRepository systemLogRepository;
     private final ApiRequestLogRepository apiRequestLogRepository;
+    private final CsvStreamExporter csvStreamExporter;
 
     public AuditQueryService(
             AuditLogRepository auditLogRepository,
             SystemLogRepository systemLogRepository,
-            ApiRequestLogRepository apiRequestLogRepository) {
+            ApiRequestLogRepository apiRequestLogRepository,
+            CsvStreamExporter csvStreamExporter) {
         this.auditLogRepository = auditLogRepository;
         this.systemLogRepository = systemLogRepository;
         this.apiRequestLogRepository = apiRequestLogRepository;
+        this.csvStreamExporter = csvStreamExporter;
     }
 
     @Transactional(readOnly = true)
-    public PagedResponse<AuditLogResponse> listAuditLogs(Pageable pageable) {
+    public PagedResponse<AuditLogResponse> listAuditLogs(Pageable pageable, String after, boolean includeTotal) {
         UUID tenantId = TenantContext.getRequiredTenantId();
-        return PagedResponse.from(auditLogRepository.findAllByTenantIdAndDeletedFalse(tenantId, pageable)
-                .map(this::toAuditLogResponse));
+        if (after == null) {
+            return PagedResponse.from(auditLogRepository.findAllByTenantIdAndDeletedFalse(tenantId, pageable)
+                    .map(this::toAuditLogResponse));
+        }
+        int size = pageable.getPageSize();
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        List<AuditLogEntity> rows = cursor == null
+                ? auditLogRepository.findAllByTenantIdAndDeletedFalseOrderByCreatedAtDescIdDesc(tenantId, PageRequest.of(0, size + 1))
+                : auditLogRepository.findKeysetPageAfter(tenantId, cursor.createdAt(), cursor.id(), size + 1);
+        Long total = includeTotal ? auditLogRepository.countByTenantIdAndDeletedFalse(tenantId) : null;
+        return PagedResponse.keyset(rows, size, cursor == null, total, this::toAuditLogResponse);
     }
 
     @Transactional(readOnly = true)
@@ -88,31 +104,28 @@ public class AuditQueryService {
     }
 
     @Transactional(readOnly = true)
-    public String exportAuditLogsCsv() {
-        UUID tenantId = TenantContext.getRequiredTenantId();
-        List<AuditLogEntity> logs = auditLogRepository.findAllByTenantIdAndDeletedFalseOrderByCreatedAtDesc(tenantId);
-
-        StringBuilder csv = new StringBuilder();
-        csv.append("id,tenantId,userId,action,entityType,entityId,payload,createdAt\n");
-        for (AuditLogEntity log : logs) {
-            csv.append(csv(log.getId())).append(',')
-                    .append(csv(log.getTenantId())).append(',')
-                    .append(csv(log.getUserId())).append(',')
-                    .append(csv(log.getAction())).append(',')
-                    .append(csv(log.getEntityType())).append(',')
-                    .append(csv(log.getEntityId())).append(',')
-                    .append(csv(log.getPayload())).append(',')
-                    .append(csv(log.getCreatedAt()))
-                    .append('\n');
-        }
-        return csv.toString();
+    public StreamingResponseBody exportAuditLogsCsv(Instant from, Instant to) {
+        return exportCsv(
+                "id,tenantId,userId,action,entityType,entityId,payload,createdAt",
+                "SELECT id, tenant_id, user_id, action, entity_type, entity_id, payload, created_at FROM audit_log",
+                from,
+                to);
     }
 
     @Transactional(readOnly = true)
-    public PagedResponse<SystemLogResponse> listSystemLogs(Pageable pageable) {
+    public PagedResponse<SystemLogResponse> listSystemLogs(Pageable pageable, String after, boolean includeTotal) {
         UUID tenantId = TenantContext.getRequiredTenantId();
-        return PagedResponse.from(systemLogRepository.findAllByTenantIdAndDeletedFalse(tenantId, pageable)
-                .map(this::toSystemLogResponse));
+        if (after == null) {
+            return PagedResponse.from(systemLogRepository.findAllByTenantIdAndDeletedFalse(tenantId, pageable)
+                    .map(this::toSystemLogResponse));
+        }
+        int size = pageable.getPageSize();
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        List<SystemLogEntity> rows = cursor == null
+                ? systemLogRepository.findAllByTenantIdAndDeletedFalseOrderByCreatedAtDescIdDesc(tenantId, PageRequest.of(0, size + 1))
+                : systemLogRepository.findKeysetPageAfter(tenantId, cursor.createdAt(), cursor.id(), size + 1);
+        Long total = includeTotal ? systemLogRepository.countByTenantIdAndDeletedFalse(tenantId) : null;
+        return PagedResponse.keyset(rows, size, cursor == null, total, this::toSystemLogResponse);
     }
 
     @Transactional(readOnly = true)
@@ -142,32 +155,28 @@ public class AuditQueryService {
     }
 
     @Transactional(readOnly = true)
-    public String exportSystemLogsCsv() {
-        UUID tenantId = TenantContext.getRequiredTenantId();
-        List<SystemLogEntity> logs = systemLogRepository.findAllByTenantIdAndDeletedFalseOrderByCreatedAtDesc(tenantId);
-
-        StringBuilder csv = new StringBuilder();
-        csv.append("id,tenantId,userId,logLevel,loggerName,message,endpoint,correlationId,createdAt\n");
-        for (SystemLogEntity log : logs) {
-            csv.append(csv(log.getId())).append(',')
-                    .append(csv(log.getTenantId())).append(',')
-                    .append(csv(log.getUserId())).append(',')
-                    .append(csv(log.getLogLevel())).append(',')
-                    .append(csv(log.getLoggerName())).append(',')
-                    .append(csv(log.getMessage())).append(',')
-                    .append(csv(log.getEndpoint())).append(',')
-                    .append(csv(log.getCorrelationId())).append(',')
-                    .append(csv(log.getCreatedAt()))
-                    .append('\n');
-        }
-        return csv.toString();
+    public StreamingResponseBody exportSystemLogsCsv(Instant from, Instant to) {
+        return exportCsv(
+                "id,tenantId,userId,logLevel,loggerName,message,endpoint,correlationId,createdAt",
+                "SELECT id, tenant_id, user_id, log_level, logger_name, message, endpoint, correlation_id, created_at FROM system_log",
+                from,
+                to);
     }
 
     @Transactional(readOnly = true)
-    public PagedResponse<ApiRequestLogResponse> listApiRequestLogs(Pageable pageable) {
+    public PagedResponse<ApiRequestLogResponse> listApiRequestLogs(Pageable pageable, String after, boolean includeTotal) {
         UUID tenantId = TenantContext.getRequiredTenantId();
-        return PagedResponse.from(apiRequestLogRepository.findAllByTenantIdAndDeletedFalse(tenantId, pageable)
-                .map(this::toApiRequestLogResponse));
+        if (after == null) {
+            return PagedResponse.from(apiRequestLogRepository.findAllByTenantIdAndDeletedFalse(tenantId, pageable)
+                    .map(this::toApiRequestLogResponse));
+        }
+        int size = pageable.getPageSize();
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        List<ApiRequestLogEntity> rows = cursor == null
+                ? apiRequestLogRepository.findAllByTenantIdAndDeletedFalseOrderByCreatedAtDescIdDesc(tenantId, PageRequest.of(0, size + 1))
+                : apiRequestLogRepository.findKeysetPageAfter(tenantId, cursor.createdAt(), cursor.id(), size + 1);
+        Long total = includeTotal ? apiRequestLogRepository.countByTenantIdAndDeletedFalse(tenantId) : null;
+        return PagedResponse.keyset(rows, size, cursor == null, total, this::toApiRequestLogResponse);
     }
 
     @Transactional(readOnly = true)
@@ -225,26 +234,13 @@ public class AuditQueryService {
     }
 
     @Transactional(readOnly = true)
-    public String exportApiRequestLogsCsv() {
-        UUID tenantId = TenantContext.getRequiredTenantId();
-        List<ApiRequestLogEntity> logs = apiRequestLogRepository.findAllByTenantIdAndDeletedFalseOrderByCreatedAtDesc(tenantId);
-
-        StringBuilder csv = new StringBuilder();
-        csv.append("id,requestId,tenantId,userId,endpoint,httpMethod,responseStatus,responseTimeMs,ipAddress,createdAt\n");
-        for (ApiRequestLogEntity log : logs) {
-            csv.append(csv(log.getId())).append(',')
-                    .append(csv(log.getRequestId())).append(',')
-                    .append(csv(log.getTenantId())).append(',')
-                    .append(csv(log.getUserId())).append(',')
-                    .append(csv(log.getEndpoint())).append(',')
-                    .append(csv(log.getHttpMethod())).append(',')
-                    .append(csv(log.getResponseStatus())).append(',')
-                    .append(csv(log.getResponseTimeMs())).append(',')
-                    .append(csv(log.getIpAddress())).append(',')
-                    .append(csv(log.getCreatedAt()))
-                    .append('\n');
-        }
-        return csv.toString();
+    public StreamingResponseBody exportApiRequestLogsCsv(Instant from, Instant to) {
+        return exportCsv(
+                "id,requestId,tenantId,userId,endpoint,httpMethod,responseStatus,responseTimeMs,ipAddress,createdAt",
+                "SELECT id, request_id, tenant_id, user_id, endpoint, http_method, response_status, response_time_ms, ip_address, created_at"
+                        + " FROM api_request_log",
+                from,
+                to);
     }
 
     private AuditLogResponse toAuditLogResponse(AuditLogEntity entity) {
@@ -288,6 +284,23 @@ public class AuditQueryService {
                 entity.getCreatedAt());
     }
 
+    private StreamingResponseBody exportCsv(String header, String select, Instant from, Instant to) {
+        UUID tenantId = TenantContext.getRequiredTenantId();
+        if (from == null && to == null) {
+            return csvStreamExporter.stream(
+                    header,
+                    select + " WHERE tenant_id = ? AND deleted = FALSE ORDER BY created_at DESC",
+                    tenantId);
+        }
+        validateRange(from, to);
+        return csvStreamExporter.stream(
+                header,
+                select + " WHERE tenant_id = ? AND deleted = FALSE AND created_at BETWEEN ? AND ? ORDER BY created_at DESC",
+                tenantId,
+                from,
+                to);
+    }
+
     private void validateRange(Instant from, Instant to) {
         if (from == null || to == null) {
             throw new BadRequestException("from and to query params are required");
@@ -301,11 +314,4 @@ public class AuditQueryService {
         return value == null ? null : value.trim().toUpperCase();
     }
 
-    private String csv(Object value) {
-        if (value == null) {
-            return "";
-        }
-        String text = value.toString().replace("\"", "\"\"");
-        return '"' + text + '"';
-    }
 }
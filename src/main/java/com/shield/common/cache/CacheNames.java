@@ -0,0 +1,10 @@
+package com.shield.common.cache;
+
+public final class CacheNames {
+
+    public static final String ANALYTICS = "analytics";
+    public static final String FINANCIAL_REPORTS = "financialReports";
+
+    private CacheNames() {
+    }
+}
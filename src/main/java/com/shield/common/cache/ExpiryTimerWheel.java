@@ -0,0 +1,74 @@
+package com.shield.common.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+
+/**
+ * Hashed timer wheel for expiring in-memory entries. {@link #schedule} is O(1) from any thread; {@link #advance}
+ * visits only the buckets whose ticks have elapsed and carries deadlines that are more than one rotation away over
+ * to the next pass. Timeouts are never cancelled: callers check on expiry whether the key is still due.
+ * {@link #advance} must be driven by a single thread.
+ */
+public final class ExpiryTimerWheel<K> {
+
+    private final long tickMillis;
+    private final List<Queue<Timeout<K>>> buckets;
+    private volatile long currentTick;
+
+    public ExpiryTimerWheel(Duration tick, int wheelSize, Instant start) {
+        this.tickMillis = Math.max(1L, tick.toMillis());
+        int size = Math.max(1, wheelSize);
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ConcurrentLinkedQueue<>());
+        }
+        this.currentTick = Math.floorDiv(start.toEpochMilli(), tickMillis);
+    }
+
+    public void schedule(K key, Instant deadline) {
+        long deadlineTick = Math.floorDiv(deadline.toEpochMilli() + tickMillis - 1, tickMillis);
+        bucket(Math.max(deadlineTick, currentTick)).add(new Timeout<>(key, deadline, deadlineTick));
+    }
+
+    /**
+     * Fires every timeout whose deadline tick is at or before {@code now} and returns how many fired.
+     */
+    public int advance(Instant now, BiConsumer<K, Instant> onExpired) {
+        long nowTick = Math.floorDiv(now.toEpochMilli(), tickMillis);
+        long from = currentTick;
+        if (nowTick < from) {
+            return 0;
+        }
+        long to = Math.min(nowTick, from + buckets.size() - 1);
+        int fired = 0;
+        for (long tick = from; tick <= to; tick++) {
+            Queue<Timeout<K>> bucket = bucket(tick);
+            for (int remaining = bucket.size(); remaining > 0; remaining--) {
+                Timeout<K> timeout = bucket.poll();
+                if (timeout == null) {
+                    break;
+                }
+                if (timeout.deadlineTick() <= nowTick) {
+                    onExpired.accept(timeout.key(), timeout.deadline());
+                    fired++;
+                } else {
+                    bucket.add(timeout);
+                }
+            }
+        }
+        currentTick = nowTick + 1;
+        return fired;
+    }
+
+    private Queue<Timeout<K>> bucket(long tick) {
+        return buckets.get((int) Math.floorMod(tick, (long) buckets.size()));
+    }
+
+    private record Timeout<K>(K key, Instant deadline, long deadlineTick) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.shield.common.cache;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+public class TenantCacheGenerations {
+
+    private static final String REDIS_KEY_PREFIX = "shield:cache:generation:";
+    private static final Object PENDING_TENANTS_KEY = new Object();
+
+    private final Map<UUID, AtomicLong> localGenerations = new ConcurrentHashMap<>();
+    private final StringRedisTemplate redisTemplate;
+
+    public TenantCacheGenerations(
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            @Value("${shield.cache.redis.enabled:false}") boolean redisEnabled) {
+        this.redisTemplate = redisEnabled ? redisTemplateProvider.getIfAvailable() : null;
+    }
+
+    public long current(UUID tenantId) {
+        AtomicLong local = localGenerations.computeIfAbsent(tenantId, key -> new AtomicLong());
+        if (redisTemplate == null) {
+            return local.get();
+        }
+        try {
+            String shared = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + tenantId);
+            return shared == null ? local.get() : local.accumulateAndGet(Long.parseLong(shared), Math::max);
+        } catch (DataAccessException | NumberFormatException ex) {
+            log.debug("Falling back to local cache generation for tenant {}", tenantId, ex);
+            return local.get();
+        }
+    }
+
+    public void invalidate(UUID tenantId) {
+        if (tenantId == null) {
+            return;
+        }
+        AtomicLong local = localGenerations.computeIfAbsent(tenantId, key -> new AtomicLong());
+        if (redisTemplate == null) {
+            local.incrementAndGet();
+            return;
+        }
+        try {
+            Long shared = redisTemplate.opsForValue().increment(REDIS_KEY_PREFIX + tenantId);
+            long next = shared == null ? local.get() + 1 : shared;
+            local.accumulateAndGet(next, (current, candidate) -> Math.max(current + 1, candidate));
+        } catch (DataAccessException ex) {
+            log.warn("Unable to publish cache invalidation for tenant {} to Redis", tenantId, ex);
+            local.incrementAndGet();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void invalidateAfterCommit(UUID tenantId) {
+        if (tenantId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(tenantId);
+            return;
+        }
+
+        Set<UUID> pending = (Set<UUID>) TransactionSynchronizationManager.getResource(PENDING_TENANTS_KEY);
+        if (pending == null) {
+            Set<UUID> tenants = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_TENANTS_KEY, tenants);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_TENANTS_KEY);
+                    if (status == STATUS_COMMITTED) {
+                        tenants.forEach(TenantCacheGenerations.this::invalidate);
+                    }
+                }
+            });
+            pending = tenants;
+        }
+        pending.add(tenantId);
+    }
+}
@@ -0,0 +1,79 @@
+package com.shield.common.cache;
+
+import com.shield.common.entity.TenantAwareEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TenantCacheInvalidationListener
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final List<String> INVALIDATING_PACKAGES = List.of(
+            "com.shield.module.billing.",
+            "com.shield.module.accounting.",
+            "com.shield.module.complaint.",
+            "com.shield.module.visitor.");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TenantCacheGenerations tenantCacheGenerations;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void invalidate(Object entity) {
+        if (entity instanceof TenantAwareEntity tenantAware && isInvalidating(entity.getClass())) {
+            tenantCacheGenerations.invalidateAfterCommit(tenantAware.getTenantId());
+        }
+    }
+
+    private boolean isInvalidating(Class<?> entityType) {
+        String typeName = entityType.getName();
+        for (String prefix : INVALIDATING_PACKAGES) {
+            if (typeName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,34 @@
+package com.shield.common.cache;
+
+import com.shield.tenant.context.TenantContext;
+import java.lang.reflect.Method;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+@Component(TenantCacheKeyGenerator.BEAN_NAME)
+@RequiredArgsConstructor
+public class TenantCacheKeyGenerator implements KeyGenerator {
+
+    public static final String BEAN_NAME = "tenantCacheKeyGenerator";
+
+    private final TenantCacheGenerations tenantCacheGenerations;
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        UUID tenantId = TenantContext.getRequiredTenantId();
+        StringBuilder key = new StringBuilder()
+                .append(tenantId)
+                .append(':')
+                .append(tenantCacheGenerations.current(tenantId))
+                .append(':')
+                .append(method.getDeclaringClass().getSimpleName())
+                .append('.')
+                .append(method.getName());
+        for (Object param : params) {
+            key.append(':').append(param);
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,262 @@
+package com.shield.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory index of currently valid gate credentials, partitioned by tenant and keyed by QR code, so that a scan
+ * is answered without touching the database. The index is warmed in the background at startup, updated after each
+ * local commit, and re-synchronised every {@code syncInterval} from rows changed on any node. Entries leave through
+ * an {@link ExpiryTimerWheel}, which also hands the expired ids to {@link #markExpired} so the status change is
+ * written once per credential instead of on whichever read happens to see it first.
+ *
+ * <p>A miss is not an answer: callers fall back to the database for anything that is not in the index.
+ */
+@Slf4j
+public abstract class TenantQrIndex<V> {
+
+    /**
+     * Rows are stamped with the writer's clock before commit, so each sync re-reads this much history to pick up
+     * transactions that committed after the previous sync started.
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final String name;
+    private final boolean enabled;
+    private final Duration tick;
+    private final Duration syncInterval;
+    private final ExpiryTimerWheel<UUID> wheel;
+    private final Map<UUID, Map<String, Entry<V>>> byTenant = new ConcurrentHashMap<>();
+    private final Map<UUID, Entry<V>> byId = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter expirations;
+
+    private volatile boolean running;
+    private volatile boolean warm;
+    private Thread worker;
+
+    protected TenantQrIndex(
+            String name,
+            MeterRegistry meterRegistry,
+            boolean enabled,
+            Duration tick,
+            int wheelSize,
+            Duration syncInterval) {
+        this.name = name;
+        this.enabled = enabled;
+        this.tick = tick.isNegative() || tick.isZero() ? Duration.ofSeconds(1) : tick;
+        this.syncInterval = syncInterval.compareTo(this.tick) < 0 ? this.tick : syncInterval;
+        this.wheel = new ExpiryTimerWheel<>(this.tick, wheelSize, Instant.now());
+        this.hits = lookupCounter(meterRegistry, name, "hit");
+        this.misses = lookupCounter(meterRegistry, name, "miss");
+        this.expirations = Counter.builder("shield.gate.qr.index.expired")
+                .description("Credentials expired out of the gate QR index")
+                .tag("index", name)
+                .register(meterRegistry);
+        Gauge.builder("shield.gate.qr.index.size", byId, Map::size)
+                .description("Credentials held in the gate QR index")
+                .tag("index", name)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, name + "-qr-index");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(5000L);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public Optional<V> find(UUID tenantId, String qrCode) {
+        if (!warm || tenantId == null || qrCode == null) {
+            return Optional.empty();
+        }
+        Map<String, Entry<V>> tenantEntries = byTenant.get(tenantId);
+        Entry<V> entry = tenantEntries == null ? null : tenantEntries.get(qrCode);
+        if (entry == null || !entry.expiresAt().isAfter(Instant.now())) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(entry.value());
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Applies {@code entry} (or removes {@code id} when {@code entry} is null) once the caller's transaction commits.
+     */
+    protected void applyAfterCommit(UUID id, Entry<V> entry) {
+        if (!enabled) {
+            return;
+        }
+        Runnable action = () -> {
+            if (entry == null) {
+                remove(id);
+            } else {
+                put(entry);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Streams every credential that is valid at {@code now}.
+     */
+    protected abstract void loadValid(Instant now, Consumer<Entry<V>> sink);
+
+    /**
+     * Streams every credential changed since {@code since}: valid ones to {@code upserts}, all others by id to
+     * {@code removals}.
+     */
+    protected abstract void loadChangedSince(Instant since, Instant now, Consumer<Entry<V>> upserts, Consumer<UUID> removals);
+
+    /**
+     * Persists the expiry of credentials whose deadline passed while they were indexed. Must be idempotent, since
+     * every node expires the same rows.
+     */
+    protected abstract void markExpired(List<UUID> ids, Instant now);
+
+    void warmUp(Instant now) {
+        loadValid(now, this::put);
+        warm = true;
+    }
+
+    void put(Entry<V> entry) {
+        boolean[] reschedule = {true};
+        byId.compute(entry.id(), (id, previous) -> {
+            if (previous != null) {
+                unlink(previous);
+                reschedule[0] = !previous.expiresAt().equals(entry.expiresAt());
+            }
+            byTenant.computeIfAbsent(entry.tenantId(), key -> new ConcurrentHashMap<>()).put(entry.qrCode(), entry);
+            return entry;
+        });
+        if (reschedule[0]) {
+            wheel.schedule(entry.id(), entry.expiresAt());
+        }
+    }
+
+    void remove(UUID id) {
+        byId.computeIfPresent(id, (key, previous) -> {
+            unlink(previous);
+            return null;
+        });
+    }
+
+    /**
+     * Expires due entries and returns their ids. Runs on the worker thread only.
+     */
+    List<UUID> expire(Instant now) {
+        List<UUID> expired = new ArrayList<>();
+        wheel.advance(now, (id, deadline) -> {
+            Entry<V> entry = byId.get(id);
+            if (entry != null && entry.expiresAt().equals(deadline) && !entry.expiresAt().isAfter(now)) {
+                remove(id);
+                expired.add(id);
+            }
+        });
+        return expired;
+    }
+
+    private void unlink(Entry<V> entry) {
+        Map<String, Entry<V>> tenantEntries = byTenant.get(entry.tenantId());
+        if (tenantEntries != null) {
+            tenantEntries.remove(entry.qrCode(), entry);
+        }
+    }
+
+    private void run() {
+        Instant lastSync = Instant.now();
+        try {
+            warmUp(lastSync);
+            log.info("Gate QR index {} warmed with {} credentials", name, byId.size());
+        } catch (RuntimeException ex) {
+            log.warn("Gate QR index {} warm-up failed; scans fall back to the database until the next sync", name, ex);
+        }
+
+        Instant nextSync = lastSync.plus(syncInterval);
+        while (running) {
+            try {
+                Thread.sleep(tick.toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            Instant now = Instant.now();
+            try {
+                List<UUID> expired = expire(now);
+                if (!expired.isEmpty()) {
+                    expirations.increment(expired.size());
+                    markExpired(expired, now);
+                }
+                if (!now.isBefore(nextSync)) {
+                    if (warm) {
+                        loadChangedSince(lastSync.minus(SYNC_OVERLAP), now, this::put, this::remove);
+                    } else {
+                        warmUp(now);
+                    }
+                    lastSync = now;
+                    nextSync = now.plus(syncInterval);
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Gate QR index {} maintenance failed", name, ex);
+            }
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("shield.gate.qr.lookup")
+                .description("Gate QR scans answered from (hit) or passed through (miss) the in-memory index")
+                .tag("index", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public record Entry<V>(UUID id, UUID tenantId, String qrCode, Instant expiresAt, V value) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.shield.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Callable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+@Slf4j
+public class TieredCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final Cache remote;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    public TieredCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+            Cache remote,
+            MeterRegistry meterRegistry) {
+        super(true);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.remoteHits = Counter.builder("shield.cache.remote.gets")
+                .tag("cache", name)
+                .tag("result", "hit")
+                .description("Redis tier lookups after a local miss")
+                .register(meterRegistry);
+        this.remoteMisses = Counter.builder("shield.cache.remote.gets")
+                .tag("cache", name)
+                .tag("result", "miss")
+                .description("Redis tier lookups after a local miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value != null || remote == null) {
+            return value;
+        }
+
+        try {
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper == null) {
+                remoteMisses.increment();
+                return null;
+            }
+            remoteHits.increment();
+            Object stored = toStoreValue(wrapper.get());
+            local.put(key, stored);
+            return stored;
+        } catch (RuntimeException ex) {
+            log.debug("Remote cache {} unavailable for lookup", name, ex);
+            return null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, toStoreValue(value));
+        if (remote == null) {
+            return;
+        }
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException ex) {
+            log.debug("Remote cache {} unavailable for write", name, ex);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.invalidate(key);
+        if (remote == null) {
+            return;
+        }
+        try {
+            remote.evict(key);
+        } catch (RuntimeException ex) {
+            log.debug("Remote cache {} unavailable for eviction", name, ex);
+        }
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        if (remote == null) {
+            return;
+        }
+        try {
+            remote.clear();
+        } catch (RuntimeException ex) {
+            log.debug("Remote cache {} unavailable for clear", name, ex);
+        }
+    }
+}
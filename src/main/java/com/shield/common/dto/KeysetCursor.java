@@ -0,0 +1,46 @@
+package com.shield.common.dto;
+
+import com.shield.common.entity.BaseEntity;
+import com.shield.common.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position after the last row of a keyset page ordered by {@code created_at DESC, id DESC}. Clients receive it as
+ * the opaque {@code nextCursor} and send it back unchanged as {@code after}.
+ */
+public record KeysetCursor(Instant createdAt, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static KeysetCursor of(BaseEntity entity) {
+        return new KeysetCursor(entity.getCreatedAt(), entity.getId());
+    }
+
+    /**
+     * Returns {@code null} for a blank token, which starts from the newest row.
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("Invalid pagination cursor");
+            }
+            return new KeysetCursor(Instant.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,6 +1,8 @@
 package com.shield.common.dto;
 
+import com.shield.common.entity.BaseEntity;
 import java.util.List;
+import java.util.function.Function;
 import org.springframework.data.domain.Page;
 
 public record PagedResponse<T>(
@@ -10,9 +12,12 @@ public record PagedResponse<T>(
         long totalElements,
         int totalPages,
         boolean first,
-        boolean last
+        boolean last,
+        String nextCursor
 ) {
 
+    public static final long UNKNOWN_TOTAL = -1;
+
     public static <T> PagedResponse<T> from(Page<T> page) {
         return new PagedResponse<>(
                 page.getContent(),
@@ -21,6 +26,34 @@ public record PagedResponse<T>(
                 page.getTotalElements(),
                 page.getTotalPages(),
                 page.isFirst(),
-                page.isLast());
+                page.isLast(),
+                null);
+    }
+
+    /**
+     * Builds a keyset page from {@code rows} fetched with a limit of {@code size + 1}; the extra row only signals that
+     * another page exists. {@code totalElements} and {@code totalPages} are {@link #UNKNOWN_TOTAL} unless a count
+     * was passed, so deep pages never pay for a full count.
+     */
+    public static <E extends BaseEntity, T> PagedResponse<T> keyset(
+            List<E> rows,
+            int size,
+            boolean first,
+            Long totalElements,
+            Function<E, T> mapper) {
+        boolean hasMore = rows.size() > size;
+        List<E> pageRows = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? KeysetCursor.of(pageRows.get(pageRows.size() - 1)).encode() : null;
+        long total = totalElements == null ? UNKNOWN_TOTAL : totalElements;
+        int totalPages = totalElements == null ? (int) UNKNOWN_TOTAL : (int) Math.ceil((double) totalElements / size);
+        return new PagedResponse<>(
+                pageRows.stream().map(mapper).toList(),
+                0,
+                size,
+                total,
+                totalPages,
+                first,
+                !hasMore,
+                nextCursor);
     }
 }
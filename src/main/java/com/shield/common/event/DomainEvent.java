@@ -0,0 +1,26 @@
+package com.shield.common.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record DomainEvent(
+        UUID id,
+        UUID tenantId,
+        UUID actorId,
+        String eventType,
+        String aggregateType,
+        UUID aggregateId,
+        String payload,
+        Instant occurredAt
+) {
+
+    public static DomainEvent of(
+            UUID tenantId,
+            UUID actorId,
+            String eventType,
+            String aggregateType,
+            UUID aggregateId,
+            String payload) {
+        return new DomainEvent(UUID.randomUUID(), tenantId, actorId, eventType, aggregateType, aggregateId, payload, Instant.now());
+    }
+}
@@ -0,0 +1,63 @@
+package com.shield.common.event;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records domain events in {@code domain_event_outbox} as part of the caller's transaction. Side effects run
+ * later on {@link DomainEventRelay}, so a rolled-back write never leaks an event and a committed one is never lost.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO domain_event_outbox (
+                id, tenant_id, actor_id, event_type, aggregate_type, aggregate_id, payload,
+                occurred_at, next_attempt_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DomainEventRelay domainEventRelay;
+
+    public void publish(DomainEvent event) {
+        publishAll(List.of(event));
+    }
+
+    public void publishAll(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), this::bind);
+        domainEventRelay.wakeUpAfterCommit();
+    }
+
+    private void bind(PreparedStatement ps, DomainEvent event) throws SQLException {
+        Timestamp occurredAt = Timestamp.from(event.occurredAt());
+        setUuid(ps, 1, event.id());
+        setUuid(ps, 2, event.tenantId());
+        setUuid(ps, 3, event.actorId());
+        ps.setString(4, event.eventType());
+        ps.setString(5, event.aggregateType());
+        setUuid(ps, 6, event.aggregateId());
+        ps.setString(7, event.payload());
+        ps.setTimestamp(8, occurredAt);
+        ps.setTimestamp(9, occurredAt);
+    }
+
+    private void setUuid(PreparedStatement ps, int index, UUID value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.OTHER);
+        } else {
+            ps.setObject(index, value, Types.OTHER);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.shield.common.event;
+
+import com.shield.tenant.context.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Hands committed outbox events to every {@link DomainEventSubscriber}. Claims are serialised across nodes by a
+ * transaction-scoped advisory lock and never take an event while an earlier event of the same aggregate is still
+ * leased or backing off, which keeps delivery ordered per aggregate. Events are marked published only after every
+ * subscriber succeeded, so a crash mid-batch redelivers rather than drops.
+ */
+@Slf4j
+@Component
+public class DomainEventRelay {
+
+    private static final long RELAY_LOCK_KEY = 0x5348_4945_4C44_4556L;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String CLAIM_SQL = """
+            UPDATE domain_event_outbox
+            SET attempt_count = attempt_count + 1, locked_until = ?
+            WHERE sequence IN (
+                SELECT e.sequence FROM domain_event_outbox e
+                WHERE e.published_at IS NULL AND e.dead_lettered_at IS NULL
+                  AND e.next_attempt_at <= ?
+                  AND (e.locked_until IS NULL OR e.locked_until <= ?)
+                  AND NOT EXISTS (
+                      SELECT 1 FROM domain_event_outbox p
+                      WHERE p.aggregate_type = e.aggregate_type
+                        AND p.aggregate_id = e.aggregate_id
+                        AND p.sequence < e.sequence
+                        AND p.published_at IS NULL AND p.dead_lettered_at IS NULL
+                        AND (p.next_attempt_at > ? OR p.locked_until > ?))
+                ORDER BY e.sequence
+                LIMIT ?)
+            RETURNING sequence, attempt_count, id, tenant_id, actor_id, event_type, aggregate_type, aggregate_id,
+                payload, occurred_at
+            """;
+
+    private static final String OUTCOME_SQL = """
+            UPDATE domain_event_outbox
+            SET published_at = ?, dead_lettered_at = ?, next_attempt_at = COALESCE(?, next_attempt_at),
+                attempt_count = attempt_count - ?, last_error = ?, locked_until = NULL
+            WHERE sequence = ?
+            """;
+
+    private static final String PURGE_SQL = "DELETE FROM domain_event_outbox WHERE published_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<DomainEventSubscriber> subscriberProvider;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration retention;
+    private final Timer deliveryLagTimer;
+    private final Counter failureCounter;
+    private final Counter deadLetterCounter;
+    private final Object signal = new Object();
+
+    private volatile List<DomainEventSubscriber> subscribers;
+    private volatile boolean running;
+    private boolean signalled;
+    private Instant nextPurgeAt = Instant.EPOCH;
+    private Thread relayThread;
+
+    public DomainEventRelay(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<DomainEventSubscriber> subscriberProvider,
+            MeterRegistry meterRegistry,
+            @Value("${shield.events.relay.enabled:true}") boolean enabled,
+            @Value("${shield.events.relay.batch-size:100}") int batchSize,
+            @Value("${shield.events.relay.poll-interval-ms:1000}") long pollIntervalMs,
+            @Value("${shield.events.relay.max-attempts:10}") int maxAttempts,
+            @Value("${shield.events.relay.initial-backoff-ms:1000}") long initialBackoffMs,
+            @Value("${shield.events.relay.max-backoff-ms:300000}") long maxBackoffMs,
+            @Value("${shield.events.relay.lease-ms:60000}") long leaseMs,
+            @Value("${shield.events.relay.retention-hours:72}") long retentionHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.subscriberProvider = subscriberProvider;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.pollIntervalMs = Math.max(50L, pollIntervalMs);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = Duration.ofMillis(Math.max(1L, initialBackoffMs));
+        this.maxBackoff = Duration.ofMillis(Math.max(initialBackoffMs, maxBackoffMs));
+        this.lease = Duration.ofMillis(Math.max(1000L, leaseMs));
+        this.retention = Duration.ofHours(Math.max(1L, retentionHours));
+
+        this.deliveryLagTimer = Timer.builder("shield.events.delivery.lag")
+                .description("Time from the business write until every subscriber handled the event")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("shield.events.delivery.failures")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("shield.events.dead.letter")
+                .description("Domain events abandoned after exhausting their delivery attempts")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        relayThread = new Thread(this::relayLoop, "domain-event-relay");
+        relayThread.setDaemon(true);
+        relayThread.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        wakeUp();
+        if (relayThread != null) {
+            try {
+                relayThread.join(pollIntervalMs + 5000L);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    void wakeUpAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+            return;
+        }
+        wakeUp();
+    }
+
+    void wakeUp() {
+        synchronized (signal) {
+            signalled = true;
+            signal.notifyAll();
+        }
+    }
+
+    int relayBatch() {
+        Instant now = Instant.now();
+        List<ClaimedEvent> claimed = transactionTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, RELAY_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                return List.<ClaimedEvent>of();
+            }
+            Timestamp nowTs = Timestamp.from(now);
+            return jdbcTemplate.query(
+                    CLAIM_SQL,
+                    this::mapClaimedEvent,
+                    Timestamp.from(now.plus(lease)),
+                    nowTs,
+                    nowTs,
+                    nowTs,
+                    nowTs,
+                    batchSize);
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        deliver(claimed.stream().sorted(Comparator.comparingLong(ClaimedEvent::sequence)).toList());
+        return claimed.size();
+    }
+
+    void deliver(List<ClaimedEvent> batch) {
+        Set<String> blockedAggregates = new HashSet<>();
+        List<Object[]> outcomes = new ArrayList<>(batch.size());
+        for (ClaimedEvent claimed : batch) {
+            DomainEvent event = claimed.event();
+            String aggregateKey = event.aggregateId() == null ? null : event.aggregateType() + ':' + event.aggregateId();
+            if (aggregateKey != null && blockedAggregates.contains(aggregateKey)) {
+                outcomes.add(new Object[] {null, null, null, 1, null, claimed.sequence()});
+                continue;
+            }
+
+            try {
+                dispatch(event);
+                Instant publishedAt = Instant.now();
+                deliveryLagTimer.record(Duration.between(event.occurredAt(), publishedAt));
+                outcomes.add(new Object[] {Timestamp.from(publishedAt), null, null, 0, null, claimed.sequence()});
+            } catch (RuntimeException ex) {
+                if (aggregateKey != null) {
+                    blockedAggregates.add(aggregateKey);
+                }
+                outcomes.add(failedOutcome(claimed, ex));
+            }
+        }
+        jdbcTemplate.batchUpdate(OUTCOME_SQL, outcomes);
+    }
+
+    private void dispatch(DomainEvent event) {
+        if (event.tenantId() != null) {
+            TenantContext.setTenantId(event.tenantId());
+        }
+        try {
+            for (DomainEventSubscriber subscriber : subscribers()) {
+                if (subscriber.supports(event)) {
+                    subscriber.handle(event);
+                }
+            }
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    Duration backoff(int attempt) {
+        int shift = Math.min(Math.max(0, attempt - 1), 30);
+        Duration delay = initialBackoff.multipliedBy(1L << shift);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private Object[] failedOutcome(ClaimedEvent claimed, RuntimeException failure) {
+        failureCounter.increment();
+        String error = failure.getMessage() == null ? failure.getClass().getSimpleName() : failure.getMessage();
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        Instant now = Instant.now();
+        if (claimed.attemptCount() >= maxAttempts) {
+            deadLetterCounter.increment();
+            log.error("Domain event {} ({}) moved to dead letter after {} attempts",
+                    claimed.event().id(), claimed.event().eventType(), claimed.attemptCount(), failure);
+            return new Object[] {null, Timestamp.from(now), null, 0, error, claimed.sequence()};
+        }
+        log.warn("Domain event {} ({}) failed on attempt {}: {}",
+                claimed.event().id(), claimed.event().eventType(), claimed.attemptCount(), error);
+        Timestamp retryAt = Timestamp.from(now.plus(backoff(claimed.attemptCount())));
+        return new Object[] {null, null, retryAt, 0, error, claimed.sequence()};
+    }
+
+    private List<DomainEventSubscriber> subscribers() {
+        List<DomainEventSubscriber> resolved = subscribers;
+        if (resolved == null) {
+            resolved = subscriberProvider.orderedStream().toList();
+            subscribers = resolved;
+        }
+        return resolved;
+    }
+
+    private void relayLoop() {
+        while (running) {
+            int relayed;
+            try {
+                relayed = relayBatch();
+                purgePublished();
+            } catch (RuntimeException ex) {
+                log.warn("Domain event relay cycle failed", ex);
+                relayed = 0;
+            }
+
+            if (relayed == 0) {
+                try {
+                    awaitSignal();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void purgePublished() {
+        Instant now = Instant.now();
+        if (now.isBefore(nextPurgeAt)) {
+            return;
+        }
+        nextPurgeAt = now.plus(Duration.ofHours(1));
+        int purged = jdbcTemplate.update(PURGE_SQL, Timestamp.from(now.minus(retention)));
+        if (purged > 0) {
+            log.debug("Purged {} published domain events", purged);
+        }
+    }
+
+    private void awaitSignal() throws InterruptedException {
+        synchronized (signal) {
+            if (!signalled && running) {
+                signal.wait(pollIntervalMs);
+            }
+            signalled = false;
+        }
+    }
+
+    private ClaimedEvent mapClaimedEvent(ResultSet rs, int rowNum) throws SQLException {
+        return new ClaimedEvent(
+                rs.getLong("sequence"),
+                rs.getInt("attempt_count"),
+                new DomainEvent(
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("tenant_id", UUID.class),
+                        rs.getObject("actor_id", UUID.class),
+                        rs.getString("event_type"),
+                        rs.getString("aggregate_type"),
+                        rs.getObject("aggregate_id", UUID.class),
+                        rs.getString("payload"),
+                        rs.getTimestamp("occurred_at").toInstant()));
+    }
+
+    record ClaimedEvent(long sequence, int attemptCount, DomainEvent event) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.shield.common.event;
+
+/**
+ * Receives committed domain events from {@link DomainEventRelay}. Delivery is at-least-once and ordered per
+ * aggregate, so implementations must tolerate seeing the same event id again.
+ */
+public interface DomainEventSubscriber {
+
+    default boolean supports(DomainEvent event) {
+        return true;
+    }
+
+    void handle(DomainEvent event);
+}
@@ -0,0 +1,35 @@
+package com.shield.common.export;
+
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public final class CsvExportResponses {
+
+    private static final MediaType CSV_MEDIA_TYPE = new MediaType("text", "csv");
+    private static final MediaType GZIP_MEDIA_TYPE = new MediaType("application", "gzip");
+
+    private CsvExportResponses() {
+    }
+
+    public static ResponseEntity<StreamingResponseBody> attachment(String fileName, boolean gzip, StreamingResponseBody body) {
+        if (!gzip) {
+            return ResponseEntity.ok()
+                    .contentType(CSV_MEDIA_TYPE)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName)
+                    .body(body);
+        }
+
+        StreamingResponseBody compressed = outputStream -> {
+            GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, 8192);
+            body.writeTo(gzipStream);
+            gzipStream.finish();
+        };
+        return ResponseEntity.ok()
+                .contentType(GZIP_MEDIA_TYPE)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName + ".gz")
+                .body(compressed);
+    }
+}
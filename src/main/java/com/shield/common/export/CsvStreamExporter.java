@@ -0,0 +1,99 @@
+package com.shield.common.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Component
+public class CsvStreamExporter {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public CsvStreamExporter(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Value("${shield.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(Math.max(1, fetchSize));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Streams every row of {@code sql} as one CSV line, in select-list order. The query runs in its own
+     * read-only transaction on the writer thread so PostgreSQL uses a server-side cursor and only
+     * {@code fetch-size} rows are held in memory at a time.
+     */
+    public StreamingResponseBody stream(String header, String sql, Object... args) {
+        Object[] params = Arrays.stream(args).map(CsvStreamExporter::toJdbcValue).toArray();
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            writer.write(header);
+            writer.write('\n');
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(sql, rs -> {
+                    writeRow(writer, rs);
+                }, params));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            writer.flush();
+        };
+    }
+
+    private static void writeRow(Writer writer, ResultSet rs) throws SQLException {
+        int columns = rs.getMetaData().getColumnCount();
+        try {
+            for (int column = 1; column <= columns; column++) {
+                if (column > 1) {
+                    writer.write(',');
+                }
+                writer.write(csv(rs.getObject(column)));
+            }
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text;
+        if (value instanceof Timestamp timestamp) {
+            text = timestamp.toInstant().toString();
+        } else if (value instanceof Date date) {
+            text = date.toLocalDate().toString();
+        } else if (value instanceof BigDecimal decimal) {
+            text = decimal.toPlainString();
+        } else {
+            text = value.toString();
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private static Object toJdbcValue(Object value) {
+        return value instanceof Instant instant ? Timestamp.from(instant) : value;
+    }
+}
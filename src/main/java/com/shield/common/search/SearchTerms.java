@@ -0,0 +1,53 @@
+package com.shield.common.search;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Turns free-text search input into bind values for the indexed search queries: {@code LIKE} patterns for the
+ * {@code pg_trgm} indexes and for ranking, and prefix {@code tsquery} strings for {@code tsvector} columns. User
+ * input is never spliced into SQL; these only escape what is special inside the bound value.
+ */
+public final class SearchTerms {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_TOKENS = 8;
+
+    private SearchTerms() {
+    }
+
+    /**
+     * Lower-cased {@code %query%} pattern with {@code LIKE} wildcards escaped.
+     */
+    public static String containsPattern(String query) {
+        return "%" + escapeLike(query.toLowerCase(Locale.ROOT)) + "%";
+    }
+
+    /**
+     * {@code query%} pattern with {@code LIKE} wildcards escaped and case kept. It only ranks rows the trigram filter
+     * already matched, e.g. phone numbers that start with the query, so no index is needed for it.
+     */
+    public static String prefixPattern(String query) {
+        return escapeLike(query) + "%";
+    }
+
+    /**
+     * {@code to_tsquery('simple', ...)} input that matches documents containing every word of {@code query} as a
+     * word prefix, or empty when the query has no letters or digits.
+     */
+    public static Optional<String> prefixTsQuery(String query) {
+        String tsQuery = Arrays.stream(NON_WORD.split(query.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .limit(MAX_TOKENS)
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+        return tsQuery.isEmpty() ? Optional.empty() : Optional.of(tsQuery);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
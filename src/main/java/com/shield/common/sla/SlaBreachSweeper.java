@@ -0,0 +1,177 @@
+package com.shield.common.sla;
+
+import com.shield.common.cache.TenantCacheGenerations;
+import com.shield.common.event.DomainEvent;
+import com.shield.common.event.DomainEventPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Flags complaints and helpdesk tickets whose SLA deadline has passed. Deadlines are computed when the row is
+ * written, so each sweep is an indexed range scan over unbreached rows with {@code sla_deadline <= now}, flipped in
+ * one set-based update per batch. Every newly breached row raises an escalation domain event in the same
+ * transaction. Rows are claimed with {@code SKIP LOCKED}, so several nodes can sweep at once without double-firing.
+ */
+@Slf4j
+@Component
+public class SlaBreachSweeper {
+
+    static final String COMPLAINT_BREACHED_EVENT = "COMPLAINT_SLA_BREACHED";
+    static final String TICKET_BREACHED_EVENT = "HELPDESK_TICKET_SLA_BREACHED";
+
+    private static final String BREACH_COMPLAINTS_SQL = """
+            UPDATE complaint
+            SET sla_breach = TRUE, updated_at = ?, version = version + 1
+            WHERE id IN (
+                SELECT id FROM complaint
+                WHERE sla_breach = FALSE AND resolved_at IS NULL AND deleted = FALSE AND sla_deadline <= ?
+                ORDER BY sla_deadline
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING id, tenant_id
+            """;
+
+    private static final String BREACH_TICKETS_SQL = """
+            UPDATE helpdesk_ticket
+            SET sla_breach = TRUE, updated_at = ?, version = version + 1
+            WHERE id IN (
+                SELECT id FROM helpdesk_ticket
+                WHERE sla_breach = FALSE AND status IN ('OPEN', 'IN_PROGRESS') AND deleted = FALSE AND sla_deadline <= ?
+                ORDER BY sla_deadline
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING id, tenant_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DomainEventPublisher domainEventPublisher;
+    private final TenantCacheGenerations tenantCacheGenerations;
+    private final boolean enabled;
+    private final long intervalMs;
+    private final int batchSize;
+    private final Counter complaintBreaches;
+    private final Counter ticketBreaches;
+
+    private volatile boolean running;
+    private Thread sweeperThread;
+
+    public SlaBreachSweeper(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            DomainEventPublisher domainEventPublisher,
+            TenantCacheGenerations tenantCacheGenerations,
+            MeterRegistry meterRegistry,
+            @Value("${shield.sla.sweeper.enabled:true}") boolean enabled,
+            @Value("${shield.sla.sweeper.interval-ms:30000}") long intervalMs,
+            @Value("${shield.sla.sweeper.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.domainEventPublisher = domainEventPublisher;
+        this.tenantCacheGenerations = tenantCacheGenerations;
+        this.enabled = enabled;
+        this.intervalMs = Math.max(1000L, intervalMs);
+        this.batchSize = Math.max(1, batchSize);
+        this.complaintBreaches = Counter.builder("shield.sla.breaches")
+                .tag("type", "complaint")
+                .register(meterRegistry);
+        this.ticketBreaches = Counter.builder("shield.sla.breaches")
+                .tag("type", "helpdesk_ticket")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        sweeperThread = new Thread(this::sweepLoop, "sla-breach-sweeper");
+        sweeperThread.setDaemon(true);
+        sweeperThread.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (sweeperThread != null) {
+            sweeperThread.interrupt();
+        }
+    }
+
+    /**
+     * Flags everything that is due as of {@code now} and returns the number of rows that became breached.
+     */
+    public int sweep(Instant now) {
+        int breached = 0;
+        int flipped;
+        do {
+            flipped = sweepBatch(BREACH_COMPLAINTS_SQL, COMPLAINT_BREACHED_EVENT, "complaint", now);
+            complaintBreaches.increment(flipped);
+            breached += flipped;
+        } while (flipped == batchSize);
+        do {
+            flipped = sweepBatch(BREACH_TICKETS_SQL, TICKET_BREACHED_EVENT, "helpdesk_ticket", now);
+            ticketBreaches.increment(flipped);
+            breached += flipped;
+        } while (flipped == batchSize);
+        return breached;
+    }
+
+    private int sweepBatch(String sql, String eventType, String aggregateType, Instant now) {
+        Integer flipped = transactionTemplate.execute(status -> {
+            Timestamp nowTs = Timestamp.from(now);
+            List<DomainEvent> events = jdbcTemplate.query(
+                    sql,
+                    (rs, rowNum) -> DomainEvent.of(
+                            rs.getObject("tenant_id", UUID.class),
+                            null,
+                            eventType,
+                            aggregateType,
+                            rs.getObject("id", UUID.class),
+                            null),
+                    nowTs,
+                    nowTs,
+                    batchSize);
+            domainEventPublisher.publishAll(events);
+            events.stream()
+                    .map(DomainEvent::tenantId)
+                    .distinct()
+                    .forEach(tenantCacheGenerations::invalidateAfterCommit);
+            return events.size();
+        });
+        return flipped == null ? 0 : flipped;
+    }
+
+    private void sweepLoop() {
+        while (running) {
+            try {
+                int breached = sweep(Instant.now());
+                if (breached > 0) {
+                    log.info("Flagged {} SLA breaches", breached);
+                }
+            } catch (RuntimeException ex) {
+                log.warn("SLA breach sweep failed", ex);
+            }
+
+            try {
+                Thread.sleep(intervalMs);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
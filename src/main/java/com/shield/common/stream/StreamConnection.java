@@ -0,0 +1,152 @@
+package com.shield.common.stream;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * One open event stream. Frames wait in a bounded buffer and are written by the shared sender pool with at most one
+ * drain per connection in flight. A client that stops reading is evicted once its buffer is full, and a write that
+ * stays blocked past the send timeout is aborted so the sender thread goes back to the pool.
+ */
+final class StreamConnection {
+
+    static final StreamEvent HEARTBEAT = new StreamEvent(null, Set.of(), null, "HEARTBEAT", null);
+
+    private final UUID tenantId;
+    private final UUID userId;
+    private final Set<StreamTopic> topics;
+    private final SseEmitter emitter;
+    private final BlockingQueue<StreamEvent> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private volatile boolean closed;
+
+    // Guarded by this: the sender thread and start time of the write in flight, if any.
+    private Thread writer;
+    private long writeStartedNanos;
+
+    StreamConnection(UUID tenantId, UUID userId, Set<StreamTopic> topics, SseEmitter emitter, int bufferSize) {
+        this.tenantId = tenantId;
+        this.userId = userId;
+        this.topics = topics;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    UUID tenantId() {
+        return tenantId;
+    }
+
+    boolean accepts(StreamEvent event) {
+        return topics.contains(event.topic()) && event.isFor(userId);
+    }
+
+    /**
+     * Queues a frame; {@code false} means the buffer is full and the client has fallen too far behind.
+     */
+    boolean offer(StreamEvent event) {
+        return !closed && buffer.offer(event);
+    }
+
+    /**
+     * Claims the right to drain. A caller that gets {@code true} must run {@link #drain()} or {@link #releaseDrain()}.
+     */
+    boolean claimDrain() {
+        return !closed && !buffer.isEmpty() && draining.compareAndSet(false, true);
+    }
+
+    void releaseDrain() {
+        draining.set(false);
+    }
+
+    void drain() {
+        do {
+            StreamEvent event;
+            while (!closed && (event = buffer.poll()) != null) {
+                beginWrite();
+                try {
+                    emitter.send(frame(event));
+                } catch (IOException | IllegalStateException ex) {
+                    // The container reports the broken response through the emitter callbacks, which unregister us.
+                    closed = true;
+                } finally {
+                    endWrite();
+                }
+            }
+            if (closed) {
+                buffer.clear();
+                complete();
+                return;
+            }
+            draining.set(false);
+            // close() may have run after the check above and left completion to this drain.
+            if (closed) {
+                if (draining.compareAndSet(false, true)) {
+                    complete();
+                }
+                return;
+            }
+        } while (!buffer.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    /**
+     * Whether a single write has been blocked since before {@code startedBeforeNanos} ({@link System#nanoTime()}).
+     */
+    synchronized boolean writeStalledSince(long startedBeforeNanos) {
+        return writer != null && writeStartedNanos - startedBeforeNanos < 0;
+    }
+
+    /**
+     * Interrupts the write in flight, if any. Call after {@link #close()}; the drain then completes the emitter and
+     * returns its sender thread to the pool.
+     */
+    synchronized void abortWrite() {
+        if (writer != null) {
+            writer.interrupt();
+        }
+    }
+
+    /**
+     * Stops delivery. The emitter is completed here when no drain is running, otherwise by the drain once its
+     * current write returns, so closing never blocks behind a stalled client.
+     */
+    void close() {
+        closed = true;
+        buffer.clear();
+        if (draining.compareAndSet(false, true)) {
+            complete();
+        }
+    }
+
+    private synchronized void beginWrite() {
+        writer = Thread.currentThread();
+        writeStartedNanos = System.nanoTime();
+    }
+
+    private synchronized void endWrite() {
+        writer = null;
+    }
+
+    private void complete() {
+        try {
+            emitter.complete();
+        } catch (IllegalStateException ex) {
+            // Already completed by the container.
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder frame(StreamEvent event) {
+        if (event == HEARTBEAT) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        return SseEmitter.event()
+                .name(event.type())
+                .data(event.data(), MediaType.APPLICATION_JSON);
+    }
+}
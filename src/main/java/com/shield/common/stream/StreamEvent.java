@@ -0,0 +1,21 @@
+package com.shield.common.stream;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * One frame of the tenant event stream. A non-empty {@code userIds} limits delivery to those users' connections;
+ * {@code data} is the payload already serialised to JSON, so it is encoded once however many clients receive it.
+ */
+public record StreamEvent(
+        UUID tenantId,
+        Set<UUID> userIds,
+        StreamTopic topic,
+        String type,
+        String data
+) {
+
+    boolean isFor(UUID userId) {
+        return userIds.isEmpty() || userIds.contains(userId);
+    }
+}
@@ -0,0 +1,7 @@
+package com.shield.common.stream;
+
+public enum StreamTopic {
+    SOS,
+    VISITORS,
+    NOTIFICATIONS
+}
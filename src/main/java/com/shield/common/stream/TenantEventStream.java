@@ -0,0 +1,322 @@
+package com.shield.common.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shield.common.exception.BadRequestException;
+import com.shield.security.model.ShieldPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes tenant-scoped events to open Server-Sent Events connections. Services publish after their transaction
+ * commits; with {@code shield.stream.redis.enabled} the event goes through a Redis channel so every node delivers
+ * it to its own connections, otherwise it is delivered on the publishing node only. Each connection has a bounded
+ * buffer drained by a shared sender pool, gets a heartbeat comment every {@code heartbeat-interval-ms}, and is
+ * evicted when its buffer overflows or a write stays blocked longer than {@code send-timeout-ms}.
+ */
+@Slf4j
+@Component
+public class TenantEventStream {
+
+    private static final String REDIS_CHANNEL = "shield:stream:events";
+    private static final String READY_EVENT = "READY";
+
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final int maxConnections;
+    private final int bufferSize;
+    private final long heartbeatIntervalMs;
+    private final long timeoutMs;
+    private final long sendTimeoutNanos;
+    private final ThreadPoolExecutor sender;
+    private final Map<UUID, Set<StreamConnection>> connectionsByTenant = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final Counter evictionCounter;
+
+    private volatile boolean running;
+    private Thread heartbeatThread;
+    private RedisMessageListenerContainer listenerContainer;
+
+    public TenantEventStream(
+            ObjectMapper objectMapper,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            MeterRegistry meterRegistry,
+            @Value("${shield.stream.redis.enabled:false}") boolean redisEnabled,
+            @Value("${shield.stream.max-connections:10000}") int maxConnections,
+            @Value("${shield.stream.buffer-size:64}") int bufferSize,
+            @Value("${shield.stream.heartbeat-interval-ms:15000}") long heartbeatIntervalMs,
+            @Value("${shield.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${shield.stream.sender-threads:4}") int senderThreads,
+            @Value("${shield.stream.send-timeout-ms:10000}") long sendTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.redisTemplate = redisEnabled ? redisTemplateProvider.getIfAvailable() : null;
+        this.maxConnections = Math.max(1, maxConnections);
+        this.bufferSize = Math.max(1, bufferSize);
+        this.heartbeatIntervalMs = Math.max(1000L, heartbeatIntervalMs);
+        this.timeoutMs = Math.max(0L, timeoutMs);
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, sendTimeoutMs));
+
+        int threads = Math.max(1, senderThreads);
+        AtomicInteger threadIds = new AtomicInteger();
+        // A connection never has more than one drain queued, so the queue cannot overflow below the connection cap.
+        this.sender = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(this.maxConnections),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "event-stream-sender-" + threadIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.sender.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("shield.stream.connections", connectionCount, AtomicInteger::get)
+                .description("Open event stream connections on this node")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("shield.stream.evictions")
+                .description("Event stream connections closed because the client fell behind")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        heartbeatThread = new Thread(this::heartbeatLoop, "event-stream-heartbeat");
+        heartbeatThread.setDaemon(true);
+        heartbeatThread.start();
+
+        if (redisTemplate != null) {
+            listenerContainer = new RedisMessageListenerContainer();
+            listenerContainer.setConnectionFactory(redisTemplate.getConnectionFactory());
+            listenerContainer.addMessageListener((message, pattern) -> receive(message.getBody()), new ChannelTopic(REDIS_CHANNEL));
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (heartbeatThread != null) {
+            heartbeatThread.interrupt();
+        }
+        if (listenerContainer != null) {
+            try {
+                listenerContainer.destroy();
+            } catch (Exception ex) {
+                log.debug("Event stream listener container did not stop cleanly", ex);
+            }
+        }
+        connectionsByTenant.values().forEach(connections -> connections.forEach(this::unregister));
+        sender.shutdownNow();
+    }
+
+    public SseEmitter subscribe(ShieldPrincipal principal, Set<StreamTopic> topics) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        StreamConnection connection = new StreamConnection(principal.tenantId(), principal.userId(), topics, emitter, bufferSize);
+        register(connection);
+        emitter.onCompletion(() -> unregister(connection));
+        emitter.onTimeout(() -> unregister(connection));
+        emitter.onError(ex -> unregister(connection));
+
+        enqueue(connection, new StreamEvent(principal.tenantId(), Set.of(), null, READY_EVENT, toJson(topics)));
+        return emitter;
+    }
+
+    /**
+     * Sends {@code data} to every subscriber of {@code topic} in the tenant once the current transaction commits.
+     */
+    public void publishAfterCommit(UUID tenantId, StreamTopic topic, String type, Object data) {
+        publish(tenantId, Set.of(), topic, type, data);
+    }
+
+    /**
+     * Like {@link #publishAfterCommit(UUID, StreamTopic, String, Object)}, limited to the given users' connections.
+     */
+    public void publishToUsersAfterCommit(UUID tenantId, Collection<UUID> userIds, StreamTopic topic, String type, Object data) {
+        Set<UUID> recipients = userIds.stream().filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
+        if (recipients.isEmpty()) {
+            return;
+        }
+        publish(tenantId, recipients, topic, type, data);
+    }
+
+    int connectionCount() {
+        return connectionCount.get();
+    }
+
+    void register(StreamConnection connection) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            throw new BadRequestException("Too many open event streams; retry later");
+        }
+        connectionsByTenant.compute(connection.tenantId(), (tenantId, connections) -> {
+            Set<StreamConnection> tenantConnections = connections != null ? connections : ConcurrentHashMap.newKeySet();
+            tenantConnections.add(connection);
+            return tenantConnections;
+        });
+    }
+
+    void deliver(StreamEvent event) {
+        Set<StreamConnection> connections = connectionsByTenant.get(event.tenantId());
+        if (connections == null) {
+            return;
+        }
+        for (StreamConnection connection : connections) {
+            if (connection.accepts(event)) {
+                enqueue(connection, event);
+            }
+        }
+    }
+
+    void sendHeartbeats() {
+        connectionsByTenant.values().forEach(connections -> connections.forEach(connection -> enqueue(connection, StreamConnection.HEARTBEAT)));
+    }
+
+    /**
+     * Evicts connections with a write blocked since before {@code nowNanos} minus the send timeout and aborts that
+     * write, so a client that stops reading cannot pin a sender thread.
+     */
+    void evictStalled(long nowNanos) {
+        long startedBefore = nowNanos - sendTimeoutNanos;
+        connectionsByTenant.values().forEach(connections -> connections.forEach(connection -> {
+            if (connection.writeStalledSince(startedBefore) && unregister(connection)) {
+                evictionCounter.increment();
+                log.debug("Evicted event stream connection of tenant {} after a stalled write", connection.tenantId());
+            }
+        }));
+    }
+
+    private void publish(UUID tenantId, Set<UUID> userIds, StreamTopic topic, String type, Object data) {
+        if (tenantId == null || (redisTemplate == null && connectionCount.get() == 0)) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException ex) {
+            log.warn("Unable to serialise {} stream event", type, ex);
+            return;
+        }
+
+        StreamEvent event = new StreamEvent(tenantId, userIds, topic, type, json);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcast(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                broadcast(event);
+            }
+        });
+    }
+
+    private void broadcast(StreamEvent event) {
+        if (redisTemplate == null) {
+            deliver(event);
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(REDIS_CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (DataAccessException | JsonProcessingException ex) {
+            log.warn("Unable to publish {} stream event to Redis, delivering on this node only", event.type(), ex);
+            deliver(event);
+        }
+    }
+
+    private void receive(byte[] body) {
+        try {
+            deliver(objectMapper.readValue(body, StreamEvent.class));
+        } catch (IOException ex) {
+            log.warn("Discarding unreadable stream event from Redis", ex);
+        }
+    }
+
+    private void enqueue(StreamConnection connection, StreamEvent event) {
+        if (!connection.offer(event)) {
+            if (unregister(connection)) {
+                evictionCounter.increment();
+                log.debug("Evicted event stream connection of tenant {} after its buffer filled", connection.tenantId());
+            }
+            return;
+        }
+        if (connection.claimDrain()) {
+            try {
+                sender.execute(connection::drain);
+            } catch (RejectedExecutionException ex) {
+                // Only happens while shutting down; the next heartbeat retries otherwise.
+                connection.releaseDrain();
+            }
+        }
+    }
+
+    private boolean unregister(StreamConnection connection) {
+        AtomicBoolean removed = new AtomicBoolean();
+        connectionsByTenant.computeIfPresent(connection.tenantId(), (tenantId, connections) -> {
+            if (connections.remove(connection)) {
+                connectionCount.decrementAndGet();
+                removed.set(true);
+            }
+            return connections.isEmpty() ? null : connections;
+        });
+        connection.close();
+        connection.abortWrite();
+        return removed.get();
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialise stream payload", ex);
+        }
+    }
+
+    private void heartbeatLoop() {
+        while (running) {
+            try {
+                Thread.sleep(heartbeatIntervalMs);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                evictStalled(System.nanoTime());
+                sendHeartbeats();
+            } catch (RuntimeException ex) {
+                log.warn("Event stream heartbeat failed", ex);
+            }
+        }
+    }
+}
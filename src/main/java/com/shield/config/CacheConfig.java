@@ -0,0 +1,77 @@
+package com.shield.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shield.common.cache.CacheNames;
+import com.shield.common.cache.TieredCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            MeterRegistry meterRegistry,
+            ObjectProvider<RedisConnectionFactory> redisConnectionFactory,
+            @Value("${shield.cache.local.max-entries:10000}") long maxEntries,
+            @Value("${shield.cache.redis.enabled:false}") boolean redisEnabled,
+            @Value("${shield.cache.analytics.ttl-seconds:300}") long analyticsTtlSeconds,
+            @Value("${shield.cache.financial-reports.ttl-seconds:300}") long financialReportsTtlSeconds) {
+        Map<String, Duration> ttls = new LinkedHashMap<>();
+        ttls.put(CacheNames.ANALYTICS, Duration.ofSeconds(analyticsTtlSeconds));
+        ttls.put(CacheNames.FINANCIAL_REPORTS, Duration.ofSeconds(financialReportsTtlSeconds));
+
+        RedisCacheManager redisCacheManager = null;
+        RedisConnectionFactory connectionFactory = redisEnabled ? redisConnectionFactory.getIfAvailable() : null;
+        if (connectionFactory != null) {
+            Map<String, RedisCacheConfiguration> redisConfigurations = new LinkedHashMap<>();
+            ttls.forEach((name, ttl) -> redisConfigurations.put(name, RedisCacheConfiguration.defaultCacheConfig()
+                    .prefixCacheNameWith("shield:cache:")
+                    .entryTtl(ttl)));
+            redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                    .withInitialCacheConfigurations(redisConfigurations)
+                    .disableCreateOnMissingCache()
+                    .build();
+            redisCacheManager.initializeCaches();
+        }
+
+        List<TieredCache> caches = new ArrayList<>();
+        for (Map.Entry<String, Duration> entry : ttls.entrySet()) {
+            String name = entry.getKey();
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder()
+                    .maximumSize(maxEntries)
+                    .expireAfterWrite(entry.getValue())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, local, name);
+            Gauge.builder("shield.cache.hit.ratio", local, cache -> cache.stats().hitRate())
+                    .tag("cache", name)
+                    .description("Local tier hit ratio since startup")
+                    .register(meterRegistry);
+            caches.add(new TieredCache(
+                    name,
+                    local,
+                    redisCacheManager == null ? null : redisCacheManager.getCache(name),
+                    meterRegistry));
+        }
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
+        return cacheManager;
+    }
+}
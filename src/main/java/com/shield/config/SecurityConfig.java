@@ -7,6 +7,7 @@ import com.shield.security.filter.LoginRateLimiterFilter;
 import com.shield.security.filter.RestAccessDeniedHandler;
 import com.shield.security.filter.RestAuthenticationEntryPoint;
 import com.shield.tenant.filter.TenantContextFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -92,6 +93,8 @@ public class SecurityConfig {
                         .authenticationEntryPoint(restAuthenticationEntryPoint)
                         .accessDeniedHandler(restAccessDeniedHandler))
                 .authorizeHttpRequests(auth -> {
+                    // Streamed responses re-dispatch once writing completes; the original request was already authorized.
+                    auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
                     if (apiDocsEnabled) {
                         auth.requestMatchers("/v3/api-docs/**").permitAll();
                     }
@@ -2,6 +2,7 @@ package com.shield.module.accounting.controller;
 
 import com.shield.common.dto.ApiResponse;
 import com.shield.common.dto.PagedResponse;
+import com.shield.common.export.CsvExportResponses;
 import com.shield.common.util.SecurityUtils;
 import com.shield.module.accounting.dto.LedgerEntryBulkCreateRequest;
 import com.shield.module.accounting.dto.LedgerEntryCreateRequest;
@@ -27,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/ledger-entries")
@@ -95,7 +97,10 @@ public class LedgerEntryController {
     }
 
     @GetMapping("/export")
-    public ResponseEntity<ApiResponse<String>> export() {
-        return ResponseEntity.ok(ApiResponse.ok("Ledger export generated", accountingTreasuryService.exportLedgerEntries()));
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        return CsvExportResponses.attachment("ledger-entries.csv", gzip, accountingTreasuryService.exportLedgerEntries(fromDate, toDate));
     }
 }
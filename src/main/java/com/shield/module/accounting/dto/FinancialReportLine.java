@@ -1,6 +1,7 @@
 package com.shield.module.accounting.dto;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 
-public record FinancialReportLine(String label, BigDecimal amount) {
+public record FinancialReportLine(String label, BigDecimal amount) implements Serializable {
 }
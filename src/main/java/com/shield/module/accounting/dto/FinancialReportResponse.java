@@ -1,5 +1,6 @@
 package com.shield.module.accounting.dto;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
@@ -8,5 +9,5 @@ public record FinancialReportResponse(
         String reportType,
         List<FinancialReportLine> lines,
         BigDecimal total,
-        Instant generatedAt) {
+        Instant generatedAt) implements Serializable {
 }
@@ -2,7 +2,6 @@ package com.shield.module.accounting.repository;
 
 import com.shield.module.accounting.entity.LedgerEntryEntity;
 import com.shield.module.accounting.entity.LedgerTransactionType;
-import com.shield.module.accounting.entity.LedgerType;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -12,6 +11,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface LedgerEntryRepository extends JpaRepository<LedgerEntryEntity, UUID> {
 
@@ -21,8 +21,6 @@ public interface LedgerEntryRepository extends JpaRepository<LedgerEntryEntity,
 
     Page<LedgerEntryEntity> findAllByTenantIdAndDeletedFalse(UUID tenantId, Pageable pageable);
 
-    List<LedgerEntryEntity> findAllByDeletedFalseOrderByEntryDateDesc();
-
     Page<LedgerEntryEntity> findAllByAccountHeadIdAndDeletedFalse(UUID accountHeadId, Pageable pageable);
 
     Page<LedgerEntryEntity> findAllByFundCategoryIdAndDeletedFalse(UUID fundCategoryId, Pageable pageable);
@@ -46,14 +44,6 @@ public interface LedgerEntryRepository extends JpaRepository<LedgerEntryEntity,
             """)
     List<Object[]> summarizeByTenantId(UUID tenantId);
 
-    @Query("""
-            select coalesce(sum(e.amount), 0)
-            from LedgerEntryEntity e
-            where e.deleted = false
-              and e.type = :type
-            """)
-    BigDecimal sumAmountByType(LedgerType type);
-
     @Query("""
             select coalesce(sum(e.amount), 0)
             from LedgerEntryEntity e
@@ -63,10 +53,13 @@ public interface LedgerEntryRepository extends JpaRepository<LedgerEntryEntity,
     BigDecimal sumAmountByTransactionType(LedgerTransactionType transactionType);
 
     @Query("""
-            select coalesce(sum(e.amount), 0)
+            select e.accountHeadId, e.type, coalesce(sum(e.amount), 0)
             from LedgerEntryEntity e
             where e.deleted = false
-              and e.accountHeadId = :accountHeadId
+              and e.entryDate between :fromDate and :toDate
+            group by e.accountHeadId, e.type
             """)
-    BigDecimal sumAmountByAccountHeadId(UUID accountHeadId);
+    List<Object[]> summarizeByAccountHeadAndType(
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
 }
@@ -3,6 +3,7 @@ package com.shield.module.accounting.repository;
 import com.shield.module.accounting.entity.VendorPaymentEntity;
 import com.shield.module.accounting.entity.VendorPaymentStatus;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.UUID;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -28,6 +29,10 @@ public interface VendorPaymentRepository extends JpaRepository<VendorPaymentEnti
             from VendorPaymentEntity v
             where v.deleted = false
               and v.status = :status
+              and v.paymentDate between :fromDate and :toDate
             """)
-    BigDecimal sumAmountByStatus(@Param("status") VendorPaymentStatus status);
+    BigDecimal sumAmountByStatusAndDateRange(
+            @Param("status") VendorPaymentStatus status,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
 }
@@ -1,9 +1,12 @@
 package com.shield.module.accounting.service;
 
 import com.shield.audit.service.AuditLogService;
+import com.shield.common.cache.CacheNames;
+import com.shield.common.cache.TenantCacheKeyGenerator;
 import com.shield.common.dto.PagedResponse;
 import com.shield.common.exception.BadRequestException;
 import com.shield.common.exception.ResourceNotFoundException;
+import com.shield.common.export.CsvStreamExporter;
 import com.shield.module.accounting.dto.AccountHeadCreateRequest;
 import com.shield.module.accounting.dto.AccountHeadResponse;
 import com.shield.module.accounting.dto.AccountHeadUpdateRequest;
@@ -49,18 +52,24 @@ import com.shield.module.accounting.repository.LedgerEntryRepository;
 import com.shield.module.accounting.repository.VendorPaymentRepository;
 import com.shield.module.accounting.repository.VendorRepository;
 import com.shield.security.model.ShieldPrincipal;
+import com.shield.tenant.context.TenantContext;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Month;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Service
 @RequiredArgsConstructor
@@ -68,6 +77,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class AccountingTreasuryService {
 
     private static final BigDecimal ZERO = BigDecimal.ZERO;
+    private static final FinancialYearRange ALL_TIME =
+            new FinancialYearRange("ALL", LocalDate.of(1900, Month.JANUARY, 1), LocalDate.of(9999, Month.DECEMBER, 31));
     private static final String ENTITY_ACCOUNT_HEAD = "account_head";
     private static final String ENTITY_FUND_CATEGORY = "fund_category";
     private static final String ENTITY_LEDGER_ENTRY = "ledger_entry";
@@ -83,6 +94,7 @@ public class AccountingTreasuryService {
     private final VendorPaymentRepository vendorPaymentRepository;
     private final BudgetRepository budgetRepository;
     private final AuditLogService auditLogService;
+    private final CsvStreamExporter csvStreamExporter;
 
     public AccountHeadResponse createAccountHead(AccountHeadCreateRequest request, ShieldPrincipal principal) {
         AccountHeadEntity entity = new AccountHeadEntity();
@@ -273,19 +285,26 @@ public class AccountingTreasuryService {
     }
 
     @Transactional(readOnly = true)
-    public String exportLedgerEntries() {
-        List<LedgerEntryEntity> entries = ledgerEntryRepository.findAllByDeletedFalseOrderByEntryDateDesc();
-        StringBuilder builder = new StringBuilder("id,entryDate,type,category,amount,reference,description\n");
-        for (LedgerEntryEntity entry : entries) {
-            builder.append(entry.getId()).append(',')
-                    .append(entry.getEntryDate()).append(',')
-                    .append(entry.getType()).append(',')
-                    .append(escapeCsv(entry.getCategory())).append(',')
-                    .append(entry.getAmount()).append(',')
-                    .append(escapeCsv(entry.getReference())).append(',')
-                    .append(escapeCsv(entry.getDescription())).append('\n');
+    public StreamingResponseBody exportLedgerEntries(LocalDate fromDate, LocalDate toDate) {
+        UUID tenantId = TenantContext.getRequiredTenantId();
+        String header = "id,entryDate,type,category,amount,reference,description";
+        String select = "SELECT id, entry_date, type, category, amount, reference, description"
+                + " FROM ledger_entry WHERE tenant_id = ? AND deleted = FALSE";
+        if (fromDate == null && toDate == null) {
+            return csvStreamExporter.stream(header, select + " ORDER BY entry_date DESC", tenantId);
         }
-        return builder.toString();
+        if (fromDate == null || toDate == null) {
+            throw new BadRequestException("Both fromDate and toDate must be provided for date range export");
+        }
+        if (fromDate.isAfter(toDate)) {
+            throw new BadRequestException("fromDate must be before or equal to toDate");
+        }
+        return csvStreamExporter.stream(
+                header,
+                select + " AND entry_date BETWEEN ? AND ? ORDER BY entry_date DESC",
+                tenantId,
+                fromDate,
+                toDate);
     }
 
     public ExpenseResponse createExpense(ExpenseCreateRequest request, ShieldPrincipal principal) {
@@ -610,9 +629,83 @@ public class AccountingTreasuryService {
         return responses;
     }
 
-    public FinancialReportResponse incomeStatement() {
-        BigDecimal income = safeAmount(ledgerEntryRepository.sumAmountByType(LedgerType.INCOME));
-        BigDecimal expense = safeAmount(ledgerEntryRepository.sumAmountByType(LedgerType.EXPENSE));
+    @Cacheable(cacheNames = CacheNames.FINANCIAL_REPORTS, keyGenerator = TenantCacheKeyGenerator.BEAN_NAME)
+    @Transactional(readOnly = true)
+    public FinancialReportResponse incomeStatement(String financialYear) {
+        return buildIncomeStatement(summarizeLedger(resolveReportRange(financialYear)));
+    }
+
+    @Cacheable(cacheNames = CacheNames.FINANCIAL_REPORTS, keyGenerator = TenantCacheKeyGenerator.BEAN_NAME)
+    @Transactional(readOnly = true)
+    public FinancialReportResponse balanceSheet(String financialYear) {
+        return buildBalanceSheet(resolveReportRange(financialYear));
+    }
+
+    @Cacheable(cacheNames = CacheNames.FINANCIAL_REPORTS, keyGenerator = TenantCacheKeyGenerator.BEAN_NAME)
+    @Transactional(readOnly = true)
+    public FinancialReportResponse cashFlow(String financialYear) {
+        FinancialYearRange range = resolveReportRange(financialYear);
+        return buildCashFlow(summarizeLedger(range), range);
+    }
+
+    @Cacheable(cacheNames = CacheNames.FINANCIAL_REPORTS, keyGenerator = TenantCacheKeyGenerator.BEAN_NAME)
+    @Transactional(readOnly = true)
+    public FinancialReportResponse trialBalance(String financialYear) {
+        LedgerSummary summary = summarizeLedger(resolveReportRange(financialYear));
+        List<FinancialReportLine> lines = new ArrayList<>();
+        BigDecimal total = ZERO;
+
+        for (AccountHeadEntity accountHead : accountHeadRepository.findAllByDeletedFalseOrderByHeadNameAsc()) {
+            BigDecimal amount = summary.byAccountHead().getOrDefault(accountHead.getId(), ZERO);
+            lines.add(new FinancialReportLine(accountHead.getHeadName(), amount));
+            total = total.add(amount);
+        }
+
+        return new FinancialReportResponse("TRIAL_BALANCE", lines, total, Instant.now());
+    }
+
+    @Transactional(readOnly = true)
+    public FinancialReportResponse fundSummary() {
+        List<FinancialReportLine> lines = fundCategoryRepository.findAllByDeletedFalseOrderByCategoryNameAsc().stream()
+                .map(fund -> new FinancialReportLine(fund.getCategoryName(), fund.getCurrentBalance()))
+                .toList();
+        BigDecimal total = lines.stream().map(FinancialReportLine::amount).reduce(ZERO, BigDecimal::add);
+        return new FinancialReportResponse("FUND_SUMMARY", lines, total, Instant.now());
+    }
+
+    @Transactional(readOnly = true)
+    public String exportCaFormat(String financialYear) {
+        FinancialYearRange range = resolveReportRange(financialYear);
+        LedgerSummary summary = summarizeLedger(range);
+        FinancialReportResponse income = buildIncomeStatement(summary);
+        FinancialReportResponse cashFlow = buildCashFlow(summary, range);
+        FinancialReportResponse balance = buildBalanceSheet(range);
+
+        StringBuilder builder = new StringBuilder("report,line,amount\n");
+        appendReportLines(builder, income);
+        appendReportLines(builder, cashFlow);
+        appendReportLines(builder, balance);
+        return builder.toString();
+    }
+
+    private LedgerSummary summarizeLedger(FinancialYearRange range) {
+        Map<UUID, BigDecimal> byAccountHead = new HashMap<>();
+        Map<LedgerType, BigDecimal> byType = new EnumMap<>(LedgerType.class);
+        for (Object[] row : ledgerEntryRepository.summarizeByAccountHeadAndType(range.from(), range.to())) {
+            UUID accountHeadId = (UUID) row[0];
+            LedgerType type = (LedgerType) row[1];
+            BigDecimal amount = safeAmount((BigDecimal) row[2]);
+            if (accountHeadId != null) {
+                byAccountHead.merge(accountHeadId, amount, BigDecimal::add);
+            }
+            byType.merge(type, amount, BigDecimal::add);
+        }
+        return new LedgerSummary(byAccountHead, byType);
+    }
+
+    private FinancialReportResponse buildIncomeStatement(LedgerSummary summary) {
+        BigDecimal income = summary.total(LedgerType.INCOME);
+        BigDecimal expense = summary.total(LedgerType.EXPENSE);
         BigDecimal net = income.subtract(expense);
 
         return new FinancialReportResponse(
@@ -625,13 +718,13 @@ public class AccountingTreasuryService {
                 Instant.now());
     }
 
-    public FinancialReportResponse balanceSheet() {
+    private FinancialReportResponse buildBalanceSheet(FinancialYearRange range) {
         BigDecimal totalAssets = fundCategoryRepository.findAllByDeletedFalseOrderByCategoryNameAsc().stream()
                 .map(FundCategoryEntity::getCurrentBalance)
                 .reduce(ZERO, BigDecimal::add);
 
         BigDecimal totalLiabilities = safeAmount(expenseRepository
-                .sumAmountByStatusAndDateRange(ExpensePaymentStatus.PENDING, LocalDate.of(2000, 1, 1), LocalDate.now().plusYears(20)));
+                .sumAmountByStatusAndDateRange(ExpensePaymentStatus.PENDING, range.from(), range.to()));
 
         BigDecimal netPosition = totalAssets.subtract(totalLiabilities);
 
@@ -645,9 +738,10 @@ public class AccountingTreasuryService {
                 Instant.now());
     }
 
-    public FinancialReportResponse cashFlow() {
-        BigDecimal inflow = safeAmount(ledgerEntryRepository.sumAmountByType(LedgerType.INCOME));
-        BigDecimal outflow = safeAmount(vendorPaymentRepository.sumAmountByStatus(VendorPaymentStatus.COMPLETED));
+    private FinancialReportResponse buildCashFlow(LedgerSummary summary, FinancialYearRange range) {
+        BigDecimal inflow = summary.total(LedgerType.INCOME);
+        BigDecimal outflow = safeAmount(vendorPaymentRepository
+                .sumAmountByStatusAndDateRange(VendorPaymentStatus.COMPLETED, range.from(), range.to()));
         BigDecimal netFlow = inflow.subtract(outflow);
 
         return new FinancialReportResponse(
@@ -660,42 +754,6 @@ public class AccountingTreasuryService {
                 Instant.now());
     }
 
-    @Transactional(readOnly = true)
-    public FinancialReportResponse trialBalance(String financialYear) {
-        List<FinancialReportLine> lines = new ArrayList<>();
-        BigDecimal total = ZERO;
-
-        for (AccountHeadEntity accountHead : accountHeadRepository.findAllByDeletedFalseOrderByHeadNameAsc()) {
-            BigDecimal amount = safeAmount(ledgerEntryRepository.sumAmountByAccountHeadId(accountHead.getId()));
-            lines.add(new FinancialReportLine(accountHead.getHeadName(), amount));
-            total = total.add(amount);
-        }
-
-        return new FinancialReportResponse("TRIAL_BALANCE", lines, total, Instant.now());
-    }
-
-    @Transactional(readOnly = true)
-    public FinancialReportResponse fundSummary() {
-        List<FinancialReportLine> lines = fundCategoryRepository.findAllByDeletedFalseOrderByCategoryNameAsc().stream()
-                .map(fund -> new FinancialReportLine(fund.getCategoryName(), fund.getCurrentBalance()))
-                .toList();
-        BigDecimal total = lines.stream().map(FinancialReportLine::amount).reduce(ZERO, BigDecimal::add);
-        return new FinancialReportResponse("FUND_SUMMARY", lines, total, Instant.now());
-    }
-
-    @Transactional(readOnly = true)
-    public String exportCaFormat(String financialYear) {
-        FinancialReportResponse income = incomeStatement();
-        FinancialReportResponse cashFlow = cashFlow();
-        FinancialReportResponse balance = balanceSheet();
-
-        StringBuilder builder = new StringBuilder("report,line,amount\n");
-        appendReportLines(builder, income);
-        appendReportLines(builder, cashFlow);
-        appendReportLines(builder, balance);
-        return builder.toString();
-    }
-
     private void appendReportLines(StringBuilder builder, FinancialReportResponse report) {
         for (FinancialReportLine line : report.lines()) {
             builder.append(report.reportType()).append(',')
@@ -819,6 +877,13 @@ public class AccountingTreasuryService {
         throw new BadRequestException("Unable to generate unique expense number");
     }
 
+    private FinancialYearRange resolveReportRange(String financialYear) {
+        if (financialYear == null || financialYear.isBlank()) {
+            return ALL_TIME;
+        }
+        return resolveFinancialYearRange(financialYear);
+    }
+
     private FinancialYearRange resolveFinancialYearRange(String financialYear) {
         if (financialYear == null || financialYear.isBlank()) {
             int year = LocalDate.now().getYear();
@@ -957,6 +1022,13 @@ public class AccountingTreasuryService {
                 entity.getBudgetedAmount());
     }
 
+    private record LedgerSummary(Map<UUID, BigDecimal> byAccountHead, Map<LedgerType, BigDecimal> byType) {
+
+        BigDecimal total(LedgerType type) {
+            return byType.getOrDefault(type, ZERO);
+        }
+    }
+
     private record FinancialYearRange(String label, LocalDate from, LocalDate to) {
     }
 }
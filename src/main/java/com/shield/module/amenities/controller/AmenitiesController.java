@@ -2,6 +2,7 @@ package com.shield.module.amenities.controller;
 
 import com.shield.common.dto.ApiResponse;
 import com.shield.common.dto.PagedResponse;
+import com.shield.module.amenities.dto.AmenityAvailabilityCalendarResponse;
 import com.shield.module.amenities.dto.AmenityAvailabilityResponse;
 import com.shield.module.amenities.dto.AmenityBookingCreateRequest;
 import com.shield.module.amenities.dto.AmenityBookingResponse;
@@ -246,6 +247,16 @@ public class AmenitiesController {
                 amenitiesService.checkAvailability(amenityId, startTime, endTime)));
     }
 
+    @GetMapping("/amenities/{id}/availability-calendar")
+    public ResponseEntity<ApiResponse<AmenityAvailabilityCalendarResponse>> availabilityCalendar(
+            @PathVariable UUID id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(ApiResponse.ok(
+                "Amenity availability calendar fetched",
+                amenitiesService.getAvailabilityCalendar(id, from, to)));
+    }
+
     // Legacy endpoints retained for compatibility.
     @PostMapping("/amenities/{id}/book")
     public ResponseEntity<ApiResponse<AmenityBookingResponse>> book(
@@ -0,0 +1,13 @@
+package com.shield.module.amenities.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record AmenityAvailabilityCalendarResponse(
+        UUID amenityId,
+        LocalDate fromDate,
+        LocalDate toDate,
+        List<AmenityCalendarInterval> intervals
+) {
+}
@@ -0,0 +1,10 @@
+package com.shield.module.amenities.dto;
+
+import java.time.Instant;
+
+public record AmenityCalendarInterval(
+        Instant startTime,
+        Instant endTime,
+        AmenityCalendarIntervalStatus status
+) {
+}
@@ -0,0 +1,7 @@
+package com.shield.module.amenities.dto;
+
+public enum AmenityCalendarIntervalStatus {
+    FREE,
+    OCCUPIED,
+    UNAVAILABLE
+}
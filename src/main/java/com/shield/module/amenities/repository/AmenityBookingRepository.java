@@ -4,6 +4,7 @@ import com.shield.module.amenities.entity.AmenityBookingEntity;
 import com.shield.module.amenities.entity.AmenityBookingStatus;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -36,4 +37,10 @@ public interface AmenityBookingRepository extends JpaRepository<AmenityBookingEn
             Instant endTime,
             Instant startTime,
             Iterable<AmenityBookingStatus> statuses);
+
+    List<AmenityBookingEntity> findAllByAmenityIdAndStartTimeLessThanAndEndTimeGreaterThanAndStatusInAndDeletedFalseOrderByStartTimeAsc(
+            UUID amenityId,
+            Instant endTime,
+            Instant startTime,
+            Iterable<AmenityBookingStatus> statuses);
 }
@@ -5,6 +5,7 @@ import com.shield.common.dto.PagedResponse;
 import com.shield.common.exception.BadRequestException;
 import com.shield.common.exception.ResourceNotFoundException;
 import com.shield.common.util.SecurityUtils;
+import com.shield.module.amenities.dto.AmenityAvailabilityCalendarResponse;
 import com.shield.module.amenities.dto.AmenityAvailabilityResponse;
 import com.shield.module.amenities.dto.AmenityBookingCreateRequest;
 import com.shield.module.amenities.dto.AmenityBookingResponse;
@@ -40,12 +41,15 @@ import com.shield.module.amenities.repository.AmenityRepository;
 import com.shield.module.amenities.repository.AmenityTimeSlotRepository;
 import com.shield.security.model.ShieldPrincipal;
 import com.shield.tenant.context.TenantContext;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -57,6 +61,8 @@ public class AmenitiesService {
 
     private static final List<AmenityBookingStatus> BLOCKING_BOOKING_STATUSES =
             List.of(AmenityBookingStatus.PENDING, AmenityBookingStatus.CONFIRMED);
+    private static final String EXCLUSION_VIOLATION_SQL_STATE = "23P01";
+    private static final int MAX_CALENDAR_DAYS = 31;
     private static final String ENTITY_AMENITY = "amenity";
     private static final String ENTITY_AMENITY_TIME_SLOT = "amenity_time_slot";
     private static final String ENTITY_AMENITY_PRICING = "amenity_pricing";
@@ -71,6 +77,8 @@ public class AmenitiesService {
     private final AmenityBookingRuleRepository amenityBookingRuleRepository;
     private final AmenityCancellationPolicyRepository amenityCancellationPolicyRepository;
     private final AuditLogService auditLogService;
+    private final AmenityBookingIndex amenityBookingIndex;
+    private final AmenityAvailabilityCalendar amenityAvailabilityCalendar;
 
     public AmenityResponse create(AmenityCreateRequest request) {
         UUID tenantId = TenantContext.getRequiredTenantId();
@@ -99,6 +107,7 @@ public class AmenitiesService {
         applyAmenityFields(entity, toAmenityFieldValues(request));
 
         AmenityEntity saved = amenityRepository.save(entity);
+        amenityAvailabilityCalendar.invalidateAmenityAfterCommit(saved.getId());
         auditLogService.logEvent(saved.getTenantId(), null, "AMENITY_UPDATED", ENTITY_AMENITY, saved.getId(), null);
         return toAmenityResponse(saved);
     }
@@ -128,6 +137,7 @@ public class AmenitiesService {
         AmenityEntity entity = getAmenityEntity(id);
         entity.setActive(true);
         AmenityEntity saved = amenityRepository.save(entity);
+        amenityAvailabilityCalendar.invalidateAmenityAfterCommit(saved.getId());
         auditLogService.logEvent(saved.getTenantId(), null, "AMENITY_ACTIVATED", ENTITY_AMENITY, saved.getId(), null);
         return toAmenityResponse(saved);
     }
@@ -136,6 +146,7 @@ public class AmenitiesService {
         AmenityEntity entity = getAmenityEntity(id);
         entity.setActive(false);
         AmenityEntity saved = amenityRepository.save(entity);
+        amenityAvailabilityCalendar.invalidateAmenityAfterCommit(saved.getId());
         auditLogService.logEvent(saved.getTenantId(), null, "AMENITY_DEACTIVATED", ENTITY_AMENITY, saved.getId(), null);
         return toAmenityResponse(saved);
     }
@@ -162,6 +173,7 @@ public class AmenitiesService {
         entity.setActive(request.active() == null || request.active());
 
         AmenityTimeSlotEntity saved = amenityTimeSlotRepository.save(entity);
+        amenityAvailabilityCalendar.invalidateAmenityAfterCommit(saved.getAmenityId());
         auditLogService.logEvent(saved.getTenantId(), null, "AMENITY_TIME_SLOT_CREATED", ENTITY_AMENITY_TIME_SLOT, saved.getId(), null);
         return toAmenityTimeSlotResponse(saved);
     }
@@ -176,6 +188,7 @@ public class AmenitiesService {
         entity.setActive(request.active() == null || request.active());
 
         AmenityTimeSlotEntity saved = amenityTimeSlotRepository.save(entity);
+        amenityAvailabilityCalendar.invalidateAmenityAfterCommit(saved.getAmenityId());
         auditLogService.logEvent(saved.getTenantId(), null, "AMENITY_TIME_SLOT_UPDATED", ENTITY_AMENITY_TIME_SLOT, saved.getId(), null);
         return toAmenityTimeSlotResponse(saved);
     }
@@ -184,6 +197,7 @@ public class AmenitiesService {
         AmenityTimeSlotEntity entity = getAmenityTimeSlotEntity(id);
         entity.setDeleted(true);
         amenityTimeSlotRepository.save(entity);
+        amenityAvailabilityCalendar.invalidateAmenityAfterCommit(entity.getAmenityId());
         auditLogService.logEvent(entity.getTenantId(), null, "AMENITY_TIME_SLOT_DELETED", ENTITY_AMENITY_TIME_SLOT, entity.getId(), null);
     }
 
@@ -191,6 +205,7 @@ public class AmenitiesService {
         AmenityTimeSlotEntity entity = getAmenityTimeSlotEntity(id);
         entity.setActive(true);
         AmenityTimeSlotEntity saved = amenityTimeSlotRepository.save(entity);
+        amenityAvailabilityCalendar.invalidateAmenityAfterCommit(saved.getAmenityId());
         auditLogService.logEvent(saved.getTenantId(), null, "AMENITY_TIME_SLOT_ACTIVATED", ENTITY_AMENITY_TIME_SLOT, saved.getId(), null);
         return toAmenityTimeSlotResponse(saved);
     }
@@ -199,6 +214,7 @@ public class AmenitiesService {
         AmenityTimeSlotEntity entity = getAmenityTimeSlotEntity(id);
         entity.setActive(false);
         AmenityTimeSlotEntity saved = amenityTimeSlotRepository.save(entity);
+        amenityAvailabilityCalendar.invalidateAmenityAfterCommit(saved.getAmenityId());
         auditLogService.logEvent(saved.getTenantId(), null, "AMENITY_TIME_SLOT_DEACTIVATED", ENTITY_AMENITY_TIME_SLOT, saved.getId(), null);
         return toAmenityTimeSlotResponse(saved);
     }
@@ -264,8 +280,9 @@ public class AmenitiesService {
 
         validateBookingWindow(request.startTime(), request.endTime());
         ensureAmenityBookable(amenity, request.startTime());
+        ensureAmenityOpen(amenityId, request.startTime(), request.endTime());
 
-        long overlapCount = findOverlapCount(amenityId, request.startTime(), request.endTime());
+        long overlapCount = countLiveOverlaps(amenityId, null, request.startTime(), request.endTime());
         if (overlapCount > 0) {
             throw new BadRequestException("Amenity is not available for the selected time window");
         }
@@ -298,7 +315,7 @@ public class AmenitiesService {
         entity.setPaymentStatus(AmenityPaymentStatus.UNPAID);
         entity.setNotes(request.notes());
 
-        AmenityBookingEntity saved = amenityBookingRepository.save(entity);
+        AmenityBookingEntity saved = saveBooking(entity);
         auditLogService.logEvent(saved.getTenantId(), principal.userId(), "AMENITY_BOOKING_CREATED", ENTITY_AMENITY_BOOKING, saved.getId(), null);
         return toAmenityBookingResponse(saved);
     }
@@ -316,8 +333,9 @@ public class AmenitiesService {
     public AmenityBookingResponse updateBooking(UUID id, AmenityBookingUpdateRequest request) {
         AmenityBookingEntity entity = getAmenityBookingEntity(id);
         validateBookingWindow(request.startTime(), request.endTime());
+        ensureAmenityOpen(entity.getAmenityId(), request.startTime(), request.endTime());
 
-        long overlapCount = findOverlapCountExcludingBooking(entity.getAmenityId(), entity.getId(), request.startTime(), request.endTime());
+        long overlapCount = countLiveOverlaps(entity.getAmenityId(), entity.getId(), request.startTime(), request.endTime());
         if (overlapCount > 0) {
             throw new BadRequestException("Amenity is not available for the selected time window");
         }
@@ -327,6 +345,7 @@ public class AmenitiesService {
             ensureTimeSlotBelongsToAmenity(slot, entity.getAmenityId());
         }
 
+        amenityAvailabilityCalendar.invalidateAfterCommit(entity.getAmenityId(), entity.getStartTime(), entity.getEndTime());
         entity.setUnitId(request.unitId());
         entity.setTimeSlotId(request.timeSlotId());
         entity.setStartTime(request.startTime());
@@ -346,7 +365,7 @@ public class AmenitiesService {
             entity.setPaymentStatus(request.paymentStatus());
         }
 
-        AmenityBookingEntity saved = amenityBookingRepository.save(entity);
+        AmenityBookingEntity saved = saveBooking(entity);
         auditLogService.logEvent(saved.getTenantId(), null, "AMENITY_BOOKING_UPDATED", ENTITY_AMENITY_BOOKING, saved.getId(), null);
         return toAmenityBookingResponse(saved);
     }
@@ -354,7 +373,7 @@ public class AmenitiesService {
     public void deleteBooking(UUID id) {
         AmenityBookingEntity entity = getAmenityBookingEntity(id);
         entity.setDeleted(true);
-        amenityBookingRepository.save(entity);
+        saveBooking(entity);
         auditLogService.logEvent(entity.getTenantId(), null, "AMENITY_BOOKING_DELETED", ENTITY_AMENITY_BOOKING, entity.getId(), null);
     }
 
@@ -365,7 +384,7 @@ public class AmenitiesService {
         entity.setApprovedBy(principal.userId());
         entity.setApprovalDate(Instant.now());
 
-        AmenityBookingEntity saved = amenityBookingRepository.save(entity);
+        AmenityBookingEntity saved = saveBooking(entity);
         auditLogService.logEvent(saved.getTenantId(), principal.userId(), "AMENITY_BOOKING_APPROVED", ENTITY_AMENITY_BOOKING, saved.getId(), null);
         return toAmenityBookingResponse(saved);
     }
@@ -375,7 +394,7 @@ public class AmenitiesService {
         entity.setStatus(AmenityBookingStatus.REJECTED);
         entity.setCancellationDate(Instant.now());
 
-        AmenityBookingEntity saved = amenityBookingRepository.save(entity);
+        AmenityBookingEntity saved = saveBooking(entity);
         auditLogService.logEvent(saved.getTenantId(), null, "AMENITY_BOOKING_REJECTED", ENTITY_AMENITY_BOOKING, saved.getId(), null);
         return toAmenityBookingResponse(saved);
     }
@@ -385,7 +404,7 @@ public class AmenitiesService {
         entity.setStatus(AmenityBookingStatus.CANCELLED);
         entity.setCancellationDate(Instant.now());
 
-        AmenityBookingEntity saved = amenityBookingRepository.save(entity);
+        AmenityBookingEntity saved = saveBooking(entity);
         auditLogService.logEvent(saved.getTenantId(), null, "AMENITY_BOOKING_CANCELLED", ENTITY_AMENITY_BOOKING, saved.getId(), null);
         return toAmenityBookingResponse(saved);
     }
@@ -394,7 +413,7 @@ public class AmenitiesService {
         AmenityBookingEntity entity = getAmenityBookingEntity(id);
         entity.setStatus(AmenityBookingStatus.COMPLETED);
 
-        AmenityBookingEntity saved = amenityBookingRepository.save(entity);
+        AmenityBookingEntity saved = saveBooking(entity);
         auditLogService.logEvent(saved.getTenantId(), null, "AMENITY_BOOKING_COMPLETED", ENTITY_AMENITY_BOOKING, saved.getId(), null);
         return toAmenityBookingResponse(saved);
     }
@@ -432,12 +451,29 @@ public class AmenitiesService {
     @Transactional(readOnly = true)
     public AmenityAvailabilityResponse checkAvailability(UUID amenityId, Instant startTime, Instant endTime) {
         validateBookingWindow(startTime, endTime);
-        getAmenityEntity(amenityId);
+        AmenityEntity amenity = getAmenityEntity(amenityId);
 
-        long overlapCount = findOverlapCount(amenityId, startTime, endTime);
+        long overlapCount = findOverlapCount(amenity.getTenantId(), amenityId, startTime, endTime);
         return new AmenityAvailabilityResponse(amenityId, startTime, endTime, overlapCount == 0, overlapCount);
     }
 
+    @Transactional(readOnly = true)
+    public AmenityAvailabilityCalendarResponse getAvailabilityCalendar(UUID amenityId, LocalDate fromDate, LocalDate toDate) {
+        if (toDate.isBefore(fromDate)) {
+            throw new BadRequestException("from must not be after to");
+        }
+        if (fromDate.plusDays(MAX_CALENDAR_DAYS).isBefore(toDate.plusDays(1))) {
+            throw new BadRequestException("Calendar range cannot exceed " + MAX_CALENDAR_DAYS + " days");
+        }
+        AmenityEntity amenity = getAmenityEntity(amenityId);
+
+        return new AmenityAvailabilityCalendarResponse(
+                amenityId,
+                fromDate,
+                toDate,
+                amenityAvailabilityCalendar.intervals(amenityId, fromDate, toDate, (from, to) -> loadCalendarInputs(amenity, from, to)));
+    }
+
     @Transactional(readOnly = true)
     public List<AmenityBookingRuleResponse> listRules(UUID amenityId) {
         getAmenityEntity(amenityId);
@@ -458,6 +494,7 @@ public class AmenitiesService {
         entity.setActive(request.active() == null || request.active());
 
         AmenityBookingRuleEntity saved = amenityBookingRuleRepository.save(entity);
+        amenityAvailabilityCalendar.invalidateAmenityAfterCommit(saved.getAmenityId());
         auditLogService.logEvent(saved.getTenantId(), null, "AMENITY_BOOKING_RULE_CREATED", ENTITY_AMENITY_BOOKING_RULE, saved.getId(), null);
         return toAmenityBookingRuleResponse(saved);
     }
@@ -469,6 +506,7 @@ public class AmenitiesService {
         entity.setActive(request.active() == null || request.active());
 
         AmenityBookingRuleEntity saved = amenityBookingRuleRepository.save(entity);
+        amenityAvailabilityCalendar.invalidateAmenityAfterCommit(saved.getAmenityId());
         auditLogService.logEvent(saved.getTenantId(), null, "AMENITY_BOOKING_RULE_UPDATED", ENTITY_AMENITY_BOOKING_RULE, saved.getId(), null);
         return toAmenityBookingRuleResponse(saved);
     }
@@ -477,6 +515,7 @@ public class AmenitiesService {
         AmenityBookingRuleEntity entity = getAmenityBookingRuleEntity(id);
         entity.setDeleted(true);
         amenityBookingRuleRepository.save(entity);
+        amenityAvailabilityCalendar.invalidateAmenityAfterCommit(entity.getAmenityId());
         auditLogService.logEvent(entity.getTenantId(), null, "AMENITY_BOOKING_RULE_DELETED", ENTITY_AMENITY_BOOKING_RULE, entity.getId(), null);
     }
 
@@ -609,35 +648,110 @@ public class AmenitiesService {
             throw new BadRequestException("Amenity booking is not allowed");
         }
 
-        long daysAhead = java.time.Duration.between(Instant.now(), startTime).toDays();
+        long daysAhead = Duration.between(Instant.now(), startTime).toDays();
         if (daysAhead > amenity.getAdvanceBookingDays()) {
             throw new BadRequestException("Booking exceeds amenity advance booking window");
         }
     }
 
+    private void ensureAmenityOpen(UUID amenityId, Instant startTime, Instant endTime) {
+        List<AmenityBookingRuleEntity> rules =
+                amenityBookingRuleRepository.findAllByAmenityIdAndDeletedFalseOrderByCreatedAtDesc(amenityId);
+        AmenityAvailabilityCalendar.firstClosedDay(rules, startTime, endTime).ifPresent(day -> {
+            throw new BadRequestException("Amenity is closed on " + day);
+        });
+    }
+
     private void ensureTimeSlotBelongsToAmenity(AmenityTimeSlotEntity slot, UUID amenityId) {
         if (!slot.getAmenityId().equals(amenityId)) {
             throw new BadRequestException("Time slot does not belong to amenity");
         }
     }
 
-    private long findOverlapCount(UUID amenityId, Instant startTime, Instant endTime) {
-        return amenityBookingRepository
-                .countByAmenityIdAndStartTimeLessThanAndEndTimeGreaterThanAndStatusInAndDeletedFalse(
-                        amenityId,
-                        endTime,
-                        startTime,
-                        BLOCKING_BOOKING_STATUSES);
+    private AmenityAvailabilityCalendar.Inputs loadCalendarInputs(AmenityEntity amenity, LocalDate from, LocalDate to) {
+        Instant start = from.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant end = to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        List<AmenityBookingIndex.BookedInterval> bookings = amenityBookingIndex
+                .overlapping(amenity.getTenantId(), amenity.getId(), start, end)
+                .orElseGet(() -> amenityBookingRepository
+                        .findAllByAmenityIdAndStartTimeLessThanAndEndTimeGreaterThanAndStatusInAndDeletedFalseOrderByStartTimeAsc(
+                                amenity.getId(),
+                                end,
+                                start,
+                                BLOCKING_BOOKING_STATUSES)
+                        .stream()
+                        .map(booking -> new AmenityBookingIndex.BookedInterval(
+                                booking.getId(), booking.getStartTime(), booking.getEndTime()))
+                        .toList());
+        Instant bookableUntil = amenity.isActive() && amenity.isBookingAllowed()
+                ? Instant.now().plus(Duration.ofDays(amenity.getAdvanceBookingDays() + 1L))
+                : Instant.MIN;
+
+        return new AmenityAvailabilityCalendar.Inputs(
+                amenityTimeSlotRepository.findAllByAmenityIdAndDeletedFalseOrderByStartTimeAsc(amenity.getId()),
+                amenityBookingRuleRepository.findAllByAmenityIdAndDeletedFalseOrderByCreatedAtDesc(amenity.getId()),
+                bookings,
+                bookableUntil);
+    }
+
+    private long findOverlapCount(UUID tenantId, UUID amenityId, Instant startTime, Instant endTime) {
+        return amenityBookingIndex.overlapping(tenantId, amenityId, startTime, endTime)
+                .map(intervals -> (long) intervals.size())
+                .orElseGet(() -> amenityBookingRepository
+                        .countByAmenityIdAndStartTimeLessThanAndEndTimeGreaterThanAndStatusInAndDeletedFalse(
+                                amenityId,
+                                endTime,
+                                startTime,
+                                BLOCKING_BOOKING_STATUSES));
+    }
+
+    /**
+     * Write-path pre-check. It always reads the database: the index on this node can lag a cancellation made on
+     * another node, and must not turn that stale view into a rejected booking.
+     */
+    private long countLiveOverlaps(UUID amenityId, UUID excludedBookingId, Instant startTime, Instant endTime) {
+        if (excludedBookingId == null) {
+            return amenityBookingRepository.countByAmenityIdAndStartTimeLessThanAndEndTimeGreaterThanAndStatusInAndDeletedFalse(
+                    amenityId,
+                    endTime,
+                    startTime,
+                    BLOCKING_BOOKING_STATUSES);
+        }
+        return amenityBookingRepository.countByAmenityIdAndIdNotAndStartTimeLessThanAndEndTimeGreaterThanAndStatusInAndDeletedFalse(
+                amenityId,
+                excludedBookingId,
+                endTime,
+                startTime,
+                BLOCKING_BOOKING_STATUSES);
+    }
+
+    /**
+     * The overlap checks above are only a fast path; the {@code ex_amenity_booking_no_overlap} exclusion constraint
+     * decides concurrent races, so the insert is flushed here to surface a violation as a booking conflict.
+     */
+    private AmenityBookingEntity saveBooking(AmenityBookingEntity entity) {
+        AmenityBookingEntity saved;
+        try {
+            saved = amenityBookingRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException ex) {
+            if (!isBookingOverlap(ex)) {
+                throw ex;
+            }
+            amenityBookingIndex.evict(entity.getAmenityId());
+            throw new BadRequestException("Amenity is not available for the selected time window");
+        }
+        amenityBookingIndex.recordAfterCommit(saved);
+        amenityAvailabilityCalendar.invalidateAfterCommit(saved.getAmenityId(), saved.getStartTime(), saved.getEndTime());
+        return saved;
     }
 
-    private long findOverlapCountExcludingBooking(UUID amenityId, UUID bookingId, Instant startTime, Instant endTime) {
-        return amenityBookingRepository
-                .countByAmenityIdAndIdNotAndStartTimeLessThanAndEndTimeGreaterThanAndStatusInAndDeletedFalse(
-                        amenityId,
-                        bookingId,
-                        endTime,
-                        startTime,
-                        BLOCKING_BOOKING_STATUSES);
+    private boolean isBookingOverlap(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && EXCLUSION_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private String generateBookingNumber() {
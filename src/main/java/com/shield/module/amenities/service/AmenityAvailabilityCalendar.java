@@ -0,0 +1,310 @@
+package com.shield.module.amenities.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shield.module.amenities.dto.AmenityCalendarInterval;
+import com.shield.module.amenities.dto.AmenityCalendarIntervalStatus;
+import com.shield.module.amenities.entity.AmenityBookingRuleEntity;
+import com.shield.module.amenities.entity.AmenityTimeSlotEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Builds an amenity's free / occupied / unavailable intervals for a date range with one sweep over the opening,
+ * booking and blocking edges, and caches the result per amenity-day (UTC). Days that are not cached are computed
+ * together from a single ordered booking read.
+ */
+@Component
+public class AmenityAvailabilityCalendar {
+
+    static final String RULE_BLACKOUT_DATE = "BLACKOUT_DATE";
+    static final String RULE_CLOSED_DAY = "CLOSED_DAY";
+
+    private static final int OPEN = 0;
+    private static final int BOOKED = 1;
+    private static final int BLOCKED = 2;
+
+    private final Cache<AmenityDay, List<AmenityCalendarInterval>> cache;
+
+    public AmenityAvailabilityCalendar(
+            MeterRegistry meterRegistry,
+            @Value("${shield.amenity.calendar-cache.enabled:true}") boolean cacheEnabled,
+            @Value("${shield.amenity.calendar-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${shield.amenity.calendar-cache.max-days:50000}") long maxDays) {
+        if (cacheEnabled) {
+            this.cache = Caffeine.newBuilder()
+                    .expireAfterWrite(Duration.ofSeconds(Math.max(1L, ttlSeconds)))
+                    .maximumSize(Math.max(1L, maxDays))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "amenityCalendar");
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * Returns the intervals for {@code [from, to]}. {@code loader} is called at most once, with the smallest date span
+     * that covers every day missing from the cache.
+     */
+    public List<AmenityCalendarInterval> intervals(
+            UUID amenityId,
+            LocalDate from,
+            LocalDate to,
+            BiFunction<LocalDate, LocalDate, Inputs> loader) {
+        Map<LocalDate, List<AmenityCalendarInterval>> days = new LinkedHashMap<>();
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            List<AmenityCalendarInterval> cached = cache == null ? null : cache.getIfPresent(new AmenityDay(amenityId, day));
+            days.put(day, cached);
+            if (cached == null) {
+                firstMissing = firstMissing == null ? day : firstMissing;
+                lastMissing = day;
+            }
+        }
+
+        if (firstMissing != null) {
+            Map<LocalDate, List<AmenityCalendarInterval>> computed =
+                    sweep(firstMissing, lastMissing, loader.apply(firstMissing, lastMissing));
+            for (Map.Entry<LocalDate, List<AmenityCalendarInterval>> entry : computed.entrySet()) {
+                if (days.get(entry.getKey()) == null) {
+                    days.put(entry.getKey(), entry.getValue());
+                }
+                if (cache != null) {
+                    cache.put(new AmenityDay(amenityId, entry.getKey()), entry.getValue());
+                }
+            }
+        }
+
+        List<AmenityCalendarInterval> result = new ArrayList<>();
+        days.values().forEach(result::addAll);
+        return result;
+    }
+
+    public void invalidateAfterCommit(UUID amenityId, Instant start, Instant end) {
+        if (cache == null) {
+            return;
+        }
+        LocalDate first = start.atZone(ZoneOffset.UTC).toLocalDate();
+        LocalDate last = end.minusNanos(1).atZone(ZoneOffset.UTC).toLocalDate();
+        runAfterCommit(() -> {
+            for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+                cache.invalidate(new AmenityDay(amenityId, day));
+            }
+        });
+    }
+
+    public void invalidateAmenityAfterCommit(UUID amenityId) {
+        if (cache == null) {
+            return;
+        }
+        runAfterCommit(() -> cache.asMap().keySet().removeIf(key -> key.amenityId().equals(amenityId)));
+    }
+
+    static Map<LocalDate, List<AmenityCalendarInterval>> sweep(LocalDate from, LocalDate to, Inputs inputs) {
+        Instant rangeStart = from.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant rangeEnd = to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        List<Edge> edges = new ArrayList<>();
+
+        List<AmenityTimeSlotEntity> slots = inputs.timeSlots().stream().filter(AmenityTimeSlotEntity::isActive).toList();
+        Set<DayOfWeek> closedDays = closedDays(inputs.rules());
+        Set<LocalDate> blackoutDates = blackoutDates(inputs.rules());
+        for (AmenityTimeSlotEntity slot : slots) {
+            addSlot(edges, slot, from.minusDays(1), rangeStart, rangeEnd);
+        }
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            Instant dayStart = day.atStartOfDay(ZoneOffset.UTC).toInstant();
+            Instant dayEnd = day.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+            edges.add(new Edge(dayStart, OPEN, 0));
+            if (slots.isEmpty()) {
+                addSpan(edges, OPEN, dayStart, dayEnd);
+            }
+            for (AmenityTimeSlotEntity slot : slots) {
+                addSlot(edges, slot, day, rangeStart, rangeEnd);
+            }
+            if (closedDays.contains(day.getDayOfWeek()) || blackoutDates.contains(day)) {
+                addSpan(edges, BLOCKED, dayStart, dayEnd);
+            }
+        }
+        if (inputs.bookableUntil().isBefore(rangeEnd)) {
+            addSpan(edges, BLOCKED, max(inputs.bookableUntil(), rangeStart), rangeEnd);
+        }
+        for (AmenityBookingIndex.BookedInterval booking : inputs.bookings()) {
+            addSpan(edges, BOOKED, max(booking.startTime(), rangeStart), min(booking.endTime(), rangeEnd));
+        }
+        edges.add(new Edge(rangeEnd, OPEN, 0));
+        edges.sort(Comparator.comparing(Edge::at));
+
+        Map<LocalDate, List<AmenityCalendarInterval>> days = new LinkedHashMap<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            days.put(day, new ArrayList<>());
+        }
+
+        int[] depth = new int[3];
+        int index = 0;
+        while (index < edges.size()) {
+            Instant at = edges.get(index).at();
+            while (index < edges.size() && edges.get(index).at().equals(at)) {
+                Edge edge = edges.get(index++);
+                depth[edge.kind()] += edge.delta();
+            }
+            if (index == edges.size() || depth[OPEN] <= 0) {
+                continue;
+            }
+            Instant next = edges.get(index).at();
+            AmenityCalendarIntervalStatus status = depth[BLOCKED] > 0
+                    ? AmenityCalendarIntervalStatus.UNAVAILABLE
+                    : depth[BOOKED] > 0 ? AmenityCalendarIntervalStatus.OCCUPIED : AmenityCalendarIntervalStatus.FREE;
+            append(days.get(at.atZone(ZoneOffset.UTC).toLocalDate()), new AmenityCalendarInterval(at, next, status));
+        }
+        days.replaceAll((day, intervals) -> List.copyOf(intervals));
+        return days;
+    }
+
+    /**
+     * Returns the first UTC day of {@code [start, end)} closed by a {@code CLOSED_DAY} or {@code BLACKOUT_DATE} rule,
+     * so booking writes refuse the same days the calendar reports as unavailable.
+     */
+    static Optional<LocalDate> firstClosedDay(List<AmenityBookingRuleEntity> rules, Instant start, Instant end) {
+        Set<DayOfWeek> closedDays = closedDays(rules);
+        Set<LocalDate> blackoutDates = blackoutDates(rules);
+        if (closedDays.isEmpty() && blackoutDates.isEmpty()) {
+            return Optional.empty();
+        }
+        LocalDate last = end.minusNanos(1).atZone(ZoneOffset.UTC).toLocalDate();
+        for (LocalDate day = start.atZone(ZoneOffset.UTC).toLocalDate(); !day.isAfter(last); day = day.plusDays(1)) {
+            if (closedDays.contains(day.getDayOfWeek()) || blackoutDates.contains(day)) {
+                return Optional.of(day);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static void append(List<AmenityCalendarInterval> intervals, AmenityCalendarInterval interval) {
+        if (!intervals.isEmpty()) {
+            AmenityCalendarInterval last = intervals.get(intervals.size() - 1);
+            if (last.status() == interval.status() && last.endTime().equals(interval.startTime())) {
+                intervals.set(intervals.size() - 1, new AmenityCalendarInterval(last.startTime(), interval.endTime(), last.status()));
+                return;
+            }
+        }
+        intervals.add(interval);
+    }
+
+    /**
+     * A slot whose end is not after its start runs past midnight, e.g. 22:00-02:00, so it ends on the next day.
+     */
+    private static void addSlot(List<Edge> edges, AmenityTimeSlotEntity slot, LocalDate day, Instant rangeStart, Instant rangeEnd) {
+        LocalDate endDay = slot.getEndTime().isAfter(slot.getStartTime()) ? day : day.plusDays(1);
+        Instant start = day.atTime(slot.getStartTime()).toInstant(ZoneOffset.UTC);
+        Instant end = endDay.atTime(slot.getEndTime()).toInstant(ZoneOffset.UTC);
+        addSpan(edges, OPEN, max(start, rangeStart), min(end, rangeEnd));
+    }
+
+    private static void addSpan(List<Edge> edges, int kind, Instant start, Instant end) {
+        if (start.isBefore(end)) {
+            edges.add(new Edge(start, kind, 1));
+            edges.add(new Edge(end, kind, -1));
+        }
+    }
+
+    private static Set<DayOfWeek> closedDays(List<AmenityBookingRuleEntity> rules) {
+        Set<DayOfWeek> closed = EnumSet.noneOf(DayOfWeek.class);
+        for (String value : ruleValues(rules, RULE_CLOSED_DAY)) {
+            try {
+                closed.add(DayOfWeek.valueOf(value.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException ignored) {
+                // Unrecognised day names are ignored rather than closing the amenity.
+            }
+        }
+        return closed;
+    }
+
+    private static Set<LocalDate> blackoutDates(List<AmenityBookingRuleEntity> rules) {
+        Set<LocalDate> dates = new HashSet<>();
+        for (String value : ruleValues(rules, RULE_BLACKOUT_DATE)) {
+            try {
+                dates.add(LocalDate.parse(value));
+            } catch (DateTimeParseException ignored) {
+                // Malformed dates are ignored rather than closing the amenity.
+            }
+        }
+        return dates;
+    }
+
+    private static List<String> ruleValues(List<AmenityBookingRuleEntity> rules, String ruleType) {
+        List<String> values = new ArrayList<>();
+        for (AmenityBookingRuleEntity rule : rules) {
+            if (!rule.isActive() || !ruleType.equalsIgnoreCase(rule.getRuleType())) {
+                continue;
+            }
+            for (String value : rule.getRuleValue().split(",")) {
+                if (!value.isBlank()) {
+                    values.add(value.trim());
+                }
+            }
+        }
+        return values;
+    }
+
+    private static Instant max(Instant left, Instant right) {
+        return left.isAfter(right) ? left : right;
+    }
+
+    private static Instant min(Instant left, Instant right) {
+        return left.isBefore(right) ? left : right;
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Everything the sweep needs for a date span. {@code bookings} must be the amenity's blocking bookings overlapping
+     * the span; {@code bookableUntil} is the end of the advance booking window.
+     */
+    public record Inputs(
+            List<AmenityTimeSlotEntity> timeSlots,
+            List<AmenityBookingRuleEntity> rules,
+            List<AmenityBookingIndex.BookedInterval> bookings,
+            Instant bookableUntil) {
+    }
+
+    private record AmenityDay(UUID amenityId, LocalDate date) {
+    }
+
+    private record Edge(Instant at, int kind, int delta) {
+    }
+}
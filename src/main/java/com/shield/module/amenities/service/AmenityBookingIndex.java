@@ -0,0 +1,195 @@
+package com.shield.module.amenities.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shield.module.amenities.entity.AmenityBookingEntity;
+import com.shield.module.amenities.entity.AmenityBookingStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory index of each amenity's blocking bookings, loaded on first use and kept current by applying this
+ * node's committed booking writes. The exclusion constraint on {@code amenity_booking} remains the source of truth;
+ * the index only answers availability questions, and entries expire after {@code ttl-seconds} so writes made on
+ * other nodes are picked up.
+ */
+@Component
+public class AmenityBookingIndex {
+
+    private static final String LOAD_SQL = """
+            SELECT id, start_time, end_time
+            FROM amenity_booking
+            WHERE tenant_id = ? AND amenity_id = ? AND deleted = FALSE
+              AND status IN ('PENDING', 'CONFIRMED')
+              AND end_time > ?
+            """;
+
+    private static final UUID LOWEST_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration lookback;
+    private final Cache<UUID, AmenityIntervals> cache;
+
+    public AmenityBookingIndex(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${shield.amenity.booking-index.ttl-seconds:60}") long ttlSeconds,
+            @Value("${shield.amenity.booking-index.lookback-hours:24}") long lookbackHours,
+            @Value("${shield.amenity.booking-index.max-amenities:10000}") long maxAmenities) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.lookback = Duration.ofHours(Math.max(0L, lookbackHours));
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(Math.max(1L, ttlSeconds)))
+                .maximumSize(Math.max(1L, maxAmenities))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "amenityBookingIndex");
+    }
+
+    /**
+     * Blocking bookings of the amenity that overlap {@code [start, end)}, or empty when the window reaches further
+     * back than the index holds and the caller has to ask the database.
+     */
+    public Optional<List<BookedInterval>> overlapping(UUID tenantId, UUID amenityId, Instant start, Instant end) {
+        AmenityIntervals intervals = cache.get(amenityId, key -> load(tenantId, key));
+        if (start.isBefore(intervals.loadedFrom)) {
+            return Optional.empty();
+        }
+        return Optional.of(intervals.overlapping(start, end));
+    }
+
+    public void recordAfterCommit(AmenityBookingEntity booking) {
+        boolean blocking = !booking.isDeleted()
+                && (booking.getStatus() == AmenityBookingStatus.PENDING || booking.getStatus() == AmenityBookingStatus.CONFIRMED);
+        UUID amenityId = booking.getAmenityId();
+        BookedInterval interval = new BookedInterval(booking.getId(), booking.getStartTime(), booking.getEndTime());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(amenityId, interval, blocking);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(amenityId, interval, blocking);
+            }
+        });
+    }
+
+    public void evict(UUID amenityId) {
+        cache.invalidate(amenityId);
+    }
+
+    private void apply(UUID amenityId, BookedInterval interval, boolean blocking) {
+        cache.asMap().computeIfPresent(amenityId, (key, intervals) -> {
+            intervals.remove(interval.bookingId());
+            if (blocking) {
+                intervals.add(interval);
+            }
+            return intervals;
+        });
+    }
+
+    private AmenityIntervals load(UUID tenantId, UUID amenityId) {
+        Instant loadedFrom = Instant.now().minus(lookback);
+        AmenityIntervals intervals = new AmenityIntervals(loadedFrom);
+        jdbcTemplate.query(
+                LOAD_SQL,
+                rs -> {
+                    intervals.add(new BookedInterval(
+                            rs.getObject("id", UUID.class),
+                            rs.getTimestamp("start_time").toInstant(),
+                            rs.getTimestamp("end_time").toInstant()));
+                },
+                tenantId,
+                amenityId,
+                Timestamp.from(loadedFrom));
+        return intervals;
+    }
+
+    public record BookedInterval(UUID bookingId, Instant startTime, Instant endTime) {
+    }
+
+    /**
+     * Bookings ordered by start time. Any booking overlapping a window must start after
+     * {@code windowStart - longest}, so a range scan over that prefix finds every overlap in O(log n + k).
+     */
+    private static final class AmenityIntervals {
+
+        private static final Comparator<BookedInterval> BY_START = Comparator
+                .comparing(BookedInterval::startTime)
+                .thenComparing(BookedInterval::bookingId);
+
+        private final Instant loadedFrom;
+        private final NavigableSet<BookedInterval> byStart = new TreeSet<>(BY_START);
+        private final Map<UUID, BookedInterval> byId = new HashMap<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private Duration longest = Duration.ZERO;
+
+        private AmenityIntervals(Instant loadedFrom) {
+            this.loadedFrom = loadedFrom;
+        }
+
+        private List<BookedInterval> overlapping(Instant start, Instant end) {
+            lock.readLock().lock();
+            try {
+                BookedInterval from = new BookedInterval(LOWEST_ID, start.minus(longest), null);
+                BookedInterval to = new BookedInterval(LOWEST_ID, end, null);
+                List<BookedInterval> result = new ArrayList<>();
+                for (BookedInterval candidate : byStart.subSet(from, true, to, false)) {
+                    if (candidate.endTime().isAfter(start)) {
+                        result.add(candidate);
+                    }
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void add(BookedInterval interval) {
+            lock.writeLock().lock();
+            try {
+                byStart.add(interval);
+                byId.put(interval.bookingId(), interval);
+                Duration length = Duration.between(interval.startTime(), interval.endTime());
+                if (length.compareTo(longest) > 0) {
+                    longest = length;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void remove(UUID bookingId) {
+            lock.writeLock().lock();
+            try {
+                BookedInterval existing = byId.remove(bookingId);
+                if (existing != null) {
+                    byStart.remove(existing);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.shield.common.util.SecurityUtils;
 import com.shield.module.analytics.dto.AnalyticsDashboardCreateRequest;
 import com.shield.module.analytics.dto.AnalyticsDashboardResponse;
 import com.shield.module.analytics.dto.AnalyticsDashboardUpdateRequest;
+import com.shield.module.analytics.dto.ReportExecutionResponse;
 import com.shield.module.analytics.service.AnalyticsService;
 import com.shield.security.model.ShieldPrincipal;
 import jakarta.validation.Valid;
@@ -82,4 +83,11 @@ public class AnalyticsDashboardController {
         ShieldPrincipal principal = SecurityUtils.getCurrentPrincipal();
         return ResponseEntity.ok(ApiResponse.ok("Analytics dashboard set as default", analyticsService.setDefaultDashboard(id, principal)));
     }
+
+    @PostMapping("/{id}/execute")
+    @PreAuthorize("hasAnyRole('ADMIN','COMMITTEE')")
+    public ResponseEntity<ApiResponse<ReportExecutionResponse>> execute(@PathVariable UUID id) {
+        ShieldPrincipal principal = SecurityUtils.getCurrentPrincipal();
+        return ResponseEntity.ok(ApiResponse.ok("Analytics dashboard executed", analyticsService.executeDashboard(id, principal)));
+    }
 }
@@ -1,6 +1,7 @@
 package com.shield.module.analytics.controller;
 
 import com.shield.common.dto.ApiResponse;
+import com.shield.common.util.SecurityUtils;
 import com.shield.module.analytics.dto.AmenityUtilizationResponse;
 import com.shield.module.analytics.dto.AssetFailureFrequencyResponse;
 import com.shield.module.analytics.dto.CollectionEfficiencyResponse;
@@ -11,12 +12,14 @@ import com.shield.module.analytics.dto.FundAllocationResponse;
 import com.shield.module.analytics.dto.OccupancyRateResponse;
 import com.shield.module.analytics.dto.StaffAttendanceSummaryResponse;
 import com.shield.module.analytics.dto.VisitorTrendResponse;
+import com.shield.module.analytics.service.AnalyticsRollupService;
 import com.shield.module.analytics.service.AnalyticsService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -26,6 +29,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AnalyticsInsightsController {
 
     private final AnalyticsService analyticsService;
+    private final AnalyticsRollupService analyticsRollupService;
 
     @GetMapping("/collection-efficiency")
     @PreAuthorize("hasAnyRole('ADMIN','COMMITTEE')")
@@ -86,4 +90,11 @@ public class AnalyticsInsightsController {
     public ResponseEntity<ApiResponse<List<VisitorTrendResponse>>> visitorTrends() {
         return ResponseEntity.ok(ApiResponse.ok("Visitor trends fetched", analyticsService.getVisitorTrends()));
     }
+
+    @PostMapping("/rollups/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> rebuildRollups() {
+        analyticsRollupService.rebuildCurrentTenant(SecurityUtils.getCurrentPrincipal());
+        return ResponseEntity.ok(ApiResponse.ok("Analytics rollups rebuilt", null));
+    }
 }
@@ -1,10 +1,11 @@
 package com.shield.module.analytics.dto;
 
+import java.io.Serializable;
 import java.util.UUID;
 
 public record AmenityUtilizationResponse(
         UUID amenityId,
         String amenityName,
         long bookingCount
-) {
+) implements Serializable {
 }
@@ -1,7 +1,9 @@
 package com.shield.module.analytics.dto;
 
+import java.io.Serializable;
+
 public record AssetFailureFrequencyResponse(
         String assetCode,
         long complaintCount
-) {
+) implements Serializable {
 }
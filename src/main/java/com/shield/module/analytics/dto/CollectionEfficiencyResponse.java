@@ -1,10 +1,11 @@
 package com.shield.module.analytics.dto;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 
 public record CollectionEfficiencyResponse(
         BigDecimal billedAmount,
         BigDecimal collectedAmount,
         BigDecimal collectionEfficiencyPercent
-) {
+) implements Serializable {
 }
@@ -1,10 +1,11 @@
 package com.shield.module.analytics.dto;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 
 public record DefaulterTrendResponse(
         String period,
         long defaulterUnits,
         BigDecimal outstandingAmount
-) {
+) implements Serializable {
 }
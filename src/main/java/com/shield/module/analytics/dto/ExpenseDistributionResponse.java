@@ -1,9 +1,10 @@
 package com.shield.module.analytics.dto;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 
 public record ExpenseDistributionResponse(
         String category,
         BigDecimal amount
-) {
+) implements Serializable {
 }
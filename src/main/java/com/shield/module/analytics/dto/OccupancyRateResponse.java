@@ -1,10 +1,11 @@
 package com.shield.module.analytics.dto;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 
 public record OccupancyRateResponse(
         long totalUnits,
         long occupiedUnits,
         BigDecimal occupancyRatePercent
-) {
+) implements Serializable {
 }
@@ -1,6 +1,7 @@
 package com.shield.module.analytics.dto;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -9,6 +10,8 @@ public record ReportExecutionResponse(
         String templateName,
         String reportType,
         Instant generatedAt,
-        Map<String, Object> data
+        Map<String, Object> data,
+        boolean partial,
+        List<ReportWidgetExecutionResponse> widgets
 ) {
 }
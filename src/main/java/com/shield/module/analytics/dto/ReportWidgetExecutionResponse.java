@@ -0,0 +1,9 @@
+package com.shield.module.analytics.dto;
+
+public record ReportWidgetExecutionResponse(
+        String widget,
+        String status,
+        long durationMillis,
+        String error
+) {
+}
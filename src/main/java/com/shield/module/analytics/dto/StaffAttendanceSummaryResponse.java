@@ -1,8 +1,10 @@
 package com.shield.module.analytics.dto;
 
+import java.io.Serializable;
+
 public record StaffAttendanceSummaryResponse(
         long totalStaff,
         long presentToday,
         long absentToday
-) {
+) implements Serializable {
 }
@@ -1,9 +1,10 @@
 package com.shield.module.analytics.dto;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 
 public record VisitorTrendResponse(
         LocalDate visitDate,
         long visitorCount
-) {
+) implements Serializable {
 }
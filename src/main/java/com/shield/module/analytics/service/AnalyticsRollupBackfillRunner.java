@@ -0,0 +1,42 @@
+package com.shield.module.analytics.service;
+
+import com.shield.module.tenant.entity.TenantEntity;
+import com.shield.module.tenant.repository.TenantRepository;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalyticsRollupBackfillRunner implements CommandLineRunner {
+
+    private final TenantRepository tenantRepository;
+    private final AnalyticsRollupService analyticsRollupService;
+
+    @Value("${shield.analytics.rollup.backfill-on-startup:false}")
+    private boolean backfillOnStartup;
+
+    @Override
+    public void run(String... args) {
+        if (!backfillOnStartup) {
+            return;
+        }
+
+        int rebuilt = 0;
+        for (TenantEntity tenant : tenantRepository.findAll()) {
+            UUID tenantId = tenant.getId();
+            try {
+                analyticsRollupService.rebuildTenant(tenantId);
+                rebuilt++;
+            } catch (DataAccessException ex) {
+                log.warn("Analytics rollup backfill failed for tenant {}", tenantId, ex);
+            }
+        }
+        log.info("Analytics rollup backfill completed for {} tenants", rebuilt);
+    }
+}
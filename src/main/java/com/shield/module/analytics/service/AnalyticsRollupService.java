@@ -0,0 +1,31 @@
+package com.shield.module.analytics.service;
+
+import com.shield.audit.service.AuditLogService;
+import com.shield.common.cache.TenantCacheGenerations;
+import com.shield.security.model.ShieldPrincipal;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class AnalyticsRollupService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditLogService auditLogService;
+    private final TenantCacheGenerations tenantCacheGenerations;
+
+    @Transactional
+    public void rebuildTenant(UUID tenantId) {
+        jdbcTemplate.query("SELECT analytics_rebuild_rollups(?)", rs -> null, tenantId);
+        tenantCacheGenerations.invalidateAfterCommit(tenantId);
+    }
+
+    @Transactional
+    public void rebuildCurrentTenant(ShieldPrincipal principal) {
+        rebuildTenant(principal.tenantId());
+        auditLogService.logEvent(principal.tenantId(), principal.userId(), "ANALYTICS_ROLLUPS_REBUILT", "analytics_rollup", null, null);
+    }
+}
@@ -1,6 +1,11 @@
 package com.shield.module.analytics.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shield.audit.service.AuditLogService;
+import com.shield.common.cache.CacheNames;
+import com.shield.common.cache.TenantCacheKeyGenerator;
 import com.shield.common.dto.PagedResponse;
 import com.shield.common.exception.ResourceNotFoundException;
 import com.shield.module.analytics.dto.AmenityUtilizationResponse;
@@ -18,6 +23,7 @@ import com.shield.module.analytics.dto.ReportExecutionResponse;
 import com.shield.module.analytics.dto.ReportTemplateCreateRequest;
 import com.shield.module.analytics.dto.ReportTemplateResponse;
 import com.shield.module.analytics.dto.ReportTemplateUpdateRequest;
+import com.shield.module.analytics.dto.ReportWidgetExecutionResponse;
 import com.shield.module.analytics.dto.ScheduledReportCreateRequest;
 import com.shield.module.analytics.dto.ScheduledReportResponse;
 import com.shield.module.analytics.dto.ScheduledReportUpdateRequest;
@@ -37,14 +43,22 @@ import java.sql.Date;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Pageable;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Service
 @Transactional
@@ -56,24 +70,36 @@ public class AnalyticsService {
     private static final String REPORT_TEMPLATE_NOT_FOUND = "Report template not found: ";
     private static final String SCHEDULED_REPORT_NOT_FOUND = "Scheduled report not found: ";
     private static final String ANALYTICS_DASHBOARD_NOT_FOUND = "Analytics dashboard not found: ";
+    private static final String WIDGET_UNSUPPORTED = "UNSUPPORTED";
+
+    private static final Map<String, String> METRIC_DATA_KEYS = metricDataKeys();
 
     private final ReportTemplateRepository reportTemplateRepository;
     private final ScheduledReportRepository scheduledReportRepository;
     private final AnalyticsDashboardRepository analyticsDashboardRepository;
     private final AuditLogService auditLogService;
     private final JdbcTemplate jdbcTemplate;
+    private final ReportExecutionEngine reportExecutionEngine;
+    private final ObjectMapper objectMapper;
+    private final AnalyticsService self;
 
     public AnalyticsService(
             ReportTemplateRepository reportTemplateRepository,
             ScheduledReportRepository scheduledReportRepository,
             AnalyticsDashboardRepository analyticsDashboardRepository,
             AuditLogService auditLogService,
-            JdbcTemplate jdbcTemplate) {
+            JdbcTemplate jdbcTemplate,
+            ReportExecutionEngine reportExecutionEngine,
+            ObjectMapper objectMapper,
+            @Lazy AnalyticsService self) {
         this.reportTemplateRepository = reportTemplateRepository;
         this.scheduledReportRepository = scheduledReportRepository;
         this.analyticsDashboardRepository = analyticsDashboardRepository;
         this.auditLogService = auditLogService;
         this.jdbcTemplate = jdbcTemplate;
+        this.reportExecutionEngine = reportExecutionEngine;
+        this.objectMapper = objectMapper;
+        this.self = self;
     }
 
     public ReportTemplateResponse createReportTemplate(ReportTemplateCreateRequest request, ShieldPrincipal principal) {
@@ -135,33 +161,36 @@ public class AnalyticsService {
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "REPORT_TEMPLATE_DELETED", ENTITY_REPORT_TEMPLATE, entity.getId(), null);
     }
 
+    // Widgets run in their own read-only transactions; holding the request's connection as well would double the demand.
+    // Without a transaction the tenant filter is not enabled, so the lookup checks the tenant itself.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ReportExecutionResponse executeReport(UUID id, ShieldPrincipal principal) {
         ReportTemplateEntity template = reportTemplateRepository.findByIdAndDeletedFalse(id)
+                .filter(entity -> principal.tenantId().equals(entity.getTenantId()))
                 .orElseThrow(() -> new ResourceNotFoundException(REPORT_TEMPLATE_NOT_FOUND + id));
 
         String reportType = normalizeType(template.getReportType());
-        Map<String, Object> data = switch (reportType) {
-            case "COLLECTION_EFFICIENCY" -> Map.of("collectionEfficiency", getCollectionEfficiency());
-            case "EXPENSE_DISTRIBUTION" -> Map.of("expenseDistribution", getExpenseDistribution());
-            case "COMPLAINT_RESOLUTION_TIME" -> Map.of("complaintResolutionTime", getComplaintResolutionTime());
-            case "ASSET_FAILURE_FREQUENCY" -> Map.of("assetFailureFrequency", getAssetFailureFrequency());
-            case "OCCUPANCY_RATE" -> Map.of("occupancyRate", getOccupancyRate());
-            case "AMENITY_UTILIZATION" -> Map.of("amenityUtilization", getAmenityUtilization());
-            case "DEFAULTER_TREND" -> Map.of("defaulterTrend", getDefaulterTrend());
-            case "FUND_ALLOCATION" -> Map.of("fundAllocation", getFundAllocation());
-            case "STAFF_ATTENDANCE_SUMMARY" -> Map.of("staffAttendanceSummary", getStaffAttendanceSummary());
-            case "VISITOR_TRENDS" -> Map.of("visitorTrends", getVisitorTrends());
-            default -> defaultExecutionPayload(template);
-        };
+        List<String> widgets = parseWidgets(template.getParametersJson(), "metrics");
+        if (widgets.isEmpty() && METRIC_DATA_KEYS.containsKey(reportType)) {
+            widgets = List.of(reportType);
+        }
 
-        auditLogService.logEvent(principal.tenantId(), principal.userId(), "REPORT_TEMPLATE_EXECUTED", ENTITY_REPORT_TEMPLATE, template.getId(), null);
+        ReportExecutionResponse response;
+        if (widgets.isEmpty()) {
+            response = new ReportExecutionResponse(
+                    template.getId(),
+                    template.getTemplateName(),
+                    reportType,
+                    Instant.now(),
+                    defaultExecutionPayload(template),
+                    false,
+                    List.of());
+        } else {
+            response = executeWidgets(template.getId(), template.getTemplateName(), reportType, widgets);
+        }
 
-        return new ReportExecutionResponse(
-                template.getId(),
-                template.getTemplateName(),
-                reportType,
-                Instant.now(),
-                data);
+        auditLogService.logEvent(principal.tenantId(), principal.userId(), "REPORT_TEMPLATE_EXECUTED", ENTITY_REPORT_TEMPLATE, template.getId(), null);
+        return response;
     }
 
     public ScheduledReportResponse createScheduledReport(ScheduledReportCreateRequest request, ShieldPrincipal principal) {
@@ -322,29 +351,55 @@ public class AnalyticsService {
         return toDashboardResponse(saved);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReportExecutionResponse executeDashboard(UUID id, ShieldPrincipal principal) {
+        AnalyticsDashboardEntity dashboard = analyticsDashboardRepository.findByIdAndDeletedFalse(id)
+                .filter(entity -> principal.tenantId().equals(entity.getTenantId()))
+                .orElseThrow(() -> new ResourceNotFoundException(ANALYTICS_DASHBOARD_NOT_FOUND + id));
+
+        ReportExecutionResponse response = executeWidgets(
+                dashboard.getId(),
+                dashboard.getDashboardName(),
+                normalizeType(dashboard.getDashboardType()),
+                parseWidgets(dashboard.getWidgetsJson(), "widgets"));
+
+        auditLogService.logEvent(principal.tenantId(), principal.userId(), "ANALYTICS_DASHBOARD_EXECUTED", ENTITY_ANALYTICS_DASHBOARD, dashboard.getId(), null);
+        return response;
+    }
+
+    @Cacheable(cacheNames = CacheNames.ANALYTICS, keyGenerator = TenantCacheKeyGenerator.BEAN_NAME)
+    @Transactional(readOnly = true)
     public CollectionEfficiencyResponse getCollectionEfficiency() {
         UUID tenantId = TenantContext.getRequiredTenantId();
 
-        BigDecimal billedAmount = queryBigDecimal(
-                "SELECT COALESCE(SUM(amount), 0) FROM maintenance_bill WHERE tenant_id = ? AND deleted = FALSE",
-                tenantId);
-        BigDecimal collectedAmount = queryBigDecimal(
-                "SELECT COALESCE(SUM(amount), 0) FROM payment WHERE tenant_id = ? AND deleted = FALSE",
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                """
+                SELECT
+                    COALESCE(SUM(billed_amount), 0) AS billed_amount,
+                    COALESCE(SUM(collected_amount), 0) AS collected_amount
+                FROM analytics_collection_daily
+                WHERE tenant_id = ?
+                """,
                 tenantId);
 
+        BigDecimal billedAmount = scale((BigDecimal) row.get("billed_amount"));
+        BigDecimal collectedAmount = scale((BigDecimal) row.get("collected_amount"));
+
         return new CollectionEfficiencyResponse(
                 billedAmount,
                 collectedAmount,
                 calculatePercentage(collectedAmount, billedAmount));
     }
 
+    @Cacheable(cacheNames = CacheNames.ANALYTICS, keyGenerator = TenantCacheKeyGenerator.BEAN_NAME)
+    @Transactional(readOnly = true)
     public List<ExpenseDistributionResponse> getExpenseDistribution() {
         UUID tenantId = TenantContext.getRequiredTenantId();
         return jdbcTemplate.query(
                 """
                 SELECT category, COALESCE(SUM(amount), 0) AS amount
-                FROM ledger_entry
-                WHERE tenant_id = ? AND deleted = FALSE AND type = 'EXPENSE'
+                FROM analytics_ledger_daily
+                WHERE tenant_id = ? AND entry_type = 'EXPENSE'
                 GROUP BY category
                 ORDER BY amount DESC
                 """,
@@ -354,6 +409,8 @@ public class AnalyticsService {
                 tenantId);
     }
 
+    @Cacheable(cacheNames = CacheNames.ANALYTICS, keyGenerator = TenantCacheKeyGenerator.BEAN_NAME)
+    @Transactional(readOnly = true)
     public ComplaintResolutionTimeResponse getComplaintResolutionTime() {
         UUID tenantId = TenantContext.getRequiredTenantId();
         Map<String, Object> row = jdbcTemplate.queryForMap(
@@ -371,6 +428,8 @@ public class AnalyticsService {
         return new ComplaintResolutionTimeResponse(resolvedCount, avgHours);
     }
 
+    @Cacheable(cacheNames = CacheNames.ANALYTICS, keyGenerator = TenantCacheKeyGenerator.BEAN_NAME)
+    @Transactional(readOnly = true)
     public List<AssetFailureFrequencyResponse> getAssetFailureFrequency() {
         UUID tenantId = TenantContext.getRequiredTenantId();
         return jdbcTemplate.query(
@@ -389,26 +448,32 @@ public class AnalyticsService {
                 tenantId);
     }
 
+    @Cacheable(cacheNames = CacheNames.ANALYTICS, keyGenerator = TenantCacheKeyGenerator.BEAN_NAME)
+    @Transactional(readOnly = true)
     public OccupancyRateResponse getOccupancyRate() {
         UUID tenantId = TenantContext.getRequiredTenantId();
 
-        long totalUnits = queryLong(
-                "SELECT COUNT(*) FROM unit WHERE tenant_id = ? AND deleted = FALSE",
-                tenantId);
-        long occupiedUnits = queryLong(
+        Map<String, Object> row = jdbcTemplate.queryForMap(
                 """
-                SELECT COUNT(DISTINCT unit_id)
-                FROM users
-                WHERE tenant_id = ?
-                  AND deleted = FALSE
-                  AND status = 'ACTIVE'
-                  AND unit_id IS NOT NULL
+                SELECT
+                    (SELECT COUNT(*) FROM unit WHERE tenant_id = ? AND deleted = FALSE) AS total_units,
+                    (SELECT COUNT(DISTINCT unit_id)
+                     FROM users
+                     WHERE tenant_id = ?
+                       AND deleted = FALSE
+                       AND status = 'ACTIVE'
+                       AND unit_id IS NOT NULL) AS occupied_units
                 """,
+                tenantId,
                 tenantId);
 
+        long totalUnits = ((Number) row.get("total_units")).longValue();
+        long occupiedUnits = ((Number) row.get("occupied_units")).longValue();
         return new OccupancyRateResponse(totalUnits, occupiedUnits, calculatePercentage(occupiedUnits, totalUnits));
     }
 
+    @Cacheable(cacheNames = CacheNames.ANALYTICS, keyGenerator = TenantCacheKeyGenerator.BEAN_NAME)
+    @Transactional(readOnly = true)
     public List<AmenityUtilizationResponse> getAmenityUtilization() {
         UUID tenantId = TenantContext.getRequiredTenantId();
         return jdbcTemplate.query(
@@ -431,20 +496,20 @@ public class AnalyticsService {
                 tenantId);
     }
 
+    @Cacheable(cacheNames = CacheNames.ANALYTICS, keyGenerator = TenantCacheKeyGenerator.BEAN_NAME)
+    @Transactional(readOnly = true)
     public List<DefaulterTrendResponse> getDefaulterTrend() {
         UUID tenantId = TenantContext.getRequiredTenantId();
         return jdbcTemplate.query(
                 """
                 SELECT
-                    CAST(year AS text) || '-' || LPAD(CAST(month AS text), 2, '0') AS period,
-                    COUNT(DISTINCT unit_id) AS defaulter_units,
-                    COALESCE(SUM(amount), 0) AS outstanding_amount
-                FROM maintenance_bill
+                    CAST(bill_year AS text) || '-' || LPAD(CAST(bill_month AS text), 2, '0') AS period,
+                    COUNT(*) AS defaulter_units,
+                    COALESCE(SUM(outstanding_amount), 0) AS outstanding_amount
+                FROM analytics_defaulter_period
                 WHERE tenant_id = ?
-                  AND deleted = FALSE
-                  AND status IN ('PENDING', 'OVERDUE')
-                GROUP BY year, month
-                ORDER BY year DESC, month DESC
+                GROUP BY bill_year, bill_month
+                ORDER BY bill_year DESC, bill_month DESC
                 LIMIT 6
                 """,
                 (rs, rowNum) -> new DefaulterTrendResponse(
@@ -454,13 +519,15 @@ public class AnalyticsService {
                 tenantId);
     }
 
+    @Cacheable(cacheNames = CacheNames.ANALYTICS, keyGenerator = TenantCacheKeyGenerator.BEAN_NAME)
+    @Transactional(readOnly = true)
     public List<FundAllocationResponse> getFundAllocation() {
         UUID tenantId = TenantContext.getRequiredTenantId();
         return jdbcTemplate.query(
                 """
                 SELECT category, COALESCE(SUM(amount), 0) AS amount
-                FROM ledger_entry
-                WHERE tenant_id = ? AND deleted = FALSE
+                FROM analytics_ledger_daily
+                WHERE tenant_id = ?
                 GROUP BY category
                 ORDER BY amount DESC
                 LIMIT 10
@@ -471,35 +538,40 @@ public class AnalyticsService {
                 tenantId);
     }
 
+    @Cacheable(cacheNames = CacheNames.ANALYTICS, keyGenerator = TenantCacheKeyGenerator.BEAN_NAME)
+    @Transactional(readOnly = true)
     public StaffAttendanceSummaryResponse getStaffAttendanceSummary() {
         UUID tenantId = TenantContext.getRequiredTenantId();
 
-        long totalStaff = queryLong(
-                "SELECT COUNT(*) FROM staff WHERE tenant_id = ? AND deleted = FALSE AND active = TRUE",
-                tenantId);
-        long presentToday = queryLong(
+        Map<String, Object> row = jdbcTemplate.queryForMap(
                 """
-                SELECT COUNT(DISTINCT staff_id)
-                FROM staff_attendance
-                WHERE tenant_id = ?
-                  AND deleted = FALSE
-                  AND attendance_date = CURRENT_DATE
-                  AND status = 'PRESENT'
+                SELECT
+                    (SELECT COUNT(*) FROM staff WHERE tenant_id = ? AND deleted = FALSE AND active = TRUE) AS total_staff,
+                    (SELECT COUNT(DISTINCT staff_id)
+                     FROM staff_attendance
+                     WHERE tenant_id = ?
+                       AND deleted = FALSE
+                       AND attendance_date = CURRENT_DATE
+                       AND status = 'PRESENT') AS present_today
                 """,
+                tenantId,
                 tenantId);
 
+        long totalStaff = ((Number) row.get("total_staff")).longValue();
+        long presentToday = ((Number) row.get("present_today")).longValue();
         long absentToday = Math.max(totalStaff - presentToday, 0);
         return new StaffAttendanceSummaryResponse(totalStaff, presentToday, absentToday);
     }
 
+    @Cacheable(cacheNames = CacheNames.ANALYTICS, keyGenerator = TenantCacheKeyGenerator.BEAN_NAME)
+    @Transactional(readOnly = true)
     public List<VisitorTrendResponse> getVisitorTrends() {
         UUID tenantId = TenantContext.getRequiredTenantId();
         return jdbcTemplate.query(
                 """
-                SELECT DATE(valid_from) AS visit_date, COUNT(*) AS visitor_count
-                FROM visitor_pass
-                WHERE tenant_id = ? AND deleted = FALSE
-                GROUP BY DATE(valid_from)
+                SELECT visit_date, visitor_count
+                FROM analytics_visitor_daily
+                WHERE tenant_id = ?
                 ORDER BY visit_date DESC
                 LIMIT 7
                 """,
@@ -512,6 +584,100 @@ public class AnalyticsService {
                 tenantId);
     }
 
+    private ReportExecutionResponse executeWidgets(UUID sourceId, String sourceName, String reportType, List<String> widgets) {
+        Map<String, Supplier<Object>> queries = new LinkedHashMap<>();
+        List<ReportWidgetExecutionResponse> unsupported = new ArrayList<>();
+        for (String widget : widgets) {
+            String metric = resolveMetric(widget);
+            if (metric == null) {
+                unsupported.add(new ReportWidgetExecutionResponse(widget, WIDGET_UNSUPPORTED, 0L, "Unknown analytics widget"));
+            } else {
+                queries.put(METRIC_DATA_KEYS.get(metric), metricQuery(metric));
+            }
+        }
+
+        ReportExecutionEngine.Result result = reportExecutionEngine.execute(queries);
+        List<ReportWidgetExecutionResponse> executions = new ArrayList<>(result.widgets());
+        executions.addAll(unsupported);
+
+        return new ReportExecutionResponse(
+                sourceId,
+                sourceName,
+                reportType,
+                Instant.now(),
+                result.data(),
+                result.partial() || !unsupported.isEmpty(),
+                executions);
+    }
+
+    // Widgets call through the proxy so they share the per-tenant analytics cache with the metric endpoints.
+    private Supplier<Object> metricQuery(String metric) {
+        return switch (metric) {
+            case "COLLECTION_EFFICIENCY" -> self::getCollectionEfficiency;
+            case "EXPENSE_DISTRIBUTION" -> self::getExpenseDistribution;
+            case "COMPLAINT_RESOLUTION_TIME" -> self::getComplaintResolutionTime;
+            case "ASSET_FAILURE_FREQUENCY" -> self::getAssetFailureFrequency;
+            case "OCCUPANCY_RATE" -> self::getOccupancyRate;
+            case "AMENITY_UTILIZATION" -> self::getAmenityUtilization;
+            case "DEFAULTER_TREND" -> self::getDefaulterTrend;
+            case "FUND_ALLOCATION" -> self::getFundAllocation;
+            case "STAFF_ATTENDANCE_SUMMARY" -> self::getStaffAttendanceSummary;
+            case "VISITOR_TRENDS" -> self::getVisitorTrends;
+            default -> throw new IllegalArgumentException("Unsupported analytics metric: " + metric);
+        };
+    }
+
+    private String resolveMetric(String widget) {
+        String type = normalizeType(widget).replace('-', '_').replace(' ', '_');
+        if (METRIC_DATA_KEYS.containsKey(type)) {
+            return type;
+        }
+        for (Map.Entry<String, String> entry : METRIC_DATA_KEYS.entrySet()) {
+            if (entry.getValue().equalsIgnoreCase(widget.trim())) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    private List<String> parseWidgets(String json, String field) {
+        if (!StringUtils.hasText(json)) {
+            return List.of();
+        }
+
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(json);
+        } catch (JsonProcessingException ex) {
+            return List.of();
+        }
+
+        JsonNode items = root.isArray() ? root : root.path(field);
+        Set<String> widgets = new LinkedHashSet<>();
+        for (JsonNode item : items) {
+            String widget = item.isTextual() ? item.asText() : item.path("type").asText(null);
+            if (StringUtils.hasText(widget)) {
+                widgets.add(widget);
+            }
+        }
+        return List.copyOf(widgets);
+    }
+
+    private static Map<String, String> metricDataKeys() {
+        Map<String, String> keys = new LinkedHashMap<>();
+        keys.put("COLLECTION_EFFICIENCY", "collectionEfficiency");
+        keys.put("EXPENSE_DISTRIBUTION", "expenseDistribution");
+        keys.put("COMPLAINT_RESOLUTION_TIME", "complaintResolutionTime");
+        keys.put("ASSET_FAILURE_FREQUENCY", "assetFailureFrequency");
+        keys.put("OCCUPANCY_RATE", "occupancyRate");
+        keys.put("AMENITY_UTILIZATION", "amenityUtilization");
+        keys.put("DEFAULTER_TREND", "defaulterTrend");
+        keys.put("FUND_ALLOCATION", "fundAllocation");
+        keys.put("STAFF_ATTENDANCE_SUMMARY", "staffAttendanceSummary");
+        keys.put("VISITOR_TRENDS", "visitorTrends");
+        return Map.copyOf(keys);
+    }
+
     private ScheduledReportResponse updateScheduledReportStatus(
             UUID id,
             boolean active,
@@ -579,16 +745,6 @@ public class AnalyticsService {
                 .divide(BigDecimal.valueOf(denominator), 2, RoundingMode.HALF_UP);
     }
 
-    private long queryLong(String sql, Object... params) {
-        Long value = jdbcTemplate.queryForObject(sql, Long.class, params);
-        return value == null ? 0L : value;
-    }
-
-    private BigDecimal queryBigDecimal(String sql, Object... params) {
-        BigDecimal value = jdbcTemplate.queryForObject(sql, BigDecimal.class, params);
-        return scale(value);
-    }
-
     private BigDecimal scale(BigDecimal value) {
         if (value == null) {
             return BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
@@ -0,0 +1,160 @@
+package com.shield.module.analytics.service;
+
+import com.shield.module.analytics.dto.ReportWidgetExecutionResponse;
+import com.shield.tenant.context.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class ReportExecutionEngine {
+
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_TIMED_OUT = "TIMED_OUT";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_REJECTED = "REJECTED";
+
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final long queryTimeoutMillis;
+
+    public ReportExecutionEngine(
+            PlatformTransactionManager transactionManager,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${shield.analytics.report-execution.pool-size:4}") int poolSize,
+            @Value("${shield.analytics.report-execution.queue-capacity:256}") int queueCapacity,
+            @Value("${shield.analytics.report-execution.query-timeout-ms:5000}") long queryTimeoutMillis,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int datasourcePoolSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.queryTimeoutMillis = Math.max(1L, queryTimeoutMillis);
+
+        // Every widget holds a connection for its whole run; leave at least half the pool to request threads.
+        int threads = Math.max(1, Math.min(poolSize, datasourcePoolSize / 2));
+        AtomicInteger threadIds = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "report-execution-" + threadIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public Result execute(Map<String, Supplier<Object>> widgets) {
+        UUID tenantId = TenantContext.getTenantId().orElse(null);
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        long submittedAt = System.nanoTime();
+
+        Map<String, Future<WidgetRun>> futures = new LinkedHashMap<>();
+        List<ReportWidgetExecutionResponse> executions = new ArrayList<>();
+        for (Map.Entry<String, Supplier<Object>> widget : widgets.entrySet()) {
+            try {
+                futures.put(widget.getKey(), executor.submit(() -> runWidget(widget.getValue(), tenantId, mdc)));
+            } catch (RejectedExecutionException ex) {
+                executions.add(track(widget.getKey(), STATUS_REJECTED, 0L, "Report executor is saturated"));
+            }
+        }
+
+        long deadline = submittedAt + TimeUnit.MILLISECONDS.toNanos(queryTimeoutMillis);
+        Map<String, Object> data = new LinkedHashMap<>();
+        for (Map.Entry<String, Future<WidgetRun>> entry : futures.entrySet()) {
+            String widget = entry.getKey();
+            Future<WidgetRun> future = entry.getValue();
+            try {
+                WidgetRun run = future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                data.put(widget, run.value());
+                executions.add(track(widget, STATUS_COMPLETED, run.durationNanos(), null));
+            } catch (TimeoutException ex) {
+                future.cancel(true);
+                executions.add(track(widget, STATUS_TIMED_OUT, System.nanoTime() - submittedAt,
+                        "Exceeded " + queryTimeoutMillis + " ms"));
+            } catch (ExecutionException ex) {
+                Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+                log.warn("Analytics widget {} failed", widget, cause);
+                executions.add(track(widget, STATUS_FAILED, System.nanoTime() - submittedAt, cause.getMessage()));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                executions.add(track(widget, STATUS_FAILED, System.nanoTime() - submittedAt, "Interrupted"));
+            }
+        }
+
+        return new Result(data, executions, data.size() < widgets.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private WidgetRun runWidget(Supplier<Object> query, UUID tenantId, Map<String, String> mdc) {
+        if (tenantId != null) {
+            TenantContext.setTenantId(tenantId);
+        }
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        long startedAt = System.nanoTime();
+        try {
+            Object value = transactionTemplate.execute(status -> {
+                jdbcTemplate.execute("SET LOCAL statement_timeout = " + queryTimeoutMillis);
+                return query.get();
+            });
+            return new WidgetRun(value, System.nanoTime() - startedAt);
+        } finally {
+            TenantContext.clear();
+            MDC.clear();
+        }
+    }
+
+    private ReportWidgetExecutionResponse track(String widget, String status, long durationNanos, String error) {
+        Timer.builder("shield.analytics.widget.execution")
+                .tag("widget", widget)
+                .tag("status", status)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        return new ReportWidgetExecutionResponse(widget, status, TimeUnit.NANOSECONDS.toMillis(durationNanos), error);
+    }
+
+    private record WidgetRun(Object value, long durationNanos) {
+    }
+
+    public record Result(
+            Map<String, Object> data,
+            List<ReportWidgetExecutionResponse> widgets,
+            boolean partial) {
+    }
+}
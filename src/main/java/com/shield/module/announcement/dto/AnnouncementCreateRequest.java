@@ -3,6 +3,7 @@ package com.shield.module.announcement.dto;
 import com.shield.module.announcement.entity.AnnouncementCategory;
 import com.shield.module.announcement.entity.AnnouncementPriority;
 import com.shield.module.announcement.entity.AnnouncementTargetAudience;
+import com.shield.module.unit.entity.UnitOwnershipStatus;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -15,6 +16,8 @@ public record AnnouncementCreateRequest(
         @NotNull AnnouncementPriority priority,
         boolean emergency,
         Instant expiresAt,
-        @NotNull AnnouncementTargetAudience targetAudience
+        @NotNull AnnouncementTargetAudience targetAudience,
+        @Size(max = 50) String targetBlock,
+        UnitOwnershipStatus targetOwnershipStatus
 ) {
 }
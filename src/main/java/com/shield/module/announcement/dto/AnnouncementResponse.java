@@ -4,6 +4,7 @@ import com.shield.module.announcement.entity.AnnouncementCategory;
 import com.shield.module.announcement.entity.AnnouncementPriority;
 import com.shield.module.announcement.entity.AnnouncementStatus;
 import com.shield.module.announcement.entity.AnnouncementTargetAudience;
+import com.shield.module.unit.entity.UnitOwnershipStatus;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -19,6 +20,8 @@ public record AnnouncementResponse(
         Instant publishedAt,
         Instant expiresAt,
         AnnouncementTargetAudience targetAudience,
+        String targetBlock,
+        UnitOwnershipStatus targetOwnershipStatus,
         AnnouncementStatus status,
         Instant createdAt,
         Instant updatedAt
@@ -1,6 +1,7 @@
 package com.shield.module.announcement.entity;
 
 import com.shield.common.entity.TenantAwareEntity;
+import com.shield.module.unit.entity.UnitOwnershipStatus;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -47,6 +48,13 @@ public class AnnouncementEntity extends TenantAwareEntity {
     @Column(name = "target_audience", nullable = false, length = 20)
     private AnnouncementTargetAudience targetAudience;
 
+    @Column(name = "target_block", length = 50)
+    private String targetBlock;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_ownership_status", length = 20)
+    private UnitOwnershipStatus targetOwnershipStatus;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private AnnouncementStatus status;
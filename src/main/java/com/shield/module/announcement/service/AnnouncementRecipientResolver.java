@@ -0,0 +1,121 @@
+package com.shield.module.announcement.service;
+
+import com.shield.module.announcement.entity.AnnouncementEntity;
+import com.shield.module.notification.dto.NotificationRecipient;
+import com.shield.module.notification.service.NotificationRecipientSource;
+import com.shield.module.user.entity.UserRole;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Resolves an announcement's audience in SQL. Role, block and unit ownership filters and each recipient's
+ * email preference are evaluated by one keyset-paged query per chunk, so memory stays bounded by
+ * {@code recipient-chunk-size} however large the society is.
+ */
+@Component
+public class AnnouncementRecipientResolver {
+
+    private static final String RECIPIENT_COLUMNS = """
+            SELECT u.id, u.email, COALESCE(np.email_enabled, TRUE) AS email_enabled
+            FROM users u
+            LEFT JOIN notification_preference np
+                ON np.tenant_id = u.tenant_id AND np.user_id = u.id AND np.deleted = FALSE
+            """;
+
+    private static final String COUNT_COLUMNS = """
+            SELECT COUNT(*)
+            FROM users u
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+
+    public AnnouncementRecipientResolver(
+            JdbcTemplate jdbcTemplate,
+            @Value("${shield.announcement.recipient-chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    public NotificationRecipientSource recipients(AnnouncementEntity announcement) {
+        return consumer -> {
+            UUID after = null;
+            while (true) {
+                AudienceQuery query = audienceQuery(announcement, RECIPIENT_COLUMNS);
+                if (after != null) {
+                    query.sql().append(" AND u.id > ?");
+                    query.args().add(after);
+                }
+                query.sql().append(" ORDER BY u.id LIMIT ?");
+                query.args().add(chunkSize);
+
+                List<NotificationRecipient> chunk = jdbcTemplate.query(
+                        query.sql().toString(),
+                        (rs, rowNum) -> new NotificationRecipient(
+                                rs.getObject("id", UUID.class),
+                                rs.getString("email"),
+                                rs.getBoolean("email_enabled")),
+                        query.args().toArray());
+                if (chunk.isEmpty()) {
+                    return;
+                }
+                consumer.accept(chunk);
+                if (chunk.size() < chunkSize) {
+                    return;
+                }
+                after = chunk.get(chunk.size() - 1).userId();
+            }
+        };
+    }
+
+    public long count(AnnouncementEntity announcement) {
+        AudienceQuery query = audienceQuery(announcement, COUNT_COLUMNS);
+        Long count = jdbcTemplate.queryForObject(query.sql().toString(), Long.class, query.args().toArray());
+        return count == null ? 0L : count;
+    }
+
+    private AudienceQuery audienceQuery(AnnouncementEntity announcement, String columns) {
+        StringBuilder sql = new StringBuilder(columns);
+        List<Object> args = new ArrayList<>();
+
+        boolean unitFilter = StringUtils.hasText(announcement.getTargetBlock()) || announcement.getTargetOwnershipStatus() != null;
+        if (unitFilter) {
+            sql.append(" JOIN unit un ON un.id = u.unit_id AND un.tenant_id = u.tenant_id AND un.deleted = FALSE");
+        }
+        sql.append(" WHERE u.tenant_id = ? AND u.status = 'ACTIVE' AND u.deleted = FALSE");
+        args.add(announcement.getTenantId());
+
+        UserRole role = audienceRole(announcement);
+        if (role != null) {
+            sql.append(" AND u.role = ?");
+            args.add(role.name());
+        }
+        if (StringUtils.hasText(announcement.getTargetBlock())) {
+            sql.append(" AND un.block_name = ?");
+            args.add(announcement.getTargetBlock().trim());
+        }
+        if (announcement.getTargetOwnershipStatus() != null) {
+            sql.append(" AND un.ownership_status = ?");
+            args.add(announcement.getTargetOwnershipStatus().name());
+        }
+        return new AudienceQuery(sql, args);
+    }
+
+    private UserRole audienceRole(AnnouncementEntity announcement) {
+        return switch (announcement.getTargetAudience()) {
+            case ALL -> null;
+            case OWNERS -> UserRole.OWNER;
+            case TENANTS -> UserRole.TENANT;
+            case COMMITTEE -> UserRole.COMMITTEE;
+            case SECURITY -> UserRole.SECURITY;
+        };
+    }
+
+    private record AudienceQuery(StringBuilder sql, List<Object> args) {
+    }
+}
@@ -14,20 +14,17 @@ import com.shield.module.announcement.entity.AnnouncementEntity;
 import com.shield.module.announcement.entity.AnnouncementPriority;
 import com.shield.module.announcement.entity.AnnouncementReadReceiptEntity;
 import com.shield.module.announcement.entity.AnnouncementStatus;
-import com.shield.module.announcement.entity.AnnouncementTargetAudience;
 import com.shield.module.announcement.repository.AnnouncementReadReceiptRepository;
 import com.shield.module.announcement.repository.AnnouncementRepository;
 import com.shield.module.notification.dto.NotificationDispatchResponse;
 import com.shield.module.notification.service.NotificationService;
-import com.shield.module.user.entity.UserEntity;
-import com.shield.module.user.entity.UserRole;
 import com.shield.security.model.ShieldPrincipal;
 import java.time.Instant;
-import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Service
 @Transactional
@@ -39,16 +36,19 @@ public class AnnouncementService {
     private final AnnouncementRepository announcementRepository;
     private final AnnouncementReadReceiptRepository readReceiptRepository;
     private final NotificationService notificationService;
+    private final AnnouncementRecipientResolver recipientResolver;
     private final AuditLogService auditLogService;
 
     public AnnouncementService(
             AnnouncementRepository announcementRepository,
             AnnouncementReadReceiptRepository readReceiptRepository,
             NotificationService notificationService,
+            AnnouncementRecipientResolver recipientResolver,
             AuditLogService auditLogService) {
         this.announcementRepository = announcementRepository;
         this.readReceiptRepository = readReceiptRepository;
         this.notificationService = notificationService;
+        this.recipientResolver = recipientResolver;
         this.auditLogService = auditLogService;
     }
 
@@ -62,6 +62,8 @@ public class AnnouncementService {
         entity.setEmergency(request.emergency());
         entity.setExpiresAt(request.expiresAt());
         entity.setTargetAudience(request.targetAudience());
+        entity.setTargetBlock(StringUtils.hasText(request.targetBlock()) ? request.targetBlock().trim() : null);
+        entity.setTargetOwnershipStatus(request.targetOwnershipStatus());
         entity.setStatus(AnnouncementStatus.DRAFT);
 
         AnnouncementEntity saved = announcementRepository.save(entity);
@@ -108,9 +110,6 @@ public class AnnouncementService {
         entity.setStatus(AnnouncementStatus.PUBLISHED);
         AnnouncementEntity saved = announcementRepository.save(entity);
 
-        List<UserEntity> activeUsers = notificationService.getTenantActiveUsers(principal.tenantId());
-        List<UserEntity> recipients = filterAudience(activeUsers, saved.getTargetAudience());
-
         String subject = "[Announcement] " + saved.getTitle();
         NotificationDispatchResponse dispatchResponse = notificationService.sendAnnouncement(
                 principal.tenantId(),
@@ -118,7 +117,7 @@ public class AnnouncementService {
                 saved.getId(),
                 subject,
                 saved.getContent(),
-                recipients);
+                recipientResolver.recipients(saved));
 
         auditLogService.logEvent(
                 principal.tenantId(),
@@ -173,8 +172,7 @@ public class AnnouncementService {
     public AnnouncementStatisticsResponse getStatistics(UUID announcementId) {
         AnnouncementEntity announcement = findAnnouncement(announcementId);
 
-        List<UserEntity> activeUsers = notificationService.getTenantActiveUsers(announcement.getTenantId());
-        long totalRecipients = filterAudience(activeUsers, announcement.getTargetAudience()).size();
+        long totalRecipients = recipientResolver.count(announcement);
         long readCount = readReceiptRepository.countByAnnouncementIdAndDeletedFalse(announcementId);
         long unreadCount = Math.max(totalRecipients - readCount, 0);
 
@@ -191,20 +189,6 @@ public class AnnouncementService {
                 .orElseThrow(() -> new ResourceNotFoundException("Announcement not found: " + id));
     }
 
-    private List<UserEntity> filterAudience(List<UserEntity> users, AnnouncementTargetAudience audience) {
-        return switch (audience) {
-            case ALL -> users;
-            case OWNERS -> byRole(users, UserRole.OWNER);
-            case TENANTS -> byRole(users, UserRole.TENANT);
-            case COMMITTEE -> byRole(users, UserRole.COMMITTEE);
-            case SECURITY -> byRole(users, UserRole.SECURITY);
-        };
-    }
-
-    private List<UserEntity> byRole(List<UserEntity> users, UserRole role) {
-        return users.stream().filter(user -> user.getRole() == role).toList();
-    }
-
     private AnnouncementResponse toResponse(AnnouncementEntity entity) {
         return new AnnouncementResponse(
                 entity.getId(),
@@ -218,6 +202,8 @@ public class AnnouncementService {
                 entity.getPublishedAt(),
                 entity.getExpiresAt(),
                 entity.getTargetAudience(),
+                entity.getTargetBlock(),
+                entity.getTargetOwnershipStatus(),
                 entity.getStatus(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt());
@@ -0,0 +1,51 @@
+package com.shield.module.billing.controller;
+
+import com.shield.common.dto.ApiResponse;
+import com.shield.common.util.SecurityUtils;
+import com.shield.module.billing.dto.BillingRunCreateRequest;
+import com.shield.module.billing.dto.BillingRunResponse;
+import com.shield.module.billing.service.BillingRunService;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/billing-runs")
+@RequiredArgsConstructor
+public class BillingRunController {
+
+    private final BillingRunService billingRunService;
+
+    @PostMapping
+    @PreAuthorize("hasAnyRole('ADMIN','COMMITTEE')")
+    public ResponseEntity<ApiResponse<BillingRunResponse>> start(@Valid @RequestBody BillingRunCreateRequest request) {
+        return ResponseEntity.ok(ApiResponse.ok("Billing run started", billingRunService.startRun(request, SecurityUtils.getCurrentPrincipal())));
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('ADMIN','COMMITTEE')")
+    public ResponseEntity<ApiResponse<BillingRunResponse>> getById(@PathVariable UUID id) {
+        return ResponseEntity.ok(ApiResponse.ok("Billing run fetched", billingRunService.getRun(id)));
+    }
+
+    @GetMapping("/cycle/{cycleId}")
+    @PreAuthorize("hasAnyRole('ADMIN','COMMITTEE')")
+    public ResponseEntity<ApiResponse<List<BillingRunResponse>>> byCycle(@PathVariable UUID cycleId) {
+        return ResponseEntity.ok(ApiResponse.ok("Billing runs fetched", billingRunService.listRunsByCycle(cycleId)));
+    }
+
+    @PostMapping("/{id}/resume")
+    @PreAuthorize("hasAnyRole('ADMIN','COMMITTEE')")
+    public ResponseEntity<ApiResponse<BillingRunResponse>> resume(@PathVariable UUID id) {
+        return ResponseEntity.ok(ApiResponse.ok("Billing run resumed", billingRunService.resumeRun(id, SecurityUtils.getCurrentPrincipal())));
+    }
+}
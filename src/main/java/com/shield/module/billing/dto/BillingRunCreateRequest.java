@@ -0,0 +1,17 @@
+package com.shield.module.billing.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record BillingRunCreateRequest(
+        @NotNull UUID billingCycleId,
+        LocalDate invoiceDate,
+        LocalDate dueDate,
+        @NotNull @PositiveOrZero BigDecimal subtotal,
+        @NotNull @PositiveOrZero BigDecimal lateFee,
+        @NotNull @PositiveOrZero BigDecimal gstAmount,
+        @NotNull @PositiveOrZero BigDecimal otherCharges) {
+}
@@ -0,0 +1,23 @@
+package com.shield.module.billing.dto;
+
+import com.shield.module.billing.entity.BillingRunStatus;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record BillingRunResponse(
+        UUID id,
+        UUID tenantId,
+        UUID billingCycleId,
+        LocalDate invoiceDate,
+        LocalDate dueDate,
+        BillingRunStatus status,
+        int totalUnits,
+        int processedUnits,
+        int generatedInvoices,
+        int skippedUnits,
+        int progressPercent,
+        Instant startedAt,
+        Instant completedAt,
+        String lastError) {
+}
@@ -0,0 +1,73 @@
+package com.shield.module.billing.entity;
+
+import com.shield.common.entity.TenantAwareEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "billing_run")
+public class BillingRunEntity extends TenantAwareEntity {
+
+    @Column(name = "billing_cycle_id", nullable = false, columnDefinition = "uuid")
+    private UUID billingCycleId;
+
+    @Column(name = "invoice_date", nullable = false)
+    private LocalDate invoiceDate;
+
+    @Column(name = "due_date", nullable = false)
+    private LocalDate dueDate;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal subtotal;
+
+    @Column(name = "late_fee", nullable = false, precision = 12, scale = 2)
+    private BigDecimal lateFee;
+
+    @Column(name = "gst_amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal gstAmount;
+
+    @Column(name = "other_charges", nullable = false, precision = 12, scale = 2)
+    private BigDecimal otherCharges;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BillingRunStatus status;
+
+    @Column(name = "total_units", nullable = false)
+    private int totalUnits;
+
+    @Column(name = "processed_units", nullable = false)
+    private int processedUnits;
+
+    @Column(name = "generated_invoices", nullable = false)
+    private int generatedInvoices;
+
+    @Column(name = "skipped_units", nullable = false)
+    private int skippedUnits;
+
+    @Column(name = "last_unit_id", columnDefinition = "uuid")
+    private UUID lastUnitId;
+
+    @Column(name = "requested_by", columnDefinition = "uuid")
+    private UUID requestedBy;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+}
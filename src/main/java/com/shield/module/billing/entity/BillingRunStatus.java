@@ -0,0 +1,7 @@
+package com.shield.module.billing.entity;
+
+public enum BillingRunStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -18,7 +18,7 @@ import lombok.Setter;
 @Table(name = "invoice")
 public class InvoiceEntity extends TenantAwareEntity {
 
-    @Column(name = "invoice_number", nullable = false, unique = true, length = 100)
+    @Column(name = "invoice_number", nullable = false, length = 100)
     private String invoiceNumber;
 
     @Column(name = "unit_id", nullable = false, columnDefinition = "uuid")
@@ -0,0 +1,14 @@
+package com.shield.module.billing.repository;
+
+import com.shield.module.billing.entity.BillingRunEntity;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BillingRunRepository extends JpaRepository<BillingRunEntity, UUID> {
+
+    Optional<BillingRunEntity> findByIdAndDeletedFalse(UUID id);
+
+    List<BillingRunEntity> findAllByBillingCycleIdAndDeletedFalseOrderByStartedAtDesc(UUID billingCycleId);
+}
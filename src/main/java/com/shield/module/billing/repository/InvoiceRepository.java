@@ -15,8 +15,6 @@ public interface InvoiceRepository extends JpaRepository<InvoiceEntity, UUID> {
 
     Optional<InvoiceEntity> findByIdAndDeletedFalse(UUID id);
 
-    Optional<InvoiceEntity> findByInvoiceNumberAndDeletedFalse(String invoiceNumber);
-
     Page<InvoiceEntity> findAllByDeletedFalse(Pageable pageable);
 
     List<InvoiceEntity> findAllByUnitIdAndDeletedFalse(UUID unitId);
@@ -2,6 +2,8 @@ package com.shield.module.billing.service;
 
 import com.shield.audit.service.AuditLogService;
 import com.shield.common.dto.PagedResponse;
+import com.shield.common.event.DomainEvent;
+import com.shield.common.event.DomainEventPublisher;
 import com.shield.common.exception.BadRequestException;
 import com.shield.common.exception.ResourceNotFoundException;
 import com.shield.module.billing.dto.BillingCycleCreateRequest;
@@ -44,6 +46,7 @@ import com.shield.security.model.ShieldPrincipal;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
@@ -71,6 +74,8 @@ public class BillingManagementService {
     private final PaymentReminderRepository paymentReminderRepository;
     private final LateFeeRuleRepository lateFeeRuleRepository;
     private final AuditLogService auditLogService;
+    private final DomainEventPublisher domainEventPublisher;
+    private final InvoiceNumberAllocator invoiceNumberAllocator;
 
     public BillingCycleResponse createBillingCycle(BillingCycleCreateRequest request, ShieldPrincipal principal) {
         BillingCycleEntity entity = new BillingCycleEntity();
@@ -261,26 +266,30 @@ public class BillingManagementService {
     }
 
     public InvoiceResponse generateInvoice(InvoiceGenerateRequest request, ShieldPrincipal principal) {
-        InvoiceEntity saved = invoiceRepository.save(buildInvoiceEntity(request, principal.tenantId()));
-        auditLogService.logEvent(principal.tenantId(), principal.userId(), "INVOICE_GENERATED", ENTITY_INVOICE, saved.getId(), null);
+        LocalDate invoiceDate = request.invoiceDate() != null ? request.invoiceDate() : LocalDate.now();
+        String invoiceNumber = invoiceNumberAllocator.allocate(principal.tenantId(), invoiceDate.getYear(), 1).get(0);
+        InvoiceEntity saved = invoiceRepository.save(buildInvoiceEntity(request, principal.tenantId(), invoiceNumber));
+        domainEventPublisher.publish(DomainEvent.of(
+                principal.tenantId(), principal.userId(), "INVOICE_GENERATED", ENTITY_INVOICE, saved.getId(), null));
         return toResponse(saved);
     }
 
     public List<InvoiceResponse> bulkGenerateInvoices(InvoiceBulkGenerateRequest request, ShieldPrincipal principal) {
-        List<InvoiceEntity> entities = request.unitIds().stream()
-                .map(unitId -> {
-                    InvoiceGenerateRequest invoiceRequest = new InvoiceGenerateRequest(
-                            unitId,
-                            request.billingCycleId(),
-                            null,
-                            request.dueDate(),
-                            request.subtotal(),
-                            request.lateFee(),
-                            request.gstAmount(),
-                            request.otherCharges());
-                    return buildInvoiceEntity(invoiceRequest, principal.tenantId());
-                })
-                .toList();
+        List<String> invoiceNumbers = invoiceNumberAllocator.allocate(
+                principal.tenantId(), LocalDate.now().getYear(), request.unitIds().size());
+        List<InvoiceEntity> entities = new ArrayList<>(request.unitIds().size());
+        for (int i = 0; i < request.unitIds().size(); i++) {
+            InvoiceGenerateRequest invoiceRequest = new InvoiceGenerateRequest(
+                    request.unitIds().get(i),
+                    request.billingCycleId(),
+                    null,
+                    request.dueDate(),
+                    request.subtotal(),
+                    request.lateFee(),
+                    request.gstAmount(),
+                    request.otherCharges());
+            entities.add(buildInvoiceEntity(invoiceRequest, principal.tenantId(), invoiceNumbers.get(i)));
+        }
         List<InvoiceEntity> saved = invoiceRepository.saveAll(entities);
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "INVOICE_BULK_GENERATED", ENTITY_INVOICE, null, null);
         return saved.stream().map(this::toResponse).toList();
@@ -552,10 +561,10 @@ public class BillingManagementService {
                 entity.isActive());
     }
 
-    private InvoiceEntity buildInvoiceEntity(InvoiceGenerateRequest request, UUID tenantId) {
+    private InvoiceEntity buildInvoiceEntity(InvoiceGenerateRequest request, UUID tenantId, String invoiceNumber) {
         InvoiceEntity entity = new InvoiceEntity();
         entity.setTenantId(tenantId);
-        entity.setInvoiceNumber(generateInvoiceNumber());
+        entity.setInvoiceNumber(invoiceNumber);
         entity.setUnitId(request.unitId());
         entity.setBillingCycleId(request.billingCycleId());
         entity.setInvoiceDate(request.invoiceDate() != null ? request.invoiceDate() : LocalDate.now());
@@ -571,16 +580,6 @@ public class BillingManagementService {
         return entity;
     }
 
-    private String generateInvoiceNumber() {
-        for (int attempt = 0; attempt < 10; attempt++) {
-            String number = "INV-" + LocalDate.now().getYear() + "-" + UUID.randomUUID().toString().replace("-", "").substring(0, 8).toUpperCase(Locale.ROOT);
-            if (invoiceRepository.findByInvoiceNumberAndDeletedFalse(number).isEmpty()) {
-                return number;
-            }
-        }
-        throw new BadRequestException("Unable to generate unique invoice number");
-    }
-
     private InvoiceStatus parseInvoiceStatus(String value) {
         try {
             return InvoiceStatus.valueOf(value.trim().toUpperCase(Locale.ROOT));
@@ -0,0 +1,303 @@
+package com.shield.module.billing.service;
+
+import com.shield.audit.service.AuditLogService;
+import com.shield.common.cache.TenantCacheGenerations;
+import com.shield.common.event.DomainEvent;
+import com.shield.common.event.DomainEventPublisher;
+import com.shield.module.billing.entity.BillingRunStatus;
+import com.shield.module.billing.entity.InvoiceStatus;
+import com.shield.tenant.context.TenantContext;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Generates a billing run's invoices in background chunks of {@code chunk-size} units. Each chunk is one transaction
+ * that locks the run row, reads the next units after the stored cursor, skips units already invoiced for the cycle,
+ * allocates a block of invoice numbers and batch-inserts the invoices before advancing the cursor. A run that stops
+ * part-way (failure, restart, node loss) therefore resumes exactly where its last committed chunk ended.
+ */
+@Slf4j
+@Component
+public class BillingRunEngine {
+
+    private static final UUID CURSOR_START = new UUID(0L, 0L);
+    private static final String ENTITY_INVOICE = "invoice";
+    private static final String ENTITY_BILLING_RUN = "billing_run";
+
+    static final String ELIGIBLE_UNITS_CONDITION = "u.tenant_id = ? AND u.deleted = FALSE AND u.status <> 'INACTIVE'";
+
+    private static final String LOCK_RUN_SQL = """
+            SELECT billing_cycle_id, invoice_date, due_date, subtotal, late_fee, gst_amount, other_charges,
+                status, last_unit_id, requested_by
+            FROM billing_run
+            WHERE id = ? AND tenant_id = ? AND deleted = FALSE
+            FOR UPDATE
+            """;
+
+    private static final String NEXT_UNITS_SQL =
+            "SELECT u.id FROM unit u WHERE " + ELIGIBLE_UNITS_CONDITION + " AND u.id > ? ORDER BY u.id LIMIT ?";
+
+    private static final String INVOICED_UNITS_SQL = """
+            SELECT unit_id
+            FROM invoice
+            WHERE tenant_id = ? AND billing_cycle_id = ? AND deleted = FALSE AND unit_id = ANY(?)
+            """;
+
+    private static final String INSERT_INVOICE_SQL = """
+            INSERT INTO invoice (
+                id, tenant_id, invoice_number, unit_id, billing_cycle_id, invoice_date, due_date, subtotal, late_fee,
+                gst_amount, other_charges, total_amount, outstanding_amount, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String ADVANCE_SQL = """
+            UPDATE billing_run
+            SET last_unit_id = ?, processed_units = processed_units + ?, generated_invoices = generated_invoices + ?,
+                skipped_units = skipped_units + ?, updated_at = ?, version = version + 1
+            WHERE id = ?
+            """;
+
+    private static final String COMPLETE_SQL = """
+            UPDATE billing_run
+            SET status = 'COMPLETED', completed_at = ?, last_error = NULL, updated_at = ?, version = version + 1
+            WHERE id = ?
+            """;
+
+    private static final String FAIL_SQL = """
+            UPDATE billing_run
+            SET status = 'FAILED', last_error = ?, updated_at = ?, version = version + 1
+            WHERE id = ? AND status = 'RUNNING'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InvoiceNumberAllocator invoiceNumberAllocator;
+    private final DomainEventPublisher domainEventPublisher;
+    private final TenantCacheGenerations tenantCacheGenerations;
+    private final AuditLogService auditLogService;
+    private final int chunkSize;
+    private final ThreadPoolExecutor executor;
+    private final Set<UUID> activeRuns = ConcurrentHashMap.newKeySet();
+
+    public BillingRunEngine(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            InvoiceNumberAllocator invoiceNumberAllocator,
+            DomainEventPublisher domainEventPublisher,
+            TenantCacheGenerations tenantCacheGenerations,
+            AuditLogService auditLogService,
+            @Value("${shield.billing.run.chunk-size:500}") int chunkSize,
+            @Value("${shield.billing.run.pool-size:2}") int poolSize,
+            @Value("${shield.billing.run.queue-capacity:64}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.invoiceNumberAllocator = invoiceNumberAllocator;
+        this.domainEventPublisher = domainEventPublisher;
+        this.tenantCacheGenerations = tenantCacheGenerations;
+        this.auditLogService = auditLogService;
+        this.chunkSize = Math.max(1, chunkSize);
+
+        int threads = Math.max(1, poolSize);
+        AtomicInteger threadIds = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "billing-run-" + threadIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Queues the run unless this node is already working on it. A run that cannot be queued stays {@code RUNNING}
+     * and can be resumed once it goes stale.
+     */
+    public void submit(UUID runId, UUID tenantId) {
+        if (!activeRuns.add(runId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    run(runId, tenantId);
+                } finally {
+                    activeRuns.remove(runId);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            activeRuns.remove(runId);
+            log.warn("Billing run {} could not be queued; resume it once the executor has capacity", runId);
+        }
+    }
+
+    public boolean isActive(UUID runId) {
+        return activeRuns.contains(runId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void run(UUID runId, UUID tenantId) {
+        TenantContext.setTenantId(tenantId);
+        try {
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> processChunk(runId, tenantId)))) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Billing run {} failed", runId, ex);
+            String message = ex.getMessage() == null ? ex.getClass().getSimpleName() : ex.getMessage();
+            jdbcTemplate.update(FAIL_SQL, message.length() > 1000 ? message.substring(0, 1000) : message,
+                    Timestamp.from(Instant.now()), runId);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    /**
+     * Processes the next chunk and returns whether another one may follow.
+     */
+    boolean processChunk(UUID runId, UUID tenantId) {
+        RunState run = jdbcTemplate.query(LOCK_RUN_SQL, rs -> rs.next() ? new RunState(
+                rs.getObject("billing_cycle_id", UUID.class),
+                rs.getDate("invoice_date").toLocalDate(),
+                rs.getDate("due_date").toLocalDate(),
+                rs.getBigDecimal("subtotal"),
+                rs.getBigDecimal("late_fee"),
+                rs.getBigDecimal("gst_amount"),
+                rs.getBigDecimal("other_charges"),
+                BillingRunStatus.valueOf(rs.getString("status")),
+                rs.getObject("last_unit_id", UUID.class),
+                rs.getObject("requested_by", UUID.class)) : null, runId, tenantId);
+        if (run == null || run.status() != BillingRunStatus.RUNNING) {
+            return false;
+        }
+
+        UUID cursor = run.lastUnitId() == null ? CURSOR_START : run.lastUnitId();
+        List<UUID> unitIds = jdbcTemplate.queryForList(NEXT_UNITS_SQL, UUID.class, tenantId, cursor, chunkSize);
+        Instant now = Instant.now();
+        if (unitIds.isEmpty()) {
+            jdbcTemplate.update(COMPLETE_SQL, Timestamp.from(now), Timestamp.from(now), runId);
+            auditLogService.logEvent(tenantId, run.requestedBy(), "BILLING_RUN_COMPLETED", ENTITY_BILLING_RUN, runId, null);
+            return false;
+        }
+
+        Set<UUID> invoiced = new HashSet<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INVOICED_UNITS_SQL);
+            ps.setObject(1, tenantId, Types.OTHER);
+            ps.setObject(2, run.billingCycleId(), Types.OTHER);
+            ps.setArray(3, connection.createArrayOf("uuid", unitIds.toArray()));
+            return ps;
+        }, (RowCallbackHandler) rs -> invoiced.add(rs.getObject("unit_id", UUID.class)));
+        List<UUID> toInvoice = unitIds.stream().filter(unitId -> !invoiced.contains(unitId)).toList();
+
+        List<String> numbers = invoiceNumberAllocator.allocate(tenantId, run.invoiceDate().getYear(), toInvoice.size());
+        List<UUID> invoiceIds = new ArrayList<>(toInvoice.size());
+        for (int i = 0; i < toInvoice.size(); i++) {
+            invoiceIds.add(UUID.randomUUID());
+        }
+        if (!toInvoice.isEmpty()) {
+            insertInvoices(tenantId, run, toInvoice, invoiceIds, numbers, now);
+            domainEventPublisher.publishAll(invoiceIds.stream()
+                    .map(invoiceId -> DomainEvent.of(tenantId, run.requestedBy(), "INVOICE_GENERATED", ENTITY_INVOICE, invoiceId, null))
+                    .toList());
+            tenantCacheGenerations.invalidateAfterCommit(tenantId);
+        }
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(ADVANCE_SQL);
+            ps.setObject(1, unitIds.get(unitIds.size() - 1), Types.OTHER);
+            ps.setInt(2, unitIds.size());
+            ps.setInt(3, toInvoice.size());
+            ps.setInt(4, invoiced.size());
+            ps.setTimestamp(5, Timestamp.from(now));
+            ps.setObject(6, runId, Types.OTHER);
+            return ps;
+        });
+        return true;
+    }
+
+    private void insertInvoices(
+            UUID tenantId,
+            RunState run,
+            List<UUID> unitIds,
+            List<UUID> invoiceIds,
+            List<String> numbers,
+            Instant now) {
+        BigDecimal total = run.subtotal().add(run.lateFee()).add(run.gstAmount()).add(run.otherCharges());
+        Timestamp createdAt = Timestamp.from(now);
+        List<Integer> rows = new ArrayList<>(unitIds.size());
+        for (int i = 0; i < unitIds.size(); i++) {
+            rows.add(i);
+        }
+        jdbcTemplate.batchUpdate(INSERT_INVOICE_SQL, rows, rows.size(), (ps, i) -> {
+            setUuid(ps, 1, invoiceIds.get(i));
+            setUuid(ps, 2, tenantId);
+            ps.setString(3, numbers.get(i));
+            setUuid(ps, 4, unitIds.get(i));
+            setUuid(ps, 5, run.billingCycleId());
+            ps.setDate(6, Date.valueOf(run.invoiceDate()));
+            ps.setDate(7, Date.valueOf(run.dueDate()));
+            ps.setBigDecimal(8, run.subtotal());
+            ps.setBigDecimal(9, run.lateFee());
+            ps.setBigDecimal(10, run.gstAmount());
+            ps.setBigDecimal(11, run.otherCharges());
+            ps.setBigDecimal(12, total);
+            ps.setBigDecimal(13, total);
+            ps.setString(14, InvoiceStatus.UNPAID.name());
+            ps.setTimestamp(15, createdAt);
+            ps.setTimestamp(16, createdAt);
+        });
+    }
+
+    private static void setUuid(PreparedStatement ps, int index, UUID value) throws SQLException {
+        ps.setObject(index, value, Types.OTHER);
+    }
+
+    private record RunState(
+            UUID billingCycleId,
+            LocalDate invoiceDate,
+            LocalDate dueDate,
+            BigDecimal subtotal,
+            BigDecimal lateFee,
+            BigDecimal gstAmount,
+            BigDecimal otherCharges,
+            BillingRunStatus status,
+            UUID lastUnitId,
+            UUID requestedBy) {
+    }
+}
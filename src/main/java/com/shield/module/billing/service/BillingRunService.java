@@ -0,0 +1,185 @@
+package com.shield.module.billing.service;
+
+import com.shield.audit.service.AuditLogService;
+import com.shield.common.exception.BadRequestException;
+import com.shield.common.exception.ResourceNotFoundException;
+import com.shield.module.billing.dto.BillingRunCreateRequest;
+import com.shield.module.billing.dto.BillingRunResponse;
+import com.shield.module.billing.entity.BillingCycleEntity;
+import com.shield.module.billing.entity.BillingCycleStatus;
+import com.shield.module.billing.entity.BillingRunEntity;
+import com.shield.module.billing.entity.BillingRunStatus;
+import com.shield.module.billing.repository.BillingCycleRepository;
+import com.shield.module.billing.repository.BillingRunRepository;
+import com.shield.security.model.ShieldPrincipal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+@Transactional
+public class BillingRunService {
+
+    private static final String ENTITY_BILLING_RUN = "billing_run";
+    private static final String RUN_IN_PROGRESS = "A billing run is already in progress for this cycle";
+
+    private static final String COUNT_ELIGIBLE_UNITS_SQL =
+            "SELECT count(*) FROM unit u WHERE " + BillingRunEngine.ELIGIBLE_UNITS_CONDITION;
+
+    private final BillingRunRepository billingRunRepository;
+    private final BillingCycleRepository billingCycleRepository;
+    private final BillingRunEngine billingRunEngine;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditLogService auditLogService;
+    private final Duration staleAfter;
+
+    public BillingRunService(
+            BillingRunRepository billingRunRepository,
+            BillingCycleRepository billingCycleRepository,
+            BillingRunEngine billingRunEngine,
+            JdbcTemplate jdbcTemplate,
+            AuditLogService auditLogService,
+            @Value("${shield.billing.run.stale-after-seconds:300}") long staleAfterSeconds) {
+        this.billingRunRepository = billingRunRepository;
+        this.billingCycleRepository = billingCycleRepository;
+        this.billingRunEngine = billingRunEngine;
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditLogService = auditLogService;
+        this.staleAfter = Duration.ofSeconds(Math.max(1L, staleAfterSeconds));
+    }
+
+    public BillingRunResponse startRun(BillingRunCreateRequest request, ShieldPrincipal principal) {
+        BillingCycleEntity cycle = billingCycleRepository.findByIdAndDeletedFalse(request.billingCycleId())
+                .orElseThrow(() -> new ResourceNotFoundException("Billing cycle not found: " + request.billingCycleId()));
+        if (cycle.getStatus() == BillingCycleStatus.CLOSED) {
+            throw new BadRequestException("Closed billing cycle cannot be invoiced");
+        }
+        boolean running = billingRunRepository.findAllByBillingCycleIdAndDeletedFalseOrderByStartedAtDesc(cycle.getId()).stream()
+                .anyMatch(run -> run.getStatus() == BillingRunStatus.RUNNING);
+        if (running) {
+            throw new BadRequestException(RUN_IN_PROGRESS);
+        }
+
+        BillingRunEntity run = new BillingRunEntity();
+        run.setTenantId(principal.tenantId());
+        run.setBillingCycleId(cycle.getId());
+        run.setInvoiceDate(request.invoiceDate() != null ? request.invoiceDate() : LocalDate.now());
+        run.setDueDate(request.dueDate() != null ? request.dueDate() : cycle.getDueDate());
+        run.setSubtotal(request.subtotal());
+        run.setLateFee(request.lateFee());
+        run.setGstAmount(request.gstAmount());
+        run.setOtherCharges(request.otherCharges());
+        run.setStatus(BillingRunStatus.RUNNING);
+        run.setTotalUnits(countEligibleUnits(principal.tenantId()));
+        run.setRequestedBy(principal.userId());
+        run.setStartedAt(Instant.now());
+        BillingRunEntity saved;
+        try {
+            // uk_billing_run_cycle_running settles concurrent starts for the same cycle.
+            saved = billingRunRepository.saveAndFlush(run);
+        } catch (DataIntegrityViolationException ex) {
+            throw new BadRequestException(RUN_IN_PROGRESS);
+        }
+
+        auditLogService.logEvent(principal.tenantId(), principal.userId(), "BILLING_RUN_STARTED", ENTITY_BILLING_RUN, saved.getId(), null);
+        submitAfterCommit(saved.getId(), principal.tenantId());
+        return toResponse(saved);
+    }
+
+    /**
+     * Restarts a failed run, or a running one whose progress has not moved for {@code stale-after-seconds} (its
+     * worker died with the node). Either way work continues from the last committed chunk.
+     */
+    public BillingRunResponse resumeRun(UUID id, ShieldPrincipal principal) {
+        BillingRunEntity run = findRun(id);
+        Instant lastProgress = run.getUpdatedAt() != null ? run.getUpdatedAt() : run.getStartedAt();
+        boolean stale = run.getStatus() == BillingRunStatus.RUNNING
+                && !billingRunEngine.isActive(id)
+                && lastProgress.isBefore(Instant.now().minus(staleAfter));
+        if (run.getStatus() != BillingRunStatus.FAILED && !stale) {
+            throw new BadRequestException("Only failed or stalled billing runs can be resumed");
+        }
+
+        run.setStatus(BillingRunStatus.RUNNING);
+        run.setLastError(null);
+        BillingRunEntity saved;
+        try {
+            saved = billingRunRepository.saveAndFlush(run);
+        } catch (DataIntegrityViolationException ex) {
+            throw new BadRequestException(RUN_IN_PROGRESS);
+        }
+        auditLogService.logEvent(principal.tenantId(), principal.userId(), "BILLING_RUN_RESUMED", ENTITY_BILLING_RUN, id, null);
+        submitAfterCommit(id, principal.tenantId());
+        return toResponse(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public BillingRunResponse getRun(UUID id) {
+        return toResponse(findRun(id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<BillingRunResponse> listRunsByCycle(UUID cycleId) {
+        return billingRunRepository.findAllByBillingCycleIdAndDeletedFalseOrderByStartedAtDesc(cycleId).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    private int countEligibleUnits(UUID tenantId) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_ELIGIBLE_UNITS_SQL, Integer.class, tenantId);
+        return count == null ? 0 : count;
+    }
+
+    private void submitAfterCommit(UUID runId, UUID tenantId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            billingRunEngine.submit(runId, tenantId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                billingRunEngine.submit(runId, tenantId);
+            }
+        });
+    }
+
+    private BillingRunEntity findRun(UUID id) {
+        return billingRunRepository.findByIdAndDeletedFalse(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Billing run not found: " + id));
+    }
+
+    private BillingRunResponse toResponse(BillingRunEntity entity) {
+        int progress;
+        if (entity.getStatus() == BillingRunStatus.COMPLETED) {
+            progress = 100;
+        } else if (entity.getTotalUnits() == 0) {
+            progress = 0;
+        } else {
+            progress = Math.min(99, entity.getProcessedUnits() * 100 / entity.getTotalUnits());
+        }
+        return new BillingRunResponse(
+                entity.getId(),
+                entity.getTenantId(),
+                entity.getBillingCycleId(),
+                entity.getInvoiceDate(),
+                entity.getDueDate(),
+                entity.getStatus(),
+                entity.getTotalUnits(),
+                entity.getProcessedUnits(),
+                entity.getGeneratedInvoices(),
+                entity.getSkippedUnits(),
+                progress,
+                entity.getStartedAt(),
+                entity.getCompletedAt(),
+                entity.getLastError());
+    }
+}
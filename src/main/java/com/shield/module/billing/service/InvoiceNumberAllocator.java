@@ -0,0 +1,47 @@
+package com.shield.module.billing.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Hands out invoice numbers from a per-tenant, per-year counter. A block of any size costs one upsert; the counter
+ * row stays locked until the caller commits, so numbers are gap-free and unique within a tenant.
+ */
+@Component
+@RequiredArgsConstructor
+public class InvoiceNumberAllocator {
+
+    private static final String ALLOCATE_SQL = """
+            INSERT INTO invoice_number_sequence (tenant_id, invoice_year, last_value)
+            VALUES (?, ?, ?)
+            ON CONFLICT (tenant_id, invoice_year)
+            DO UPDATE SET last_value = invoice_number_sequence.last_value + EXCLUDED.last_value
+            RETURNING last_value
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<String> allocate(UUID tenantId, int year, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        Long last = jdbcTemplate.queryForObject(ALLOCATE_SQL, Long.class, tenantId, year, count);
+        long first = last - count + 1;
+        List<String> numbers = new ArrayList<>(count);
+        for (long value = first; value <= last; value++) {
+            numbers.add(format(year, value));
+        }
+        return numbers;
+    }
+
+    static String format(int year, long value) {
+        return String.format("INV-%d-%06d", year, value);
+    }
+}
@@ -1,6 +1,8 @@
 package com.shield.module.billing.service;
 
 import com.shield.audit.service.AuditLogService;
+import com.shield.common.event.DomainEvent;
+import com.shield.common.event.DomainEventPublisher;
 import com.shield.common.exception.BadRequestException;
 import com.shield.common.exception.ResourceNotFoundException;
 import com.shield.module.billing.dto.PaymentCallbackRequest;
@@ -44,6 +46,7 @@ public class PaymentGatewayService {
     private final PaymentGatewayAdapterRegistry paymentGatewayAdapterRegistry;
     private final PaymentWebhookSignatureVerifier paymentWebhookSignatureVerifier;
     private final AuditLogService auditLogService;
+    private final DomainEventPublisher domainEventPublisher;
 
     public PaymentGatewayService(
             PaymentGatewayTransactionRepository paymentGatewayTransactionRepository,
@@ -51,13 +54,15 @@ public class PaymentGatewayService {
             PaymentRepository paymentRepository,
             PaymentGatewayAdapterRegistry paymentGatewayAdapterRegistry,
             PaymentWebhookSignatureVerifier paymentWebhookSignatureVerifier,
-            AuditLogService auditLogService) {
+            AuditLogService auditLogService,
+            DomainEventPublisher domainEventPublisher) {
         this.paymentGatewayTransactionRepository = paymentGatewayTransactionRepository;
         this.maintenanceBillRepository = maintenanceBillRepository;
         this.paymentRepository = paymentRepository;
         this.paymentGatewayAdapterRegistry = paymentGatewayAdapterRegistry;
         this.paymentWebhookSignatureVerifier = paymentWebhookSignatureVerifier;
         this.auditLogService = auditLogService;
+        this.domainEventPublisher = domainEventPublisher;
     }
 
     public PaymentInitiateResponse initiate(PaymentInitiateRequest request, ShieldPrincipal principal) {
@@ -128,13 +133,13 @@ public class PaymentGatewayService {
             PaymentGatewayTransactionEntity savedTransaction = paymentGatewayTransactionRepository.save(transaction);
             PaymentEntity payment = getOrCreatePayment(savedTransaction);
 
-            auditLogService.logEvent(
+            domainEventPublisher.publish(DomainEvent.of(
                     principal.tenantId(),
                     principal.userId(),
                     "PAYMENT_GATEWAY_VERIFIED_SUCCESS",
                     ENTITY_PAYMENT_GATEWAY_TXN,
                     savedTransaction.getId(),
-                    null);
+                    null));
 
             return toResponse(savedTransaction, payment.getId());
         }
@@ -150,13 +155,13 @@ public class PaymentGatewayService {
 
         PaymentGatewayTransactionEntity savedTransaction = paymentGatewayTransactionRepository.save(transaction);
 
-        auditLogService.logEvent(
+        domainEventPublisher.publish(DomainEvent.of(
                 principal.tenantId(),
                 principal.userId(),
                 "PAYMENT_GATEWAY_VERIFIED_FAILED",
                 ENTITY_PAYMENT_GATEWAY_TXN,
                 savedTransaction.getId(),
-                null);
+                null));
 
         return toResponse(savedTransaction, findPaymentId(savedTransaction.getTransactionRef()));
     }
@@ -67,6 +67,9 @@ public class ComplaintEntity extends TenantAwareEntity {
     @Column(name = "sla_hours")
     private Integer slaHours;
 
+    @Column(name = "sla_deadline")
+    private Instant slaDeadline;
+
     @Column(name = "sla_breach", nullable = false)
     private boolean slaBreach;
 }
@@ -9,6 +9,7 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ComplaintRepository extends JpaRepository<ComplaintEntity, UUID> {
 
@@ -28,5 +29,11 @@ public interface ComplaintRepository extends JpaRepository<ComplaintEntity, UUID
 
     Page<ComplaintEntity> findAllBySlaBreachTrueAndDeletedFalse(Pageable pageable);
 
-    List<ComplaintEntity> findAllByDeletedFalse();
+    @Query("""
+            select c.status, count(c), sum(case when c.slaBreach = true then 1 else 0 end)
+            from ComplaintEntity c
+            where c.deleted = false
+            group by c.status
+            """)
+    List<Object[]> summarizeByStatus();
 }
@@ -21,7 +21,8 @@ import com.shield.module.complaint.repository.ComplaintCommentRepository;
 import com.shield.module.complaint.repository.ComplaintRepository;
 import com.shield.security.model.ShieldPrincipal;
 import java.time.Instant;
-import java.util.List;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -56,6 +57,7 @@ public class ComplaintService {
         entity.setPriority(request.priority());
         entity.setStatus(ComplaintStatus.OPEN);
         entity.setSlaHours(sanitizeSlaHours(request.slaHours()));
+        entity.setSlaDeadline(slaDeadline(Instant.now(), entity.getSlaHours()));
         entity.setSlaBreach(false);
 
         ComplaintEntity saved = complaintRepository.save(entity);
@@ -85,6 +87,12 @@ public class ComplaintService {
         entity.setLocation(trimToNull(request.location()));
         entity.setPriority(request.priority());
         entity.setSlaHours(sanitizeSlaHours(request.slaHours()));
+        Instant slaStart = entity.getCreatedAt() != null ? entity.getCreatedAt() : Instant.now();
+        entity.setSlaDeadline(slaDeadline(slaStart, entity.getSlaHours()));
+        if (!shouldMarkSlaBreach(entity, Instant.now())) {
+            // A deadline that has already passed is flagged by SlaBreachSweeper, which also raises the escalation.
+            entity.setSlaBreach(false);
+        }
 
         ComplaintEntity saved = complaintRepository.save(entity);
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "COMPLAINT_UPDATED", ENTITY_COMPLAINT, saved.getId(), null);
@@ -150,7 +158,6 @@ public class ComplaintService {
         entity.setResolvedAt(null);
         entity.setClosedAt(null);
         entity.setResolutionNotes(null);
-        entity.setSlaBreach(isPastSlaDeadline(entity, Instant.now()));
 
         ComplaintEntity saved = complaintRepository.save(entity);
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "COMPLAINT_REOPENED", ENTITY_COMPLAINT, saved.getId(), null);
@@ -182,29 +189,30 @@ public class ComplaintService {
         return PagedResponse.from(complaintRepository.findAllByAssignedToAndDeletedFalse(userId, pageable).map(this::toResponse));
     }
 
+    @Transactional(readOnly = true)
     public PagedResponse<ComplaintResponse> listSlaBreached(Pageable pageable) {
-        refreshSlaFlags();
         return PagedResponse.from(complaintRepository.findAllBySlaBreachTrueAndDeletedFalse(pageable).map(this::toResponse));
     }
 
+    @Transactional(readOnly = true)
     public ComplaintStatisticsResponse statistics() {
-        refreshSlaFlags();
-        List<ComplaintEntity> complaints = complaintRepository.findAllByDeletedFalse();
-
-        long open = complaints.stream().filter(c -> c.getStatus() == ComplaintStatus.OPEN).count();
-        long assigned = complaints.stream().filter(c -> c.getStatus() == ComplaintStatus.ASSIGNED).count();
-        long inProgress = complaints.stream().filter(c -> c.getStatus() == ComplaintStatus.IN_PROGRESS).count();
-        long resolved = complaints.stream().filter(c -> c.getStatus() == ComplaintStatus.RESOLVED).count();
-        long closed = complaints.stream().filter(c -> c.getStatus() == ComplaintStatus.CLOSED).count();
-        long slaBreached = complaints.stream().filter(ComplaintEntity::isSlaBreach).count();
+        Map<ComplaintStatus, Long> countByStatus = new EnumMap<>(ComplaintStatus.class);
+        long total = 0;
+        long slaBreached = 0;
+        for (Object[] row : complaintRepository.summarizeByStatus()) {
+            long count = ((Number) row[1]).longValue();
+            countByStatus.put((ComplaintStatus) row[0], count);
+            total += count;
+            slaBreached += ((Number) row[2]).longValue();
+        }
 
         return new ComplaintStatisticsResponse(
-                complaints.size(),
-                open,
-                assigned,
-                inProgress,
-                resolved,
-                closed,
+                total,
+                countByStatus.getOrDefault(ComplaintStatus.OPEN, 0L),
+                countByStatus.getOrDefault(ComplaintStatus.ASSIGNED, 0L),
+                countByStatus.getOrDefault(ComplaintStatus.IN_PROGRESS, 0L),
+                countByStatus.getOrDefault(ComplaintStatus.RESOLVED, 0L),
+                countByStatus.getOrDefault(ComplaintStatus.CLOSED, 0L),
                 slaBreached);
     }
 
@@ -268,16 +276,8 @@ public class ComplaintService {
         return slaHours;
     }
 
-    private void refreshSlaFlags() {
-        List<ComplaintEntity> complaints = complaintRepository.findAllByDeletedFalse();
-        Instant now = Instant.now();
-        for (ComplaintEntity complaint : complaints) {
-            boolean shouldBeBreached = shouldMarkSlaBreach(complaint, now);
-            if (complaint.isSlaBreach() != shouldBeBreached) {
-                complaint.setSlaBreach(shouldBeBreached);
-                complaintRepository.save(complaint);
-            }
-        }
+    private Instant slaDeadline(Instant start, Integer slaHours) {
+        return slaHours == null ? null : start.plusSeconds(slaHours.longValue() * 3600L);
     }
 
     private void updateSlaBreachFlag(ComplaintEntity complaint) {
@@ -285,24 +285,11 @@ public class ComplaintService {
     }
 
     private boolean shouldMarkSlaBreach(ComplaintEntity complaint, Instant referenceTime) {
-        if (!isPastSlaDeadline(complaint, referenceTime)) {
-            return false;
-        }
-
-        if (complaint.getResolvedAt() == null) {
-            return true;
-        }
-
-        Instant deadline = complaint.getCreatedAt().plusSeconds(complaint.getSlaHours().longValue() * 3600L);
-        return complaint.getResolvedAt().isAfter(deadline);
-    }
-
-    private boolean isPastSlaDeadline(ComplaintEntity complaint, Instant referenceTime) {
-        if (complaint.getSlaHours() == null || complaint.getCreatedAt() == null) {
+        Instant deadline = complaint.getSlaDeadline();
+        if (deadline == null || !referenceTime.isAfter(deadline)) {
             return false;
         }
-        Instant deadline = complaint.getCreatedAt().plusSeconds(complaint.getSlaHours().longValue() * 3600L);
-        return referenceTime.isAfter(deadline);
+        return complaint.getResolvedAt() == null || complaint.getResolvedAt().isAfter(deadline);
     }
 
     private ComplaintResponse toResponse(ComplaintEntity entity) {
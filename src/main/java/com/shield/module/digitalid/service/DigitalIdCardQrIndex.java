@@ -0,0 +1,136 @@
+package com.shield.module.digitalid.service;
+
+import com.shield.common.cache.TenantQrIndex;
+import com.shield.module.digitalid.dto.DigitalIdVerificationResponse;
+import com.shield.module.digitalid.entity.DigitalIdCardEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gate index of active digital ID cards that have not passed their expiry date. A card stays valid through its
+ * expiry date, in the server's zone, like {@link DigitalIdCardService#verifyByQrCode}.
+ */
+@Component
+public class DigitalIdCardQrIndex extends TenantQrIndex<DigitalIdVerificationResponse> {
+
+    static final String VALID_MESSAGE = "Card is valid";
+
+    private static final String COLUMNS = """
+            SELECT id, tenant_id, user_id, qr_code_data, expiry_date, active, deleted
+            FROM digital_id_card
+            """;
+
+    private static final String LOAD_VALID_SQL = COLUMNS + "WHERE deleted = FALSE AND active = TRUE AND expiry_date >= ?";
+
+    private static final String LOAD_CHANGED_SQL = COLUMNS + "WHERE updated_at > ?";
+
+    private static final String MARK_EXPIRED_SQL = """
+            UPDATE digital_id_card
+            SET active = FALSE, deactivated_at = ?, updated_at = ?, version = version + 1
+            WHERE id = ANY(?) AND deleted = FALSE AND active = TRUE AND expiry_date < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DigitalIdCardQrIndex(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${shield.gate.qr-index.enabled:true}") boolean enabled,
+            @Value("${shield.gate.qr-index.tick-ms:1000}") long tickMs,
+            @Value("${shield.gate.qr-index.wheel-size:512}") int wheelSize,
+            @Value("${shield.gate.qr-index.sync-interval-ms:5000}") long syncIntervalMs) {
+        super("digital_id_card", meterRegistry, enabled, Duration.ofMillis(tickMs), wheelSize, Duration.ofMillis(syncIntervalMs));
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void refreshAfterCommit(DigitalIdCardEntity card) {
+        applyAfterCommit(card.getId(), entry(
+                card.getId(),
+                card.getTenantId(),
+                card.getUserId(),
+                card.getQrCodeData(),
+                card.getExpiryDate(),
+                card.isActive() && !card.isDeleted(),
+                Instant.now()));
+    }
+
+    @Override
+    protected void loadValid(Instant now, Consumer<Entry<DigitalIdVerificationResponse>> sink) {
+        jdbcTemplate.query(LOAD_VALID_SQL, rs -> {
+            Entry<DigitalIdVerificationResponse> entry = entry(rs, now);
+            if (entry != null) {
+                sink.accept(entry);
+            }
+        }, Date.valueOf(LocalDate.ofInstant(now, ZoneId.systemDefault())));
+    }
+
+    @Override
+    protected void loadChangedSince(
+            Instant since,
+            Instant now,
+            Consumer<Entry<DigitalIdVerificationResponse>> upserts,
+            Consumer<UUID> removals) {
+        jdbcTemplate.query(LOAD_CHANGED_SQL, rs -> {
+            Entry<DigitalIdVerificationResponse> entry = entry(rs, now);
+            if (entry != null) {
+                upserts.accept(entry);
+            } else {
+                removals.accept(rs.getObject("id", UUID.class));
+            }
+        }, Timestamp.from(since));
+    }
+
+    @Override
+    protected void markExpired(List<UUID> ids, Instant now) {
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(MARK_EXPIRED_SQL);
+            ps.setTimestamp(1, Timestamp.from(now));
+            ps.setTimestamp(2, Timestamp.from(now));
+            ps.setArray(3, connection.createArrayOf("uuid", ids.toArray()));
+            ps.setDate(4, Date.valueOf(LocalDate.ofInstant(now, ZoneId.systemDefault())));
+            return ps;
+        });
+    }
+
+    private static Entry<DigitalIdVerificationResponse> entry(ResultSet rs, Instant now) throws SQLException {
+        return entry(
+                rs.getObject("id", UUID.class),
+                rs.getObject("tenant_id", UUID.class),
+                rs.getObject("user_id", UUID.class),
+                rs.getString("qr_code_data"),
+                rs.getDate("expiry_date").toLocalDate(),
+                rs.getBoolean("active") && !rs.getBoolean("deleted"),
+                now);
+    }
+
+    private static Entry<DigitalIdVerificationResponse> entry(
+            UUID id,
+            UUID tenantId,
+            UUID userId,
+            String qrCodeData,
+            LocalDate expiryDate,
+            boolean active,
+            Instant now) {
+        Instant expiresAt = expiryDate.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+        if (!active || qrCodeData == null || !expiresAt.isAfter(now)) {
+            return null;
+        }
+        DigitalIdVerificationResponse response =
+                new DigitalIdVerificationResponse(id, userId, qrCodeData, true, false, true, expiryDate, VALID_MESSAGE);
+        return new Entry<>(id, tenantId, qrCodeData, expiresAt, response);
+    }
+}
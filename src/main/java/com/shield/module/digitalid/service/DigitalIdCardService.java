@@ -29,14 +29,17 @@ public class DigitalIdCardService {
     private final DigitalIdCardRepository digitalIdCardRepository;
     private final UserRepository userRepository;
     private final AuditLogService auditLogService;
+    private final DigitalIdCardQrIndex digitalIdCardQrIndex;
 
     public DigitalIdCardService(
             DigitalIdCardRepository digitalIdCardRepository,
             UserRepository userRepository,
-            AuditLogService auditLogService) {
+            AuditLogService auditLogService,
+            DigitalIdCardQrIndex digitalIdCardQrIndex) {
         this.digitalIdCardRepository = digitalIdCardRepository;
         this.userRepository = userRepository;
         this.auditLogService = auditLogService;
+        this.digitalIdCardQrIndex = digitalIdCardQrIndex;
     }
 
     @Transactional(readOnly = true)
@@ -62,7 +65,7 @@ public class DigitalIdCardService {
         entity.setActive(true);
         entity.setDeactivatedAt(null);
 
-        DigitalIdCardEntity saved = digitalIdCardRepository.save(entity);
+        DigitalIdCardEntity saved = saveCard(entity);
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "DIGITAL_ID_GENERATED", ENTITY_DIGITAL_ID_CARD, saved.getId(), null);
         return toResponse(saved);
     }
@@ -88,7 +91,7 @@ public class DigitalIdCardService {
             entity.setQrCodeUrl(request.qrCodeUrl());
         }
 
-        DigitalIdCardEntity saved = digitalIdCardRepository.save(entity);
+        DigitalIdCardEntity saved = saveCard(entity);
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "DIGITAL_ID_RENEWED", ENTITY_DIGITAL_ID_CARD, saved.getId(), null);
         return toResponse(saved);
     }
@@ -101,38 +104,46 @@ public class DigitalIdCardService {
 
         entity.setActive(false);
         entity.setDeactivatedAt(Instant.now());
-        DigitalIdCardEntity saved = digitalIdCardRepository.save(entity);
+        DigitalIdCardEntity saved = saveCard(entity);
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "DIGITAL_ID_DEACTIVATED", ENTITY_DIGITAL_ID_CARD, saved.getId(), null);
         return toResponse(saved);
     }
 
+    @Transactional(readOnly = true)
     public DigitalIdVerificationResponse verifyByQrCode(String qrCode, ShieldPrincipal principal) {
+        DigitalIdVerificationResponse response = digitalIdCardQrIndex.find(principal.tenantId(), qrCode)
+                .orElseGet(() -> verifyFromDatabase(qrCode));
+
+        auditLogService.logEvent(principal.tenantId(), principal.userId(), "DIGITAL_ID_VERIFIED", ENTITY_DIGITAL_ID_CARD, response.cardId(), null);
+        return response;
+    }
+
+    private DigitalIdVerificationResponse verifyFromDatabase(String qrCode) {
         DigitalIdCardEntity entity = digitalIdCardRepository.findByQrCodeDataAndDeletedFalse(qrCode)
                 .orElseThrow(() -> new ResourceNotFoundException("Digital ID card not found"));
 
-        LocalDate today = LocalDate.now();
-        boolean expired = entity.getExpiryDate().isBefore(today);
-        if (expired && entity.isActive()) {
-            entity.setActive(false);
-            entity.setDeactivatedAt(Instant.now());
-            digitalIdCardRepository.save(entity);
-        }
-
-        boolean valid = entity.isActive() && !expired;
-        String message = buildVerificationMessage(valid, expired);
+        // Expired cards are deactivated in storage by the QR index expiry sweep, not by this read.
+        boolean expired = entity.getExpiryDate().isBefore(LocalDate.now());
+        boolean active = entity.isActive() && !expired;
+        String message = buildVerificationMessage(active, expired);
 
-        auditLogService.logEvent(principal.tenantId(), principal.userId(), "DIGITAL_ID_VERIFIED", ENTITY_DIGITAL_ID_CARD, entity.getId(), null);
         return new DigitalIdVerificationResponse(
                 entity.getId(),
                 entity.getUserId(),
                 entity.getQrCodeData(),
-                entity.isActive(),
+                active,
                 expired,
-                valid,
+                active,
                 entity.getExpiryDate(),
                 message);
     }
 
+    private DigitalIdCardEntity saveCard(DigitalIdCardEntity entity) {
+        DigitalIdCardEntity saved = digitalIdCardRepository.save(entity);
+        digitalIdCardQrIndex.refreshAfterCommit(saved);
+        return saved;
+    }
+
     private DigitalIdCardEntity findEntity(UUID id) {
         return digitalIdCardRepository.findByIdAndDeletedFalse(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Digital ID card not found: " + id));
@@ -22,16 +22,30 @@ public interface DocumentRepository extends JpaRepository<DocumentEntity, UUID>
 
     Page<DocumentEntity> findAllByExpiryDateBetweenAndDeletedFalse(LocalDate from, LocalDate to, Pageable pageable);
 
-    @Query("""
-            select d from DocumentEntity d
-            where d.deleted = false
-              and (
-                  lower(d.documentName) like lower(concat('%', :query, '%'))
-                  or lower(coalesce(d.description, '')) like lower(concat('%', :query, '%'))
-                  or lower(coalesce(d.tags, '')) like lower(concat('%', :query, '%'))
-              )
-            """)
-    Page<DocumentEntity> searchByQuery(@Param("query") String query, Pageable pageable);
+    /**
+     * Word-prefix match on name, tags and description through the {@code search_vector} GIN index, best ranked
+     * first. Native, so the tenant is filtered explicitly.
+     */
+    @Query(value = """
+            SELECT d.*
+            FROM document d
+            WHERE d.tenant_id = :tenantId
+              AND d.deleted = FALSE
+              AND d.search_vector @@ to_tsquery('simple', :tsQuery)
+            ORDER BY ts_rank(d.search_vector, to_tsquery('simple', :tsQuery)) DESC, d.upload_date DESC, d.id
+            """,
+            countQuery = """
+            SELECT count(*)
+            FROM document d
+            WHERE d.tenant_id = :tenantId
+              AND d.deleted = FALSE
+              AND d.search_vector @@ to_tsquery('simple', :tsQuery)
+            """,
+            nativeQuery = true)
+    Page<DocumentEntity> searchByQuery(
+            @Param("tenantId") UUID tenantId,
+            @Param("tsQuery") String tsQuery,
+            Pageable pageable);
 
     @Query("""
             select d from DocumentEntity d
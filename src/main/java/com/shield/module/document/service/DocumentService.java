@@ -4,6 +4,7 @@ import com.shield.audit.service.AuditLogService;
 import com.shield.common.dto.PagedResponse;
 import com.shield.common.exception.BadRequestException;
 import com.shield.common.exception.ResourceNotFoundException;
+import com.shield.common.search.SearchTerms;
 import com.shield.module.document.dto.DocumentAccessLogResponse;
 import com.shield.module.document.dto.DocumentCategoryCreateRequest;
 import com.shield.module.document.dto.DocumentCategoryResponse;
@@ -21,6 +22,7 @@ import com.shield.module.document.repository.DocumentAccessLogRepository;
 import com.shield.module.document.repository.DocumentCategoryRepository;
 import com.shield.module.document.repository.DocumentRepository;
 import com.shield.security.model.ShieldPrincipal;
+import com.shield.tenant.context.TenantContext;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -28,7 +30,9 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -152,7 +156,14 @@ public class DocumentService {
 
     @Transactional(readOnly = true)
     public PagedResponse<DocumentResponse> searchDocuments(String query, Pageable pageable) {
-        return PagedResponse.from(documentRepository.searchByQuery(query, pageable).map(this::toDocumentResponse));
+        Optional<String> tsQuery = SearchTerms.prefixTsQuery(query == null ? "" : query);
+        if (tsQuery.isEmpty()) {
+            return PagedResponse.from(documentRepository.findAllByDeletedFalse(pageable).map(this::toDocumentResponse));
+        }
+        return PagedResponse.from(documentRepository.searchByQuery(
+                TenantContext.getRequiredTenantId(),
+                tsQuery.get(),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())).map(this::toDocumentResponse));
     }
 
     @Transactional(readOnly = true)
@@ -4,6 +4,8 @@ import com.shield.audit.service.AuditLogService;
 import com.shield.common.dto.PagedResponse;
 import com.shield.common.exception.BadRequestException;
 import com.shield.common.exception.ResourceNotFoundException;
+import com.shield.common.stream.StreamTopic;
+import com.shield.common.stream.TenantEventStream;
 import com.shield.module.emergency.dto.EmergencyContactCreateRequest;
 import com.shield.module.emergency.dto.EmergencyContactOrderUpdateRequest;
 import com.shield.module.emergency.dto.EmergencyContactResponse;
@@ -61,6 +63,7 @@ public class EmergencyService {
     private final SafetyEquipmentRepository safetyEquipmentRepository;
     private final SafetyInspectionRepository safetyInspectionRepository;
     private final AuditLogService auditLogService;
+    private final TenantEventStream tenantEventStream;
 
     public EmergencyService(
             EmergencyContactRepository emergencyContactRepository,
@@ -68,13 +71,15 @@ public class EmergencyService {
             FireDrillRecordRepository fireDrillRecordRepository,
             SafetyEquipmentRepository safetyEquipmentRepository,
             SafetyInspectionRepository safetyInspectionRepository,
-            AuditLogService auditLogService) {
+            AuditLogService auditLogService,
+            TenantEventStream tenantEventStream) {
         this.emergencyContactRepository = emergencyContactRepository;
         this.sosAlertRepository = sosAlertRepository;
         this.fireDrillRecordRepository = fireDrillRecordRepository;
         this.safetyEquipmentRepository = safetyEquipmentRepository;
         this.safetyInspectionRepository = safetyInspectionRepository;
         this.auditLogService = auditLogService;
+        this.tenantEventStream = tenantEventStream;
     }
 
     public EmergencyContactResponse createContact(EmergencyContactCreateRequest request, ShieldPrincipal principal) {
@@ -162,7 +167,7 @@ public class EmergencyService {
 
         SosAlertEntity saved = sosAlertRepository.save(entity);
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "SOS_ALERT_RAISED", ENTITY_SOS_ALERT, saved.getId(), null);
-        return toAlertResponse(saved);
+        return publishAlert(principal.tenantId(), "SOS_ALERT_RAISED", saved);
     }
 
     @Transactional(readOnly = true)
@@ -203,7 +208,7 @@ public class EmergencyService {
 
         SosAlertEntity saved = sosAlertRepository.save(entity);
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "SOS_ALERT_RESPONDED", ENTITY_SOS_ALERT, saved.getId(), null);
-        return toAlertResponse(saved);
+        return publishAlert(principal.tenantId(), "SOS_ALERT_RESPONDED", saved);
     }
 
     public SosAlertResponse resolveAlert(UUID id, SosAlertResolveRequest request, ShieldPrincipal principal) {
@@ -215,7 +220,7 @@ public class EmergencyService {
 
         SosAlertEntity saved = sosAlertRepository.save(entity);
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "SOS_ALERT_RESOLVED", ENTITY_SOS_ALERT, saved.getId(), null);
-        return toAlertResponse(saved);
+        return publishAlert(principal.tenantId(), "SOS_ALERT_RESOLVED", saved);
     }
 
     public SosAlertResponse markFalseAlarm(UUID id, ShieldPrincipal principal) {
@@ -227,7 +232,7 @@ public class EmergencyService {
 
         SosAlertEntity saved = sosAlertRepository.save(entity);
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "SOS_ALERT_FALSE_ALARM_MARKED", ENTITY_SOS_ALERT, saved.getId(), null);
-        return toAlertResponse(saved);
+        return publishAlert(principal.tenantId(), "SOS_ALERT_FALSE_ALARM_MARKED", saved);
     }
 
     public FireDrillRecordResponse createFireDrill(FireDrillRecordCreateRequest request, ShieldPrincipal principal) {
@@ -461,6 +466,12 @@ public class EmergencyService {
                 entity.isActive());
     }
 
+    private SosAlertResponse publishAlert(UUID tenantId, String eventType, SosAlertEntity entity) {
+        SosAlertResponse response = toAlertResponse(entity);
+        tenantEventStream.publishAfterCommit(tenantId, StreamTopic.SOS, eventType, response);
+        return response;
+    }
+
     private SosAlertResponse toAlertResponse(SosAlertEntity entity) {
         return new SosAlertResponse(
                 entity.getId(),
@@ -12,6 +12,8 @@ import jakarta.validation.constraints.Size;
 import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -72,7 +74,7 @@ public class FileController {
     }
 
     @GetMapping("/{fileId}/download")
-    public ResponseEntity<byte[]> download(@PathVariable @Size(max = 120) String fileId) {
+    public ResponseEntity<Resource> download(@PathVariable @Size(max = 120) String fileId) {
         ShieldPrincipal principal = SecurityUtils.getCurrentPrincipal();
         FileStorageService.FileDownloadPayload payload = fileStorageService.download(fileId, principal);
 
@@ -85,10 +87,14 @@ public class FileController {
             }
         }
 
-        return ResponseEntity.ok()
+        // Spring serves Resource bodies as a stream and answers Range requests with 206 partial content.
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
                 .contentType(mediaType)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + payload.fileName() + "\"")
-                .body(payload.content());
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + payload.fileName() + "\"");
+        if (payload.checksum() != null) {
+            response.eTag(payload.checksum());
+        }
+        return response.body(new FileSystemResource(payload.path()));
     }
 
     @DeleteMapping("/{fileId}")
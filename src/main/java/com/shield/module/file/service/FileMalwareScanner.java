@@ -2,5 +2,9 @@ package com.shield.module.file.service;
 
 public interface FileMalwareScanner {
 
-    FileScanResult scan(String fileName, String contentType, byte[] content);
+    /**
+     * Starts an incremental scan. Upload content is fed to the returned session chunk by chunk while it is
+     * copied to storage, so scanners never need the whole file in memory.
+     */
+    FileScanSession begin(String fileName, String contentType);
 }
@@ -0,0 +1,8 @@
+package com.shield.module.file.service;
+
+public interface FileScanSession {
+
+    void update(byte[] chunk, int offset, int length);
+
+    FileScanResult finish();
+}
@@ -12,11 +12,14 @@ import com.shield.module.file.repository.StoredFileRepository;
 import com.shield.security.model.ShieldPrincipal;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
@@ -40,6 +43,7 @@ public class FileStorageService {
     private static final int DEFAULT_PRESIGNED_EXPIRY_MINUTES = 15;
     private static final String ENTITY_STORED_FILE = "stored_file";
     private static final long DEFAULT_MAX_FILE_SIZE_BYTES = 10 * 1024 * 1024;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
 
     private final StoredFileRepository storedFileRepository;
     private final AuditLogService auditLogService;
@@ -96,20 +100,22 @@ public class FileStorageService {
         Path tenantDirectory = resolveTenantDirectory(principal.tenantId());
         Path targetFile = tenantDirectory.resolve(fileId + "_" + sanitizedName);
 
+        Path partialFile = null;
         try {
-            byte[] content = file.getBytes();
-            runMalwareScanIfEnabled(sanitizedName, normalizedContentType, content);
-            Files.write(targetFile, content);
+            partialFile = Files.createTempFile(tenantDirectory, fileId + "_", ".part");
+            CopyResult copy = copyScanningAndHashing(file, partialFile, sanitizedName, normalizedContentType);
+            Files.move(partialFile, targetFile, StandardCopyOption.ATOMIC_MOVE);
+            partialFile = null;
 
             StoredFileEntity entity = new StoredFileEntity();
             entity.setTenantId(principal.tenantId());
             entity.setFileId(fileId);
             entity.setFileName(sanitizedName);
             entity.setContentType(normalizedContentType);
-            entity.setFileSize(content.length);
+            entity.setFileSize(copy.size());
             entity.setStoragePath(targetFile.toString());
             entity.setUploadedBy(principal.userId());
-            entity.setChecksum(sha256Hex(content));
+            entity.setChecksum(copy.checksum());
             entity.setStatus(StoredFileStatus.ACTIVE);
             entity.setExpiresAt(expiresAt);
 
@@ -124,6 +130,8 @@ public class FileStorageService {
             return toResponse(saved);
         } catch (IOException ex) {
             throw new BadRequestException("Failed to persist file");
+        } finally {
+            deletePartialFile(partialFile);
         }
     }
 
@@ -159,22 +167,22 @@ public class FileStorageService {
         }
 
         Path path = Paths.get(entity.getStoragePath());
-        try {
-            byte[] content = Files.readAllBytes(path);
-            auditLogService.logEvent(
-                    principal.tenantId(),
-                    principal.userId(),
-                    "FILE_DOWNLOADED",
-                    ENTITY_STORED_FILE,
-                    entity.getId(),
-                    null);
-            return new FileDownloadPayload(
-                    entity.getFileName(),
-                    entity.getContentType(),
-                    content);
-        } catch (IOException ex) {
+        if (!Files.isRegularFile(path) || !Files.isReadable(path)) {
             throw new ResourceNotFoundException("Stored file not found on disk: " + fileId);
         }
+
+        auditLogService.logEvent(
+                principal.tenantId(),
+                principal.userId(),
+                "FILE_DOWNLOADED",
+                ENTITY_STORED_FILE,
+                entity.getId(),
+                null);
+        return new FileDownloadPayload(
+                entity.getFileName(),
+                entity.getContentType(),
+                entity.getChecksum(),
+                path);
     }
 
     public void delete(String fileId, ShieldPrincipal principal) {
@@ -329,14 +337,51 @@ public class FileStorageService {
         return parsed;
     }
 
-    private void runMalwareScanIfEnabled(String fileName, String contentType, byte[] content) {
-        if (!malwareScanEnabled) {
-            return;
+    private CopyResult copyScanningAndHashing(
+            MultipartFile file,
+            Path target,
+            String fileName,
+            String contentType) throws IOException {
+        MessageDigest digest = sha256();
+        FileScanSession scan = malwareScanEnabled ? fileMalwareScanner.begin(fileName, contentType) : null;
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long size = 0;
+
+        try (InputStream input = file.getInputStream(); OutputStream output = Files.newOutputStream(target)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                size += read;
+                if (size > maxFileSizeBytes) {
+                    throw new BadRequestException("File size exceeds maximum allowed bytes: " + maxFileSizeBytes);
+                }
+                digest.update(buffer, 0, read);
+                if (scan != null) {
+                    scan.update(buffer, 0, read);
+                }
+                output.write(buffer, 0, read);
+            }
         }
 
-        FileScanResult result = fileMalwareScanner.scan(fileName, contentType, content);
-        if (!result.safe()) {
-            throw new BadRequestException("File rejected by malware policy: " + result.reason());
+        if (size == 0) {
+            throw new BadRequestException("File is empty");
+        }
+        if (scan != null) {
+            FileScanResult result = scan.finish();
+            if (!result.safe()) {
+                throw new BadRequestException("File rejected by malware policy: " + result.reason());
+            }
+        }
+        return new CopyResult(size, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private void deletePartialFile(Path partialFile) {
+        if (partialFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(partialFile);
+        } catch (IOException ignored) {
+            // Orphaned .part files carry no metadata and are safe to sweep later.
         }
     }
 
@@ -344,10 +389,9 @@ public class FileStorageService {
         return UUID.randomUUID().toString().replace("-", "");
     }
 
-    private String sha256Hex(byte[] content) {
+    private MessageDigest sha256() {
         try {
-            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
-            return HexFormat.of().formatHex(messageDigest.digest(content));
+            return MessageDigest.getInstance("SHA-256");
         } catch (NoSuchAlgorithmException ex) {
             throw new IllegalStateException("SHA-256 not available", ex);
         }
@@ -372,7 +416,11 @@ public class FileStorageService {
     public record FileDownloadPayload(
             String fileName,
             String contentType,
-            byte[] content
+            String checksum,
+            Path path
     ) {
     }
+
+    private record CopyResult(long size, String checksum) {
+    }
 }
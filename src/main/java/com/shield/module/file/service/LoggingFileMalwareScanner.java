@@ -8,8 +8,20 @@ import org.springframework.stereotype.Service;
 public class LoggingFileMalwareScanner implements FileMalwareScanner {
 
     @Override
-    public FileScanResult scan(String fileName, String contentType, byte[] content) {
-        log.info("File malware scan placeholder invoked for file='{}', contentType='{}', size={} bytes", fileName, contentType, content.length);
-        return FileScanResult.clean();
+    public FileScanSession begin(String fileName, String contentType) {
+        return new FileScanSession() {
+            private long size;
+
+            @Override
+            public void update(byte[] chunk, int offset, int length) {
+                size += length;
+            }
+
+            @Override
+            public FileScanResult finish() {
+                log.info("File malware scan placeholder invoked for file='{}', contentType='{}', size={} bytes", fileName, contentType, size);
+                return FileScanResult.clean();
+            }
+        };
     }
 }
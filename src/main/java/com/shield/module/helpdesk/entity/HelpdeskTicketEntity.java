@@ -60,4 +60,10 @@ public class HelpdeskTicketEntity extends TenantAwareEntity {
 
     @Column(name = "satisfaction_rating")
     private Integer satisfactionRating;
+
+    @Column(name = "sla_deadline")
+    private Instant slaDeadline;
+
+    @Column(name = "sla_breach", nullable = false)
+    private boolean slaBreach;
 }
@@ -8,6 +8,7 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface HelpdeskTicketRepository extends JpaRepository<HelpdeskTicketEntity, UUID> {
 
@@ -21,5 +22,12 @@ public interface HelpdeskTicketRepository extends JpaRepository<HelpdeskTicketEn
 
     Page<HelpdeskTicketEntity> findAllByStatusAndDeletedFalse(TicketStatus status, Pageable pageable);
 
-    List<HelpdeskTicketEntity> findAllByDeletedFalse();
+    @Query("""
+            select t.status, count(t), sum(case when t.slaBreach = true then 1 else 0 end),
+                count(t.satisfactionRating), coalesce(sum(t.satisfactionRating), 0)
+            from HelpdeskTicketEntity t
+            where t.deleted = false
+            group by t.status
+            """)
+    List<Object[]> summarizeByStatus();
 }
@@ -32,12 +32,16 @@ import com.shield.module.helpdesk.repository.HelpdeskTicketRepository;
 import com.shield.security.model.ShieldPrincipal;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.sql.Timestamp;
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.List;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -49,24 +53,36 @@ public class HelpdeskService {
     private static final String HELPDESK_CATEGORY_NOT_FOUND_PREFIX = "Helpdesk category not found: ";
     private static final String ENTITY_HELPDESK_TICKET = "helpdesk_ticket";
     private static final String HELPDESK_TICKET_NOT_FOUND_PREFIX = "Helpdesk ticket not found: ";
+    private static final Set<TicketStatus> SLA_TRACKED_STATUSES = EnumSet.of(TicketStatus.OPEN, TicketStatus.IN_PROGRESS);
+
+    private static final String RESCHEDULE_CATEGORY_SQL = """
+            UPDATE helpdesk_ticket
+            SET sla_deadline = created_at + make_interval(hours => CAST(? AS INTEGER)),
+                sla_breach = COALESCE(sla_breach AND created_at + make_interval(hours => CAST(? AS INTEGER)) <= ?, FALSE),
+                updated_at = ?, version = version + 1
+            WHERE tenant_id = ? AND category_id = ? AND status IN ('OPEN', 'IN_PROGRESS') AND deleted = FALSE
+            """;
 
     private final HelpdeskCategoryRepository helpdeskCategoryRepository;
     private final HelpdeskTicketRepository helpdeskTicketRepository;
     private final HelpdeskCommentRepository helpdeskCommentRepository;
     private final HelpdeskTicketAttachmentRepository helpdeskTicketAttachmentRepository;
     private final AuditLogService auditLogService;
+    private final JdbcTemplate jdbcTemplate;
 
     public HelpdeskService(
             HelpdeskCategoryRepository helpdeskCategoryRepository,
             HelpdeskTicketRepository helpdeskTicketRepository,
             HelpdeskCommentRepository helpdeskCommentRepository,
             HelpdeskTicketAttachmentRepository helpdeskTicketAttachmentRepository,
-            AuditLogService auditLogService) {
+            AuditLogService auditLogService,
+            JdbcTemplate jdbcTemplate) {
         this.helpdeskCategoryRepository = helpdeskCategoryRepository;
         this.helpdeskTicketRepository = helpdeskTicketRepository;
         this.helpdeskCommentRepository = helpdeskCommentRepository;
         this.helpdeskTicketAttachmentRepository = helpdeskTicketAttachmentRepository;
         this.auditLogService = auditLogService;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     public HelpdeskCategoryResponse createCategory(HelpdeskCategoryCreateRequest request, ShieldPrincipal principal) {
@@ -97,11 +113,15 @@ public class HelpdeskService {
         HelpdeskCategoryEntity entity = helpdeskCategoryRepository.findByIdAndDeletedFalse(id)
                 .orElseThrow(() -> new ResourceNotFoundException(HELPDESK_CATEGORY_NOT_FOUND_PREFIX + id));
 
+        boolean slaChanged = !Objects.equals(entity.getSlaHours(), request.slaHours());
         entity.setName(request.name());
         entity.setDescription(request.description());
         entity.setSlaHours(request.slaHours());
 
         HelpdeskCategoryEntity saved = helpdeskCategoryRepository.save(entity);
+        if (slaChanged) {
+            rescheduleCategoryTickets(saved.getTenantId(), saved.getId(), saved.getSlaHours());
+        }
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "HELPDESK_CATEGORY_UPDATED", ENTITY_HELPDESK_CATEGORY, saved.getId(), null);
         return toCategoryResponse(saved);
     }
@@ -112,6 +132,7 @@ public class HelpdeskService {
 
         entity.setDeleted(true);
         helpdeskCategoryRepository.save(entity);
+        rescheduleCategoryTickets(entity.getTenantId(), entity.getId(), null);
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "HELPDESK_CATEGORY_DELETED", ENTITY_HELPDESK_CATEGORY, entity.getId(), null);
     }
 
@@ -126,6 +147,7 @@ public class HelpdeskService {
         entity.setDescription(request.description());
         entity.setPriority(request.priority());
         entity.setStatus(TicketStatus.OPEN);
+        entity.setSlaDeadline(slaDeadline(Instant.now(), request.categoryId()));
 
         HelpdeskTicketEntity saved = helpdeskTicketRepository.save(entity);
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "HELPDESK_TICKET_CREATED", ENTITY_HELPDESK_TICKET, saved.getId(), null);
@@ -165,6 +187,13 @@ public class HelpdeskService {
         HelpdeskTicketEntity entity = helpdeskTicketRepository.findByIdAndDeletedFalse(id)
                 .orElseThrow(() -> new ResourceNotFoundException(HELPDESK_TICKET_NOT_FOUND_PREFIX + id));
 
+        if (!Objects.equals(entity.getCategoryId(), request.categoryId())) {
+            Instant slaStart = entity.getCreatedAt() != null ? entity.getCreatedAt() : Instant.now();
+            entity.setSlaDeadline(slaDeadline(slaStart, request.categoryId()));
+            if (entity.getSlaDeadline() == null || entity.getSlaDeadline().isAfter(Instant.now())) {
+                entity.setSlaBreach(false);
+            }
+        }
         entity.setCategoryId(request.categoryId());
         entity.setUnitId(request.unitId());
         entity.setSubject(request.subject());
@@ -264,47 +293,33 @@ public class HelpdeskService {
 
     @Transactional(readOnly = true)
     public HelpdeskTicketStatsResponse statistics() {
-        List<HelpdeskTicketEntity> tickets = helpdeskTicketRepository.findAllByDeletedFalse();
-
-        long openTickets = tickets.stream().filter(t -> t.getStatus() == TicketStatus.OPEN).count();
-        long inProgressTickets = tickets.stream().filter(t -> t.getStatus() == TicketStatus.IN_PROGRESS).count();
-        long resolvedTickets = tickets.stream().filter(t -> t.getStatus() == TicketStatus.RESOLVED).count();
-        long closedTickets = tickets.stream().filter(t -> t.getStatus() == TicketStatus.CLOSED).count();
-
-        Map<UUID, Integer> categorySlaHours = new HashMap<>();
-        Instant now = Instant.now();
-        long overdueTickets = tickets.stream()
-                .filter(ticket -> ticket.getStatus() == TicketStatus.OPEN || ticket.getStatus() == TicketStatus.IN_PROGRESS)
-                .filter(ticket -> ticket.getCreatedAt() != null && ticket.getCategoryId() != null)
-                .filter(ticket -> {
-                    Integer slaHours = categorySlaHours.computeIfAbsent(ticket.getCategoryId(), categoryId ->
-                            helpdeskCategoryRepository.findByIdAndDeletedFalse(categoryId)
-                                    .map(HelpdeskCategoryEntity::getSlaHours)
-                                    .orElse(null));
-                    if (slaHours == null || slaHours <= 0) {
-                        return false;
-                    }
-                    return ticket.getCreatedAt().plusSeconds((long) slaHours * 3600L).isBefore(now);
-                })
-                .count();
-
-        BigDecimal averageRating = tickets.stream()
-                .map(HelpdeskTicketEntity::getSatisfactionRating)
-                .filter(rating -> rating != null)
-                .map(BigDecimal::valueOf)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        long ratedCount = tickets.stream().filter(t -> t.getSatisfactionRating() != null).count();
+        Map<TicketStatus, Long> countByStatus = new EnumMap<>(TicketStatus.class);
+        long totalTickets = 0;
+        long overdueTickets = 0;
+        long ratedCount = 0;
+        long ratingSum = 0;
+        for (Object[] row : helpdeskTicketRepository.summarizeByStatus()) {
+            TicketStatus status = (TicketStatus) row[0];
+            long count = ((Number) row[1]).longValue();
+            countByStatus.put(status, count);
+            totalTickets += count;
+            if (SLA_TRACKED_STATUSES.contains(status)) {
+                overdueTickets += ((Number) row[2]).longValue();
+            }
+            ratedCount += ((Number) row[3]).longValue();
+            ratingSum += ((Number) row[4]).longValue();
+        }
+
         BigDecimal rating = ratedCount == 0
                 ? BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP)
-                : averageRating.divide(BigDecimal.valueOf(ratedCount), 2, RoundingMode.HALF_UP);
+                : BigDecimal.valueOf(ratingSum).divide(BigDecimal.valueOf(ratedCount), 2, RoundingMode.HALF_UP);
 
         return new HelpdeskTicketStatsResponse(
-                tickets.size(),
-                openTickets,
-                inProgressTickets,
-                resolvedTickets,
-                closedTickets,
+                totalTickets,
+                countByStatus.getOrDefault(TicketStatus.OPEN, 0L),
+                countByStatus.getOrDefault(TicketStatus.IN_PROGRESS, 0L),
+                countByStatus.getOrDefault(TicketStatus.RESOLVED, 0L),
+                countByStatus.getOrDefault(TicketStatus.CLOSED, 0L),
                 overdueTickets,
                 rating);
     }
@@ -389,6 +404,27 @@ public class HelpdeskService {
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "HELPDESK_TICKET_ATTACHMENT_DELETED", "helpdesk_ticket_attachment", attachment.getId(), null);
     }
 
+    private Instant slaDeadline(Instant start, UUID categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        return helpdeskCategoryRepository.findByIdAndDeletedFalse(categoryId)
+                .map(HelpdeskCategoryEntity::getSlaHours)
+                .filter(slaHours -> slaHours > 0)
+                .map(slaHours -> start.plusSeconds(slaHours.longValue() * 3600L))
+                .orElse(null);
+    }
+
+    /**
+     * Moves the deadlines of the category's open tickets in one statement. A breach flag survives only if the new
+     * deadline has also passed; tickets that are newly overdue are flagged and escalated by SlaBreachSweeper.
+     */
+    private void rescheduleCategoryTickets(UUID tenantId, UUID categoryId, Integer slaHours) {
+        Integer hours = slaHours != null && slaHours > 0 ? slaHours : null;
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(RESCHEDULE_CATEGORY_SQL, hours, hours, now, now, tenantId, categoryId);
+    }
+
     private HelpdeskCategoryResponse toCategoryResponse(HelpdeskCategoryEntity entity) {
         return new HelpdeskCategoryResponse(
                 entity.getId(),
@@ -24,14 +24,28 @@ public interface MarketplaceListingRepository extends JpaRepository<MarketplaceL
 
     Page<MarketplaceListingEntity> findAllByListingTypeIgnoreCaseAndDeletedFalse(String listingType, Pageable pageable);
 
-    @Query("""
-            SELECT l
-            FROM MarketplaceListingEntity l
-            WHERE l.deleted = false
-              AND (
-                   LOWER(l.title) LIKE LOWER(CONCAT('%', :query, '%'))
-                OR LOWER(COALESCE(l.description, '')) LIKE LOWER(CONCAT('%', :query, '%'))
-              )
-            """)
-    Page<MarketplaceListingEntity> searchByText(@Param("query") String query, Pageable pageable);
+    /**
+     * Word-prefix match on title and description through the {@code search_vector} GIN index, best ranked first.
+     * Native, so the tenant is filtered explicitly.
+     */
+    @Query(value = """
+            SELECT l.*
+            FROM marketplace_listing l
+            WHERE l.tenant_id = :tenantId
+              AND l.deleted = FALSE
+              AND l.search_vector @@ to_tsquery('simple', :tsQuery)
+            ORDER BY ts_rank(l.search_vector, to_tsquery('simple', :tsQuery)) DESC, l.created_at DESC, l.id
+            """,
+            countQuery = """
+            SELECT count(*)
+            FROM marketplace_listing l
+            WHERE l.tenant_id = :tenantId
+              AND l.deleted = FALSE
+              AND l.search_vector @@ to_tsquery('simple', :tsQuery)
+            """,
+            nativeQuery = true)
+    Page<MarketplaceListingEntity> searchByText(
+            @Param("tenantId") UUID tenantId,
+            @Param("tsQuery") String tsQuery,
+            Pageable pageable);
 }
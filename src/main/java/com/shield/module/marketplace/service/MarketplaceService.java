@@ -4,6 +4,7 @@ import com.shield.audit.service.AuditLogService;
 import com.shield.common.dto.PagedResponse;
 import com.shield.common.exception.ResourceNotFoundException;
 import com.shield.common.exception.UnauthorizedException;
+import com.shield.common.search.SearchTerms;
 import com.shield.module.marketplace.dto.CarpoolListingCreateRequest;
 import com.shield.module.marketplace.dto.CarpoolListingResponse;
 import com.shield.module.marketplace.dto.CarpoolListingUpdateRequest;
@@ -25,7 +26,10 @@ import com.shield.module.marketplace.repository.MarketplaceCategoryRepository;
 import com.shield.module.marketplace.repository.MarketplaceInquiryRepository;
 import com.shield.module.marketplace.repository.MarketplaceListingRepository;
 import com.shield.security.model.ShieldPrincipal;
+import com.shield.tenant.context.TenantContext;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -169,7 +173,14 @@ public class MarketplaceService {
 
     @Transactional(readOnly = true)
     public PagedResponse<MarketplaceListingResponse> searchListings(String query, Pageable pageable) {
-        return PagedResponse.from(marketplaceListingRepository.searchByText(query, pageable).map(this::toListingResponse));
+        Optional<String> tsQuery = SearchTerms.prefixTsQuery(query == null ? "" : query);
+        if (tsQuery.isEmpty()) {
+            return PagedResponse.from(marketplaceListingRepository.findAllByDeletedFalse(pageable).map(this::toListingResponse));
+        }
+        return PagedResponse.from(marketplaceListingRepository.searchByText(
+                TenantContext.getRequiredTenantId(),
+                tsQuery.get(),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())).map(this::toListingResponse));
     }
 
     public MarketplaceListingResponse updateListing(UUID id, MarketplaceListingUpdateRequest request, ShieldPrincipal principal) {
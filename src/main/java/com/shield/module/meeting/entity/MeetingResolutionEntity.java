@@ -35,12 +35,13 @@ public class MeetingResolutionEntity extends TenantAwareEntity {
     @Column(nullable = false, length = 50)
     private MeetingResolutionStatus status;
 
-    @Column(name = "votes_for", nullable = false)
+    // Vote counters are only moved by MeetingService's atomic increments, never by an entity flush.
+    @Column(name = "votes_for", nullable = false, updatable = false)
     private Integer votesFor = 0;
 
-    @Column(name = "votes_against", nullable = false)
+    @Column(name = "votes_against", nullable = false, updatable = false)
     private Integer votesAgainst = 0;
 
-    @Column(name = "votes_abstain", nullable = false)
+    @Column(name = "votes_abstain", nullable = false, updatable = false)
     private Integer votesAbstain = 0;
 }
@@ -8,6 +8,8 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MeetingAttendeeRepository extends JpaRepository<MeetingAttendeeEntity, UUID> {
 
@@ -19,5 +21,14 @@ public interface MeetingAttendeeRepository extends JpaRepository<MeetingAttendee
 
     long countByMeetingIdAndRsvpStatusAndDeletedFalse(UUID meetingId, MeetingAttendeeRsvpStatus rsvpStatus);
 
+    @Query("""
+            select a.rsvpStatus, a.attendanceStatus, count(a)
+            from MeetingAttendeeEntity a
+            where a.deleted = false
+              and a.meetingId = :meetingId
+            group by a.rsvpStatus, a.attendanceStatus
+            """)
+    List<Object[]> summarizeByMeetingId(@Param("meetingId") UUID meetingId);
+
     Page<MeetingAttendeeEntity> findAllByUserIdAndDeletedFalse(UUID userId, Pageable pageable);
 }
@@ -1,7 +1,6 @@
 package com.shield.module.meeting.repository;
 
 import com.shield.module.meeting.entity.MeetingVoteEntity;
-import com.shield.module.meeting.entity.MeetingVoteChoice;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,6 +13,4 @@ public interface MeetingVoteRepository extends JpaRepository<MeetingVoteEntity,
     Optional<MeetingVoteEntity> findFirstByResolutionIdAndUserIdAndDeletedFalse(UUID resolutionId, UUID userId);
 
     List<MeetingVoteEntity> findAllByResolutionIdAndDeletedFalseOrderByCreatedAtAsc(UUID resolutionId);
-
-    long countByResolutionIdAndVoteAndDeletedFalse(UUID resolutionId, MeetingVoteChoice vote);
 }
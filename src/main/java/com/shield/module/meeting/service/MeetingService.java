@@ -2,6 +2,7 @@ package com.shield.module.meeting.service;
 
 import com.shield.audit.service.AuditLogService;
 import com.shield.common.dto.PagedResponse;
+import com.shield.common.exception.BadRequestException;
 import com.shield.common.exception.ResourceNotFoundException;
 import com.shield.common.util.SecurityUtils;
 import com.shield.module.meeting.dto.MeetingActionItemCreateRequest;
@@ -60,7 +61,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -75,6 +79,14 @@ public class MeetingService {
     private static final String ENTITY_MEETING_MINUTES_RECORD = "meeting_minutes_record";
     private static final String ENTITY_MEETING_RESOLUTION = "meeting_resolution";
     private static final String ENTITY_MEETING_ACTION_ITEM = "meeting_action_item";
+    private static final String ONE_VOTE_CONSTRAINT = "uk_meeting_vote_resolution_user";
+
+    private static final String MOVE_VOTE_COUNTERS_SQL = """
+            UPDATE meeting_resolution
+            SET votes_for = votes_for + ?, votes_against = votes_against + ?, votes_abstain = votes_abstain + ?
+            WHERE id = ? AND tenant_id = ?
+            RETURNING votes_for, votes_against, votes_abstain
+            """;
 
     private final MeetingRepository meetingRepository;
     private final MeetingAgendaRepository meetingAgendaRepository;
@@ -85,6 +97,7 @@ public class MeetingService {
     private final MeetingActionItemRepository meetingActionItemRepository;
     private final MeetingReminderRepository meetingReminderRepository;
     private final AuditLogService auditLogService;
+    private final JdbcTemplate jdbcTemplate;
 
     public MeetingResponse create(MeetingCreateRequest request) {
         ShieldPrincipal principal = SecurityUtils.getCurrentPrincipal();
@@ -325,15 +338,30 @@ public class MeetingService {
     @Transactional(readOnly = true)
     public MeetingAttendanceReportResponse attendanceReport(UUID meetingId) {
         getMeetingEntity(meetingId);
-        List<MeetingAttendeeEntity> attendees = meetingAttendeeRepository.findAllByMeetingIdAndDeletedFalseOrderByCreatedAtAsc(meetingId);
-
-        long accepted = attendees.stream().filter(a -> a.getRsvpStatus() == MeetingAttendeeRsvpStatus.ACCEPTED).count();
-        long declined = attendees.stream().filter(a -> a.getRsvpStatus() == MeetingAttendeeRsvpStatus.DECLINED).count();
-        long pending = attendees.stream().filter(a -> a.getRsvpStatus() == MeetingAttendeeRsvpStatus.PENDING).count();
-        long present = attendees.stream().filter(a -> a.getAttendanceStatus() == MeetingAttendeeAttendanceStatus.PRESENT).count();
-        long absent = attendees.stream().filter(a -> a.getAttendanceStatus() == MeetingAttendeeAttendanceStatus.ABSENT).count();
+        long total = 0;
+        long accepted = 0;
+        long declined = 0;
+        long pending = 0;
+        long present = 0;
+        long absent = 0;
+        for (Object[] row : meetingAttendeeRepository.summarizeByMeetingId(meetingId)) {
+            long count = ((Number) row[2]).longValue();
+            total += count;
+            if (row[0] == MeetingAttendeeRsvpStatus.ACCEPTED) {
+                accepted += count;
+            } else if (row[0] == MeetingAttendeeRsvpStatus.DECLINED) {
+                declined += count;
+            } else if (row[0] == MeetingAttendeeRsvpStatus.PENDING) {
+                pending += count;
+            }
+            if (row[1] == MeetingAttendeeAttendanceStatus.PRESENT) {
+                present += count;
+            } else if (row[1] == MeetingAttendeeAttendanceStatus.ABSENT) {
+                absent += count;
+            }
+        }
 
-        return new MeetingAttendanceReportResponse(meetingId, attendees.size(), accepted, declined, pending, present, absent);
+        return new MeetingAttendanceReportResponse(meetingId, total, accepted, declined, pending, present, absent);
     }
 
     @Transactional(readOnly = true)
@@ -508,19 +536,35 @@ public class MeetingService {
 
         MeetingVoteEntity vote = meetingVoteRepository
                 .findFirstByResolutionIdAndUserIdAndDeletedFalse(resolutionId, voterId)
-                .orElseGet(() -> {
-                    MeetingVoteEntity created = new MeetingVoteEntity();
-                    created.setTenantId(resolution.getTenantId());
-                    created.setResolutionId(resolutionId);
-                    created.setUserId(voterId);
-                    return created;
-                });
-
-        vote.setVote(request.vote());
-        vote.setVotedAt(Instant.now());
+                .orElse(null);
+        MeetingVoteChoice previousChoice = vote == null ? null : vote.getVote();
+
+        MeetingVoteEntity savedVote;
+        if (vote == null) {
+            vote = new MeetingVoteEntity();
+            vote.setTenantId(resolution.getTenantId());
+            vote.setResolutionId(resolutionId);
+            vote.setUserId(voterId);
+            vote.setVote(request.vote());
+            vote.setVotedAt(Instant.now());
+            try {
+                // ONE_VOTE_CONSTRAINT keeps one live vote per member, even for concurrent first votes.
+                savedVote = meetingVoteRepository.saveAndFlush(vote);
+            } catch (DataIntegrityViolationException ex) {
+                if (!isDuplicateVote(ex)) {
+                    throw ex;
+                }
+                throw new BadRequestException("A vote for this member is already being recorded; retry to change it");
+            }
+        } else {
+            vote.setVote(request.vote());
+            vote.setVotedAt(Instant.now());
+            savedVote = meetingVoteRepository.save(vote);
+        }
 
-        MeetingVoteEntity savedVote = meetingVoteRepository.save(vote);
-        refreshResolutionVoteCounts(resolution);
+        if (previousChoice != request.vote()) {
+            moveVoteCounters(resolution, previousChoice, request.vote());
+        }
         auditLogService.logEvent(savedVote.getTenantId(), principal.userId(), "MEETING_RESOLUTION_VOTED", "meeting_vote", savedVote.getId(), null);
         return toMeetingVoteResponse(savedVote);
     }
@@ -537,9 +581,9 @@ public class MeetingService {
     @Transactional(readOnly = true)
     public MeetingVoteResultResponse voteResults(UUID resolutionId) {
         MeetingResolutionEntity resolution = getMeetingResolutionEntity(resolutionId);
-        int votesFor = intCount(meetingVoteRepository.countByResolutionIdAndVoteAndDeletedFalse(resolutionId, MeetingVoteChoice.FOR));
-        int votesAgainst = intCount(meetingVoteRepository.countByResolutionIdAndVoteAndDeletedFalse(resolutionId, MeetingVoteChoice.AGAINST));
-        int votesAbstain = intCount(meetingVoteRepository.countByResolutionIdAndVoteAndDeletedFalse(resolutionId, MeetingVoteChoice.ABSTAIN));
+        int votesFor = resolution.getVotesFor();
+        int votesAgainst = resolution.getVotesAgainst();
+        int votesAbstain = resolution.getVotesAbstain();
         int totalVotes = votesFor + votesAgainst + votesAbstain;
         return new MeetingVoteResultResponse(resolutionId, votesFor, votesAgainst, votesAbstain, totalVotes, resolution.getStatus());
     }
@@ -673,20 +717,38 @@ public class MeetingService {
                 .orElseThrow(() -> new ResourceNotFoundException("Meeting action item not found: " + id));
     }
 
-    private void refreshResolutionVoteCounts(MeetingResolutionEntity resolution) {
-        int votesFor = intCount(meetingVoteRepository.countByResolutionIdAndVoteAndDeletedFalse(resolution.getId(), MeetingVoteChoice.FOR));
-        int votesAgainst = intCount(meetingVoteRepository.countByResolutionIdAndVoteAndDeletedFalse(resolution.getId(), MeetingVoteChoice.AGAINST));
-        int votesAbstain = intCount(meetingVoteRepository.countByResolutionIdAndVoteAndDeletedFalse(resolution.getId(), MeetingVoteChoice.ABSTAIN));
-
-        resolution.setVotesFor(votesFor);
-        resolution.setVotesAgainst(votesAgainst);
-        resolution.setVotesAbstain(votesAbstain);
-
-        meetingResolutionRepository.save(resolution);
-    }
-
-    private int intCount(long value) {
-        return (int) Math.min(value, Integer.MAX_VALUE);
+    /**
+     * Moves one vote between the resolution's counters in a single atomic update, so concurrent votes never lose
+     * increments, and refreshes the managed entity from the returned values.
+     */
+    private void moveVoteCounters(MeetingResolutionEntity resolution, MeetingVoteChoice from, MeetingVoteChoice to) {
+        int[] delta = new int[MeetingVoteChoice.values().length];
+        if (from != null) {
+            delta[from.ordinal()]--;
+        }
+        delta[to.ordinal()]++;
+
+        jdbcTemplate.query(
+                MOVE_VOTE_COUNTERS_SQL,
+                (RowCallbackHandler) rs -> {
+                    resolution.setVotesFor(rs.getInt("votes_for"));
+                    resolution.setVotesAgainst(rs.getInt("votes_against"));
+                    resolution.setVotesAbstain(rs.getInt("votes_abstain"));
+                },
+                delta[MeetingVoteChoice.FOR.ordinal()],
+                delta[MeetingVoteChoice.AGAINST.ordinal()],
+                delta[MeetingVoteChoice.ABSTAIN.ordinal()],
+                resolution.getId(),
+                resolution.getTenantId());
+    }
+
+    private boolean isDuplicateVote(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(ONE_VOTE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private String generateMeetingNumber() {
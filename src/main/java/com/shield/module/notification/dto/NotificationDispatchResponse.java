@@ -4,6 +4,7 @@ public record NotificationDispatchResponse(
         int total,
         int sent,
         int failed,
-        int skipped
+        int skipped,
+        int queued
 ) {
 }
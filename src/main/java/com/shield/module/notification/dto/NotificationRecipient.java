@@ -0,0 +1,10 @@
+package com.shield.module.notification.dto;
+
+import java.util.UUID;
+
+public record NotificationRecipient(
+        UUID userId,
+        String email,
+        boolean emailEnabled
+) {
+}
@@ -4,5 +4,6 @@ public enum NotificationDeliveryStatus {
     PENDING,
     SENT,
     FAILED,
-    SKIPPED
+    SKIPPED,
+    DEAD_LETTER
 }
@@ -10,10 +10,12 @@ import java.time.Instant;
 import java.util.UUID;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @Setter
 @Entity
+@DynamicUpdate
 @Table(name = "notification_email_log")
 public class NotificationEmailLogEntity extends TenantAwareEntity {
 
@@ -47,4 +49,10 @@ public class NotificationEmailLogEntity extends TenantAwareEntity {
 
     @Column(name = "read_at")
     private Instant readAt;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
 }
@@ -1,6 +1,8 @@
 package com.shield.module.notification.repository;
 
 import com.shield.module.notification.entity.NotificationPreferenceEntity;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,4 +10,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface NotificationPreferenceRepository extends JpaRepository<NotificationPreferenceEntity, UUID> {
 
     Optional<NotificationPreferenceEntity> findByTenantIdAndUserIdAndDeletedFalse(UUID tenantId, UUID userId);
+
+    List<NotificationPreferenceEntity> findAllByTenantIdAndUserIdInAndDeletedFalse(UUID tenantId, Collection<UUID> userIds);
 }
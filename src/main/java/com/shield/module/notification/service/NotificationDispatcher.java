@@ -0,0 +1,371 @@
+package com.shield.module.notification.service;
+
+import com.shield.module.notification.entity.NotificationDeliveryStatus;
+import com.shield.module.notification.entity.NotificationEmailLogEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Delivers queued {@code notification_email_log} rows. Workers claim due rows with {@code SKIP LOCKED},
+ * so any number of workers and nodes can drain the queue, send each claim over a single SMTP connection
+ * and write every outcome back in one batch. A claim leases its rows for {@code lease-ms}; rows of a
+ * worker that dies mid-batch simply become due again.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    static final String EMAIL_PROVIDER = "email";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String ENQUEUE_SQL = """
+            INSERT INTO notification_email_log (
+                id, tenant_id, user_id, recipient_email, subject, body, status, error_message,
+                source_type, source_id, next_attempt_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String CLAIM_SQL = """
+            UPDATE notification_email_log
+            SET attempt_count = attempt_count + 1, next_attempt_at = ?, updated_at = ?
+            WHERE id IN (
+                SELECT id FROM notification_email_log
+                WHERE status = 'PENDING' AND deleted = FALSE AND next_attempt_at <= ?
+                ORDER BY next_attempt_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING id, recipient_email, subject, body, attempt_count, created_at
+            """;
+
+    private static final String OUTCOME_SQL = """
+            UPDATE notification_email_log
+            SET status = ?, error_message = ?, next_attempt_at = ?, sent_at = ?, updated_at = ?
+            WHERE id = ?
+            """;
+
+    private final JavaMailSender mailSender;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean emailEnabled;
+    private final String fromAddress;
+    private final int workers;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final NotificationRateLimiter rateLimiter;
+    private final Timer deliveryTimer;
+    private final Counter retryCounter;
+    private final Counter deadLetterCounter;
+    private final Object signal = new Object();
+    private final List<Thread> workerThreads = new ArrayList<>();
+
+    private volatile boolean running;
+    private boolean signalled;
+
+    public NotificationDispatcher(
+            JavaMailSender mailSender,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${shield.notification.email.enabled:false}") boolean emailEnabled,
+            @Value("${shield.notification.email.from}") String fromAddress,
+            @Value("${shield.notification.email.dispatch.workers:2}") int workers,
+            @Value("${shield.notification.email.dispatch.batch-size:50}") int batchSize,
+            @Value("${shield.notification.email.dispatch.poll-interval-ms:5000}") long pollIntervalMs,
+            @Value("${shield.notification.email.dispatch.rate-per-second:10}") double ratePerSecond,
+            @Value("${shield.notification.email.dispatch.max-attempts:5}") int maxAttempts,
+            @Value("${shield.notification.email.dispatch.initial-backoff-ms:30000}") long initialBackoffMs,
+            @Value("${shield.notification.email.dispatch.max-backoff-ms:3600000}") long maxBackoffMs,
+            @Value("${shield.notification.email.dispatch.lease-ms:300000}") long leaseMs) {
+        this.mailSender = mailSender;
+        this.jdbcTemplate = jdbcTemplate;
+        this.emailEnabled = emailEnabled;
+        this.fromAddress = fromAddress;
+        this.workers = Math.max(1, workers);
+        this.batchSize = Math.max(1, batchSize);
+        this.pollIntervalMs = Math.max(100L, pollIntervalMs);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = Duration.ofMillis(Math.max(1L, initialBackoffMs));
+        this.maxBackoff = Duration.ofMillis(Math.max(initialBackoffMs, maxBackoffMs));
+        this.lease = Duration.ofMillis(Math.max(1000L, leaseMs));
+        this.rateLimiter = new NotificationRateLimiter(ratePerSecond);
+
+        this.deliveryTimer = Timer.builder("shield.notification.delivery")
+                .description("Time from enqueue until the provider accepted the message")
+                .tag("provider", EMAIL_PROVIDER)
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("shield.notification.retries")
+                .tag("provider", EMAIL_PROVIDER)
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("shield.notification.dead.letter")
+                .description("Notifications abandoned after exhausting their delivery attempts")
+                .tag("provider", EMAIL_PROVIDER)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!emailEnabled) {
+            return;
+        }
+        running = true;
+        for (int i = 1; i <= workers; i++) {
+            Thread worker = new Thread(this::workerLoop, "notification-dispatch-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workerThreads.add(worker);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        wakeUp();
+        for (Thread worker : workerThreads) {
+            try {
+                worker.join(pollIntervalMs + 5000L);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Inserts the rows with one JDBC batch in the caller's transaction, outside the persistence context so
+     * large audiences do not pile up managed entities. Workers are woken after commit when any row is
+     * {@code PENDING}.
+     */
+    public void enqueue(List<NotificationEmailLogEntity> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        boolean queued = false;
+        for (NotificationEmailLogEntity entry : logs) {
+            if (entry.getId() == null) {
+                entry.setId(UUID.randomUUID());
+            }
+            entry.setCreatedAt(now);
+            queued |= entry.getStatus() == NotificationDeliveryStatus.PENDING;
+        }
+        jdbcTemplate.batchUpdate(ENQUEUE_SQL, logs, logs.size(), this::bindLog);
+
+        if (queued) {
+            wakeUpAfterCommit();
+        }
+    }
+
+    private void wakeUpAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+            return;
+        }
+        wakeUp();
+    }
+
+    void wakeUp() {
+        synchronized (signal) {
+            signalled = true;
+            signal.notifyAll();
+        }
+    }
+
+    int deliverDueBatch() throws InterruptedException {
+        Instant now = Instant.now();
+        List<OutboxMessage> batch = jdbcTemplate.query(
+                CLAIM_SQL,
+                this::mapOutboxMessage,
+                Timestamp.from(now.plus(lease)),
+                Timestamp.from(now),
+                Timestamp.from(now),
+                batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        rateLimiter.acquire(batch.size());
+        deliver(batch);
+        return batch.size();
+    }
+
+    void deliver(List<OutboxMessage> batch) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            messages[i] = toMailMessage(batch.get(i));
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        Exception batchFailure = null;
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException ex) {
+            failures = ex.getFailedMessages();
+            if (failures.isEmpty()) {
+                batchFailure = ex;
+            }
+        } catch (MailException ex) {
+            batchFailure = ex;
+        }
+
+        Instant completedAt = Instant.now();
+        List<Object[]> outcomes = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxMessage message = batch.get(i);
+            Exception failure = batchFailure != null ? batchFailure : failures.get(messages[i]);
+            outcomes.add(failure == null
+                    ? sentOutcome(message, completedAt)
+                    : failedOutcome(message, failure, completedAt));
+        }
+        jdbcTemplate.batchUpdate(OUTCOME_SQL, outcomes);
+    }
+
+    private void workerLoop() {
+        while (running) {
+            int delivered;
+            try {
+                delivered = deliverDueBatch();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.warn("Notification dispatch cycle failed", ex);
+                delivered = 0;
+            }
+
+            if (delivered == 0) {
+                try {
+                    awaitSignal();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void awaitSignal() throws InterruptedException {
+        synchronized (signal) {
+            if (!signalled && running) {
+                signal.wait(pollIntervalMs);
+            }
+            signalled = false;
+        }
+    }
+
+    private Object[] sentOutcome(OutboxMessage message, Instant sentAt) {
+        deliveryTimer.record(Duration.between(message.createdAt(), sentAt));
+        return new Object[] {
+                NotificationDeliveryStatus.SENT.name(), null, null, Timestamp.from(sentAt), Timestamp.from(sentAt), message.id()
+        };
+    }
+
+    private Object[] failedOutcome(OutboxMessage message, Exception failure, Instant failedAt) {
+        String error = truncate(failure.getMessage() == null ? failure.getClass().getSimpleName() : failure.getMessage());
+        if (message.attemptCount() >= maxAttempts) {
+            deadLetterCounter.increment();
+            log.warn("Notification {} moved to dead letter after {} attempts: {}", message.id(), message.attemptCount(), error);
+            return new Object[] {
+                    NotificationDeliveryStatus.DEAD_LETTER.name(), error, null, null, Timestamp.from(failedAt), message.id()
+            };
+        }
+        retryCounter.increment();
+        Instant retryAt = failedAt.plus(backoff(message.attemptCount()));
+        return new Object[] {
+                NotificationDeliveryStatus.PENDING.name(), error, Timestamp.from(retryAt), null, Timestamp.from(failedAt), message.id()
+        };
+    }
+
+    Duration backoff(int attempt) {
+        int shift = Math.min(Math.max(0, attempt - 1), 30);
+        Duration delay = initialBackoff.multipliedBy(1L << shift);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void bindLog(PreparedStatement ps, NotificationEmailLogEntity entry) throws SQLException {
+        setUuid(ps, 1, entry.getId());
+        setUuid(ps, 2, entry.getTenantId());
+        setUuid(ps, 3, entry.getUserId());
+        ps.setString(4, entry.getRecipientEmail());
+        ps.setString(5, entry.getSubject());
+        ps.setString(6, entry.getBody());
+        ps.setString(7, entry.getStatus().name());
+        ps.setString(8, entry.getErrorMessage());
+        ps.setString(9, entry.getSourceType());
+        setUuid(ps, 10, entry.getSourceId());
+        ps.setTimestamp(11, entry.getNextAttemptAt() == null ? null : Timestamp.from(entry.getNextAttemptAt()));
+        ps.setTimestamp(12, Timestamp.from(entry.getCreatedAt()));
+    }
+
+    private void setUuid(PreparedStatement ps, int index, UUID value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.OTHER);
+        } else {
+            ps.setObject(index, value, Types.OTHER);
+        }
+    }
+
+    private SimpleMailMessage toMailMessage(OutboxMessage message) {
+        SimpleMailMessage mail = new SimpleMailMessage();
+        mail.setFrom(fromAddress);
+        mail.setTo(message.recipientEmail());
+        mail.setSubject(message.subject());
+        mail.setText(message.body());
+        return mail;
+    }
+
+    private OutboxMessage mapOutboxMessage(ResultSet rs, int rowNum) throws SQLException {
+        return new OutboxMessage(
+                rs.getObject("id", UUID.class),
+                rs.getString("recipient_email"),
+                rs.getString("subject"),
+                rs.getString("body"),
+                rs.getInt("attempt_count"),
+                rs.getTimestamp("created_at").toInstant());
+    }
+
+    private String truncate(String value) {
+        return value.length() <= MAX_ERROR_LENGTH ? value : value.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    record OutboxMessage(
+            UUID id,
+            String recipientEmail,
+            String subject,
+            String body,
+            int attemptCount,
+            Instant createdAt) {
+    }
+}
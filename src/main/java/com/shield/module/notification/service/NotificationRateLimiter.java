@@ -0,0 +1,36 @@
+package com.shield.module.notification.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Smooth token bucket shared by every worker delivering through one provider. Callers reserve
+ * permits for a whole batch and sleep until the reservation falls due, so sustained throughput stays
+ * within the provider quota.
+ */
+final class NotificationRateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeNanos;
+
+    NotificationRateLimiter(double permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0L;
+        this.nextFreeNanos = System.nanoTime();
+    }
+
+    void acquire(int permits) throws InterruptedException {
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    synchronized long reserve(int permits) {
+        if (intervalNanos == 0L || permits <= 0) {
+            return 0L;
+        }
+        long now = System.nanoTime();
+        long start = Math.max(now, nextFreeNanos);
+        nextFreeNanos = start + intervalNanos * permits;
+        return start - now;
+    }
+}
@@ -0,0 +1,14 @@
+package com.shield.module.notification.service;
+
+import com.shield.module.notification.dto.NotificationRecipient;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Supplies dispatch recipients in bounded chunks so callers never materialise a whole audience at once.
+ */
+@FunctionalInterface
+public interface NotificationRecipientSource {
+
+    void forEachChunk(Consumer<List<NotificationRecipient>> consumer);
+}
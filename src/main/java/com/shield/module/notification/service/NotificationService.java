@@ -3,10 +3,14 @@ package com.shield.module.notification.service;
 import com.shield.audit.service.AuditLogService;
 import com.shield.common.dto.PagedResponse;
 import com.shield.common.exception.ResourceNotFoundException;
+import com.shield.common.stream.StreamTopic;
+import com.shield.common.stream.TenantEventStream;
 import com.shield.module.notification.dto.NotificationBulkSendRequest;
 import com.shield.module.notification.dto.NotificationDispatchResponse;
 import com.shield.module.notification.dto.NotificationLogResponse;
 import com.shield.module.notification.dto.NotificationPreferenceResponse;
+import com.shield.module.notification.dto.NotificationReceivedResponse;
+import com.shield.module.notification.dto.NotificationRecipient;
 import com.shield.module.notification.dto.NotificationPreferenceUpdateRequest;
 import com.shield.module.notification.dto.NotificationSendRequest;
 import com.shield.module.notification.entity.NotificationDeliveryStatus;
@@ -14,17 +18,20 @@ import com.shield.module.notification.entity.NotificationEmailLogEntity;
 import com.shield.module.notification.entity.NotificationPreferenceEntity;
 import com.shield.module.notification.repository.NotificationEmailLogRepository;
 import com.shield.module.notification.repository.NotificationPreferenceRepository;
-import com.shield.module.user.entity.UserEntity;
-import com.shield.module.user.entity.UserStatus;
 import com.shield.module.user.repository.UserRepository;
 import com.shield.security.model.ShieldPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,41 +41,51 @@ public class NotificationService {
 
     private static final String EMAIL_DISABLED_REASON = "Email notifications are disabled";
     private static final String EMAIL_PREFERENCE_DISABLED_REASON = "Recipient disabled email notifications";
+    private static final String NOTIFICATION_RECEIVED_EVENT = "NOTIFICATION_RECEIVED";
+    private static final String UNREAD_COUNT_CHANGED_EVENT = "UNREAD_COUNT_CHANGED";
 
-    private final JavaMailSender mailSender;
     private final NotificationEmailLogRepository notificationEmailLogRepository;
     private final NotificationPreferenceRepository notificationPreferenceRepository;
     private final UserRepository userRepository;
     private final AuditLogService auditLogService;
+    private final NotificationDispatcher notificationDispatcher;
+    private final TenantEventStream tenantEventStream;
+    private final Timer enqueueTimer;
     private final boolean emailEnabled;
-    private final String fromAddress;
 
     public NotificationService(
-            JavaMailSender mailSender,
             NotificationEmailLogRepository notificationEmailLogRepository,
             NotificationPreferenceRepository notificationPreferenceRepository,
             UserRepository userRepository,
             AuditLogService auditLogService,
-            @Value("${shield.notification.email.enabled:false}") boolean emailEnabled,
-            @Value("${shield.notification.email.from}") String fromAddress) {
-        this.mailSender = mailSender;
+            NotificationDispatcher notificationDispatcher,
+            TenantEventStream tenantEventStream,
+            MeterRegistry meterRegistry,
+            @Value("${shield.notification.email.enabled:false}") boolean emailEnabled) {
         this.notificationEmailLogRepository = notificationEmailLogRepository;
         this.notificationPreferenceRepository = notificationPreferenceRepository;
         this.userRepository = userRepository;
         this.auditLogService = auditLogService;
+        this.notificationDispatcher = notificationDispatcher;
+        this.tenantEventStream = tenantEventStream;
+        this.enqueueTimer = Timer.builder("shield.notification.enqueue")
+                .description("Time spent queueing a notification dispatch inside the caller transaction")
+                .tag("provider", NotificationDispatcher.EMAIL_PROVIDER)
+                .register(meterRegistry);
         this.emailEnabled = emailEnabled;
-        this.fromAddress = fromAddress;
     }
 
     public NotificationDispatchResponse sendManual(NotificationSendRequest request, ShieldPrincipal principal) {
-        List<DispatchTarget> targets = request.recipients().stream()
-                .distinct()
-                .map(email -> resolveDispatchTarget(principal.tenantId(), email))
-                .toList();
+        List<NotificationRecipient> recipients = withPreferences(
+                principal.tenantId(),
+                request.recipients().stream()
+                        .distinct()
+                        .map(email -> resolveRecipient(principal.tenantId(), email))
+                        .toList());
 
         NotificationDispatchResponse response = dispatch(
                 principal.tenantId(),
-                targets,
+                consumer -> consumer.accept(recipients),
                 request.subject(),
                 request.body(),
                 "MANUAL",
@@ -90,15 +107,11 @@ public class NotificationService {
             UUID announcementId,
             String subject,
             String body,
-            List<UserEntity> recipients) {
-
-        List<DispatchTarget> targets = recipients.stream()
-                .map(user -> new DispatchTarget(user.getId(), user.getEmail()))
-                .toList();
+            NotificationRecipientSource recipients) {
 
         NotificationDispatchResponse response = dispatch(
                 tenantId,
-                targets,
+                recipients,
                 subject,
                 body,
                 "ANNOUNCEMENT",
@@ -131,11 +144,6 @@ public class NotificationService {
         return toLogResponse(entity);
     }
 
-    @Transactional(readOnly = true)
-    public List<UserEntity> getTenantActiveUsers(UUID tenantId) {
-        return userRepository.findAllByTenantIdAndStatusAndDeletedFalse(tenantId, UserStatus.ACTIVE);
-    }
-
     @Transactional(readOnly = true)
     public NotificationPreferenceResponse getPreference(UUID tenantId, UUID userId) {
         return notificationPreferenceRepository.findByTenantIdAndUserIdAndDeletedFalse(tenantId, userId)
@@ -162,86 +170,95 @@ public class NotificationService {
         return toPreferenceResponse(saved);
     }
 
+    /**
+     * Queues one log row per recipient in the caller's transaction, one JDBC batch per chunk;
+     * {@link NotificationDispatcher} workers deliver them after commit. Opted-out recipients, or every
+     * recipient while email is disabled, are recorded as skipped straight away.
+     */
     private NotificationDispatchResponse dispatch(
             UUID tenantId,
-            List<DispatchTarget> targets,
+            NotificationRecipientSource recipients,
             String subject,
             String body,
             String sourceType,
             UUID sourceId) {
 
-        int sent = 0;
-        int failed = 0;
-        int skipped = 0;
-
-        for (DispatchTarget target : targets) {
-            DispatchStatus dispatchStatus;
-            if (!isEligibleForEmail(tenantId, target.userId())) {
-                dispatchStatus = new DispatchStatus(NotificationDeliveryStatus.SKIPPED, EMAIL_PREFERENCE_DISABLED_REASON, null);
-                skipped++;
-            } else if (!emailEnabled) {
-                dispatchStatus = new DispatchStatus(NotificationDeliveryStatus.SKIPPED, EMAIL_DISABLED_REASON, null);
-                skipped++;
-            } else {
-                try {
-                    SimpleMailMessage message = new SimpleMailMessage();
-                    message.setFrom(fromAddress);
-                    message.setTo(target.email());
-                    message.setSubject(subject);
-                    message.setText(body);
-                    mailSender.send(message);
-
-                    dispatchStatus = new DispatchStatus(NotificationDeliveryStatus.SENT, null, Instant.now());
-                    sent++;
-                } catch (Exception ex) {
-                    dispatchStatus = new DispatchStatus(NotificationDeliveryStatus.FAILED, ex.getMessage(), null);
-                    failed++;
+        long startedAt = System.nanoTime();
+        DispatchTally tally = new DispatchTally();
+        NotificationReceivedResponse received = new NotificationReceivedResponse(sourceType, sourceId, subject);
+        recipients.forEachChunk(chunk -> {
+            Instant now = Instant.now();
+            List<NotificationEmailLogEntity> logs = new ArrayList<>(chunk.size());
+            for (NotificationRecipient recipient : chunk) {
+                NotificationEmailLogEntity log = newLog(tenantId, recipient, subject, body, sourceType, sourceId);
+                if (!recipient.emailEnabled()) {
+                    log.setStatus(NotificationDeliveryStatus.SKIPPED);
+                    log.setErrorMessage(EMAIL_PREFERENCE_DISABLED_REASON);
+                    tally.skipped++;
+                } else if (!emailEnabled) {
+                    log.setStatus(NotificationDeliveryStatus.SKIPPED);
+                    log.setErrorMessage(EMAIL_DISABLED_REASON);
+                    tally.skipped++;
+                } else {
+                    log.setStatus(NotificationDeliveryStatus.PENDING);
+                    log.setNextAttemptAt(now);
+                    tally.queued++;
                 }
+                logs.add(log);
             }
-
-            persistLog(
+            tally.total += chunk.size();
+            notificationDispatcher.enqueue(logs);
+            tenantEventStream.publishToUsersAfterCommit(
                     tenantId,
-                    target,
-                    new DispatchLog(
-                            subject,
-                            body,
-                            dispatchStatus.status(),
-                            dispatchStatus.error(),
-                            sourceType,
-                            sourceId,
-                            dispatchStatus.sentAt()));
-        }
-
-        return new NotificationDispatchResponse(targets.size(), sent, failed, skipped);
+                    chunk.stream().map(NotificationRecipient::userId).toList(),
+                    StreamTopic.NOTIFICATIONS,
+                    NOTIFICATION_RECEIVED_EVENT,
+                    received);
+        });
+
+        enqueueTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return new NotificationDispatchResponse(tally.total, 0, 0, tally.skipped, tally.queued);
     }
 
-    private boolean isEligibleForEmail(UUID tenantId, UUID userId) {
-        if (userId == null) {
-            return true;
+    private List<NotificationRecipient> withPreferences(UUID tenantId, List<NotificationRecipient> recipients) {
+        Set<UUID> userIds = new HashSet<>();
+        recipients.stream().map(NotificationRecipient::userId).filter(Objects::nonNull).forEach(userIds::add);
+        if (userIds.isEmpty()) {
+            return recipients;
         }
 
-        return notificationPreferenceRepository.findByTenantIdAndUserIdAndDeletedFalse(tenantId, userId)
-                .map(NotificationPreferenceEntity::isEmailEnabled)
-                .orElse(true);
+        Set<UUID> optedOut = new HashSet<>();
+        for (NotificationPreferenceEntity preference
+                : notificationPreferenceRepository.findAllByTenantIdAndUserIdInAndDeletedFalse(tenantId, userIds)) {
+            if (!preference.isEmailEnabled()) {
+                optedOut.add(preference.getUserId());
+            }
+        }
+        return recipients.stream()
+                .map(recipient -> new NotificationRecipient(
+                        recipient.userId(),
+                        recipient.email(),
+                        !optedOut.contains(recipient.userId())))
+                .toList();
     }
 
-    private void persistLog(
+    private NotificationEmailLogEntity newLog(
             UUID tenantId,
-            DispatchTarget target,
-            DispatchLog dispatchLog) {
+            NotificationRecipient recipient,
+            String subject,
+            String body,
+            String sourceType,
+            UUID sourceId) {
 
         NotificationEmailLogEntity log = new NotificationEmailLogEntity();
         log.setTenantId(tenantId);
-        log.setUserId(target.userId());
-        log.setRecipientEmail(target.email());
-        log.setSubject(dispatchLog.subject());
-        log.setBody(dispatchLog.body());
-        log.setStatus(dispatchLog.status());
-        log.setErrorMessage(dispatchLog.error());
-        log.setSourceType(dispatchLog.sourceType());
-        log.setSourceId(dispatchLog.sourceId());
-        log.setSentAt(dispatchLog.sentAt());
-        notificationEmailLogRepository.save(log);
+        log.setUserId(recipient.userId());
+        log.setRecipientEmail(recipient.email());
+        log.setSubject(subject);
+        log.setBody(body);
+        log.setSourceType(sourceType);
+        log.setSourceId(sourceId);
+        return log;
     }
 
     private NotificationLogResponse toLogResponse(NotificationEmailLogEntity entity) {
@@ -270,26 +287,16 @@ public class NotificationService {
                 entity.getUpdatedAt());
     }
 
-    private record DispatchTarget(UUID userId, String email) {
-    }
-
-    private record DispatchLog(
-            String subject,
-            String body,
-            NotificationDeliveryStatus status,
-            String error,
-            String sourceType,
-            UUID sourceId,
-            Instant sentAt) {
-    }
-
-    private record DispatchStatus(NotificationDeliveryStatus status, String error, Instant sentAt) {
+    private static final class DispatchTally {
+        private int total;
+        private int skipped;
+        private int queued;
     }
 
-    private DispatchTarget resolveDispatchTarget(UUID tenantId, String recipientEmail) {
+    private NotificationRecipient resolveRecipient(UUID tenantId, String recipientEmail) {
         return userRepository.findByTenantIdAndEmailIgnoreCaseAndDeletedFalse(tenantId, recipientEmail)
-                .map(user -> new DispatchTarget(user.getId(), user.getEmail()))
-                .orElse(new DispatchTarget(null, recipientEmail));
+                .map(user -> new NotificationRecipient(user.getId(), user.getEmail(), true))
+                .orElse(new NotificationRecipient(null, recipientEmail, true));
     }
 
     private boolean isPrivileged(ShieldPrincipal principal) {
@@ -315,6 +322,7 @@ public class NotificationService {
         if (entity.getReadAt() == null) {
             entity.setReadAt(Instant.now());
             notificationEmailLogRepository.save(entity);
+            publishUnreadCount(principal.tenantId(), entity.getUserId());
         }
     }
 
@@ -328,6 +336,9 @@ public class NotificationService {
         Instant now = Instant.now();
         unread.forEach(n -> n.setReadAt(now));
         notificationEmailLogRepository.saveAll(unread);
+        if (!unread.isEmpty()) {
+            publishUnreadCount(principal.tenantId(), principal.userId());
+        }
     }
 
     public long getUnreadCount(ShieldPrincipal principal) {
@@ -342,5 +353,21 @@ public class NotificationService {
 
         entity.setDeleted(true);
         notificationEmailLogRepository.save(entity);
+        if (entity.getReadAt() == null) {
+            publishUnreadCount(principal.tenantId(), entity.getUserId());
+        }
+    }
+
+    /**
+     * Pushes the recipient's new unread count to their open event streams, so clients need not poll
+     * {@code /notifications/unread-count}.
+     */
+    private void publishUnreadCount(UUID tenantId, UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        long unread = notificationEmailLogRepository.countByUserIdAndReadAtIsNullAndDeletedFalse(userId);
+        tenantEventStream.publishToUsersAfterCommit(
+                tenantId, List.of(userId), StreamTopic.NOTIFICATIONS, UNREAD_COUNT_CHANGED_EVENT, unread);
     }
 }
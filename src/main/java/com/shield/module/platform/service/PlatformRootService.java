@@ -13,6 +13,7 @@ import com.shield.module.platform.entity.PlatformRootAccountEntity;
 import com.shield.module.platform.entity.PlatformRootSessionEntity;
 import com.shield.module.platform.repository.PlatformRootAccountRepository;
 import com.shield.module.platform.repository.PlatformRootSessionRepository;
+import com.shield.module.platform.service.RootTokenVersionCache.RootTokenState;
 import com.shield.module.platform.verification.RootContactVerificationService;
 import com.shield.module.tenant.entity.TenantEntity;
 import com.shield.module.tenant.repository.TenantRepository;
@@ -38,6 +39,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
@@ -69,6 +71,7 @@ public class PlatformRootService {
     private final AuditLogService auditLogService;
     private final RootContactVerificationService rootContactVerificationService;
     private final PasswordPolicyService passwordPolicyService;
+    private final RootTokenVersionCache rootTokenVersionCache;
 
     private final SecureRandom secureRandom = new SecureRandom();
 
@@ -103,21 +106,21 @@ public class PlatformRootService {
         resetRootLoginFailureState(rootAccount);
         rootAccount.setLastLoginAt(null);
         platformRootAccountRepository.save(rootAccount);
+        publishRootTokenState(rootAccount);
 
         auditLogService.logEvent(null, rootAccount.getId(), "ROOT_PASSWORD_GENERATED", ENTITY_PLATFORM_ROOT_ACCOUNT, rootAccount.getId(), null);
         return Optional.of(generatedPassword);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean isRootTokenVersionValid(UUID rootAccountId, Long tokenVersion) {
         if (rootAccountId == null || tokenVersion == null) {
             return false;
         }
 
-        return platformRootAccountRepository.findByIdAndDeletedFalse(rootAccountId)
-                .filter(PlatformRootAccountEntity::isActive)
-                .map(account -> safeTokenVersion(account) == tokenVersion)
-                .orElse(false);
+        RootTokenState state = rootTokenVersionCache.get(rootAccountId)
+                .orElseGet(() -> loadRootTokenState(rootAccountId));
+        return state.active() && state.tokenVersion() == tokenVersion;
     }
 
     @Transactional
@@ -152,6 +155,7 @@ public class PlatformRootService {
         resetRootLoginFailureState(rootAccount);
         rootAccount.setLastLoginAt(Instant.now());
         platformRootAccountRepository.save(rootAccount);
+        publishRootTokenState(rootAccount);
 
         long tokenVersion = safeTokenVersion(rootAccount);
         String accessToken = jwtService.generateRootAccessToken(rootAccount.getId(), rootAccount.getLoginId(), tokenVersion);
@@ -261,6 +265,7 @@ public class PlatformRootService {
         rootAccount.setTokenVersion(safeTokenVersion(rootAccount) + 1L);
         resetRootLoginFailureState(rootAccount);
         platformRootAccountRepository.save(rootAccount);
+        publishRootTokenState(rootAccount);
         revokeRootRefreshSessions(rootAccount.getId());
 
         auditLogService.logEvent(
@@ -354,6 +359,20 @@ public class PlatformRootService {
         return rootAccount;
     }
 
+    private RootTokenState loadRootTokenState(UUID rootAccountId) {
+        RootTokenState state = platformRootAccountRepository.findByIdAndDeletedFalse(rootAccountId)
+                .map(account -> new RootTokenState(safeTokenVersion(account), account.isActive()))
+                .orElseGet(() -> new RootTokenState(-1L, false));
+        rootTokenVersionCache.put(rootAccountId, state);
+        return state;
+    }
+
+    private void publishRootTokenState(PlatformRootAccountEntity rootAccount) {
+        rootTokenVersionCache.updateAfterCommit(
+                rootAccount.getId(),
+                new RootTokenState(safeTokenVersion(rootAccount), rootAccount.isActive()));
+    }
+
     private void onRootLoginFailed(PlatformRootAccountEntity rootAccount) {
         int currentAttempts = rootAccount.getFailedLoginAttempts() == null ? 0 : rootAccount.getFailedLoginAttempts();
         int updatedAttempts = currentAttempts + 1;
@@ -0,0 +1,86 @@
+package com.shield.module.platform.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class RootTokenVersionCache {
+
+    private final Map<UUID, CachedState> states = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final Counter hits;
+    private final Counter misses;
+
+    public RootTokenVersionCache(
+            MeterRegistry meterRegistry,
+            @Value("${shield.platform.root.token-version-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(0L, ttlSeconds));
+        this.hits = Counter.builder("shield.root.token.version.cache")
+                .tag("result", "hit")
+                .description("Root token version lookups served from memory")
+                .register(meterRegistry);
+        this.misses = Counter.builder("shield.root.token.version.cache")
+                .tag("result", "miss")
+                .description("Root token version lookups that fell through to the database")
+                .register(meterRegistry);
+    }
+
+    public Optional<RootTokenState> get(UUID rootAccountId) {
+        CachedState cached = states.get(rootAccountId);
+        if (cached == null || System.nanoTime() - cached.loadedAtNanos() >= ttlNanos) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(cached.state());
+    }
+
+    public void put(UUID rootAccountId, RootTokenState state) {
+        if (rootAccountId == null || ttlNanos == 0L) {
+            return;
+        }
+        states.put(rootAccountId, new CachedState(state, System.nanoTime()));
+    }
+
+    public void evict(UUID rootAccountId) {
+        if (rootAccountId != null) {
+            states.remove(rootAccountId);
+        }
+    }
+
+    public void updateAfterCommit(UUID rootAccountId, RootTokenState state) {
+        if (rootAccountId == null) {
+            return;
+        }
+        evict(rootAccountId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(rootAccountId, state);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    put(rootAccountId, state);
+                } else {
+                    evict(rootAccountId);
+                }
+            }
+        });
+    }
+
+    public record RootTokenState(long tokenVersion, boolean active) {
+    }
+
+    private record CachedState(RootTokenState state, long loadedAtNanos) {
+    }
+}
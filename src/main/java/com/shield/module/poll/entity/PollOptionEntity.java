@@ -22,4 +22,8 @@ public class PollOptionEntity extends TenantAwareEntity {
 
     @Column(name = "display_order", nullable = false)
     private int displayOrder;
+
+    // Maintained by PollService's atomic increment; the database default seeds new options.
+    @Column(name = "vote_count", nullable = false, insertable = false, updatable = false)
+    private long voteCount;
 }
@@ -23,7 +23,9 @@ import com.shield.security.model.ShieldPrincipal;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,20 +33,28 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class PollService {
 
+    private static final String ONE_VOTE_CONSTRAINT = "uk_poll_vote_user_poll";
+
+    private static final String INCREMENT_OPTION_SQL =
+            "UPDATE poll_option SET vote_count = vote_count + 1 WHERE id = ? AND tenant_id = ?";
+
     private final PollRepository pollRepository;
     private final PollOptionRepository pollOptionRepository;
     private final PollVoteRepository pollVoteRepository;
     private final AuditLogService auditLogService;
+    private final JdbcTemplate jdbcTemplate;
 
     public PollService(
             PollRepository pollRepository,
             PollOptionRepository pollOptionRepository,
             PollVoteRepository pollVoteRepository,
-            AuditLogService auditLogService) {
+            AuditLogService auditLogService,
+            JdbcTemplate jdbcTemplate) {
         this.pollRepository = pollRepository;
         this.pollOptionRepository = pollOptionRepository;
         this.pollVoteRepository = pollVoteRepository;
         this.auditLogService = auditLogService;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     public PollResponse create(PollCreateRequest request, ShieldPrincipal principal) {
@@ -139,10 +149,6 @@ public class PollService {
         if (poll.getExpiresAt() != null && Instant.now().isAfter(poll.getExpiresAt())) {
             throw new BadRequestException("Poll has expired");
         }
-        if (pollVoteRepository.existsByPollIdAndUserIdAndDeletedFalse(pollId, principal.userId())) {
-            throw new BadRequestException("You have already voted on this poll");
-        }
-
         pollOptionRepository.findByIdAndDeletedFalse(request.optionId())
                 .filter(opt -> opt.getPollId().equals(pollId))
                 .orElseThrow(() -> new BadRequestException("Invalid option for this poll"));
@@ -152,7 +158,17 @@ public class PollService {
         vote.setPollId(pollId);
         vote.setOptionId(request.optionId());
         vote.setUserId(principal.userId());
-        PollVoteEntity saved = pollVoteRepository.save(vote);
+        PollVoteEntity saved;
+        try {
+            // ONE_VOTE_CONSTRAINT is the one-vote-per-member rule; a second vote fails here, even when concurrent.
+            saved = pollVoteRepository.saveAndFlush(vote);
+        } catch (DataIntegrityViolationException ex) {
+            if (!isDuplicateVote(ex)) {
+                throw ex;
+            }
+            throw new BadRequestException("You have already voted on this poll");
+        }
+        jdbcTemplate.update(INCREMENT_OPTION_SQL, request.optionId(), principal.tenantId());
 
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "POLL_VOTED", "poll", pollId, null);
         return new PollVoteResponse(saved.getId(), saved.getPollId(), saved.getOptionId(), saved.getUserId(),
@@ -163,11 +179,10 @@ public class PollService {
     public PollResultsResponse getResults(UUID pollId) {
         PollEntity poll = findPoll(pollId);
         List<PollOptionEntity> options = pollOptionRepository.findAllByPollIdAndDeletedFalse(pollId);
-        List<PollVoteEntity> votes = pollVoteRepository.findAllByPollIdAndDeletedFalse(pollId);
-        long totalVotes = votes.size();
+        long totalVotes = options.stream().mapToLong(PollOptionEntity::getVoteCount).sum();
 
         List<PollOptionResult> results = options.stream().map(option -> {
-            long count = votes.stream().filter(v -> v.getOptionId().equals(option.getId())).count();
+            long count = option.getVoteCount();
             double pct = totalVotes > 0 ? (double) count / totalVotes * 100.0 : 0.0;
             return new PollOptionResult(option.getId(), option.getOptionText(), count, Math.round(pct * 100.0) / 100.0);
         }).toList();
@@ -183,6 +198,15 @@ public class PollService {
                 vote.getCreatedAt());
     }
 
+    private boolean isDuplicateVote(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(ONE_VOTE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private PollEntity findPoll(UUID id) {
         return pollRepository.findByIdAndDeletedFalse(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Poll not found: " + id));
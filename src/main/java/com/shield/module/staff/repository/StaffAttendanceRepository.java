@@ -8,6 +8,8 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface StaffAttendanceRepository extends JpaRepository<StaffAttendanceEntity, UUID> {
 
@@ -26,7 +28,15 @@ public interface StaffAttendanceRepository extends JpaRepository<StaffAttendance
             LocalDate toDate,
             Pageable pageable);
 
-    List<StaffAttendanceEntity> findAllByAttendanceDateBetweenAndDeletedFalse(LocalDate fromDate, LocalDate toDate);
+    @Query("""
+            select a.status, count(a),
+                sum(case when a.checkInTime is not null and a.checkOutTime is null then 1 else 0 end)
+            from StaffAttendanceEntity a
+            where a.deleted = false
+              and a.attendanceDate between :fromDate and :toDate
+            group by a.status
+            """)
+    List<Object[]> summarizeByStatus(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
 
     List<StaffAttendanceEntity> findAllByStaffIdAndAttendanceDateBetweenAndDeletedFalse(
             UUID staffId,
@@ -22,7 +22,9 @@ import com.shield.security.model.ShieldPrincipal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -240,26 +242,27 @@ public class StaffService {
         }
         validateDateRange(effectiveFrom, effectiveTo);
 
-        List<StaffAttendanceEntity> rows = staffAttendanceRepository
-                .findAllByAttendanceDateBetweenAndDeletedFalse(effectiveFrom, effectiveTo);
-
-        long present = rows.stream().filter(r -> r.getStatus() == StaffAttendanceStatus.PRESENT).count();
-        long absent = rows.stream().filter(r -> r.getStatus() == StaffAttendanceStatus.ABSENT).count();
-        long halfDay = rows.stream().filter(r -> r.getStatus() == StaffAttendanceStatus.HALF_DAY).count();
-        long leave = rows.stream().filter(r -> r.getStatus() == StaffAttendanceStatus.LEAVE).count();
-        long openCheckOut = rows.stream()
-                .filter(r -> r.getStatus() == StaffAttendanceStatus.PRESENT)
-                .filter(r -> r.getCheckInTime() != null && r.getCheckOutTime() == null)
-                .count();
+        Map<StaffAttendanceStatus, Long> countByStatus = new EnumMap<>(StaffAttendanceStatus.class);
+        long total = 0;
+        long openCheckOut = 0;
+        for (Object[] row : staffAttendanceRepository.summarizeByStatus(effectiveFrom, effectiveTo)) {
+            StaffAttendanceStatus status = (StaffAttendanceStatus) row[0];
+            long count = ((Number) row[1]).longValue();
+            countByStatus.put(status, count);
+            total += count;
+            if (status == StaffAttendanceStatus.PRESENT) {
+                openCheckOut = ((Number) row[2]).longValue();
+            }
+        }
 
         return new StaffAttendanceSummaryResponse(
                 effectiveFrom,
                 effectiveTo,
-                rows.size(),
-                present,
-                absent,
-                halfDay,
-                leave,
+                total,
+                countByStatus.getOrDefault(StaffAttendanceStatus.PRESENT, 0L),
+                countByStatus.getOrDefault(StaffAttendanceStatus.ABSENT, 0L),
+                countByStatus.getOrDefault(StaffAttendanceStatus.HALF_DAY, 0L),
+                countByStatus.getOrDefault(StaffAttendanceStatus.LEAVE, 0L),
                 openCheckOut);
     }
 
@@ -0,0 +1,36 @@
+package com.shield.module.stream.controller;
+
+import com.shield.common.stream.StreamTopic;
+import com.shield.common.stream.TenantEventStream;
+import com.shield.common.util.SecurityUtils;
+import com.shield.security.model.ShieldPrincipal;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/events")
+@RequiredArgsConstructor
+public class EventStreamController {
+
+    private final TenantEventStream tenantEventStream;
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(@RequestParam(name = "topics", required = false) Set<StreamTopic> topics) {
+        ShieldPrincipal principal = SecurityUtils.getCurrentPrincipal();
+        Set<StreamTopic> subscribed = topics == null || topics.isEmpty()
+                ? EnumSet.allOf(StreamTopic.class)
+                : EnumSet.copyOf(topics);
+        return ResponseEntity.ok()
+                // Reverse proxies must not hold frames back waiting for a fuller buffer.
+                .header("X-Accel-Buffering", "no")
+                .body(tenantEventStream.subscribe(principal, subscribed));
+    }
+}
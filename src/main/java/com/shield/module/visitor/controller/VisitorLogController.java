@@ -2,18 +2,20 @@ package com.shield.module.visitor.controller;
 
 import com.shield.common.dto.ApiResponse;
 import com.shield.common.dto.PagedResponse;
+import com.shield.common.export.CsvExportResponses;
 import com.shield.common.util.SecurityUtils;
+import com.shield.module.visitor.dto.VisitorGateEventBatchRequest;
+import com.shield.module.visitor.dto.VisitorGateEventBatchResponse;
 import com.shield.module.visitor.dto.VisitorLogEntryRequest;
 import com.shield.module.visitor.dto.VisitorLogExitRequest;
 import com.shield.module.visitor.dto.VisitorLogResponse;
+import com.shield.module.visitor.service.VisitorGateEventService;
 import com.shield.module.visitor.service.VisitorService;
 import jakarta.validation.Valid;
 import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/visitor-logs")
@@ -32,10 +35,14 @@ public class VisitorLogController {
     private static final String VISITOR_LOGS_FETCHED = "Visitor logs fetched";
 
     private final VisitorService visitorService;
+    private final VisitorGateEventService visitorGateEventService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<PagedResponse<VisitorLogResponse>>> list(Pageable pageable) {
-        return ResponseEntity.ok(ApiResponse.ok(VISITOR_LOGS_FETCHED, visitorService.listVisitorLogs(pageable)));
+    public ResponseEntity<ApiResponse<PagedResponse<VisitorLogResponse>>> list(
+            Pageable pageable,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(ApiResponse.ok(VISITOR_LOGS_FETCHED, visitorService.listVisitorLogs(pageable, after, includeTotal)));
     }
 
     @GetMapping("/{id}")
@@ -59,6 +66,15 @@ public class VisitorLogController {
                 visitorService.logExit(request, SecurityUtils.getCurrentPrincipal())));
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyRole('ADMIN','COMMITTEE','SECURITY')")
+    public ResponseEntity<ApiResponse<VisitorGateEventBatchResponse>> batch(
+            @Valid @RequestBody VisitorGateEventBatchRequest request) {
+        return ResponseEntity.ok(ApiResponse.ok(
+                "Visitor gate events processed",
+                visitorGateEventService.ingest(request, SecurityUtils.getCurrentPrincipal())));
+    }
+
     @GetMapping("/pass/{passId}")
     public ResponseEntity<ApiResponse<PagedResponse<VisitorLogResponse>>> byPass(
             @PathVariable UUID passId,
@@ -81,13 +97,13 @@ public class VisitorLogController {
 
     @GetMapping("/export")
     @PreAuthorize("hasAnyRole('ADMIN','COMMITTEE','SECURITY')")
-    public ResponseEntity<byte[]> export(
+    public ResponseEntity<StreamingResponseBody> export(
             @RequestParam(value = "from", required = false) Instant from,
-            @RequestParam(value = "to", required = false) Instant to) {
-        String csv = visitorService.exportVisitorLogsCsv(from, to, SecurityUtils.getCurrentPrincipal());
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=visitor-logs.csv")
-                .contentType(MediaType.valueOf("text/csv"))
-                .body(csv.getBytes());
+            @RequestParam(value = "to", required = false) Instant to,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        return CsvExportResponses.attachment(
+                "visitor-logs.csv",
+                gzip,
+                visitorService.exportVisitorLogsCsv(from, to, SecurityUtils.getCurrentPrincipal()));
     }
 }
@@ -0,0 +1,11 @@
+package com.shield.module.visitor.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record VisitorGateEventBatchRequest(
+        @NotEmpty @Size(max = 500) List<@Valid VisitorGateEventRequest> events
+) {
+}
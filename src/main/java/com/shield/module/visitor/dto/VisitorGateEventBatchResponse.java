@@ -0,0 +1,11 @@
+package com.shield.module.visitor.dto;
+
+import java.util.List;
+
+public record VisitorGateEventBatchResponse(
+        int applied,
+        int duplicates,
+        int rejected,
+        List<VisitorGateEventResult> results
+) {
+}
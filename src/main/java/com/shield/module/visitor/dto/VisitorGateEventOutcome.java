@@ -0,0 +1,7 @@
+package com.shield.module.visitor.dto;
+
+public enum VisitorGateEventOutcome {
+    APPLIED,
+    DUPLICATE,
+    REJECTED
+}
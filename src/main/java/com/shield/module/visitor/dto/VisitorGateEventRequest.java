@@ -0,0 +1,18 @@
+package com.shield.module.visitor.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.Instant;
+import java.util.UUID;
+
+public record VisitorGateEventRequest(
+        @NotBlank @Size(max = 100) String idempotencyKey,
+        @NotNull VisitorGateEventType type,
+        @NotNull UUID visitorPassId,
+        @NotNull Instant occurredAt,
+        @Size(max = 50) String gate,
+        UUID securityGuardId,
+        @Size(max = 1000) String faceCaptureUrl
+) {
+}
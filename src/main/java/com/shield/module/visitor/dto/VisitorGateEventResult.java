@@ -0,0 +1,11 @@
+package com.shield.module.visitor.dto;
+
+import java.util.UUID;
+
+public record VisitorGateEventResult(
+        String idempotencyKey,
+        VisitorGateEventOutcome outcome,
+        UUID visitorLogId,
+        String message
+) {
+}
@@ -0,0 +1,6 @@
+package com.shield.module.visitor.dto;
+
+public enum VisitorGateEventType {
+    ENTRY,
+    EXIT
+}
@@ -0,0 +1,13 @@
+package com.shield.module.visitor.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record VisitorMovementResponse(
+        UUID visitorLogId,
+        UUID visitorPassId,
+        VisitorGateEventType type,
+        Instant occurredAt,
+        String gate
+) {
+}
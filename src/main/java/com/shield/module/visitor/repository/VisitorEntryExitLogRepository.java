@@ -8,6 +8,8 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface VisitorEntryExitLogRepository extends JpaRepository<VisitorEntryExitLogEntity, UUID> {
 
@@ -15,6 +17,26 @@ public interface VisitorEntryExitLogRepository extends JpaRepository<VisitorEntr
 
     Page<VisitorEntryExitLogEntity> findAllByDeletedFalse(Pageable pageable);
 
+    List<VisitorEntryExitLogEntity> findAllByTenantIdAndDeletedFalseOrderByCreatedAtDescIdDesc(UUID tenantId, Pageable pageable);
+
+    @Query(value = """
+            SELECT l.*
+            FROM visitor_entry_exit_log l
+            WHERE l.tenant_id = :tenantId
+              AND l.deleted = FALSE
+              AND (l.created_at, l.id) < (:afterCreatedAt, :afterId)
+            ORDER BY l.created_at DESC, l.id DESC
+            LIMIT :limit
+            """,
+            nativeQuery = true)
+    List<VisitorEntryExitLogEntity> findKeysetPageAfter(
+            @Param("tenantId") UUID tenantId,
+            @Param("afterCreatedAt") Instant afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit);
+
+    long countByTenantIdAndDeletedFalse(UUID tenantId);
+
     Page<VisitorEntryExitLogEntity> findAllByVisitorPassIdAndDeletedFalse(UUID visitorPassId, Pageable pageable);
 
     Page<VisitorEntryExitLogEntity> findAllByEntryTimeBetweenAndDeletedFalse(Instant from, Instant to, Pageable pageable);
@@ -22,8 +44,4 @@ public interface VisitorEntryExitLogRepository extends JpaRepository<VisitorEntr
     Page<VisitorEntryExitLogEntity> findAllByExitTimeIsNullAndDeletedFalse(Pageable pageable);
 
     Optional<VisitorEntryExitLogEntity> findFirstByVisitorPassIdAndExitTimeIsNullAndDeletedFalseOrderByEntryTimeDesc(UUID visitorPassId);
-
-    List<VisitorEntryExitLogEntity> findAllByDeletedFalseOrderByEntryTimeDesc();
-
-    List<VisitorEntryExitLogEntity> findAllByEntryTimeBetweenAndDeletedFalseOrderByEntryTimeDesc(Instant from, Instant to);
 }
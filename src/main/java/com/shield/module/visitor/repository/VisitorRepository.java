@@ -17,13 +17,33 @@ public interface VisitorRepository extends JpaRepository<VisitorEntity, UUID> {
 
     Page<VisitorEntity> findAllByPhoneAndDeletedFalse(String phone, Pageable pageable);
 
-    @Query("""
-            select v from VisitorEntity v
-            where v.deleted = false
-              and (
-                    lower(v.visitorName) like lower(concat('%', :query, '%'))
-                    or lower(v.phone) like lower(concat('%', :query, '%'))
-                  )
-            """)
-    Page<VisitorEntity> search(@Param("query") String query, Pageable pageable);
+    /**
+     * Substring match on name or phone served by the trigram indexes; phone-prefix hits rank first, then names by
+     * trigram similarity. Native, so the tenant is filtered explicitly.
+     */
+    @Query(value = """
+            SELECT v.*
+            FROM visitor v
+            WHERE v.tenant_id = :tenantId
+              AND v.deleted = FALSE
+              AND (lower(v.visitor_name) LIKE :contains OR v.phone LIKE :contains)
+            ORDER BY (v.phone LIKE :phonePrefix) DESC,
+                     similarity(lower(v.visitor_name), :query) DESC,
+                     v.created_at DESC,
+                     v.id
+            """,
+            countQuery = """
+            SELECT count(*)
+            FROM visitor v
+            WHERE v.tenant_id = :tenantId
+              AND v.deleted = FALSE
+              AND (lower(v.visitor_name) LIKE :contains OR v.phone LIKE :contains)
+            """,
+            nativeQuery = true)
+    Page<VisitorEntity> search(
+            @Param("tenantId") UUID tenantId,
+            @Param("query") String query,
+            @Param("contains") String contains,
+            @Param("phonePrefix") String phonePrefix,
+            Pageable pageable);
 }
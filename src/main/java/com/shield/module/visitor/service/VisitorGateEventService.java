@@ -0,0 +1,418 @@
+package com.shield.module.visitor.service;
+
+import com.shield.common.cache.TenantCacheGenerations;
+import com.shield.common.event.DomainEvent;
+import com.shield.common.event.DomainEventPublisher;
+import com.shield.common.exception.BadRequestException;
+import com.shield.common.stream.StreamTopic;
+import com.shield.common.stream.TenantEventStream;
+import com.shield.module.visitor.dto.VisitorGateEventBatchRequest;
+import com.shield.module.visitor.dto.VisitorGateEventBatchResponse;
+import com.shield.module.visitor.dto.VisitorGateEventOutcome;
+import com.shield.module.visitor.dto.VisitorGateEventRequest;
+import com.shield.module.visitor.dto.VisitorGateEventResult;
+import com.shield.module.visitor.dto.VisitorGateEventType;
+import com.shield.module.visitor.dto.VisitorMovementResponse;
+import com.shield.module.visitor.entity.VisitorPassStatus;
+import com.shield.security.model.ShieldPrincipal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Applies a guard device's backlog of entry and exit scans in one transaction. Every lookup is one set-based query
+ * for the whole batch, events are replayed in {@code occurredAt} order against that snapshot, and the resulting log
+ * rows, exits and pass status transitions are written with JDBC batches. Applied events are remembered by their
+ * client idempotency key, so a device may resend a batch after a dropped response without double-logging.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class VisitorGateEventService {
+
+    static final Duration MAX_CLOCK_SKEW = Duration.ofMinutes(5);
+
+    private static final String ENTITY_VISITOR_LOG = "visitor_entry_exit_log";
+
+    private static final String PROCESSED_SQL = """
+            SELECT idempotency_key, visitor_log_id
+            FROM visitor_gate_event
+            WHERE tenant_id = ? AND idempotency_key = ANY(?)
+            """;
+
+    private static final String PASS_STATUS_SQL = """
+            SELECT id, status
+            FROM visitor_pass
+            WHERE tenant_id = ? AND id = ANY(?) AND deleted = FALSE
+            ORDER BY id
+            FOR UPDATE
+            """;
+
+    private static final String OPEN_LOG_SQL = """
+            SELECT DISTINCT ON (visitor_pass_id) id, visitor_pass_id
+            FROM visitor_entry_exit_log
+            WHERE tenant_id = ? AND visitor_pass_id = ANY(?) AND exit_time IS NULL AND deleted = FALSE
+            ORDER BY visitor_pass_id, entry_time DESC
+            """;
+
+    private static final String GUARD_SQL = "SELECT id FROM users WHERE tenant_id = ? AND id = ANY(?) AND deleted = FALSE";
+
+    private static final String CLAIM_SQL = """
+            INSERT INTO visitor_gate_event (
+                tenant_id, idempotency_key, event_type, visitor_pass_id, visitor_log_id, occurred_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (tenant_id, idempotency_key) DO NOTHING
+            """;
+
+    private static final String INSERT_LOG_SQL = """
+            INSERT INTO visitor_entry_exit_log (
+                id, tenant_id, visitor_pass_id, entry_time, exit_time, entry_gate, exit_gate,
+                security_guard_entry, security_guard_exit, face_capture_url, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String EXIT_LOG_SQL = """
+            UPDATE visitor_entry_exit_log
+            SET exit_time = ?, exit_gate = ?, security_guard_exit = ?, updated_at = ?, version = version + 1
+            WHERE id = ? AND tenant_id = ? AND exit_time IS NULL
+            """;
+
+    private static final String PASS_TRANSITION_SQL = """
+            UPDATE visitor_pass
+            SET status = ?, updated_at = ?, version = version + 1
+            WHERE id = ? AND tenant_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DomainEventPublisher domainEventPublisher;
+    private final VisitorPassQrIndex visitorPassQrIndex;
+    private final TenantCacheGenerations tenantCacheGenerations;
+    private final TenantEventStream tenantEventStream;
+
+    public VisitorGateEventBatchResponse ingest(VisitorGateEventBatchRequest request, ShieldPrincipal principal) {
+        UUID tenantId = principal.tenantId();
+        List<VisitorGateEventRequest> events = request.events();
+        VisitorGateEventResult[] results = new VisitorGateEventResult[events.size()];
+
+        Map<String, Integer> firstByKey = new HashMap<>();
+        Map<Integer, Integer> repeats = new LinkedHashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            Integer first = firstByKey.putIfAbsent(events.get(i).idempotencyKey(), i);
+            if (first != null) {
+                repeats.put(i, first);
+            }
+        }
+        loadProcessed(tenantId, firstByKey.keySet()).forEach((key, logId) -> {
+            int index = firstByKey.get(key);
+            results[index] = result(events.get(index), VisitorGateEventOutcome.DUPLICATE, logId, "Already applied");
+        });
+
+        List<Integer> pending = new ArrayList<>();
+        Set<UUID> passIds = new HashSet<>();
+        Set<UUID> guardIds = new HashSet<>();
+        for (int i = 0; i < events.size(); i++) {
+            if (results[i] == null && !repeats.containsKey(i)) {
+                pending.add(i);
+                passIds.add(events.get(i).visitorPassId());
+                if (events.get(i).securityGuardId() != null) {
+                    guardIds.add(events.get(i).securityGuardId());
+                }
+            }
+        }
+        pending.sort(Comparator.comparing((Integer i) -> events.get(i).occurredAt()).thenComparing(i -> i));
+
+        Map<UUID, VisitorPassStatus> passStatuses = loadPassStatuses(tenantId, passIds);
+        Map<UUID, GateLog> openLogs = loadOpenLogs(tenantId, passIds);
+        Set<UUID> knownGuards = loadGuards(tenantId, guardIds);
+
+        Instant now = Instant.now();
+        Instant latestAccepted = now.plus(MAX_CLOCK_SKEW);
+        List<GateLog> newLogs = new ArrayList<>();
+        List<GateLog> closedLogs = new ArrayList<>();
+        Map<UUID, VisitorPassStatus> transitions = new LinkedHashMap<>();
+        List<Applied> applied = new ArrayList<>();
+
+        for (int index : pending) {
+            VisitorGateEventRequest event = events.get(index);
+            VisitorPassStatus status = passStatuses.get(event.visitorPassId());
+            String rejection = status == null ? "Visitor pass not found: " + event.visitorPassId()
+                    : event.occurredAt().isAfter(latestAccepted) ? "occurredAt is in the future"
+                    : event.securityGuardId() != null && !knownGuards.contains(event.securityGuardId()) ? "Security guard not found"
+                    : null;
+            if (rejection != null) {
+                results[index] = result(event, VisitorGateEventOutcome.REJECTED, null, rejection);
+                continue;
+            }
+
+            UUID guardId = event.securityGuardId() != null ? event.securityGuardId() : principal.userId();
+            GateLog log;
+            VisitorPassStatus next = status;
+            if (event.type() == VisitorGateEventType.ENTRY) {
+                log = GateLog.entry(event, guardId);
+                newLogs.add(log);
+                openLogs.put(event.visitorPassId(), log);
+                if (status == VisitorPassStatus.PENDING || status == VisitorPassStatus.APPROVED) {
+                    next = VisitorPassStatus.ACTIVE;
+                }
+            } else {
+                log = openLogs.remove(event.visitorPassId());
+                if (log == null) {
+                    results[index] = result(event, VisitorGateEventOutcome.REJECTED, null,
+                            "Open visitor log not found for pass: " + event.visitorPassId());
+                    continue;
+                }
+                log.exit(event, guardId);
+                if (log.persisted) {
+                    closedLogs.add(log);
+                }
+                if (status == VisitorPassStatus.ACTIVE || status == VisitorPassStatus.APPROVED) {
+                    next = VisitorPassStatus.USED;
+                }
+            }
+            if (next != status) {
+                passStatuses.put(event.visitorPassId(), next);
+                transitions.put(event.visitorPassId(), next);
+            }
+            applied.add(new Applied(index, log.id));
+            results[index] = result(event, VisitorGateEventOutcome.APPLIED, log.id, null);
+        }
+        // A repeated key shares the first copy's outcome, so a retry of a rejected event is not reported as applied.
+        repeats.forEach((index, first) -> results[index] = repeatResult(events.get(index), results[first]));
+
+        insertLogs(tenantId, newLogs, now);
+        closeLogs(tenantId, closedLogs, now);
+        transitionPasses(tenantId, transitions, now);
+        claim(tenantId, events, applied, now);
+        visitorPassQrIndex.evictAfterCommit(transitions.keySet());
+        if (!applied.isEmpty()) {
+            // JDBC writes bypass TenantCacheInvalidationListener, so cached visitor reports are retired here.
+            tenantCacheGenerations.invalidateAfterCommit(tenantId);
+            tenantEventStream.publishAfterCommit(tenantId, StreamTopic.VISITORS, VisitorService.VISITOR_MOVEMENTS_EVENT, applied.stream()
+                    .map(entry -> {
+                        VisitorGateEventRequest event = events.get(entry.index());
+                        return new VisitorMovementResponse(entry.logId(), event.visitorPassId(), event.type(), event.occurredAt(), event.gate());
+                    })
+                    .toList());
+        }
+        domainEventPublisher.publishAll(applied.stream()
+                .map(entry -> DomainEvent.of(
+                        tenantId,
+                        principal.userId(),
+                        events.get(entry.index()).type() == VisitorGateEventType.ENTRY ? "VISITOR_ENTRY_LOGGED" : "VISITOR_EXIT_LOGGED",
+                        ENTITY_VISITOR_LOG,
+                        entry.logId(),
+                        null))
+                .toList());
+
+        int duplicates = 0;
+        int rejected = 0;
+        for (VisitorGateEventResult result : results) {
+            if (result.outcome() == VisitorGateEventOutcome.DUPLICATE) {
+                duplicates++;
+            } else if (result.outcome() == VisitorGateEventOutcome.REJECTED) {
+                rejected++;
+            }
+        }
+        return new VisitorGateEventBatchResponse(applied.size(), duplicates, rejected, List.of(results));
+    }
+
+    private Map<String, UUID> loadProcessed(UUID tenantId, Collection<String> keys) {
+        Map<String, UUID> processed = new HashMap<>();
+        queryAny(PROCESSED_SQL, tenantId, "varchar", keys,
+                rs -> processed.put(rs.getString("idempotency_key"), rs.getObject("visitor_log_id", UUID.class)));
+        return processed;
+    }
+
+    private Map<UUID, VisitorPassStatus> loadPassStatuses(UUID tenantId, Collection<UUID> passIds) {
+        Map<UUID, VisitorPassStatus> statuses = new HashMap<>();
+        queryAny(PASS_STATUS_SQL, tenantId, "uuid", passIds,
+                rs -> statuses.put(rs.getObject("id", UUID.class), VisitorPassStatus.valueOf(rs.getString("status"))));
+        return statuses;
+    }
+
+    private Map<UUID, GateLog> loadOpenLogs(UUID tenantId, Collection<UUID> passIds) {
+        Map<UUID, GateLog> openLogs = new HashMap<>();
+        queryAny(OPEN_LOG_SQL, tenantId, "uuid", passIds,
+                rs -> openLogs.put(rs.getObject("visitor_pass_id", UUID.class), GateLog.persisted(rs.getObject("id", UUID.class))));
+        return openLogs;
+    }
+
+    private Set<UUID> loadGuards(UUID tenantId, Collection<UUID> guardIds) {
+        Set<UUID> guards = new HashSet<>();
+        queryAny(GUARD_SQL, tenantId, "uuid", guardIds, rs -> guards.add(rs.getObject("id", UUID.class)));
+        return guards;
+    }
+
+    private void claim(UUID tenantId, List<VisitorGateEventRequest> events, List<Applied> applied, Instant now) {
+        if (applied.isEmpty()) {
+            return;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(CLAIM_SQL, applied, applied.size(), (ps, entry) -> {
+            VisitorGateEventRequest event = events.get(entry.index());
+            setUuid(ps, 1, tenantId);
+            ps.setString(2, event.idempotencyKey());
+            ps.setString(3, event.type().name());
+            setUuid(ps, 4, event.visitorPassId());
+            setUuid(ps, 5, entry.logId());
+            ps.setTimestamp(6, Timestamp.from(event.occurredAt()));
+            ps.setTimestamp(7, Timestamp.from(now));
+        });
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    // Another request applied the same key after our lookup; rolling back lets the retry report it.
+                    throw new BadRequestException("Gate events were submitted concurrently; retry the batch");
+                }
+            }
+        }
+    }
+
+    private void insertLogs(UUID tenantId, List<GateLog> logs, Instant now) {
+        if (logs.isEmpty()) {
+            return;
+        }
+        Timestamp writtenAt = Timestamp.from(now);
+        jdbcTemplate.batchUpdate(INSERT_LOG_SQL, logs, logs.size(), (ps, log) -> {
+            setUuid(ps, 1, log.id);
+            setUuid(ps, 2, tenantId);
+            setUuid(ps, 3, log.visitorPassId);
+            ps.setTimestamp(4, Timestamp.from(log.entryTime));
+            ps.setTimestamp(5, log.exitTime == null ? null : Timestamp.from(log.exitTime));
+            ps.setString(6, log.entryGate);
+            ps.setString(7, log.exitGate);
+            setUuid(ps, 8, log.securityGuardEntry);
+            setUuid(ps, 9, log.securityGuardExit);
+            ps.setString(10, log.faceCaptureUrl);
+            ps.setTimestamp(11, writtenAt);
+            ps.setTimestamp(12, writtenAt);
+        });
+    }
+
+    private void closeLogs(UUID tenantId, List<GateLog> logs, Instant now) {
+        if (logs.isEmpty()) {
+            return;
+        }
+        Timestamp writtenAt = Timestamp.from(now);
+        jdbcTemplate.batchUpdate(EXIT_LOG_SQL, logs, logs.size(), (ps, log) -> {
+            ps.setTimestamp(1, Timestamp.from(log.exitTime));
+            ps.setString(2, log.exitGate);
+            setUuid(ps, 3, log.securityGuardExit);
+            ps.setTimestamp(4, writtenAt);
+            setUuid(ps, 5, log.id);
+            setUuid(ps, 6, tenantId);
+        });
+    }
+
+    private void transitionPasses(UUID tenantId, Map<UUID, VisitorPassStatus> transitions, Instant now) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+        Timestamp writtenAt = Timestamp.from(now);
+        List<Map.Entry<UUID, VisitorPassStatus>> rows = new ArrayList<>(transitions.entrySet());
+        jdbcTemplate.batchUpdate(PASS_TRANSITION_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.getValue().name());
+            ps.setTimestamp(2, writtenAt);
+            setUuid(ps, 3, row.getKey());
+            setUuid(ps, 4, tenantId);
+        });
+    }
+
+    private void queryAny(String sql, UUID tenantId, String arrayType, Collection<?> values, RowCallbackHandler handler) {
+        if (values.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            setUuid(ps, 1, tenantId);
+            ps.setArray(2, connection.createArrayOf(arrayType, values.toArray()));
+            return ps;
+        }, handler);
+    }
+
+    private static VisitorGateEventResult result(
+            VisitorGateEventRequest event,
+            VisitorGateEventOutcome outcome,
+            UUID visitorLogId,
+            String message) {
+        return new VisitorGateEventResult(event.idempotencyKey(), outcome, visitorLogId, message);
+    }
+
+    private static VisitorGateEventResult repeatResult(VisitorGateEventRequest event, VisitorGateEventResult first) {
+        if (first.outcome() == VisitorGateEventOutcome.APPLIED) {
+            return result(event, VisitorGateEventOutcome.DUPLICATE, first.visitorLogId(), "Repeated within this batch");
+        }
+        return result(event, first.outcome(), first.visitorLogId(), first.message());
+    }
+
+    private static void setUuid(PreparedStatement ps, int index, UUID value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.OTHER);
+        } else {
+            ps.setObject(index, value, Types.OTHER);
+        }
+    }
+
+    private record Applied(int index, UUID logId) {
+    }
+
+    /**
+     * A visitor log as it will look after the batch: either created by an entry in this batch, or an already stored
+     * open log that an exit in this batch closes.
+     */
+    private static final class GateLog {
+
+        private final UUID id;
+        private final boolean persisted;
+        private UUID visitorPassId;
+        private Instant entryTime;
+        private String entryGate;
+        private UUID securityGuardEntry;
+        private String faceCaptureUrl;
+        private Instant exitTime;
+        private String exitGate;
+        private UUID securityGuardExit;
+
+        private GateLog(UUID id, boolean persisted) {
+            this.id = id;
+            this.persisted = persisted;
+        }
+
+        private static GateLog persisted(UUID id) {
+            return new GateLog(id, true);
+        }
+
+        private static GateLog entry(VisitorGateEventRequest event, UUID guardId) {
+            GateLog log = new GateLog(UUID.randomUUID(), false);
+            log.visitorPassId = event.visitorPassId();
+            log.entryTime = event.occurredAt();
+            log.entryGate = event.gate();
+            log.securityGuardEntry = guardId;
+            log.faceCaptureUrl = event.faceCaptureUrl();
+            return log;
+        }
+
+        private void exit(VisitorGateEventRequest event, UUID guardId) {
+            exitTime = event.occurredAt();
+            exitGate = event.gate();
+            securityGuardExit = guardId;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.shield.module.visitor.service;
+
+import com.shield.common.cache.TenantQrIndex;
+import com.shield.module.visitor.dto.VisitorPassResponse;
+import com.shield.module.visitor.entity.VisitorPassStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gate index of approved and active visitor passes whose validity has not ended.
+ */
+@Component
+public class VisitorPassQrIndex extends TenantQrIndex<VisitorPassResponse> {
+
+    static final Set<VisitorPassStatus> INDEXED_STATUSES = EnumSet.of(VisitorPassStatus.APPROVED, VisitorPassStatus.ACTIVE);
+
+    private static final String COLUMNS = """
+            SELECT id, tenant_id, pass_number, visitor_id, unit_id, visitor_name, vehicle_number, visit_date,
+                valid_from, valid_to, qr_code, purpose, number_of_persons, approved_by, status, deleted
+            FROM visitor_pass
+            """;
+
+    private static final String LOAD_VALID_SQL = COLUMNS + """
+            WHERE deleted = FALSE AND status IN ('APPROVED', 'ACTIVE') AND valid_to > ? AND qr_code IS NOT NULL
+            """;
+
+    private static final String LOAD_CHANGED_SQL = COLUMNS + "WHERE updated_at > ?";
+
+    private static final String MARK_EXPIRED_SQL = """
+            UPDATE visitor_pass
+            SET status = 'EXPIRED', updated_at = ?, version = version + 1
+            WHERE id = ANY(?) AND deleted = FALSE AND status IN ('APPROVED', 'ACTIVE') AND valid_to <= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VisitorPassQrIndex(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${shield.gate.qr-index.enabled:true}") boolean enabled,
+            @Value("${shield.gate.qr-index.tick-ms:1000}") long tickMs,
+            @Value("${shield.gate.qr-index.wheel-size:512}") int wheelSize,
+            @Value("${shield.gate.qr-index.sync-interval-ms:5000}") long syncIntervalMs) {
+        super("visitor_pass", meterRegistry, enabled, Duration.ofMillis(tickMs), wheelSize, Duration.ofMillis(syncIntervalMs));
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void refreshAfterCommit(VisitorPassResponse pass, boolean deleted) {
+        applyAfterCommit(pass.id(), entry(pass, deleted, Instant.now()));
+    }
+
+    /**
+     * Drops passes whose status was changed outside JPA; the next sync re-indexes those that are still valid.
+     */
+    public void evictAfterCommit(Collection<UUID> passIds) {
+        passIds.forEach(passId -> applyAfterCommit(passId, null));
+    }
+
+    @Override
+    protected void loadValid(Instant now, Consumer<Entry<VisitorPassResponse>> sink) {
+        jdbcTemplate.query(LOAD_VALID_SQL, rs -> {
+            Entry<VisitorPassResponse> entry = entry(map(rs), false, now);
+            if (entry != null) {
+                sink.accept(entry);
+            }
+        }, Timestamp.from(now));
+    }
+
+    @Override
+    protected void loadChangedSince(
+            Instant since,
+            Instant now,
+            Consumer<Entry<VisitorPassResponse>> upserts,
+            Consumer<UUID> removals) {
+        jdbcTemplate.query(LOAD_CHANGED_SQL, rs -> {
+            VisitorPassResponse pass = map(rs);
+            Entry<VisitorPassResponse> entry = entry(pass, rs.getBoolean("deleted"), now);
+            if (entry != null) {
+                upserts.accept(entry);
+            } else {
+                removals.accept(pass.id());
+            }
+        }, Timestamp.from(since));
+    }
+
+    @Override
+    protected void markExpired(List<UUID> ids, Instant now) {
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(MARK_EXPIRED_SQL);
+            ps.setTimestamp(1, Timestamp.from(now));
+            ps.setArray(2, connection.createArrayOf("uuid", ids.toArray()));
+            ps.setTimestamp(3, Timestamp.from(now));
+            return ps;
+        });
+    }
+
+    private static Entry<VisitorPassResponse> entry(VisitorPassResponse pass, boolean deleted, Instant now) {
+        boolean valid = !deleted
+                && pass.qrCode() != null
+                && INDEXED_STATUSES.contains(pass.status())
+                && pass.validTo() != null
+                && pass.validTo().isAfter(now);
+        return valid ? new Entry<>(pass.id(), pass.tenantId(), pass.qrCode(), pass.validTo(), pass) : null;
+    }
+
+    private static VisitorPassResponse map(ResultSet rs) throws SQLException {
+        Date visitDate = rs.getDate("visit_date");
+        return new VisitorPassResponse(
+                rs.getObject("id", UUID.class),
+                rs.getObject("tenant_id", UUID.class),
+                rs.getString("pass_number"),
+                rs.getObject("visitor_id", UUID.class),
+                rs.getObject("unit_id", UUID.class),
+                rs.getString("visitor_name"),
+                rs.getString("vehicle_number"),
+                visitDate == null ? null : visitDate.toLocalDate(),
+                rs.getTimestamp("valid_from").toInstant(),
+                rs.getTimestamp("valid_to").toInstant(),
+                rs.getString("qr_code"),
+                rs.getString("purpose"),
+                rs.getInt("number_of_persons"),
+                rs.getObject("approved_by", UUID.class),
+                VisitorPassStatus.valueOf(rs.getString("status")));
+    }
+}
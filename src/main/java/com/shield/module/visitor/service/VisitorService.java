@@ -1,9 +1,16 @@
 package com.shield.module.visitor.service;
 
 import com.shield.audit.service.AuditLogService;
+import com.shield.common.dto.KeysetCursor;
 import com.shield.common.dto.PagedResponse;
+import com.shield.common.event.DomainEvent;
+import com.shield.common.event.DomainEventPublisher;
 import com.shield.common.exception.BadRequestException;
 import com.shield.common.exception.ResourceNotFoundException;
+import com.shield.common.export.CsvStreamExporter;
+import com.shield.common.search.SearchTerms;
+import com.shield.common.stream.StreamTopic;
+import com.shield.common.stream.TenantEventStream;
 import com.shield.common.util.SecurityUtils;
 import com.shield.module.visitor.dto.BlacklistCheckResponse;
 import com.shield.module.visitor.dto.BlacklistCreateRequest;
@@ -17,9 +24,11 @@ import com.shield.module.visitor.dto.DomesticHelpCreateRequest;
 import com.shield.module.visitor.dto.DomesticHelpUnitMappingResponse;
 import com.shield.module.visitor.dto.DomesticHelpUpdateRequest;
 import com.shield.module.visitor.dto.VisitorCreateRequest;
+import com.shield.module.visitor.dto.VisitorGateEventType;
 import com.shield.module.visitor.dto.VisitorLogEntryRequest;
 import com.shield.module.visitor.dto.VisitorLogExitRequest;
 import com.shield.module.visitor.dto.VisitorLogResponse;
+import com.shield.module.visitor.dto.VisitorMovementResponse;
 import com.shield.module.visitor.dto.VisitorPassCreateRequest;
 import com.shield.module.visitor.dto.VisitorPassPreApproveRequest;
 import com.shield.module.visitor.dto.VisitorPassResponse;
@@ -42,22 +51,29 @@ import com.shield.module.visitor.repository.VisitorEntryExitLogRepository;
 import com.shield.module.visitor.repository.VisitorPassRepository;
 import com.shield.module.visitor.repository.VisitorRepository;
 import com.shield.security.model.ShieldPrincipal;
+import com.shield.tenant.context.TenantContext;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class VisitorService {
 
+    static final String VISITOR_MOVEMENTS_EVENT = "VISITOR_MOVEMENTS";
+
     private static final String ENTITY_VISITOR_PASS = "visitor_pass";
     private static final String ENTITY_VISITOR = "visitor";
     private static final String ENTITY_DOMESTIC_HELP_REGISTRY = "domestic_help_registry";
@@ -71,6 +87,10 @@ public class VisitorService {
     private final BlacklistRepository blacklistRepository;
     private final DeliveryLogRepository deliveryLogRepository;
     private final AuditLogService auditLogService;
+    private final DomainEventPublisher domainEventPublisher;
+    private final CsvStreamExporter csvStreamExporter;
+    private final VisitorPassQrIndex visitorPassQrIndex;
+    private final TenantEventStream tenantEventStream;
 
     // Legacy endpoints compatibility: /api/v1/visitors/pass/*
     public VisitorPassResponse createPass(VisitorPassCreateRequest request) {
@@ -94,7 +114,7 @@ public class VisitorService {
 
     public VisitorPassResponse createPass(VisitorPassCreateRequest request, ShieldPrincipal principal) {
         VisitorPassEntity pass = buildPassFromCreateRequest(request, principal.tenantId(), VisitorPassStatus.PENDING, null);
-        VisitorPassEntity saved = visitorPassRepository.save(pass);
+        VisitorPassEntity saved = savePass(pass);
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "VISITOR_PASS_CREATED", ENTITY_VISITOR_PASS, saved.getId(), null);
         return toPassResponse(saved);
     }
@@ -113,7 +133,7 @@ public class VisitorService {
 
         UUID approvedBy = request.approvedBy() != null ? request.approvedBy() : principal.userId();
         VisitorPassEntity pass = buildPassFromCreateRequest(createRequest, principal.tenantId(), VisitorPassStatus.ACTIVE, approvedBy);
-        VisitorPassEntity saved = visitorPassRepository.save(pass);
+        VisitorPassEntity saved = savePass(pass);
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "VISITOR_PASS_PREAPPROVED", ENTITY_VISITOR_PASS, saved.getId(), null);
         return toPassResponse(saved);
     }
@@ -143,7 +163,7 @@ public class VisitorService {
             }
         }
 
-        VisitorPassEntity saved = visitorPassRepository.save(pass);
+        VisitorPassEntity saved = savePass(pass);
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "VISITOR_PASS_UPDATED", ENTITY_VISITOR_PASS, saved.getId(), null);
         return toPassResponse(saved);
     }
@@ -151,7 +171,7 @@ public class VisitorService {
     public void deletePass(UUID id, ShieldPrincipal principal) {
         VisitorPassEntity pass = getPassEntity(id);
         pass.setDeleted(true);
-        visitorPassRepository.save(pass);
+        savePass(pass);
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "VISITOR_PASS_DELETED", ENTITY_VISITOR_PASS, pass.getId(), null);
     }
 
@@ -179,13 +199,20 @@ public class VisitorService {
                 .map(this::toPassResponse));
     }
 
+    @Transactional(readOnly = true)
     public VisitorPassResponse verifyPassByQrCode(String qrCode) {
+        Optional<VisitorPassResponse> indexed = TenantContext.getTenantId()
+                .flatMap(tenantId -> visitorPassQrIndex.find(tenantId, qrCode));
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+
         VisitorPassEntity pass = visitorPassRepository.findByQrCodeAndDeletedFalse(qrCode)
                 .orElseThrow(() -> new ResourceNotFoundException("Visitor pass not found for QR: " + qrCode));
 
+        // The stored status is moved to EXPIRED by the QR index expiry sweep, not by this read.
         if (pass.getValidTo() != null && pass.getValidTo().isBefore(Instant.now()) && pass.getStatus() != VisitorPassStatus.EXPIRED) {
-            pass.setStatus(VisitorPassStatus.EXPIRED);
-            visitorPassRepository.save(pass);
+            return toPassResponse(pass, VisitorPassStatus.EXPIRED);
         }
 
         return toPassResponse(pass);
@@ -206,10 +233,13 @@ public class VisitorService {
 
         if (pass.getStatus() == VisitorPassStatus.PENDING || pass.getStatus() == VisitorPassStatus.APPROVED) {
             pass.setStatus(VisitorPassStatus.ACTIVE);
-            visitorPassRepository.save(pass);
+            savePass(pass);
         }
 
-        auditLogService.logEvent(principal.tenantId(), principal.userId(), "VISITOR_ENTRY_LOGGED", "visitor_entry_exit_log", saved.getId(), null);
+        domainEventPublisher.publish(DomainEvent.of(
+                principal.tenantId(), principal.userId(), "VISITOR_ENTRY_LOGGED", "visitor_entry_exit_log", saved.getId(), null));
+        tenantEventStream.publishAfterCommit(principal.tenantId(), StreamTopic.VISITORS, VISITOR_MOVEMENTS_EVENT, List.of(
+                new VisitorMovementResponse(saved.getId(), saved.getVisitorPassId(), VisitorGateEventType.ENTRY, saved.getEntryTime(), saved.getEntryGate())));
         return toVisitorLogResponse(saved);
     }
 
@@ -227,16 +257,29 @@ public class VisitorService {
         VisitorPassEntity pass = getPassEntity(request.visitorPassId());
         if (pass.getStatus() == VisitorPassStatus.ACTIVE || pass.getStatus() == VisitorPassStatus.APPROVED) {
             pass.setStatus(VisitorPassStatus.USED);
-            visitorPassRepository.save(pass);
+            savePass(pass);
         }
 
-        auditLogService.logEvent(principal.tenantId(), principal.userId(), "VISITOR_EXIT_LOGGED", "visitor_entry_exit_log", saved.getId(), null);
+        domainEventPublisher.publish(DomainEvent.of(
+                principal.tenantId(), principal.userId(), "VISITOR_EXIT_LOGGED", "visitor_entry_exit_log", saved.getId(), null));
+        tenantEventStream.publishAfterCommit(principal.tenantId(), StreamTopic.VISITORS, VISITOR_MOVEMENTS_EVENT, List.of(
+                new VisitorMovementResponse(saved.getId(), saved.getVisitorPassId(), VisitorGateEventType.EXIT, saved.getExitTime(), saved.getExitGate())));
         return toVisitorLogResponse(saved);
     }
 
     @Transactional(readOnly = true)
-    public PagedResponse<VisitorLogResponse> listVisitorLogs(Pageable pageable) {
-        return PagedResponse.from(visitorEntryExitLogRepository.findAllByDeletedFalse(pageable).map(this::toVisitorLogResponse));
+    public PagedResponse<VisitorLogResponse> listVisitorLogs(Pageable pageable, String after, boolean includeTotal) {
+        if (after == null) {
+            return PagedResponse.from(visitorEntryExitLogRepository.findAllByDeletedFalse(pageable).map(this::toVisitorLogResponse));
+        }
+        UUID tenantId = TenantContext.getRequiredTenantId();
+        int size = pageable.getPageSize();
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        List<VisitorEntryExitLogEntity> rows = cursor == null
+                ? visitorEntryExitLogRepository.findAllByTenantIdAndDeletedFalseOrderByCreatedAtDescIdDesc(tenantId, PageRequest.of(0, size + 1))
+                : visitorEntryExitLogRepository.findKeysetPageAfter(tenantId, cursor.createdAt(), cursor.id(), size + 1);
+        Long total = includeTotal ? visitorEntryExitLogRepository.countByTenantIdAndDeletedFalse(tenantId) : null;
+        return PagedResponse.keyset(rows, size, cursor == null, total, this::toVisitorLogResponse);
     }
 
     @Transactional(readOnly = true)
@@ -268,47 +311,33 @@ public class VisitorService {
     }
 
     @Transactional(readOnly = true)
-    public String exportVisitorLogsCsv(Instant from, Instant to, ShieldPrincipal principal) {
-        List<VisitorEntryExitLogEntity> logs;
+    public StreamingResponseBody exportVisitorLogsCsv(Instant from, Instant to, ShieldPrincipal principal) {
+        String header = "id,visitorPassId,entryTime,exitTime,entryGate,exitGate,securityGuardEntry,securityGuardExit,faceCaptureUrl";
+        String select = "SELECT id, visitor_pass_id, entry_time, exit_time, entry_gate, exit_gate,"
+                + " security_guard_entry, security_guard_exit, face_capture_url"
+                + " FROM visitor_entry_exit_log WHERE tenant_id = ? AND deleted = FALSE";
+        StreamingResponseBody body;
         if (from == null && to == null) {
-            logs = visitorEntryExitLogRepository.findAllByDeletedFalseOrderByEntryTimeDesc();
+            body = csvStreamExporter.stream(header, select + " ORDER BY entry_time DESC", principal.tenantId());
         } else if (from != null && to != null) {
             if (from.isAfter(to)) {
                 throw new BadRequestException("from must be before to");
             }
-            logs = visitorEntryExitLogRepository.findAllByEntryTimeBetweenAndDeletedFalseOrderByEntryTimeDesc(from, to);
+            body = csvStreamExporter.stream(
+                    header,
+                    select + " AND entry_time BETWEEN ? AND ? ORDER BY entry_time DESC",
+                    principal.tenantId(),
+                    from,
+                    to);
         } else {
             throw new BadRequestException("Both from and to must be provided for date range export");
         }
 
-        StringBuilder csv = new StringBuilder();
-        csv.append("id,visitorPassId,entryTime,exitTime,entryGate,exitGate,securityGuardEntry,securityGuardExit,faceCaptureUrl\n");
-        for (VisitorEntryExitLogEntity log : logs) {
-            csv.append(csvValue(log.getId()))
-                    .append(',')
-                    .append(csvValue(log.getVisitorPassId()))
-                    .append(',')
-                    .append(csvValue(log.getEntryTime()))
-                    .append(',')
-                    .append(csvValue(log.getExitTime()))
-                    .append(',')
-                    .append(csvValue(log.getEntryGate()))
-                    .append(',')
-                    .append(csvValue(log.getExitGate()))
-                    .append(',')
-                    .append(csvValue(log.getSecurityGuardEntry()))
-                    .append(',')
-                    .append(csvValue(log.getSecurityGuardExit()))
-                    .append(',')
-                    .append(csvValue(log.getFaceCaptureUrl()))
-                    .append('\n');
-        }
-
         String metadata = (from == null || to == null)
                 ? "scope=all"
                 : "scope=range,from=" + from + ",to=" + to;
         auditLogService.logEvent(principal.tenantId(), principal.userId(), "VISITOR_LOGS_EXPORTED", "visitor_entry_exit_log", null, metadata);
-        return csv.toString();
+        return body;
     }
 
     public VisitorResponse createVisitor(VisitorCreateRequest request, ShieldPrincipal principal) {
@@ -365,7 +394,12 @@ public class VisitorService {
         if (safeQuery.isEmpty()) {
             return PagedResponse.from(visitorRepository.findAllByDeletedFalse(pageable).map(this::toVisitorResponse));
         }
-        return PagedResponse.from(visitorRepository.search(safeQuery, pageable).map(this::toVisitorResponse));
+        return PagedResponse.from(visitorRepository.search(
+                TenantContext.getRequiredTenantId(),
+                safeQuery.toLowerCase(Locale.ROOT),
+                SearchTerms.containsPattern(safeQuery),
+                SearchTerms.prefixPattern(safeQuery),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())).map(this::toVisitorResponse));
     }
 
     @Transactional(readOnly = true)
@@ -621,11 +655,17 @@ public class VisitorService {
         if (status == VisitorPassStatus.APPROVED || status == VisitorPassStatus.ACTIVE) {
             pass.setApprovedBy(actedBy);
         }
-        VisitorPassEntity saved = visitorPassRepository.save(pass);
+        VisitorPassEntity saved = savePass(pass);
         auditLogService.logEvent(saved.getTenantId(), actedBy, action, ENTITY_VISITOR_PASS, saved.getId(), null);
         return toPassResponse(saved);
     }
 
+    private VisitorPassEntity savePass(VisitorPassEntity pass) {
+        VisitorPassEntity saved = visitorPassRepository.save(pass);
+        visitorPassQrIndex.refreshAfterCommit(toPassResponse(saved), saved.isDeleted());
+        return saved;
+    }
+
     private VisitorPassEntity getPassEntity(UUID id) {
         return visitorPassRepository.findByIdAndDeletedFalse(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Visitor pass not found: " + id));
@@ -704,6 +744,10 @@ public class VisitorService {
     }
 
     private VisitorPassResponse toPassResponse(VisitorPassEntity pass) {
+        return toPassResponse(pass, pass.getStatus());
+    }
+
+    private VisitorPassResponse toPassResponse(VisitorPassEntity pass, VisitorPassStatus status) {
         return new VisitorPassResponse(
                 pass.getId(),
                 pass.getTenantId(),
@@ -719,7 +763,7 @@ public class VisitorService {
                 pass.getPurpose(),
                 pass.getNumberOfPersons(),
                 pass.getApprovedBy(),
-                pass.getStatus());
+                status);
     }
 
     private VisitorLogResponse toVisitorLogResponse(VisitorEntryExitLogEntity entity) {
@@ -785,12 +829,4 @@ public class VisitorService {
                 entity.getSecurityGuardId(),
                 entity.getPhotoUrl());
     }
-
-    private String csvValue(Object value) {
-        if (value == null) {
-            return "";
-        }
-        String text = String.valueOf(value).replace("\"", "\"\"");
-        return "\"" + text + "\"";
-    }
 }
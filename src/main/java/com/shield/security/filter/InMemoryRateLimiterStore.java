@@ -0,0 +1,75 @@
+package com.shield.security.filter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "shield.auth.login-rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimiterStore implements RateLimiterStore {
+
+    private static final int STRIPES = 16;
+    private static final int SWEEP_INTERVAL = 256;
+
+    private final List<Map<String, AtomicReference<WindowCounter>>> stripes = new ArrayList<>(STRIPES);
+    private final AtomicInteger sweepCounter = new AtomicInteger(0);
+
+    public InMemoryRateLimiterStore() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public int incrementAndGet(String key, Instant now, int windowSeconds) {
+        long windowMillis = Math.max(1, windowSeconds) * 1000L;
+        long nowMillis = now.toEpochMilli();
+        long windowId = nowMillis / windowMillis;
+
+        AtomicReference<WindowCounter> counter = stripeFor(key)
+                .computeIfAbsent(key, ignored -> new AtomicReference<>(WindowCounter.EMPTY));
+        WindowCounter updated = counter.updateAndGet(current -> current.increment(windowId));
+        maybeSweep(windowId);
+
+        double elapsedFraction = (nowMillis - windowId * windowMillis) / (double) windowMillis;
+        return (int) Math.ceil(updated.previous() * (1.0 - elapsedFraction)) + updated.current();
+    }
+
+    int trackedKeys() {
+        return stripes.stream().mapToInt(Map::size).sum();
+    }
+
+    private Map<String, AtomicReference<WindowCounter>> stripeFor(String key) {
+        return stripes.get((key.hashCode() & 0x7fffffff) % STRIPES);
+    }
+
+    private void maybeSweep(long windowId) {
+        int tick = sweepCounter.incrementAndGet();
+        if (tick % SWEEP_INTERVAL != 0) {
+            return;
+        }
+        Map<String, AtomicReference<WindowCounter>> stripe = stripes.get((tick / SWEEP_INTERVAL) % STRIPES);
+        stripe.values().removeIf(counter -> counter.get().windowId() < windowId - 1);
+    }
+
+    private record WindowCounter(long windowId, int previous, int current) {
+
+        private static final WindowCounter EMPTY = new WindowCounter(Long.MIN_VALUE, 0, 0);
+
+        WindowCounter increment(long targetWindowId) {
+            if (targetWindowId <= windowId) {
+                return new WindowCounter(windowId, previous, current + 1);
+            }
+            if (targetWindowId == windowId + 1) {
+                return new WindowCounter(targetWindowId, current, 1);
+            }
+            return new WindowCounter(targetWindowId, 0, 1);
+        }
+    }
+}
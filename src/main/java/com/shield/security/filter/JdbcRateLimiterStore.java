@@ -3,22 +3,27 @@ package com.shield.security.filter;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
-public class LoginRateLimiterStore {
+@ConditionalOnProperty(name = "shield.auth.login-rate-limit.store", havingValue = "jdbc")
+public class JdbcRateLimiterStore implements RateLimiterStore {
 
     private static final int CLEANUP_INTERVAL = 200;
 
     private final JdbcTemplate jdbcTemplate;
     private final AtomicInteger cleanupCounter = new AtomicInteger(0);
 
-    public LoginRateLimiterStore(JdbcTemplate jdbcTemplate) {
+    public JdbcRateLimiterStore(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
     }
 
-    public int incrementAndGet(String bucketKey, Instant windowStart) {
+    @Override
+    public int incrementAndGet(String key, Instant now, int windowSeconds) {
+        Instant windowStart = Instant.ofEpochSecond((now.getEpochSecond() / windowSeconds) * windowSeconds);
+        String bucketKey = key + "|" + windowStart.getEpochSecond();
         maybeCleanup(windowStart);
         Integer count = jdbcTemplate.queryForObject("""
                         INSERT INTO login_rate_limit_bucket (bucket_key, request_count, window_start)
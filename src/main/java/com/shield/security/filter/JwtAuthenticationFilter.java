@@ -1,5 +1,7 @@
 package com.shield.security.filter;
 
+import com.shield.security.jwt.JwtPrincipalCache;
+import com.shield.security.jwt.JwtPrincipalCache.CachedPrincipal;
 import com.shield.security.jwt.JwtService;
 import com.shield.security.model.ShieldPrincipal;
 import com.shield.module.platform.service.PlatformRootService;
@@ -10,10 +12,15 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -27,8 +34,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String AUTH_HEADER = "Authorization";
 
+    private static final Set<String> PUBLIC_POST_PATHS = Set.of(
+            "/api/v1/auth/register",
+            "/api/v1/auth/login",
+            "/api/v1/auth/login/otp/send",
+            "/api/v1/auth/login/otp/verify",
+            "/api/v1/auth/refresh",
+            "/api/v1/auth/refresh-token",
+            "/api/v1/auth/forgot-password",
+            "/api/v1/auth/reset-password",
+            "/api/v1/auth/logout",
+            "/api/v1/platform/root/login",
+            "/api/v1/platform/root/refresh");
+
+    private static final Map<String, List<GrantedAuthority>> AUTHORITIES_BY_ROLE = new ConcurrentHashMap<>();
+
     private final JwtService jwtService;
+    private final JwtPrincipalCache jwtPrincipalCache;
     private final PlatformRootService platformRootService;
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -47,44 +71,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = jwtService.stripBearerPrefix(authHeader);
         try {
-            Claims claims = jwtService.parseClaims(token);
-            String tokenType = claims.get("tokenType", String.class);
-            if (!"access".equals(tokenType)) {
-                SecurityContextHolder.clearContext();
-                filterChain.doFilter(request, response);
-                return;
-            }
-
-            String email = claims.getSubject();
-            String role = claims.get("role", String.class);
-            UUID userId = UUID.fromString(claims.get("userId", String.class));
-            String principalType = claims.get("principalType", String.class);
-            if (!StringUtils.hasText(principalType)) {
-                principalType = "USER";
-            }
-
-            long tokenVersion = parseTokenVersion(claims.get("tokenVersion"));
-            UUID tenantId = null;
-            if ("ROOT".equalsIgnoreCase(principalType)) {
-                if (!platformRootService.isRootTokenVersionValid(userId, tokenVersion)) {
+            CachedPrincipal cached = jwtPrincipalCache.get(token).orElse(null);
+            if (cached == null) {
+                cached = resolvePrincipal(jwtService.parseClaims(token));
+                if (cached == null) {
                     SecurityContextHolder.clearContext();
                     filterChain.doFilter(request, response);
                     return;
                 }
-            } else {
-                String tenantIdValue = claims.get("tenantId", String.class);
-                if (StringUtils.hasText(tenantIdValue)) {
-                    tenantId = UUID.fromString(tenantIdValue);
-                }
+                jwtPrincipalCache.put(token, cached);
+            }
+
+            ShieldPrincipal principal = cached.principal();
+            if ("ROOT".equalsIgnoreCase(principal.principalType())
+                    && !platformRootService.isRootTokenVersionValid(principal.userId(), principal.tokenVersion())) {
+                SecurityContextHolder.clearContext();
+                filterChain.doFilter(request, response);
+                return;
             }
 
-            ShieldPrincipal principal = new ShieldPrincipal(userId, tenantId, email, role, principalType, tokenVersion);
             UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                     principal,
                     null,
-                    List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+                    cached.authorities());
 
-            authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            authenticationToken.setDetails(authenticationDetailsSource.buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authenticationToken);
         } catch (JwtException | IllegalArgumentException ex) {
             SecurityContextHolder.clearContext();
@@ -93,6 +104,40 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private CachedPrincipal resolvePrincipal(Claims claims) {
+        String tokenType = claims.get("tokenType", String.class);
+        if (!"access".equals(tokenType)) {
+            return null;
+        }
+
+        String email = claims.getSubject();
+        String role = claims.get("role", String.class);
+        UUID userId = UUID.fromString(claims.get("userId", String.class));
+        String principalType = claims.get("principalType", String.class);
+        if (!StringUtils.hasText(principalType)) {
+            principalType = "USER";
+        }
+
+        long tokenVersion = parseTokenVersion(claims.get("tokenVersion"));
+        UUID tenantId = null;
+        if (!"ROOT".equalsIgnoreCase(principalType)) {
+            String tenantIdValue = claims.get("tenantId", String.class);
+            if (StringUtils.hasText(tenantIdValue)) {
+                tenantId = UUID.fromString(tenantIdValue);
+            }
+        }
+
+        ShieldPrincipal principal = new ShieldPrincipal(userId, tenantId, email, role, principalType, tokenVersion);
+        Date expiration = claims.getExpiration();
+        return new CachedPrincipal(principal, authoritiesFor(role), expiration == null ? null : expiration.toInstant());
+    }
+
+    private List<GrantedAuthority> authoritiesFor(String role) {
+        return AUTHORITIES_BY_ROLE.computeIfAbsent(
+                String.valueOf(role),
+                key -> List.of(new SimpleGrantedAuthority("ROLE_" + key)));
+    }
+
     private boolean isPublicEndpoint(HttpServletRequest request) {
         String method = request.getMethod();
         String path = request.getRequestURI();
@@ -105,21 +150,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return true;
         }
 
-        if (!"POST".equalsIgnoreCase(method)) {
-            return false;
-        }
-
-        return "/api/v1/auth/register".equals(path)
-                || "/api/v1/auth/login".equals(path)
-                || "/api/v1/auth/login/otp/send".equals(path)
-                || "/api/v1/auth/login/otp/verify".equals(path)
-                || "/api/v1/auth/refresh".equals(path)
-                || "/api/v1/auth/refresh-token".equals(path)
-                || "/api/v1/auth/forgot-password".equals(path)
-                || "/api/v1/auth/reset-password".equals(path)
-                || "/api/v1/auth/logout".equals(path)
-                || "/api/v1/platform/root/login".equals(path)
-                || "/api/v1/platform/root/refresh".equals(path);
+        return "POST".equalsIgnoreCase(method) && PUBLIC_POST_PATHS.contains(path);
     }
 
     private long parseTokenVersion(Object tokenVersionClaim) {
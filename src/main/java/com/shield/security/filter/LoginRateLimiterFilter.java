@@ -19,13 +19,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class LoginRateLimiterFilter extends OncePerRequestFilter {
 
     private final ObjectMapper objectMapper;
-    private final LoginRateLimiterStore rateLimiterStore;
+    private final RateLimiterStore rateLimiterStore;
     private final int maxRequests;
     private final int windowSeconds;
 
     public LoginRateLimiterFilter(
             ObjectMapper objectMapper,
-            ObjectProvider<LoginRateLimiterStore> rateLimiterStoreProvider,
+            ObjectProvider<RateLimiterStore> rateLimiterStoreProvider,
             @Value("${shield.auth.login-rate-limit.requests}") int maxRequests,
             @Value("${shield.auth.login-rate-limit.window-seconds}") int windowSeconds) {
         this.objectMapper = objectMapper;
@@ -49,10 +49,8 @@ public class LoginRateLimiterFilter extends OncePerRequestFilter {
 
         String ip = request.getRemoteAddr();
         Instant now = Instant.now();
-        long windowBucket = now.getEpochSecond() / windowSeconds;
-        Instant windowStart = Instant.ofEpochSecond(windowBucket * windowSeconds);
-        String bucketKey = request.getRequestURI() + "|" + ip + "|" + windowStart.getEpochSecond();
-        int count = rateLimiterStore.incrementAndGet(bucketKey, windowStart);
+        String key = request.getRequestURI() + "|" + ip;
+        int count = rateLimiterStore.incrementAndGet(key, now, windowSeconds);
 
         if (count > maxRequests) {
             ErrorResponse error = new ErrorResponse(
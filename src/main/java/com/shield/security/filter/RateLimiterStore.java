@@ -0,0 +1,8 @@
+package com.shield.security.filter;
+
+import java.time.Instant;
+
+public interface RateLimiterStore {
+
+    int incrementAndGet(String key, Instant now, int windowSeconds);
+}
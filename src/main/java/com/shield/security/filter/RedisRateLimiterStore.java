@@ -0,0 +1,63 @@
+package com.shield.security.filter;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shield.auth.login-rate-limit.store", havingValue = "redis")
+public class RedisRateLimiterStore implements RateLimiterStore {
+
+    private static final String KEY_PREFIX = "shield:login-rate-limit:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> INCREMENT_SCRIPT = RedisScript.of("""
+            local current = redis.call('INCR', KEYS[1])
+            if current == 1 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            end
+            local previous = tonumber(redis.call('GET', KEYS[2]) or '0')
+            return {current, previous}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final InMemoryRateLimiterStore localFallback = new InMemoryRateLimiterStore();
+
+    public RedisRateLimiterStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public int incrementAndGet(String key, Instant now, int windowSeconds) {
+        long windowMillis = Math.max(1, windowSeconds) * 1000L;
+        long nowMillis = now.toEpochMilli();
+        long windowId = nowMillis / windowMillis;
+
+        try {
+            List<?> result = redisTemplate.execute(
+                    INCREMENT_SCRIPT,
+                    List.of(KEY_PREFIX + key + ":" + windowId, KEY_PREFIX + key + ":" + (windowId - 1)),
+                    String.valueOf(windowMillis * 2));
+            long current = toLong(result, 0);
+            long previous = toLong(result, 1);
+            double elapsedFraction = (nowMillis - windowId * windowMillis) / (double) windowMillis;
+            return (int) (Math.ceil(previous * (1.0 - elapsedFraction)) + current);
+        } catch (DataAccessException ex) {
+            log.warn("Redis rate limiter unavailable, falling back to node-local counters: {}", ex.getMessage());
+            return localFallback.incrementAndGet(key, now, windowSeconds);
+        }
+    }
+
+    private long toLong(List<?> result, int index) {
+        if (result == null || result.size() <= index || !(result.get(index) instanceof Number number)) {
+            return 0L;
+        }
+        return number.longValue();
+    }
+}
@@ -0,0 +1,96 @@
+package com.shield.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.shield.security.model.ShieldPrincipal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers the principal parsed from each access token, keyed by the token's SHA-256, so repeat requests skip
+ * signature verification. Each entry expires when its token does; lookups are lock-free.
+ */
+@Component
+public class JwtPrincipalCache {
+
+    private final Cache<String, CachedPrincipal> entries;
+
+    public JwtPrincipalCache(@Value("${shield.security.jwt.principal-cache.max-entries:10000}") int maxEntries) {
+        this.entries = maxEntries <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<String, CachedPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+                        return untilExpiry(value);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+                        return untilExpiry(value);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public Optional<CachedPrincipal> get(String token) {
+        if (entries == null || token == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entries.getIfPresent(hash(token)));
+    }
+
+    public void put(String token, CachedPrincipal principal) {
+        if (entries == null || token == null || principal.expiresAt() == null) {
+            return;
+        }
+        entries.put(hash(token), principal);
+    }
+
+    public int size() {
+        if (entries == null) {
+            return 0;
+        }
+        entries.cleanUp();
+        return (int) entries.estimatedSize();
+    }
+
+    public void clear() {
+        if (entries != null) {
+            entries.invalidateAll();
+        }
+    }
+
+    private static long untilExpiry(CachedPrincipal principal) {
+        return Math.max(0L, Duration.between(Instant.now(), principal.expiresAt()).toNanos());
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().withoutPadding().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 algorithm unavailable", ex);
+        }
+    }
+
+    public record CachedPrincipal(
+            ShieldPrincipal principal,
+            List<GrantedAuthority> authorities,
+            Instant expiresAt) {
+    }
+}
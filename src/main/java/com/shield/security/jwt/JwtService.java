@@ -2,6 +2,7 @@ package com.shield.security.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
@@ -12,6 +13,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -19,6 +21,7 @@ import org.springframework.stereotype.Service;
 public class JwtService {
 
     private final Key signingKey;
+    private final JwtParser jwtParser;
     private final long accessTokenTtlMinutes;
     private final long refreshTokenTtlMinutes;
 
@@ -31,6 +34,9 @@ public class JwtService {
             throw new IllegalStateException("JWT secret must be at least 32 bytes");
         }
         this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser()
+                .verifyWith((SecretKey) signingKey)
+                .build();
         this.accessTokenTtlMinutes = accessTokenTtlMinutes;
         this.refreshTokenTtlMinutes = refreshTokenTtlMinutes;
     }
@@ -52,11 +58,7 @@ public class JwtService {
     }
 
     public Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith((javax.crypto.SecretKey) signingKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     public boolean isTokenValid(String token) {
@@ -0,0 +1,313 @@
+-- Per-tenant analytics rollups maintained by row triggers on the source tables.
+-- Writers take a shared per-tenant advisory lock; analytics_rebuild_rollups takes it exclusively.
+
+CREATE TABLE analytics_collection_daily (
+    tenant_id UUID NOT NULL REFERENCES tenant (id),
+    rollup_date DATE NOT NULL,
+    billed_amount NUMERIC(16, 2) NOT NULL DEFAULT 0,
+    collected_amount NUMERIC(16, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (tenant_id, rollup_date)
+);
+
+CREATE TABLE analytics_ledger_daily (
+    tenant_id UUID NOT NULL REFERENCES tenant (id),
+    rollup_date DATE NOT NULL,
+    entry_type VARCHAR(20) NOT NULL,
+    category VARCHAR(80) NOT NULL,
+    entry_count BIGINT NOT NULL DEFAULT 0,
+    amount NUMERIC(16, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (tenant_id, rollup_date, entry_type, category)
+);
+
+CREATE TABLE analytics_visitor_daily (
+    tenant_id UUID NOT NULL REFERENCES tenant (id),
+    visit_date DATE NOT NULL,
+    visitor_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (tenant_id, visit_date)
+);
+
+CREATE TABLE analytics_defaulter_period (
+    tenant_id UUID NOT NULL REFERENCES tenant (id),
+    bill_year INTEGER NOT NULL,
+    bill_month INTEGER NOT NULL,
+    unit_id UUID NOT NULL,
+    outstanding_bills INTEGER NOT NULL DEFAULT 0,
+    outstanding_amount NUMERIC(16, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (tenant_id, bill_year, bill_month, unit_id)
+);
+
+CREATE OR REPLACE FUNCTION analytics_rollup_lock_key(p_tenant_id UUID) RETURNS BIGINT AS $$
+    SELECT hashtextextended('analytics_rollup:' || p_tenant_id::text, 0);
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION analytics_apply_collection(
+        p_tenant_id UUID,
+        p_rollup_date DATE,
+        p_billed NUMERIC,
+        p_collected NUMERIC) RETURNS VOID AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock_shared(analytics_rollup_lock_key(p_tenant_id));
+    INSERT INTO analytics_collection_daily AS r (tenant_id, rollup_date, billed_amount, collected_amount)
+    VALUES (p_tenant_id, p_rollup_date, p_billed, p_collected)
+    ON CONFLICT (tenant_id, rollup_date) DO UPDATE
+    SET billed_amount = r.billed_amount + EXCLUDED.billed_amount,
+        collected_amount = r.collected_amount + EXCLUDED.collected_amount,
+        updated_at = CURRENT_TIMESTAMP;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION analytics_apply_ledger(
+        p_tenant_id UUID,
+        p_rollup_date DATE,
+        p_entry_type VARCHAR,
+        p_category VARCHAR,
+        p_count BIGINT,
+        p_amount NUMERIC) RETURNS VOID AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock_shared(analytics_rollup_lock_key(p_tenant_id));
+    INSERT INTO analytics_ledger_daily AS r (tenant_id, rollup_date, entry_type, category, entry_count, amount)
+    VALUES (p_tenant_id, p_rollup_date, p_entry_type, p_category, p_count, p_amount)
+    ON CONFLICT (tenant_id, rollup_date, entry_type, category) DO UPDATE
+    SET entry_count = r.entry_count + EXCLUDED.entry_count,
+        amount = r.amount + EXCLUDED.amount,
+        updated_at = CURRENT_TIMESTAMP;
+
+    IF p_count < 0 THEN
+        DELETE FROM analytics_ledger_daily
+        WHERE tenant_id = p_tenant_id
+          AND rollup_date = p_rollup_date
+          AND entry_type = p_entry_type
+          AND category = p_category
+          AND entry_count <= 0;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION analytics_apply_visitor(
+        p_tenant_id UUID,
+        p_visit_date DATE,
+        p_count BIGINT) RETURNS VOID AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock_shared(analytics_rollup_lock_key(p_tenant_id));
+    INSERT INTO analytics_visitor_daily AS r (tenant_id, visit_date, visitor_count)
+    VALUES (p_tenant_id, p_visit_date, p_count)
+    ON CONFLICT (tenant_id, visit_date) DO UPDATE
+    SET visitor_count = r.visitor_count + EXCLUDED.visitor_count,
+        updated_at = CURRENT_TIMESTAMP;
+
+    IF p_count < 0 THEN
+        DELETE FROM analytics_visitor_daily
+        WHERE tenant_id = p_tenant_id
+          AND visit_date = p_visit_date
+          AND visitor_count <= 0;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION analytics_apply_defaulter(
+        p_tenant_id UUID,
+        p_year INTEGER,
+        p_month INTEGER,
+        p_unit_id UUID,
+        p_bills INTEGER,
+        p_amount NUMERIC) RETURNS VOID AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock_shared(analytics_rollup_lock_key(p_tenant_id));
+    INSERT INTO analytics_defaulter_period AS r (tenant_id, bill_year, bill_month, unit_id, outstanding_bills, outstanding_amount)
+    VALUES (p_tenant_id, p_year, p_month, p_unit_id, p_bills, p_amount)
+    ON CONFLICT (tenant_id, bill_year, bill_month, unit_id) DO UPDATE
+    SET outstanding_bills = r.outstanding_bills + EXCLUDED.outstanding_bills,
+        outstanding_amount = r.outstanding_amount + EXCLUDED.outstanding_amount,
+        updated_at = CURRENT_TIMESTAMP;
+
+    IF p_bills < 0 THEN
+        DELETE FROM analytics_defaulter_period
+        WHERE tenant_id = p_tenant_id
+          AND bill_year = p_year
+          AND bill_month = p_month
+          AND unit_id = p_unit_id
+          AND outstanding_bills <= 0;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION analytics_rollup_maintenance_bill() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        IF NOT OLD.deleted THEN
+            PERFORM analytics_apply_collection(OLD.tenant_id, OLD.due_date, -OLD.amount, 0);
+            IF OLD.status IN ('PENDING', 'OVERDUE') THEN
+                PERFORM analytics_apply_defaulter(OLD.tenant_id, OLD.year, OLD.month, OLD.unit_id, -1, -OLD.amount);
+            END IF;
+        END IF;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        IF NOT NEW.deleted THEN
+            PERFORM analytics_apply_collection(NEW.tenant_id, NEW.due_date, NEW.amount, 0);
+            IF NEW.status IN ('PENDING', 'OVERDUE') THEN
+                PERFORM analytics_apply_defaulter(NEW.tenant_id, NEW.year, NEW.month, NEW.unit_id, 1, NEW.amount);
+            END IF;
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION analytics_rollup_payment() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        IF NOT OLD.deleted THEN
+            PERFORM analytics_apply_collection(
+                    OLD.tenant_id, CAST(COALESCE(OLD.paid_at, OLD.created_at) AS DATE), 0, -OLD.amount);
+        END IF;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        IF NOT NEW.deleted THEN
+            PERFORM analytics_apply_collection(
+                    NEW.tenant_id, CAST(COALESCE(NEW.paid_at, NEW.created_at) AS DATE), 0, NEW.amount);
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION analytics_rollup_ledger_entry() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        IF NOT OLD.deleted THEN
+            PERFORM analytics_apply_ledger(OLD.tenant_id, OLD.entry_date, OLD.type, OLD.category, -1, -OLD.amount);
+        END IF;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        IF NOT NEW.deleted THEN
+            PERFORM analytics_apply_ledger(NEW.tenant_id, NEW.entry_date, NEW.type, NEW.category, 1, NEW.amount);
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION analytics_rollup_visitor_pass() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        IF NOT OLD.deleted THEN
+            PERFORM analytics_apply_visitor(OLD.tenant_id, CAST(OLD.valid_from AS DATE), -1);
+        END IF;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        IF NOT NEW.deleted THEN
+            PERFORM analytics_apply_visitor(NEW.tenant_id, CAST(NEW.valid_from AS DATE), 1);
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Updates only touch the rollups when a contributing column actually changes.
+CREATE TRIGGER trg_maintenance_bill_analytics_rollup
+    AFTER INSERT OR DELETE ON maintenance_bill
+    FOR EACH ROW EXECUTE FUNCTION analytics_rollup_maintenance_bill();
+
+CREATE TRIGGER trg_maintenance_bill_analytics_rollup_update
+    AFTER UPDATE ON maintenance_bill
+    FOR EACH ROW
+    WHEN (OLD.tenant_id IS DISTINCT FROM NEW.tenant_id
+        OR OLD.unit_id IS DISTINCT FROM NEW.unit_id
+        OR OLD.year IS DISTINCT FROM NEW.year
+        OR OLD.month IS DISTINCT FROM NEW.month
+        OR OLD.amount IS DISTINCT FROM NEW.amount
+        OR OLD.due_date IS DISTINCT FROM NEW.due_date
+        OR OLD.status IS DISTINCT FROM NEW.status
+        OR OLD.deleted IS DISTINCT FROM NEW.deleted)
+    EXECUTE FUNCTION analytics_rollup_maintenance_bill();
+
+CREATE TRIGGER trg_payment_analytics_rollup
+    AFTER INSERT OR DELETE ON payment
+    FOR EACH ROW EXECUTE FUNCTION analytics_rollup_payment();
+
+CREATE TRIGGER trg_payment_analytics_rollup_update
+    AFTER UPDATE ON payment
+    FOR EACH ROW
+    WHEN (OLD.tenant_id IS DISTINCT FROM NEW.tenant_id
+        OR OLD.amount IS DISTINCT FROM NEW.amount
+        OR OLD.paid_at IS DISTINCT FROM NEW.paid_at
+        OR OLD.created_at IS DISTINCT FROM NEW.created_at
+        OR OLD.deleted IS DISTINCT FROM NEW.deleted)
+    EXECUTE FUNCTION analytics_rollup_payment();
+
+CREATE TRIGGER trg_ledger_entry_analytics_rollup
+    AFTER INSERT OR DELETE ON ledger_entry
+    FOR EACH ROW EXECUTE FUNCTION analytics_rollup_ledger_entry();
+
+CREATE TRIGGER trg_ledger_entry_analytics_rollup_update
+    AFTER UPDATE ON ledger_entry
+    FOR EACH ROW
+    WHEN (OLD.tenant_id IS DISTINCT FROM NEW.tenant_id
+        OR OLD.type IS DISTINCT FROM NEW.type
+        OR OLD.category IS DISTINCT FROM NEW.category
+        OR OLD.amount IS DISTINCT FROM NEW.amount
+        OR OLD.entry_date IS DISTINCT FROM NEW.entry_date
+        OR OLD.deleted IS DISTINCT FROM NEW.deleted)
+    EXECUTE FUNCTION analytics_rollup_ledger_entry();
+
+CREATE TRIGGER trg_visitor_pass_analytics_rollup
+    AFTER INSERT OR DELETE ON visitor_pass
+    FOR EACH ROW EXECUTE FUNCTION analytics_rollup_visitor_pass();
+
+CREATE TRIGGER trg_visitor_pass_analytics_rollup_update
+    AFTER UPDATE ON visitor_pass
+    FOR EACH ROW
+    WHEN (OLD.tenant_id IS DISTINCT FROM NEW.tenant_id
+        OR OLD.valid_from IS DISTINCT FROM NEW.valid_from
+        OR OLD.deleted IS DISTINCT FROM NEW.deleted)
+    EXECUTE FUNCTION analytics_rollup_visitor_pass();
+
+CREATE OR REPLACE FUNCTION analytics_rebuild_rollups(p_tenant_id UUID) RETURNS VOID AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(analytics_rollup_lock_key(p_tenant_id));
+
+    DELETE FROM analytics_collection_daily WHERE tenant_id = p_tenant_id;
+    DELETE FROM analytics_ledger_daily WHERE tenant_id = p_tenant_id;
+    DELETE FROM analytics_visitor_daily WHERE tenant_id = p_tenant_id;
+    DELETE FROM analytics_defaulter_period WHERE tenant_id = p_tenant_id;
+
+    INSERT INTO analytics_collection_daily (tenant_id, rollup_date, billed_amount, collected_amount)
+    SELECT p_tenant_id, rollup_date, SUM(billed_amount), SUM(collected_amount)
+    FROM (
+        SELECT due_date AS rollup_date, amount AS billed_amount, 0 AS collected_amount
+        FROM maintenance_bill
+        WHERE tenant_id = p_tenant_id AND deleted = FALSE
+        UNION ALL
+        SELECT CAST(COALESCE(paid_at, created_at) AS DATE), 0, amount
+        FROM payment
+        WHERE tenant_id = p_tenant_id AND deleted = FALSE
+    ) source
+    GROUP BY rollup_date;
+
+    INSERT INTO analytics_ledger_daily (tenant_id, rollup_date, entry_type, category, entry_count, amount)
+    SELECT p_tenant_id, entry_date, type, category, COUNT(*), SUM(amount)
+    FROM ledger_entry
+    WHERE tenant_id = p_tenant_id AND deleted = FALSE
+    GROUP BY entry_date, type, category;
+
+    INSERT INTO analytics_visitor_daily (tenant_id, visit_date, visitor_count)
+    SELECT p_tenant_id, CAST(valid_from AS DATE), COUNT(*)
+    FROM visitor_pass
+    WHERE tenant_id = p_tenant_id AND deleted = FALSE
+    GROUP BY CAST(valid_from AS DATE);
+
+    INSERT INTO analytics_defaulter_period (tenant_id, bill_year, bill_month, unit_id, outstanding_bills, outstanding_amount)
+    SELECT p_tenant_id, year, month, unit_id, COUNT(*), SUM(amount)
+    FROM maintenance_bill
+    WHERE tenant_id = p_tenant_id
+      AND deleted = FALSE
+      AND status IN ('PENDING', 'OVERDUE')
+    GROUP BY year, month, unit_id;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT analytics_rebuild_rollups(id) FROM tenant;
@@ -0,0 +1,8 @@
+CREATE INDEX idx_ledger_entry_report
+    ON ledger_entry (tenant_id, entry_date)
+    INCLUDE (account_head_id, type, amount)
+    WHERE deleted = FALSE;
+
+CREATE INDEX idx_vendor_payment_status_date
+    ON vendor_payment (tenant_id, status, payment_date)
+    WHERE deleted = FALSE;
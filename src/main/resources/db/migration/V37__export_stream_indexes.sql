@@ -0,0 +1,15 @@
+CREATE INDEX idx_audit_log_tenant_created_at
+    ON audit_log (tenant_id, created_at DESC)
+    WHERE deleted = FALSE;
+
+CREATE INDEX idx_system_log_tenant_created_at
+    ON system_log (tenant_id, created_at DESC)
+    WHERE deleted = FALSE;
+
+CREATE INDEX idx_api_request_log_tenant_created_at
+    ON api_request_log (tenant_id, created_at DESC)
+    WHERE deleted = FALSE;
+
+CREATE INDEX idx_visitor_entry_exit_log_tenant_entry_time
+    ON visitor_entry_exit_log (tenant_id, entry_time DESC)
+    WHERE deleted = FALSE;
@@ -0,0 +1,7 @@
+ALTER TABLE notification_email_log
+    ADD COLUMN attempt_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN next_attempt_at TIMESTAMP;
+
+CREATE INDEX idx_notification_email_log_due
+    ON notification_email_log (next_attempt_at)
+    WHERE status = 'PENDING' AND deleted = FALSE;
@@ -0,0 +1,10 @@
+ALTER TABLE announcement
+    ADD COLUMN target_block VARCHAR(50),
+    ADD COLUMN target_ownership_status VARCHAR(20);
+
+CREATE INDEX idx_users_tenant_active_recipient
+    ON users (tenant_id, id)
+    INCLUDE (role, unit_id, email)
+    WHERE status = 'ACTIVE' AND deleted = FALSE;
+
+CREATE INDEX idx_unit_tenant_block ON unit (tenant_id, block_name) WHERE deleted = FALSE;
@@ -0,0 +1,29 @@
+CREATE TABLE domain_event_outbox (
+    sequence BIGSERIAL PRIMARY KEY,
+    id UUID NOT NULL UNIQUE,
+    tenant_id UUID,
+    actor_id UUID,
+    event_type VARCHAR(128) NOT NULL,
+    aggregate_type VARCHAR(128) NOT NULL,
+    aggregate_id UUID,
+    payload TEXT,
+    occurred_at TIMESTAMP NOT NULL,
+    attempt_count INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    locked_until TIMESTAMP,
+    published_at TIMESTAMP,
+    dead_lettered_at TIMESTAMP,
+    last_error VARCHAR(1000)
+);
+
+CREATE INDEX idx_domain_event_outbox_pending
+    ON domain_event_outbox (sequence)
+    WHERE published_at IS NULL AND dead_lettered_at IS NULL;
+
+CREATE INDEX idx_domain_event_outbox_aggregate
+    ON domain_event_outbox (aggregate_type, aggregate_id, sequence)
+    WHERE published_at IS NULL AND dead_lettered_at IS NULL;
+
+CREATE INDEX idx_domain_event_outbox_published
+    ON domain_event_outbox (published_at)
+    WHERE published_at IS NOT NULL;
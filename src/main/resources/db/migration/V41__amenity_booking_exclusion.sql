@@ -0,0 +1,49 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Bookings that slipped past the old check-then-insert race cannot coexist with the constraint below.
+-- Walk the contested bookings oldest first and reject one only if it overlaps a booking that is still live,
+-- so a rejected booking never knocks out a later one it alone overlapped.
+DO $$
+DECLARE
+    candidate RECORD;
+BEGIN
+    FOR candidate IN
+        SELECT b.id, b.amenity_id, b.start_time, b.end_time, b.created_at
+        FROM amenity_booking b
+        WHERE b.deleted = FALSE
+          AND b.status IN ('PENDING', 'CONFIRMED')
+          AND EXISTS (
+              SELECT 1
+              FROM amenity_booking o
+              WHERE o.amenity_id = b.amenity_id
+                AND o.id <> b.id
+                AND o.deleted = FALSE
+                AND o.status IN ('PENDING', 'CONFIRMED')
+                AND o.start_time < b.end_time
+                AND o.end_time > b.start_time)
+        ORDER BY b.created_at, b.id
+    LOOP
+        UPDATE amenity_booking b
+        SET status = 'REJECTED',
+            notes = LEFT(CONCAT_WS(' ', b.notes, '[Rejected: overlapped an earlier booking]'), 500),
+            updated_at = CURRENT_TIMESTAMP
+        WHERE b.id = candidate.id
+          AND EXISTS (
+              SELECT 1
+              FROM amenity_booking o
+              WHERE o.amenity_id = candidate.amenity_id
+                AND o.id <> candidate.id
+                AND o.deleted = FALSE
+                AND o.status IN ('PENDING', 'CONFIRMED')
+                AND o.start_time < candidate.end_time
+                AND o.end_time > candidate.start_time
+                AND (o.created_at, o.id) < (candidate.created_at, candidate.id));
+    END LOOP;
+END $$;
+
+ALTER TABLE amenity_booking
+    ADD CONSTRAINT ex_amenity_booking_no_overlap
+    EXCLUDE USING gist (
+        amenity_id WITH =,
+        tsrange(start_time, end_time, '[)') WITH &&)
+    WHERE (deleted = FALSE AND status IN ('PENDING', 'CONFIRMED'));
@@ -0,0 +1,5 @@
+-- The gate QR indexes re-read recently changed passes and cards on every sync and warm from the valid set at startup.
+CREATE INDEX idx_visitor_pass_updated_at ON visitor_pass (updated_at);
+CREATE INDEX idx_visitor_pass_gate_valid ON visitor_pass (valid_to)
+    WHERE deleted = FALSE AND status IN ('APPROVED', 'ACTIVE');
+CREATE INDEX idx_digital_id_card_updated_at ON digital_id_card (updated_at);
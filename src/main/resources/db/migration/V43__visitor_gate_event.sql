@@ -0,0 +1,14 @@
+-- Idempotency ledger for batched gate events from offline guard devices. A key is recorded only once its event has
+-- been applied, so rejected events can be corrected and resent under the same key.
+CREATE TABLE visitor_gate_event (
+    tenant_id UUID NOT NULL REFERENCES tenant (id),
+    idempotency_key VARCHAR(100) NOT NULL,
+    event_type VARCHAR(10) NOT NULL,
+    visitor_pass_id UUID NOT NULL REFERENCES visitor_pass (id),
+    visitor_log_id UUID NOT NULL REFERENCES visitor_entry_exit_log (id),
+    occurred_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (tenant_id, idempotency_key)
+);
+
+CREATE INDEX idx_visitor_gate_event_created_at ON visitor_gate_event (created_at);
@@ -0,0 +1,22 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Visitor search matches any part of the name or phone number, so both columns get trigram indexes that serve
+-- LIKE '%...%' without a sequential scan.
+CREATE INDEX idx_visitor_name_trgm ON visitor USING GIN (lower(visitor_name) gin_trgm_ops);
+CREATE INDEX idx_visitor_phone_trgm ON visitor USING GIN (phone gin_trgm_ops);
+
+-- Listings and documents are searched by word prefix and ranked with ts_rank over weighted, generated vectors.
+ALTER TABLE marketplace_listing
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+CREATE INDEX idx_marketplace_listing_search ON marketplace_listing USING GIN (search_vector);
+
+ALTER TABLE document
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(document_name, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(tags, '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+    ) STORED;
+CREATE INDEX idx_document_search ON document USING GIN (search_vector);
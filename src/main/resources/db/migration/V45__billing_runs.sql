@@ -0,0 +1,42 @@
+-- Invoice numbers come from a per-tenant, per-year counter instead of random probing, so they are unique per tenant.
+CREATE TABLE invoice_number_sequence (
+    tenant_id UUID NOT NULL REFERENCES tenant (id),
+    invoice_year INTEGER NOT NULL,
+    last_value BIGINT NOT NULL,
+    PRIMARY KEY (tenant_id, invoice_year)
+);
+
+ALTER TABLE invoice DROP CONSTRAINT IF EXISTS invoice_invoice_number_key;
+ALTER TABLE invoice ADD CONSTRAINT uk_invoice_tenant_number UNIQUE (tenant_id, invoice_number);
+
+-- A billing run invoices every eligible unit of a cycle in unit-id order; last_unit_id is the resume cursor.
+CREATE TABLE billing_run (
+    tenant_id UUID NOT NULL REFERENCES tenant (id),
+    billing_cycle_id UUID NOT NULL REFERENCES billing_cycle(id),
+    invoice_date DATE NOT NULL,
+    due_date DATE NOT NULL,
+    subtotal NUMERIC(12, 2) NOT NULL,
+    late_fee NUMERIC(12, 2) NOT NULL DEFAULT 0,
+    gst_amount NUMERIC(12, 2) NOT NULL DEFAULT 0,
+    other_charges NUMERIC(12, 2) NOT NULL DEFAULT 0,
+    status VARCHAR(20) NOT NULL,
+    total_units INTEGER NOT NULL DEFAULT 0,
+    processed_units INTEGER NOT NULL DEFAULT 0,
+    generated_invoices INTEGER NOT NULL DEFAULT 0,
+    skipped_units INTEGER NOT NULL DEFAULT 0,
+    last_unit_id UUID,
+    requested_by UUID REFERENCES users(id),
+    started_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP,
+    last_error VARCHAR(1000),
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
+    deleted BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+CREATE INDEX idx_billing_run_cycle ON billing_run (tenant_id, billing_cycle_id);
+CREATE UNIQUE INDEX uk_billing_run_cycle_running ON billing_run (tenant_id, billing_cycle_id)
+    WHERE status = 'RUNNING' AND deleted = FALSE;
+CREATE INDEX idx_unit_billing_cursor ON unit (tenant_id, id) WHERE deleted = FALSE;
@@ -0,0 +1,30 @@
+-- SLA deadlines are computed on write; the breach sweeper only visits rows whose deadline has passed.
+ALTER TABLE complaint ADD COLUMN sla_deadline TIMESTAMP;
+
+UPDATE complaint
+SET sla_deadline = created_at + make_interval(hours => sla_hours)
+WHERE sla_hours IS NOT NULL AND sla_hours > 0;
+
+UPDATE complaint
+SET sla_breach = TRUE
+WHERE sla_deadline <= CURRENT_TIMESTAMP AND resolved_at IS NULL AND deleted = FALSE;
+
+CREATE INDEX idx_complaint_sla_due ON complaint (sla_deadline)
+    WHERE sla_breach = FALSE AND resolved_at IS NULL AND deleted = FALSE;
+
+ALTER TABLE helpdesk_ticket
+    ADD COLUMN sla_deadline TIMESTAMP,
+    ADD COLUMN sla_breach BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE helpdesk_ticket t
+SET sla_deadline = t.created_at + make_interval(hours => c.sla_hours)
+FROM helpdesk_category c
+WHERE c.id = t.category_id AND c.deleted = FALSE AND c.sla_hours IS NOT NULL AND c.sla_hours > 0;
+
+UPDATE helpdesk_ticket
+SET sla_breach = TRUE
+WHERE sla_deadline <= CURRENT_TIMESTAMP AND status IN ('OPEN', 'IN_PROGRESS') AND deleted = FALSE;
+
+CREATE INDEX idx_helpdesk_ticket_sla_due ON helpdesk_ticket (sla_deadline)
+    WHERE sla_breach = FALSE AND status IN ('OPEN', 'IN_PROGRESS') AND deleted = FALSE;
+CREATE INDEX idx_helpdesk_ticket_sla_breach ON helpdesk_ticket (tenant_id, sla_breach);
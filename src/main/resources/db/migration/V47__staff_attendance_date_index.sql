@@ -0,0 +1,2 @@
+-- Attendance summaries aggregate a tenant's rows over a date range.
+CREATE INDEX idx_staff_attendance_tenant_date ON staff_attendance (tenant_id, attendance_date) WHERE deleted = FALSE;
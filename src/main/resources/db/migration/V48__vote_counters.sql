@@ -0,0 +1,41 @@
+-- Poll results are served from per-option counters that each vote increments atomically.
+ALTER TABLE poll_option ADD COLUMN vote_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE poll_option o
+SET vote_count = counts.votes
+FROM (
+    SELECT option_id, count(*) AS votes
+    FROM poll_vote
+    WHERE deleted = FALSE
+    GROUP BY option_id
+) counts
+WHERE counts.option_id = o.id;
+
+-- One live vote per member and resolution; keep only the latest if duplicates slipped in.
+UPDATE meeting_vote v
+SET deleted = TRUE
+WHERE v.deleted = FALSE
+  AND EXISTS (
+      SELECT 1 FROM meeting_vote newer
+      WHERE newer.resolution_id = v.resolution_id
+        AND newer.user_id = v.user_id
+        AND newer.deleted = FALSE
+        AND (newer.voted_at, newer.id) > (v.voted_at, v.id));
+
+CREATE UNIQUE INDEX uk_meeting_vote_resolution_user ON meeting_vote (resolution_id, user_id) WHERE deleted = FALSE;
+
+UPDATE meeting_resolution r
+SET votes_for = COALESCE(counts.votes_for, 0),
+    votes_against = COALESCE(counts.votes_against, 0),
+    votes_abstain = COALESCE(counts.votes_abstain, 0)
+FROM meeting_resolution target
+LEFT JOIN (
+    SELECT resolution_id,
+        count(*) FILTER (WHERE vote = 'FOR') AS votes_for,
+        count(*) FILTER (WHERE vote = 'AGAINST') AS votes_against,
+        count(*) FILTER (WHERE vote = 'ABSTAIN') AS votes_abstain
+    FROM meeting_vote
+    WHERE deleted = FALSE
+    GROUP BY resolution_id
+) counts ON counts.resolution_id = target.id
+WHERE target.id = r.id;
@@ -0,0 +1,20 @@
+-- Keyset pages walk (created_at, id) backwards from the cursor; these indexes serve both the page scan and the
+-- created_at ordered CSV exports, so the V37 single-column variants are dropped.
+CREATE INDEX idx_audit_log_tenant_created_at_id
+    ON audit_log (tenant_id, created_at DESC, id DESC)
+    WHERE deleted = FALSE;
+DROP INDEX IF EXISTS idx_audit_log_tenant_created_at;
+
+CREATE INDEX idx_system_log_tenant_created_at_id
+    ON system_log (tenant_id, created_at DESC, id DESC)
+    WHERE deleted = FALSE;
+DROP INDEX IF EXISTS idx_system_log_tenant_created_at;
+
+CREATE INDEX idx_api_request_log_tenant_created_at_id
+    ON api_request_log (tenant_id, created_at DESC, id DESC)
+    WHERE deleted = FALSE;
+DROP INDEX IF EXISTS idx_api_request_log_tenant_created_at;
+
+CREATE INDEX idx_visitor_entry_exit_log_tenant_created_at_id
+    ON visitor_entry_exit_log (tenant_id, created_at DESC, id DESC)
+    WHERE deleted = FALSE;
@@ -0,0 +1,122 @@
+package com.shield.audit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+class ApiRequestLogWriterTest {
+
+    private final ApiRequestLogService apiRequestLogService = mock(ApiRequestLogService.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ApiRequestLogWriter writer(boolean asyncEnabled, int capacity, int batchSize, ApiRequestLogOverflowPolicy policy) {
+        return new ApiRequestLogWriter(
+                apiRequestLogService,
+                jdbcTemplate,
+                meterRegistry,
+                asyncEnabled,
+                capacity,
+                batchSize,
+                1000L,
+                policy,
+                2,
+                1L);
+    }
+
+    private ApiRequestLogCommand command() {
+        return new ApiRequestLogCommand(
+                UUID.randomUUID().toString(),
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "/api/v1/staff",
+                "GET",
+                null,
+                200,
+                12L,
+                "127.0.0.1",
+                "JUnit");
+    }
+
+    @Test
+    void shouldWriteSynchronouslyWhenAsyncDisabled() {
+        ApiRequestLogWriter writer = writer(false, 10, 10, ApiRequestLogOverflowPolicy.DROP);
+        ApiRequestLogCommand command = command();
+
+        writer.submit(command);
+
+        verify(apiRequestLogService).logRequest(command);
+        assertEquals(0, writer.queueDepth());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldBufferAndFlushInBatches() {
+        ApiRequestLogWriter writer = writer(true, 10, 2, ApiRequestLogOverflowPolicy.DROP);
+
+        writer.submit(command());
+        writer.submit(command());
+        writer.submit(command());
+        assertEquals(3, writer.queueDepth());
+        verify(apiRequestLogService, never()).logRequest(any());
+
+        writer.flushPending();
+
+        assertEquals(0, writer.queueDepth());
+        verify(jdbcTemplate, times(2)).batchUpdate(
+                anyString(),
+                anyCollection(),
+                anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void shouldDropWhenBufferIsFull() {
+        ApiRequestLogWriter writer = writer(true, 2, 10, ApiRequestLogOverflowPolicy.DROP);
+
+        writer.submit(command());
+        writer.submit(command());
+        writer.submit(command());
+
+        assertEquals(2, writer.queueDepth());
+        assertEquals(1L, writer.droppedCount());
+        assertEquals(1.0, meterRegistry.get("shield.api.request.log.dropped").functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("shield.api.request.log.queue.depth").gauge().value());
+    }
+
+    @Test
+    void shouldSampleOnceBufferPassesHighWaterMark() {
+        ApiRequestLogWriter writer = writer(true, 8, 10, ApiRequestLogOverflowPolicy.SAMPLE);
+
+        for (int i = 0; i < 8; i++) {
+            writer.submit(command());
+        }
+
+        assertEquals(7, writer.queueDepth());
+        assertEquals(1L, writer.droppedCount());
+    }
+
+    @Test
+    void shouldGiveUpAfterBlockTimeout() {
+        ApiRequestLogWriter writer = writer(true, 1, 10, ApiRequestLogOverflowPolicy.BLOCK);
+
+        writer.submit(command());
+        writer.submit(command());
+
+        assertEquals(1, writer.queueDepth());
+        assertEquals(1L, writer.droppedCount());
+    }
+}
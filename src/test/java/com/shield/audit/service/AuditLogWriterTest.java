@@ -0,0 +1,132 @@
+package com.shield.audit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class AuditLogWriterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void clearTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    private AuditLogWriter writer(int batchSize, boolean asyncEnabled, Set<String> asyncActions) {
+        return new AuditLogWriter(
+                jdbcTemplate,
+                transactionManager,
+                meterRegistry,
+                batchSize,
+                asyncEnabled,
+                asyncActions,
+                10,
+                1000L);
+    }
+
+    private AuditLogCommand command(String action) {
+        return new AuditLogCommand(UUID.randomUUID(), UUID.randomUUID(), action, "payroll", UUID.randomUUID(), null);
+    }
+
+    private void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private void commit(boolean readOnly) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(readOnly));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    @Test
+    void shouldInsertImmediatelyOutsideTransaction() {
+        AuditLogWriter writer = writer(500, false, Set.of());
+
+        writer.submit(command("PAYROLL_PROCESSED"));
+
+        verify(jdbcTemplate).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    void shouldFlushTransactionBufferWithMultiRowInsertsBeforeCommit() {
+        AuditLogWriter writer = writer(2, false, Set.of());
+        beginTransaction();
+
+        writer.submit(command("PAYROLL_PROCESSED"));
+        writer.submit(command("PAYROLL_PROCESSED"));
+        writer.submit(command("PAYROLL_PROCESSED"));
+        verify(jdbcTemplate, never()).update(anyString(), any(PreparedStatementSetter.class));
+        assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+
+        commit(false);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(2)).update(sql.capture(), any(PreparedStatementSetter.class));
+        assertEquals(2, countRows(sql.getAllValues().get(0)));
+        assertEquals(1, countRows(sql.getAllValues().get(1)));
+    }
+
+    @Test
+    void shouldQueueAsyncActionsOnlyAfterCommit() {
+        AuditLogWriter writer = writer(500, true, Set.of("VISITOR_LOGS_EXPORTED"));
+        beginTransaction();
+
+        writer.submit(command("VISITOR_LOGS_EXPORTED"));
+        assertEquals(0, writer.queueDepth());
+
+        commit(false);
+        assertEquals(1, writer.queueDepth());
+        verify(jdbcTemplate, never()).update(anyString(), any(PreparedStatementSetter.class));
+
+        writer.flushPending();
+
+        assertEquals(0, writer.queueDepth());
+        verify(jdbcTemplate).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    void shouldWriteReadOnlyTransactionRowsInSeparateTransactionAfterCommit() {
+        AuditLogWriter writer = writer(500, false, Set.of());
+        beginTransaction();
+
+        writer.submit(command("AUDIT_LOGS_VIEWED"));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(true));
+        verify(jdbcTemplate, never()).update(anyString(), any(PreparedStatementSetter.class));
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        verify(transactionManager).getTransaction(any());
+        verify(jdbcTemplate).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    private int countRows(String sql) {
+        return sql.split("\\(\\?", -1).length - 1;
+    }
+}
@@ -0,0 +1,44 @@
+package com.shield.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ExpiryTimerWheelTest {
+
+    private final Instant start = Instant.parse("2026-03-02T08:00:00Z");
+
+    @Test
+    void advanceShouldFireOnlyDueTimeoutsIncludingThoseBeyondOneRotation() {
+        ExpiryTimerWheel<String> wheel = new ExpiryTimerWheel<>(Duration.ofSeconds(1), 8, start);
+        wheel.schedule("soon", start.plusSeconds(3));
+        wheel.schedule("next-rotation", start.plusSeconds(11));
+        wheel.schedule("overdue", start.minusSeconds(30));
+
+        List<String> fired = new ArrayList<>();
+        assertEquals(2, wheel.advance(start.plusSeconds(3), (key, deadline) -> fired.add(key)));
+        assertEquals(List.of("overdue", "soon"), fired.stream().sorted().toList());
+
+        fired.clear();
+        assertEquals(0, wheel.advance(start.plusSeconds(10), (key, deadline) -> fired.add(key)));
+        assertEquals(1, wheel.advance(start.plusSeconds(11), (key, deadline) -> fired.add(key)));
+        assertEquals(List.of("next-rotation"), fired);
+    }
+
+    @Test
+    void advanceShouldCatchUpAfterAGapLongerThanTheWheel() {
+        ExpiryTimerWheel<String> wheel = new ExpiryTimerWheel<>(Duration.ofSeconds(1), 4, start);
+        wheel.schedule("a", start.plusSeconds(2));
+        wheel.schedule("b", start.plusSeconds(9));
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(start.plusSeconds(60), (key, deadline) -> fired.add(key));
+
+        assertTrue(fired.containsAll(List.of("a", "b")));
+    }
+}
@@ -0,0 +1,80 @@
+package com.shield.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shield.tenant.context.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Method;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class TenantCacheKeyGeneratorTest {
+
+    @SuppressWarnings("unchecked")
+    private final TenantCacheGenerations generations =
+            new TenantCacheGenerations(mock(ObjectProvider.class), false);
+    private final TenantCacheKeyGenerator keyGenerator = new TenantCacheKeyGenerator(generations);
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void keyShouldChangeAfterTenantInvalidation() throws Exception {
+        UUID tenantId = UUID.randomUUID();
+        TenantContext.setTenantId(tenantId);
+        Method method = String.class.getMethod("valueOf", Object.class);
+
+        Object before = keyGenerator.generate("target", method, 2026);
+        assertEquals(before, keyGenerator.generate("target", method, 2026));
+
+        generations.invalidate(tenantId);
+
+        assertNotEquals(before, keyGenerator.generate("target", method, 2026));
+    }
+
+    @Test
+    void keyShouldBeScopedToTenant() throws Exception {
+        Method method = String.class.getMethod("valueOf", Object.class);
+
+        TenantContext.setTenantId(UUID.randomUUID());
+        Object first = keyGenerator.generate("target", method, "x");
+        TenantContext.setTenantId(UUID.randomUUID());
+        Object second = keyGenerator.generate("target", method, "x");
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void tieredCacheShouldPromoteRemoteHitsToLocalTier() {
+        ConcurrentMapCache remote = new ConcurrentMapCache("analytics");
+        remote.put("key", "value");
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder().build();
+        TieredCache cache = new TieredCache("analytics", local, remote, new SimpleMeterRegistry());
+
+        assertEquals("value", cache.get("key").get());
+        assertEquals("value", local.getIfPresent("key"));
+        assertNull(cache.get("missing"));
+    }
+
+    @Test
+    void generationsShouldIgnoreRedisWhenDisabled() {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        TenantCacheGenerations localOnly = new TenantCacheGenerations(provider, false);
+        UUID tenantId = UUID.randomUUID();
+
+        localOnly.invalidateAfterCommit(tenantId);
+
+        assertEquals(1L, localOnly.current(tenantId));
+    }
+}
@@ -0,0 +1,162 @@
+package com.shield.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Simulates peak gate traffic against a warmed index: many guard devices scanning concurrently across tenants while
+ * passes keep being issued. The latency budget is machine dependent, so it only runs with
+ * {@code -Dshield.benchmark.qr-index=true}; the concurrent behaviour is checked on every build.
+ */
+class TenantQrIndexLoadTest {
+
+    private static final int TENANTS = 50;
+    private static final int CREDENTIALS_PER_TENANT = 2_000;
+    private static final int GATE_THREADS = 8;
+    private static final int SCANS_PER_THREAD = 50_000;
+    private static final int ISSUED_PASSES = 10_000;
+    private static final long P99_BUDGET_NANOS = Duration.ofMillis(1).toNanos();
+
+    @Test
+    void findShouldAnswerEveryScanWhilePassesAreIssued() throws Exception {
+        Instant now = Instant.now();
+        List<UUID> tenants = tenants();
+        InMemoryIndex index = new InMemoryIndex(tenants, now);
+        index.warmUp(now);
+        assertEquals(TENANTS * CREDENTIALS_PER_TENANT, index.size());
+
+        long[] latencies = peakTraffic(index, tenants, now);
+
+        assertEquals(GATE_THREADS * SCANS_PER_THREAD, latencies.length);
+        assertEquals(TENANTS * CREDENTIALS_PER_TENANT + ISSUED_PASSES, index.size());
+        assertTrue(index.find(tenants.get(0), "NEW-0").isPresent());
+        assertTrue(index.find(tenants.get(1), "NEW-0").isEmpty());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "shield.benchmark.qr-index", matches = "true")
+    void findShouldAnswerPeakGateTrafficWellUnderAMillisecondAtP99() throws Exception {
+        Instant now = Instant.now();
+        List<UUID> tenants = tenants();
+        InMemoryIndex index = new InMemoryIndex(tenants, now);
+        index.warmUp(now);
+
+        long[] latencies = peakTraffic(index, tenants, now);
+
+        Arrays.sort(latencies);
+        long p99 = latencies[(int) (latencies.length * 0.99)];
+        assertTrue(p99 < P99_BUDGET_NANOS, "p99 gate lookup took " + p99 + "ns");
+    }
+
+    @Test
+    void findShouldNotAnswerAcrossTenants() {
+        Instant now = Instant.now();
+        UUID tenantA = UUID.randomUUID();
+        UUID tenantB = UUID.randomUUID();
+        InMemoryIndex index = new InMemoryIndex(List.of(tenantA), now);
+        index.warmUp(now);
+
+        assertTrue(index.find(tenantA, qr(tenantA, 7)).isPresent());
+        assertTrue(index.find(tenantB, qr(tenantA, 7)).isEmpty());
+    }
+
+    private static List<UUID> tenants() {
+        List<UUID> tenants = new ArrayList<>();
+        for (int i = 0; i < TENANTS; i++) {
+            tenants.add(UUID.randomUUID());
+        }
+        return tenants;
+    }
+
+    private static long[] peakTraffic(InMemoryIndex index, List<UUID> tenants, Instant now) throws Exception {
+        ExecutorService gates = Executors.newFixedThreadPool(GATE_THREADS + 1);
+        try {
+            Future<?> issuer = gates.submit(() -> {
+                for (int i = 0; i < ISSUED_PASSES; i++) {
+                    UUID tenantId = tenants.get(i % TENANTS);
+                    index.put(new TenantQrIndex.Entry<>(UUID.randomUUID(), tenantId, "NEW-" + i, now.plusSeconds(3600), "new"));
+                }
+            });
+            List<Future<long[]>> results = new ArrayList<>();
+            for (int t = 0; t < GATE_THREADS; t++) {
+                results.add(gates.submit(() -> scan(index, tenants)));
+            }
+
+            long[] latencies = new long[GATE_THREADS * SCANS_PER_THREAD];
+            int offset = 0;
+            for (Future<long[]> result : results) {
+                long[] threadLatencies = result.get();
+                System.arraycopy(threadLatencies, 0, latencies, offset, threadLatencies.length);
+                offset += threadLatencies.length;
+            }
+            issuer.get();
+            return latencies;
+        } finally {
+            gates.shutdownNow();
+        }
+    }
+
+    private static long[] scan(InMemoryIndex index, List<UUID> tenants) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] latencies = new long[SCANS_PER_THREAD];
+        for (int i = 0; i < SCANS_PER_THREAD; i++) {
+            UUID tenantId = tenants.get(random.nextInt(TENANTS));
+            String qrCode = qr(tenantId, random.nextInt(CREDENTIALS_PER_TENANT));
+            long started = System.nanoTime();
+            boolean found = index.find(tenantId, qrCode).isPresent();
+            latencies[i] = System.nanoTime() - started;
+            if (!found) {
+                throw new AssertionError("Indexed credential missing: " + qrCode);
+            }
+        }
+        return latencies;
+    }
+
+    private static String qr(UUID tenantId, int sequence) {
+        return "VIS-" + tenantId + "-" + sequence;
+    }
+
+    private static final class InMemoryIndex extends TenantQrIndex<String> {
+
+        private final List<UUID> tenants;
+        private final Instant expiresAt;
+
+        private InMemoryIndex(List<UUID> tenants, Instant now) {
+            super("load_test", new SimpleMeterRegistry(), true, Duration.ofSeconds(1), 512, Duration.ofSeconds(5));
+            this.tenants = tenants;
+            this.expiresAt = now.plusSeconds(3600);
+        }
+
+        @Override
+        protected void loadValid(Instant now, Consumer<Entry<String>> sink) {
+            for (UUID tenantId : tenants) {
+                for (int i = 0; i < CREDENTIALS_PER_TENANT; i++) {
+                    sink.accept(new Entry<>(UUID.randomUUID(), tenantId, qr(tenantId, i), expiresAt, "pass-" + i));
+                }
+            }
+        }
+
+        @Override
+        protected void loadChangedSince(Instant since, Instant now, Consumer<Entry<String>> upserts, Consumer<UUID> removals) {
+        }
+
+        @Override
+        protected void markExpired(List<UUID> ids, Instant now) {
+        }
+    }
+}
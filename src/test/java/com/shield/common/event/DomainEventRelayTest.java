@@ -0,0 +1,132 @@
+package com.shield.common.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class DomainEventRelayTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ObjectProvider<DomainEventSubscriber> subscriberProvider;
+
+    @Mock
+    private DomainEventSubscriber subscriber;
+
+    private DomainEventRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new DomainEventRelay(
+                jdbcTemplate,
+                transactionManager,
+                subscriberProvider,
+                new SimpleMeterRegistry(),
+                true,
+                100,
+                1000L,
+                3,
+                1000L,
+                60000L,
+                60000L,
+                72L);
+    }
+
+    @Test
+    void deliverShouldPublishHandledEventsAndHoldBackLaterEventsOfAFailedAggregate() {
+        when(subscriberProvider.orderedStream()).thenReturn(Stream.of(subscriber));
+        when(subscriber.supports(any(DomainEvent.class))).thenReturn(true);
+        UUID invoiceId = UUID.randomUUID();
+        DomainEventRelay.ClaimedEvent first = claimed(1L, 1, "INVOICE_GENERATED", invoiceId);
+        DomainEventRelay.ClaimedEvent second = claimed(2L, 1, "INVOICE_UPDATED", invoiceId);
+        DomainEventRelay.ClaimedEvent other = claimed(3L, 1, "VISITOR_ENTRY_LOGGED", UUID.randomUUID());
+        doThrow(new IllegalStateException("subscriber down")).when(subscriber).handle(first.event());
+
+        relay.deliver(List.of(first, second, other));
+
+        verify(subscriber, never()).handle(second.event());
+        verify(subscriber).handle(other.event());
+
+        List<Object[]> outcomes = captureOutcomes();
+        assertNull(outcomes.get(0)[0]);
+        assertNotNull(outcomes.get(0)[2]);
+        assertEquals("subscriber down", outcomes.get(0)[4]);
+
+        assertNull(outcomes.get(1)[0]);
+        assertEquals(1, outcomes.get(1)[3]);
+        assertEquals(2L, outcomes.get(1)[5]);
+
+        assertNotNull(outcomes.get(2)[0]);
+        assertEquals(3L, outcomes.get(2)[5]);
+    }
+
+    @Test
+    void deliverShouldDeadLetterEventsThatExhaustedTheirAttempts() {
+        when(subscriberProvider.orderedStream()).thenReturn(Stream.of(subscriber));
+        when(subscriber.supports(any(DomainEvent.class))).thenReturn(true);
+        DomainEventRelay.ClaimedEvent exhausted = claimed(7L, 3, "PAYMENT_GATEWAY_VERIFIED_SUCCESS", UUID.randomUUID());
+        doThrow(new IllegalStateException("constraint violated")).when(subscriber).handle(exhausted.event());
+
+        relay.deliver(List.of(exhausted));
+
+        Object[] outcome = captureOutcomes().get(0);
+        assertNull(outcome[0]);
+        assertNotNull(outcome[1]);
+        assertNull(outcome[2]);
+    }
+
+    @Test
+    void backoffShouldDoublePerAttemptUpToTheCap() {
+        assertEquals(Duration.ofSeconds(1), relay.backoff(1));
+        assertEquals(Duration.ofSeconds(8), relay.backoff(4));
+        assertEquals(Duration.ofSeconds(60), relay.backoff(30));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureOutcomes() {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        return captor.getValue();
+    }
+
+    private DomainEventRelay.ClaimedEvent claimed(long sequence, int attemptCount, String eventType, UUID aggregateId) {
+        DomainEvent event = new DomainEvent(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                eventType,
+                "invoice",
+                aggregateId,
+                null,
+                Instant.now().minusSeconds(1));
+        return new DomainEventRelay.ClaimedEvent(sequence, attemptCount, event);
+    }
+}
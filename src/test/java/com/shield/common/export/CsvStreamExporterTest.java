@@ -0,0 +1,45 @@
+package com.shield.common.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+class CsvStreamExporterTest {
+
+    @Test
+    void csvShouldQuoteValuesAndNormalizeJdbcTypes() {
+        Instant createdAt = Instant.parse("2026-03-01T10:15:30Z");
+
+        assertEquals("", CsvStreamExporter.csv(null));
+        assertEquals("\"say \"\"hi\"\"\"", CsvStreamExporter.csv("say \"hi\""));
+        assertEquals("\"2026-03-01T10:15:30Z\"", CsvStreamExporter.csv(Timestamp.from(createdAt)));
+        assertEquals("\"2026-03-01\"", CsvStreamExporter.csv(Date.valueOf(LocalDate.of(2026, 3, 1))));
+        assertEquals("\"100000\"", CsvStreamExporter.csv(new BigDecimal("1E+5")));
+    }
+
+    @Test
+    void gzipAttachmentShouldCompressStreamedBody() throws Exception {
+        StreamingResponseBody body = out -> out.write("id\n\"1\"\n".getBytes(StandardCharsets.UTF_8));
+
+        ResponseEntity<StreamingResponseBody> response = CsvExportResponses.attachment("ledger.csv", true, body);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        response.getBody().writeTo(buffer);
+
+        assertEquals("attachment; filename=ledger.csv.gz", response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        try (GZIPInputStream csv = new GZIPInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+            assertEquals("id\n\"1\"\n", new String(csv.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+}
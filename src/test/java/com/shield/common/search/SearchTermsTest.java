@@ -0,0 +1,24 @@
+package com.shield.common.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class SearchTermsTest {
+
+    @Test
+    void likePatternsShouldEscapeWildcards() {
+        assertEquals("%100\\%\\_off%", SearchTerms.containsPattern("100%_OFF"));
+        assertEquals("98\\\\76%", SearchTerms.prefixPattern("98\\76"));
+    }
+
+    @Test
+    void prefixTsQueryShouldAndWordPrefixesAndDropOperators() {
+        assertEquals(Optional.of("dining:* & tab:*"), SearchTerms.prefixTsQuery("  Dining   tab "));
+        assertEquals(Optional.of("a:* & b:* & c:*"), SearchTerms.prefixTsQuery("a & !b | c:*"));
+        assertEquals(Optional.of("société:*"), SearchTerms.prefixTsQuery("Société"));
+        assertTrue(SearchTerms.prefixTsQuery(" & | ! ").isEmpty());
+    }
+}
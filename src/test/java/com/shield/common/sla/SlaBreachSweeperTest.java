@@ -0,0 +1,90 @@
+package com.shield.common.sla;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.shield.common.cache.TenantCacheGenerations;
+import com.shield.common.event.DomainEvent;
+import com.shield.common.event.DomainEventPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class SlaBreachSweeperTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    @Mock
+    private TenantCacheGenerations tenantCacheGenerations;
+
+    private SlaBreachSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        sweeper = new SlaBreachSweeper(
+                jdbcTemplate,
+                transactionManager,
+                domainEventPublisher,
+                tenantCacheGenerations,
+                new SimpleMeterRegistry(),
+                false,
+                30000L,
+                2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sweepShouldDrainFullBatchesAndEscalateEveryBreach() {
+        UUID tenantId = UUID.randomUUID();
+        DomainEvent first = breached(tenantId, SlaBreachSweeper.COMPLAINT_BREACHED_EVENT, "complaint");
+        DomainEvent second = breached(tenantId, SlaBreachSweeper.COMPLAINT_BREACHED_EVENT, "complaint");
+        DomainEvent third = breached(tenantId, SlaBreachSweeper.COMPLAINT_BREACHED_EVENT, "complaint");
+        DomainEvent ticket = breached(tenantId, SlaBreachSweeper.TICKET_BREACHED_EVENT, "helpdesk_ticket");
+
+        when(jdbcTemplate.query(
+                argThat((String sql) -> sql != null && sql.startsWith("UPDATE complaint")),
+                ArgumentMatchers.<RowMapper<DomainEvent>>any(),
+                any(), any(), any()))
+                .thenReturn(List.of(first, second), List.of(third));
+        when(jdbcTemplate.query(
+                argThat((String sql) -> sql != null && sql.startsWith("UPDATE helpdesk_ticket")),
+                ArgumentMatchers.<RowMapper<DomainEvent>>any(),
+                any(), any(), any()))
+                .thenReturn(List.of(ticket));
+
+        int breached = sweeper.sweep(Instant.now());
+
+        assertEquals(4, breached);
+        ArgumentCaptor<List<DomainEvent>> published = ArgumentCaptor.forClass(List.class);
+        verify(domainEventPublisher, times(3)).publishAll(published.capture());
+        assertEquals(List.of(List.of(first, second), List.of(third), List.of(ticket)), published.getAllValues());
+        verify(tenantCacheGenerations, times(3)).invalidateAfterCommit(tenantId);
+    }
+
+    private DomainEvent breached(UUID tenantId, String eventType, String aggregateType) {
+        return DomainEvent.of(tenantId, null, eventType, aggregateType, UUID.randomUUID(), null);
+    }
+}
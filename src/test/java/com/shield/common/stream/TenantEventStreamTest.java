@@ -0,0 +1,167 @@
+package com.shield.common.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shield.common.exception.BadRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+class TenantEventStreamTest {
+
+    @Mock
+    private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TenantEventStream stream;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stream = new TenantEventStream(new ObjectMapper(), redisTemplateProvider, meterRegistry, false, 10, 2, 60000L, 0L, 2, 10000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.stop();
+    }
+
+    @Test
+    void deliverShouldRouteByTenantTopicAndUser() throws InterruptedException {
+        UUID tenantId = UUID.randomUUID();
+        UUID guardId = UUID.randomUUID();
+        UUID residentId = UUID.randomUUID();
+        RecordingEmitter guard = new RecordingEmitter();
+        RecordingEmitter resident = new RecordingEmitter();
+        RecordingEmitter otherTenant = new RecordingEmitter();
+        stream.register(new StreamConnection(tenantId, guardId, EnumSet.of(StreamTopic.SOS), guard, 2));
+        stream.register(new StreamConnection(tenantId, residentId, EnumSet.of(StreamTopic.NOTIFICATIONS), resident, 2));
+        stream.register(new StreamConnection(UUID.randomUUID(), guardId, EnumSet.allOf(StreamTopic.class), otherTenant, 2));
+
+        stream.deliver(new StreamEvent(tenantId, Set.of(), StreamTopic.SOS, "SOS_ALERT_RAISED", "{}"));
+        stream.deliver(new StreamEvent(tenantId, Set.of(guardId), StreamTopic.NOTIFICATIONS, "UNREAD_COUNT_CHANGED", "1"));
+        stream.deliver(new StreamEvent(tenantId, Set.of(residentId), StreamTopic.NOTIFICATIONS, "UNREAD_COUNT_CHANGED", "2"));
+
+        String guardFrame = guard.next();
+        String residentFrame = resident.next();
+        assertTrue(guardFrame.contains("event:SOS_ALERT_RAISED"));
+        assertTrue(residentFrame.contains("event:UNREAD_COUNT_CHANGED") && residentFrame.contains("2"));
+        assertTrue(otherTenant.sent.isEmpty());
+        assertEquals(3.0, meterRegistry.get("shield.stream.connections").gauge().value());
+    }
+
+    @Test
+    void deliverShouldEvictConnectionWhoseBufferOverflows() {
+        UUID tenantId = UUID.randomUUID();
+        StalledEmitter stalled = new StalledEmitter();
+        stream.register(new StreamConnection(tenantId, UUID.randomUUID(), EnumSet.of(StreamTopic.VISITORS), stalled, 2));
+
+        try {
+            for (int i = 0; i < 4; i++) {
+                stream.deliver(new StreamEvent(tenantId, Set.of(), StreamTopic.VISITORS, "VISITOR_MOVEMENTS", "[]"));
+            }
+
+            assertEquals(0, stream.connectionCount());
+            assertEquals(1.0, meterRegistry.get("shield.stream.evictions").counter().count());
+        } finally {
+            stalled.release.countDown();
+        }
+    }
+
+    @Test
+    void evictStalledShouldFreeSenderForHealthyConnections() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TenantEventStream singleSender = new TenantEventStream(
+                new ObjectMapper(), redisTemplateProvider, registry, false, 10, 4, 60000L, 0L, 1, 1000L);
+        UUID tenantId = UUID.randomUUID();
+        StalledEmitter stalled = new StalledEmitter();
+        RecordingEmitter healthy = new RecordingEmitter();
+        singleSender.register(new StreamConnection(tenantId, UUID.randomUUID(), EnumSet.of(StreamTopic.VISITORS), stalled, 4));
+
+        try {
+            singleSender.deliver(new StreamEvent(tenantId, Set.of(), StreamTopic.VISITORS, "VISITOR_MOVEMENTS", "[]"));
+            assertTrue(stalled.entered.await(5, TimeUnit.SECONDS));
+
+            singleSender.register(new StreamConnection(tenantId, UUID.randomUUID(), EnumSet.of(StreamTopic.SOS), healthy, 4));
+            singleSender.deliver(new StreamEvent(tenantId, Set.of(), StreamTopic.SOS, "SOS_ALERT_RAISED", "{}"));
+            assertNull(healthy.sent.poll(200, TimeUnit.MILLISECONDS));
+
+            singleSender.evictStalled(System.nanoTime() + TimeUnit.SECONDS.toNanos(2));
+
+            assertTrue(healthy.next().contains("event:SOS_ALERT_RAISED"));
+            assertEquals(1, singleSender.connectionCount());
+            assertEquals(1.0, registry.get("shield.stream.evictions").counter().count());
+        } finally {
+            stalled.release.countDown();
+            singleSender.stop();
+        }
+    }
+
+    @Test
+    void registerShouldRejectConnectionsBeyondLimit() {
+        TenantEventStream limited = new TenantEventStream(
+                new ObjectMapper(), redisTemplateProvider, new SimpleMeterRegistry(), false, 1, 2, 60000L, 0L, 1, 10000L);
+        UUID tenantId = UUID.randomUUID();
+        limited.register(new StreamConnection(tenantId, UUID.randomUUID(), EnumSet.of(StreamTopic.SOS), new SseEmitter(), 2));
+        StreamConnection second = new StreamConnection(tenantId, UUID.randomUUID(), EnumSet.of(StreamTopic.SOS), new SseEmitter(), 2);
+
+        assertThrows(BadRequestException.class, () -> limited.register(second));
+        assertEquals(1, limited.connectionCount());
+        limited.stop();
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        private String next() throws InterruptedException {
+            String frame = sent.poll(5, TimeUnit.SECONDS);
+            assertNotNull(frame);
+            return frame;
+        }
+    }
+
+    private static final class StalledEmitter extends SseEmitter {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.shield.integration;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.shield.integration.support.IntegrationTestBase;
+import com.shield.module.tenant.entity.TenantEntity;
+import com.shield.module.tenant.repository.TenantRepository;
+import com.shield.module.unit.entity.UnitEntity;
+import com.shield.module.unit.entity.UnitStatus;
+import com.shield.module.unit.repository.UnitRepository;
+import com.shield.module.user.entity.UserEntity;
+import com.shield.module.user.entity.UserRole;
+import com.shield.module.user.entity.UserStatus;
+import com.shield.module.user.repository.UserRepository;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class AmenityBookingConcurrencyIT extends IntegrationTestBase {
+
+    private static final String PASSWORD = "password123";
+    private static final int CONCURRENT_REQUESTS = 24;
+
+    private static final String OVERLAPPING_PAIRS_SQL = """
+            SELECT COUNT(*)
+            FROM amenity_booking a
+            JOIN amenity_booking b
+                ON b.amenity_id = a.amenity_id
+               AND b.id > a.id
+               AND b.start_time < a.end_time
+               AND b.end_time > a.start_time
+            WHERE a.amenity_id = ?
+              AND a.deleted = FALSE AND a.status IN ('PENDING', 'CONFIRMED')
+              AND b.deleted = FALSE AND b.status IN ('PENDING', 'CONFIRMED')
+            """;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private UnitRepository unitRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentRequestsForTheSameWindowShouldProduceExactlyOneBooking() throws Exception {
+        Fixture fixture = fixture("Festival Society", "festival.admin@shield.dev");
+        Instant start = Instant.now().plus(Duration.ofDays(2)).truncatedTo(ChronoUnit.HOURS);
+
+        List<Integer> statuses = bookConcurrently(fixture, index -> window(start, start.plus(Duration.ofHours(4))));
+
+        assertEquals(1, statuses.stream().filter(status -> status == HttpStatus.OK.value()).count());
+        assertEquals(CONCURRENT_REQUESTS - 1, statuses.stream().filter(status -> status == HttpStatus.BAD_REQUEST.value()).count());
+        assertEquals(0L, overlappingPairs(fixture.amenityId()));
+
+        given()
+                .header("Authorization", "Bearer " + fixture.token())
+                .queryParam("amenityId", fixture.amenityId())
+                .queryParam("startTime", start.plus(Duration.ofHours(1)).toString())
+                .queryParam("endTime", start.plus(Duration.ofHours(2)).toString())
+                .when()
+                .get("/amenity-bookings/check-availability")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("data.available", equalTo(false));
+    }
+
+    @Test
+    void concurrentStaggeredRequestsShouldNeverLeaveOverlappingBookings() throws Exception {
+        Fixture fixture = fixture("Clubhouse Society", "clubhouse.admin@shield.dev");
+        Instant base = Instant.now().plus(Duration.ofDays(3)).truncatedTo(ChronoUnit.HOURS);
+
+        List<Integer> statuses = bookConcurrently(fixture, index -> {
+            Instant start = base.plus(Duration.ofMinutes(30L * index));
+            return window(start, start.plus(Duration.ofHours(1)));
+        });
+
+        long accepted = statuses.stream().filter(status -> status == HttpStatus.OK.value()).count();
+        assertTrue(accepted >= CONCURRENT_REQUESTS / 3, "a window is only refused when a neighbouring window was booked");
+        assertEquals(CONCURRENT_REQUESTS, accepted + statuses.stream().filter(status -> status == HttpStatus.BAD_REQUEST.value()).count());
+        assertEquals(0L, overlappingPairs(fixture.amenityId()));
+    }
+
+    private List<Integer> bookConcurrently(Fixture fixture, IntFunction<Map<String, Object>> windows) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                Map<String, Object> window = windows.apply(i);
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    return given()
+                            .contentType("application/json")
+                            .header("Authorization", "Bearer " + fixture.token())
+                            .body(Map.of(
+                                    "unitId", fixture.unitId(),
+                                    "startTime", window.get("startTime"),
+                                    "endTime", window.get("endTime"),
+                                    "numberOfPersons", 50,
+                                    "purpose", "Festival"))
+                            .when()
+                            .post("/amenities/{id}/book", fixture.amenityId())
+                            .then()
+                            .extract()
+                            .statusCode();
+                }));
+            }
+            startGate.countDown();
+
+            List<Integer> statuses = new ArrayList<>();
+            for (Future<Integer> future : futures) {
+                statuses.add(future.get());
+            }
+            return statuses;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long overlappingPairs(String amenityId) {
+        Long pairs = jdbcTemplate.queryForObject(OVERLAPPING_PAIRS_SQL, Long.class, UUID.fromString(amenityId));
+        return pairs == null ? 0L : pairs;
+    }
+
+    private Map<String, Object> window(Instant start, Instant end) {
+        return Map.of("startTime", start.toString(), "endTime", end.toString());
+    }
+
+    private Fixture fixture(String societyName, String adminEmail) {
+        TenantEntity tenant = new TenantEntity();
+        tenant.setName(societyName);
+        tenant.setAddress("Integration Address");
+        tenant = tenantRepository.save(tenant);
+
+        UnitEntity unit = new UnitEntity();
+        unit.setTenantId(tenant.getId());
+        unit.setUnitNumber("A-101");
+        unit.setBlock("A");
+        unit.setType("FLAT");
+        unit.setSquareFeet(BigDecimal.valueOf(1200));
+        unit.setStatus(UnitStatus.ACTIVE);
+        unit = unitRepository.save(unit);
+
+        UserEntity admin = new UserEntity();
+        admin.setTenantId(tenant.getId());
+        admin.setUnitId(unit.getId());
+        admin.setName("Amenity Admin");
+        admin.setEmail(adminEmail);
+        admin.setPhone("9999999999");
+        admin.setPasswordHash(passwordEncoder.encode(PASSWORD));
+        admin.setRole(UserRole.ADMIN);
+        admin.setStatus(UserStatus.ACTIVE);
+        userRepository.save(admin);
+
+        String token = given()
+                .contentType("application/json")
+                .body(Map.of("email", adminEmail, "password", PASSWORD))
+                .when()
+                .post("/auth/login")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .path("data.accessToken");
+
+        String amenityId = given()
+                .contentType("application/json")
+                .header("Authorization", "Bearer " + token)
+                .body(Map.of(
+                        "name", "Festival Hall",
+                        "amenityType", "BANQUET_HALL",
+                        "capacity", 300,
+                        "bookingAllowed", true,
+                        "advanceBookingDays", 60,
+                        "active", true,
+                        "requiresApproval", false))
+                .when()
+                .post("/amenities")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .path("data.id");
+
+        return new Fixture(token, unit.getId().toString(), amenityId);
+    }
+
+    private record Fixture(String token, String unitId, String amenityId) {
+    }
+}
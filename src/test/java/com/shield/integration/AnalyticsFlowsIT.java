@@ -16,12 +16,14 @@ import com.shield.module.user.entity.UserRole;
 import com.shield.module.user.entity.UserStatus;
 import com.shield.module.user.repository.UserRepository;
 import java.math.BigDecimal;
+import java.sql.Date;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 class AnalyticsFlowsIT extends IntegrationTestBase {
@@ -40,6 +42,9 @@ class AnalyticsFlowsIT extends IntegrationTestBase {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void analyticsGovernanceFlowShouldAggregateRealOperationalEvents() {
         TenantEntity tenantOne = createTenant("Analytics Society One");
@@ -283,6 +288,72 @@ class AnalyticsFlowsIT extends IntegrationTestBase {
                 .statusCode(HttpStatus.NOT_FOUND.value());
     }
 
+    @Test
+    void analyticsRollupsShouldFollowBillChangesAndMatchRebuild() {
+        TenantEntity tenant = createTenant("Analytics Rollup Society");
+        UnitEntity unitOne = createUnit(tenant.getId(), "R-101");
+        UnitEntity unitTwo = createUnit(tenant.getId(), "R-102");
+        UserEntity admin = createUser(tenant.getId(), unitOne.getId(), "Rollup Admin", "admin.rollup@shield.dev", UserRole.ADMIN);
+        String token = login(admin.getEmail(), PASSWORD);
+
+        UUID paidBill = insertBill(tenant.getId(), unitOne.getId(), 3, 400);
+        insertBill(tenant.getId(), unitTwo.getId(), 3, 600);
+        UUID cancelledBill = insertBill(tenant.getId(), unitTwo.getId(), 4, 250);
+        jdbcTemplate.update("UPDATE maintenance_bill SET status = 'PAID' WHERE id = ?", paidBill);
+        jdbcTemplate.update("UPDATE maintenance_bill SET deleted = TRUE WHERE id = ?", cancelledBill);
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .get("/analytics/defaulter-trend")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("data.size()", equalTo(1))
+                .body("data[0].period", equalTo("2026-03"))
+                .body("data[0].defaulterUnits", equalTo(1))
+                .body("data[0].outstandingAmount", equalTo(600.0f));
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .get("/analytics/collection-efficiency")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("data.billedAmount", equalTo(1000.0f));
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .post("/analytics/rollups/rebuild")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .get("/analytics/defaulter-trend")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("data.size()", equalTo(1))
+                .body("data[0].defaulterUnits", equalTo(1))
+                .body("data[0].outstandingAmount", equalTo(600.0f));
+    }
+
+    private UUID insertBill(UUID tenantId, UUID unitId, int month, int amount) {
+        return jdbcTemplate.queryForObject(
+                """
+                INSERT INTO maintenance_bill (tenant_id, unit_id, month, year, amount, due_date, status)
+                VALUES (?, ?, ?, 2026, ?, ?, 'PENDING')
+                RETURNING id
+                """,
+                UUID.class,
+                tenantId,
+                unitId,
+                month,
+                BigDecimal.valueOf(amount),
+                Date.valueOf(LocalDate.of(2026, month, 28)));
+    }
+
     private TenantEntity createTenant(String name) {
         TenantEntity entity = new TenantEntity();
         entity.setName(name);
@@ -1,6 +1,7 @@
 package com.shield.integration;
 
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.notNullValue;
@@ -348,6 +349,106 @@ class BillingPaymentsModuleIT extends IntegrationTestBase {
                 .statusCode(HttpStatus.NOT_FOUND.value());
     }
 
+    @Test
+    void billingRunShouldInvoiceEligibleUnitsOnceWithSequentialNumbers() throws InterruptedException {
+        TenantEntity tenant = createTenant("M3 Billing Run Society");
+        UnitEntity billed = createUnit(tenant.getId(), "R-101");
+        createUnit(tenant.getId(), "R-102");
+        createUnit(tenant.getId(), "R-103");
+        UnitEntity inactive = createUnit(tenant.getId(), "R-104");
+        inactive.setStatus(UnitStatus.INACTIVE);
+        unitRepository.save(inactive);
+        UserEntity admin = createUser(tenant.getId(), billed.getId(), "Admin Run", "admin.run@shield.dev", UserRole.ADMIN);
+
+        String token = login(admin.getEmail(), PASSWORD);
+
+        String cycleId = given()
+                .contentType("application/json")
+                .header("Authorization", "Bearer " + token)
+                .body(Map.of(
+                        "cycleName", "April 2026",
+                        "month", 4,
+                        "year", 2026,
+                        "dueDate", LocalDate.of(2026, 4, 30).toString(),
+                        "lateFeeApplicableDate", LocalDate.of(2026, 5, 5).toString()))
+                .when()
+                .post("/billing-cycles")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .path("data.id");
+
+        given()
+                .contentType("application/json")
+                .header("Authorization", "Bearer " + token)
+                .body(Map.of(
+                        "unitId", billed.getId(),
+                        "billingCycleId", cycleId,
+                        "invoiceDate", LocalDate.of(2026, 4, 1).toString(),
+                        "dueDate", LocalDate.of(2026, 4, 30).toString(),
+                        "subtotal", 1000,
+                        "lateFee", 0,
+                        "gstAmount", 180,
+                        "otherCharges", 0))
+                .when()
+                .post("/invoices/generate")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("data.invoiceNumber", equalTo("INV-2026-000001"));
+
+        String runId = given()
+                .contentType("application/json")
+                .header("Authorization", "Bearer " + token)
+                .body(Map.of(
+                        "billingCycleId", cycleId,
+                        "invoiceDate", LocalDate.of(2026, 4, 1).toString(),
+                        "subtotal", 1000,
+                        "lateFee", 0,
+                        "gstAmount", 180,
+                        "otherCharges", 0))
+                .when()
+                .post("/billing-runs")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("data.totalUnits", equalTo(3))
+                .extract()
+                .path("data.id");
+
+        String status = "RUNNING";
+        for (int attempt = 0; attempt < 50 && "RUNNING".equals(status); attempt++) {
+            Thread.sleep(200);
+            status = given()
+                    .header("Authorization", "Bearer " + token)
+                    .when()
+                    .get("/billing-runs/{id}", runId)
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .extract()
+                    .path("data.status");
+        }
+        assertEquals("COMPLETED", status);
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .get("/billing-runs/{id}", runId)
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("data.processedUnits", equalTo(3))
+                .body("data.generatedInvoices", equalTo(2))
+                .body("data.skippedUnits", equalTo(1))
+                .body("data.progressPercent", equalTo(100));
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .get("/invoices/cycle/{cycleId}", cycleId)
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("data", hasSize(3))
+                .body("data.invoiceNumber", containsInAnyOrder("INV-2026-000001", "INV-2026-000002", "INV-2026-000003"));
+    }
+
     private TenantEntity createTenant(String name) {
         TenantEntity entity = new TenantEntity();
         entity.setName(name);
@@ -69,7 +69,9 @@ class CommunicationModuleIT extends IntegrationTestBase {
                                                 AnnouncementPriority.MEDIUM,
                                                 false,
                                                 null,
-                                                AnnouncementTargetAudience.ALL))
+                                                AnnouncementTargetAudience.ALL,
+                                                null,
+                                                null))
                                 .when().post("/announcements")
                                 .then().statusCode(200)
                                 .extract().path("data.id");
@@ -6,6 +6,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
 
 import com.shield.integration.support.IntegrationTestBase;
 import com.shield.module.tenant.entity.TenantEntity;
@@ -200,6 +201,16 @@ class ConfigAndFilesFlowsIT extends IntegrationTestBase {
                 .statusCode(HttpStatus.OK.value())
                 .body(containsString("Gate pass for cab number MH01AB1234"));
 
+        given()
+                .header("Authorization", "Bearer " + adminTokenOne)
+                .header("Range", "bytes=0-8")
+                .when()
+                .get("/files/{fileId}/download", fileId)
+                .then()
+                .statusCode(HttpStatus.PARTIAL_CONTENT.value())
+                .header("Content-Range", startsWith("bytes 0-8/"))
+                .body(equalTo("Gate pass"));
+
         given()
                 .header("Authorization", "Bearer " + residentTokenOne)
                 .when()
@@ -1,9 +1,11 @@
 package com.shield.integration;
 
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.shield.integration.support.IntegrationTestBase;
 import com.shield.module.tenant.entity.TenantEntity;
@@ -15,11 +17,14 @@ import com.shield.module.user.entity.UserEntity;
 import com.shield.module.user.entity.UserRole;
 import com.shield.module.user.entity.UserStatus;
 import com.shield.module.user.repository.UserRepository;
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -42,7 +47,7 @@ class ObservabilityLogsIT extends IntegrationTestBase {
     private PasswordEncoder passwordEncoder;
 
     @Test
-    void observabilityFlowShouldExposeAuditSystemAndApiRequestLogsWithTenantIsolation() {
+    void observabilityFlowShouldExposeAuditSystemAndApiRequestLogsWithTenantIsolation() throws Exception {
         TenantEntity tenantOne = createTenant("Logs Society One");
         UnitEntity unitOne = createUnit(tenantOne.getId(), "A-110");
         UserEntity adminOne = createUser(tenantOne.getId(), unitOne.getId(), "Admin One", "admin.logs.one@shield.dev", UserRole.ADMIN);
@@ -129,6 +134,32 @@ class ObservabilityLogsIT extends IntegrationTestBase {
                 .then()
                 .statusCode(HttpStatus.OK.value());
 
+        given()
+                .header("Authorization", "Bearer " + tokenOne)
+                .queryParam("from", from)
+                .queryParam("to", to)
+                .when()
+                .get("/audit-logs/export")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(containsString("text/csv"))
+                .body(containsString("entityType"))
+                .body(containsString(staffId));
+
+        byte[] gzipped = given()
+                .header("Authorization", "Bearer " + tokenOne)
+                .queryParam("gzip", true)
+                .when()
+                .get("/audit-logs/export")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .header("Content-Disposition", containsString("audit-logs.csv.gz"))
+                .extract()
+                .asByteArray();
+        try (GZIPInputStream csv = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertTrue(new String(csv.readAllBytes(), StandardCharsets.UTF_8).contains(staffId));
+        }
+
         given()
                 .header("Authorization", "Bearer " + tokenTwo)
                 .when()
@@ -0,0 +1,205 @@
+package com.shield.integration;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.shield.common.sla.SlaBreachSweeper;
+import com.shield.integration.support.IntegrationTestBase;
+import com.shield.module.tenant.entity.TenantEntity;
+import com.shield.module.tenant.repository.TenantRepository;
+import com.shield.module.unit.entity.UnitEntity;
+import com.shield.module.unit.entity.UnitStatus;
+import com.shield.module.unit.repository.UnitRepository;
+import com.shield.module.user.entity.UserEntity;
+import com.shield.module.user.entity.UserRole;
+import com.shield.module.user.entity.UserStatus;
+import com.shield.module.user.repository.UserRepository;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class SlaBreachModuleIT extends IntegrationTestBase {
+
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private UnitRepository unitRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SlaBreachSweeper slaBreachSweeper;
+
+    @Test
+    void overdueComplaintShouldBeFlaggedWithEscalationEvent() {
+        TenantEntity tenant = createTenant("SLA Complaint Society");
+        UnitEntity unit = createUnit(tenant.getId(), "SLA-101");
+        UserEntity resident = createUser(tenant.getId(), unit.getId(), "Resident", "sla.resident@shield.dev", UserRole.TENANT);
+        String residentToken = login(resident.getEmail(), PASSWORD);
+
+        String complaintId = given()
+                .contentType("application/json")
+                .header("Authorization", "Bearer " + residentToken)
+                .body(Map.of(
+                        "unitId", unit.getId(),
+                        "title", "Corridor light flickering",
+                        "description", "Third floor corridor light flickers at night",
+                        "priority", "MEDIUM",
+                        "complaintType", "ELECTRICAL",
+                        "location", "Tower A Floor 3",
+                        "slaHours", 4))
+                .when()
+                .post("/complaints")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .path("data.id");
+        UUID id = UUID.fromString(complaintId);
+
+        jdbcTemplate.update("UPDATE complaint SET sla_deadline = ? WHERE id = ?", Timestamp.from(Instant.now().minusSeconds(3600)), id);
+        slaBreachSweeper.sweep(Instant.now());
+
+        assertTrue(jdbcTemplate.queryForObject("SELECT sla_breach FROM complaint WHERE id = ?", Boolean.class, id));
+        assertEquals(1, countOutboxEvents("COMPLAINT_SLA_BREACHED", "complaint", id, tenant.getId()));
+
+        slaBreachSweeper.sweep(Instant.now());
+        assertEquals(1, countOutboxEvents("COMPLAINT_SLA_BREACHED", "complaint", id, tenant.getId()));
+    }
+
+    @Test
+    void overdueTicketShouldBeFlaggedAndClearedWhenCategoryDropsSla() {
+        TenantEntity tenant = createTenant("SLA Helpdesk Society");
+        UnitEntity unit = createUnit(tenant.getId(), "SLA-201");
+        UserEntity admin = createUser(tenant.getId(), unit.getId(), "Admin", "sla.admin@shield.dev", UserRole.ADMIN);
+        UserEntity resident = createUser(tenant.getId(), unit.getId(), "Resident", "sla.owner@shield.dev", UserRole.OWNER);
+        String adminToken = login(admin.getEmail(), PASSWORD);
+        String residentToken = login(resident.getEmail(), PASSWORD);
+
+        String categoryId = given()
+                .contentType("application/json")
+                .header("Authorization", "Bearer " + adminToken)
+                .body(Map.of(
+                        "name", "Plumbing",
+                        "description", "Leaks and drainage",
+                        "slaHours", 6))
+                .when()
+                .post("/helpdesk-categories")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .path("data.id");
+
+        String ticketId = given()
+                .contentType("application/json")
+                .header("Authorization", "Bearer " + residentToken)
+                .body(Map.of(
+                        "categoryId", categoryId,
+                        "unitId", unit.getId(),
+                        "subject", "Kitchen sink blocked",
+                        "description", "Water is not draining",
+                        "priority", "HIGH"))
+                .when()
+                .post("/helpdesk-tickets")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .path("data.id");
+        UUID id = UUID.fromString(ticketId);
+
+        jdbcTemplate.update("UPDATE helpdesk_ticket SET sla_deadline = ? WHERE id = ?", Timestamp.from(Instant.now().minusSeconds(3600)), id);
+        slaBreachSweeper.sweep(Instant.now());
+
+        assertTrue(jdbcTemplate.queryForObject("SELECT sla_breach FROM helpdesk_ticket WHERE id = ?", Boolean.class, id));
+        assertEquals(1, countOutboxEvents("HELPDESK_TICKET_SLA_BREACHED", "helpdesk_ticket", id, tenant.getId()));
+
+        Map<String, Object> categoryUpdate = new HashMap<>();
+        categoryUpdate.put("name", "Plumbing");
+        categoryUpdate.put("description", "Leaks and drainage");
+        categoryUpdate.put("slaHours", null);
+        given()
+                .contentType("application/json")
+                .header("Authorization", "Bearer " + adminToken)
+                .body(categoryUpdate)
+                .when()
+                .put("/helpdesk-categories/{id}", categoryId)
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        Map<String, Object> ticket = jdbcTemplate.queryForMap(
+                "SELECT sla_deadline, sla_breach FROM helpdesk_ticket WHERE id = ?", id);
+        assertNull(ticket.get("sla_deadline"));
+        assertFalse((Boolean) ticket.get("sla_breach"));
+    }
+
+    private int countOutboxEvents(String eventType, String aggregateType, UUID aggregateId, UUID tenantId) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM domain_event_outbox
+                WHERE event_type = ? AND aggregate_type = ? AND aggregate_id = ? AND tenant_id = ?
+                """, Integer.class, eventType, aggregateType, aggregateId, tenantId);
+        return count == null ? 0 : count;
+    }
+
+    private TenantEntity createTenant(String name) {
+        TenantEntity entity = new TenantEntity();
+        entity.setName(name);
+        entity.setAddress("Integration Address");
+        return tenantRepository.save(entity);
+    }
+
+    private UnitEntity createUnit(UUID tenantId, String unitNumber) {
+        UnitEntity unit = new UnitEntity();
+        unit.setTenantId(tenantId);
+        unit.setUnitNumber(unitNumber);
+        unit.setBlock("A");
+        unit.setType("FLAT");
+        unit.setSquareFeet(BigDecimal.valueOf(1000));
+        unit.setStatus(UnitStatus.ACTIVE);
+        return unitRepository.save(unit);
+    }
+
+    private UserEntity createUser(UUID tenantId, UUID unitId, String name, String email, UserRole role) {
+        UserEntity user = new UserEntity();
+        user.setTenantId(tenantId);
+        user.setUnitId(unitId);
+        user.setName(name);
+        user.setEmail(email);
+        user.setPhone("9999999999");
+        user.setPasswordHash(passwordEncoder.encode(PASSWORD));
+        user.setRole(role);
+        user.setStatus(UserStatus.ACTIVE);
+        return userRepository.save(user);
+    }
+
+    private String login(String email, String password) {
+        return given()
+                .contentType("application/json")
+                .body(Map.of("email", email, "password", password))
+                .when()
+                .post("/auth/login")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .path("data.accessToken");
+    }
+}
@@ -20,6 +20,7 @@ import com.shield.module.user.repository.UserRepository;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
@@ -376,6 +377,90 @@ class VisitorManagementModuleIT extends IntegrationTestBase {
                 .statusCode(HttpStatus.NOT_FOUND.value());
     }
 
+    @Test
+    void offlineGateEventBatchShouldApplyOnceAndReportPerEventResults() {
+        TenantEntity tenant = createTenant("M5 Gate Batch Society");
+        UnitEntity unit = createUnit(tenant.getId(), "G-101");
+        UserEntity admin = createUser(tenant.getId(), unit.getId(), "Batch Admin", "m5.batch.admin@shield.dev", UserRole.ADMIN);
+        UserEntity security = createUser(tenant.getId(), unit.getId(), "Batch Guard", "m5.batch.guard@shield.dev", UserRole.SECURITY);
+
+        String adminToken = login(admin.getEmail(), PASSWORD);
+        String securityToken = login(security.getEmail(), PASSWORD);
+
+        String passId = given()
+                .contentType("application/json")
+                .header("Authorization", "Bearer " + adminToken)
+                .body(Map.of(
+                        "unitId", unit.getId(),
+                        "visitorName", "Offline Guest",
+                        "validFrom", Instant.now().toString(),
+                        "validTo", Instant.now().plusSeconds(7200).toString()))
+                .when()
+                .post("/visitors/pass")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .path("data.id");
+
+        Instant enteredAt = Instant.now().minusSeconds(900);
+        Map<String, Object> batch = Map.of("events", List.of(
+                Map.of("idempotencyKey", "dev-1:2", "type", "EXIT", "visitorPassId", passId,
+                        "occurredAt", enteredAt.plusSeconds(600).toString(), "gate", "MAIN_GATE"),
+                Map.of("idempotencyKey", "dev-1:1", "type", "ENTRY", "visitorPassId", passId,
+                        "occurredAt", enteredAt.toString(), "gate", "MAIN_GATE"),
+                Map.of("idempotencyKey", "dev-1:1", "type", "ENTRY", "visitorPassId", passId,
+                        "occurredAt", enteredAt.toString(), "gate", "MAIN_GATE"),
+                Map.of("idempotencyKey", "dev-1:3", "type", "ENTRY", "visitorPassId", UUID.randomUUID(),
+                        "occurredAt", enteredAt.toString(), "gate", "MAIN_GATE")));
+
+        given()
+                .contentType("application/json")
+                .header("Authorization", "Bearer " + securityToken)
+                .body(batch)
+                .when()
+                .post("/visitor-logs/batch")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("data.applied", equalTo(2))
+                .body("data.duplicates", equalTo(1))
+                .body("data.rejected", equalTo(1))
+                .body("data.results[0].outcome", equalTo("APPLIED"))
+                .body("data.results[1].outcome", equalTo("APPLIED"))
+                .body("data.results[2].outcome", equalTo("DUPLICATE"))
+                .body("data.results[3].outcome", equalTo("REJECTED"));
+
+        given()
+                .header("Authorization", "Bearer " + adminToken)
+                .when()
+                .get("/visitor-passes/{id}", passId)
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("data.status", equalTo("USED"));
+
+        given()
+                .contentType("application/json")
+                .header("Authorization", "Bearer " + securityToken)
+                .body(batch)
+                .when()
+                .post("/visitor-logs/batch")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("data.applied", equalTo(0))
+                .body("data.duplicates", equalTo(3))
+                .body("data.rejected", equalTo(1));
+
+        given()
+                .header("Authorization", "Bearer " + adminToken)
+                .queryParam("page", 0)
+                .queryParam("size", 10)
+                .when()
+                .get("/visitor-logs/pass/{passId}", passId)
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("data.content", hasSize(1))
+                .body("data.content[0].exitTime", notNullValue());
+    }
+
     private TenantEntity createTenant(String name) {
         TenantEntity entity = new TenantEntity();
         entity.setName(name);
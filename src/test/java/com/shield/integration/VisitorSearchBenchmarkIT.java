@@ -0,0 +1,100 @@
+package com.shield.integration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.shield.common.search.SearchTerms;
+import com.shield.integration.support.IntegrationTestBase;
+import com.shield.module.tenant.entity.TenantEntity;
+import com.shield.module.tenant.repository.TenantRepository;
+import com.shield.module.visitor.repository.VisitorRepository;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compares the previous {@code LIKE '%...%'} visitor search, forced onto its original sequential-scan plan, with the
+ * trigram-indexed {@link VisitorRepository#search} on a million-row visitor table. Opt-in because seeding takes a
+ * while: {@code mvn verify -Dit.test=VisitorSearchBenchmarkIT -Dshield.benchmark.search=true}.
+ */
+@EnabledIfSystemProperty(named = "shield.benchmark.search", matches = "true")
+class VisitorSearchBenchmarkIT extends IntegrationTestBase {
+
+    private static final int ROWS = 1_000_000;
+    private static final int RUNS = 30;
+    private static final List<String> QUERIES = List.of("visitor 4242", "98765", "xyz-no-match");
+
+    private static final String LEGACY_SQL = """
+            SELECT v.id
+            FROM visitor v
+            WHERE v.tenant_id = ?
+              AND v.deleted = FALSE
+              AND (lower(v.visitor_name) LIKE lower(concat('%', ?, '%')) OR lower(v.phone) LIKE lower(concat('%', ?, '%')))
+            ORDER BY v.created_at DESC
+            LIMIT 20
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private VisitorRepository visitorRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void indexedSearchShouldBeatLegacyScanOnMillionVisitors() {
+        TenantEntity tenant = new TenantEntity();
+        tenant.setName("Search Benchmark Society");
+        tenant.setAddress("Benchmark Address");
+        UUID tenantId = tenantRepository.save(tenant).getId();
+
+        jdbcTemplate.update("""
+                INSERT INTO visitor (tenant_id, visitor_name, phone, visitor_type)
+                SELECT ?, 'Visitor ' || g, (9000000000 + g * 7919 % 999999999)::text, 'GUEST'
+                FROM generate_series(1, ?) AS g
+                """, tenantId, ROWS);
+        jdbcTemplate.execute("ANALYZE visitor");
+
+        for (String query : QUERIES) {
+            double legacy = medianMillis(() -> transactionTemplate.execute(status -> {
+                jdbcTemplate.execute("SET LOCAL enable_bitmapscan = off");
+                jdbcTemplate.execute("SET LOCAL enable_indexscan = off");
+                return jdbcTemplate.queryForList(LEGACY_SQL, UUID.class, tenantId, query, query).size();
+            }));
+            double indexed = medianMillis(() -> visitorRepository.search(
+                    tenantId,
+                    query.toLowerCase(Locale.ROOT),
+                    SearchTerms.containsPattern(query),
+                    SearchTerms.prefixPattern(query),
+                    PageRequest.of(0, 20)).getNumberOfElements());
+
+            assertTrue(indexed < legacy, String.format(Locale.ROOT,
+                    "indexed search should be faster for '%s' over %d rows: legacy %.1f ms, indexed %.1f ms",
+                    query, ROWS, legacy, indexed));
+        }
+    }
+
+    private static double medianMillis(Supplier<Integer> search) {
+        search.get();
+        long[] samples = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            search.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[RUNS / 2] / 1_000_000.0;
+    }
+}
@@ -47,6 +47,7 @@ public abstract class IntegrationTestBase {
         registry.add("shield.files.malware-scan-enabled", () -> false);
         registry.add("shield.security.cors.allowed-origins", () -> "http://localhost:3000,http://localhost:19006");
         registry.add("shield.payment.webhook.provider-secrets", () -> "STRIPE=stripe_test_secret");
+        registry.add("shield.audit.api-request-log.async-enabled", () -> false);
     }
 
     @BeforeEach
@@ -108,7 +108,8 @@ class AccountingControllerTest {
                 1,
                 1,
                 true,
-                true);
+                true,
+                null);
 
         when(accountingService.list(any())).thenReturn(page);
 
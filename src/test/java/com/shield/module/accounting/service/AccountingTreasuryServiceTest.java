@@ -4,9 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.shield.audit.service.AuditLogService;
+import com.shield.common.export.CsvStreamExporter;
 import com.shield.common.exception.BadRequestException;
 import com.shield.module.accounting.dto.AccountHeadCreateRequest;
 import com.shield.module.accounting.dto.BudgetCreateRequest;
@@ -63,6 +66,8 @@ class AccountingTreasuryServiceTest {
     private BudgetRepository budgetRepository;
     @Mock
     private AuditLogService auditLogService;
+    @Mock
+    private CsvStreamExporter csvStreamExporter;
 
     private AccountingTreasuryService accountingTreasuryService;
 
@@ -76,7 +81,8 @@ class AccountingTreasuryServiceTest {
                 vendorRepository,
                 vendorPaymentRepository,
                 budgetRepository,
-                auditLogService);
+                auditLogService,
+                csvStreamExporter);
     }
 
     @Test
@@ -246,15 +252,41 @@ class AccountingTreasuryServiceTest {
 
     @Test
     void incomeStatementShouldSummarizeIncomeAndExpense() {
-        when(ledgerEntryRepository.sumAmountByType(LedgerType.INCOME)).thenReturn(BigDecimal.valueOf(100000));
-        when(ledgerEntryRepository.sumAmountByType(LedgerType.EXPENSE)).thenReturn(BigDecimal.valueOf(30000));
+        when(ledgerEntryRepository.summarizeByAccountHeadAndType(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of(
+                new Object[] {UUID.randomUUID(), LedgerType.INCOME, BigDecimal.valueOf(60000)},
+                new Object[] {null, LedgerType.INCOME, BigDecimal.valueOf(40000)},
+                new Object[] {UUID.randomUUID(), LedgerType.EXPENSE, BigDecimal.valueOf(30000)}));
 
-        var report = accountingTreasuryService.incomeStatement();
+        var report = accountingTreasuryService.incomeStatement(null);
 
         assertEquals("INCOME_STATEMENT", report.reportType());
         assertEquals(BigDecimal.valueOf(70000), report.total());
     }
 
+    @Test
+    void trialBalanceShouldUseSingleGroupedQueryWithinFinancialYear() {
+        AccountHeadEntity maintenance = new AccountHeadEntity();
+        maintenance.setId(UUID.randomUUID());
+        maintenance.setHeadName("Maintenance");
+        AccountHeadEntity repairs = new AccountHeadEntity();
+        repairs.setId(UUID.randomUUID());
+        repairs.setHeadName("Repairs");
+
+        when(accountHeadRepository.findAllByDeletedFalseOrderByHeadNameAsc()).thenReturn(List.of(maintenance, repairs));
+        when(ledgerEntryRepository.summarizeByAccountHeadAndType(LocalDate.of(2026, 1, 1), LocalDate.of(2027, 12, 31)))
+                .thenReturn(List.<Object[]>of(
+                        new Object[] {maintenance.getId(), LedgerType.INCOME, BigDecimal.valueOf(5000)},
+                        new Object[] {maintenance.getId(), LedgerType.EXPENSE, BigDecimal.valueOf(1000)}));
+
+        var report = accountingTreasuryService.trialBalance("2026-2027");
+
+        assertEquals(2, report.lines().size());
+        assertEquals(BigDecimal.valueOf(6000), report.lines().get(0).amount());
+        assertEquals(BigDecimal.ZERO, report.lines().get(1).amount());
+        assertEquals(BigDecimal.valueOf(6000), report.total());
+        verify(ledgerEntryRepository, times(1)).summarizeByAccountHeadAndType(any(LocalDate.class), any(LocalDate.class));
+    }
+
     @Test
     void budgetVsActualShouldRejectInvalidFinancialYear() {
         assertThrows(BadRequestException.class, () -> accountingTreasuryService.listBudgetVsActual("2026/2027"));
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.shield.audit.service.AuditLogService;
@@ -15,6 +17,7 @@ import com.shield.module.amenities.dto.AmenityBookingResponse;
 import com.shield.module.amenities.dto.AmenityCreateRequest;
 import com.shield.module.amenities.dto.AmenityResponse;
 import com.shield.module.amenities.entity.AmenityBookingEntity;
+import com.shield.module.amenities.entity.AmenityBookingRuleEntity;
 import com.shield.module.amenities.entity.AmenityBookingStatus;
 import com.shield.module.amenities.entity.AmenityEntity;
 import com.shield.module.amenities.repository.AmenityBookingRepository;
@@ -25,7 +28,11 @@ import com.shield.module.amenities.repository.AmenityRepository;
 import com.shield.module.amenities.repository.AmenityTimeSlotRepository;
 import com.shield.security.model.ShieldPrincipal;
 import com.shield.tenant.context.TenantContext;
+import java.sql.SQLException;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
@@ -34,6 +41,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -61,6 +69,12 @@ class AmenitiesServiceTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private AmenityBookingIndex amenityBookingIndex;
+
+    @Mock
+    private AmenityAvailabilityCalendar amenityAvailabilityCalendar;
+
     private AmenitiesService amenitiesService;
 
     @BeforeEach
@@ -72,7 +86,9 @@ class AmenitiesServiceTest {
                 amenityPricingRepository,
                 amenityBookingRuleRepository,
                 amenityCancellationPolicyRepository,
-                auditLogService);
+                auditLogService,
+                amenityBookingIndex,
+                amenityAvailabilityCalendar);
     }
 
     @AfterEach
@@ -127,7 +143,7 @@ class AmenitiesServiceTest {
         when(amenityRepository.findByIdAndDeletedFalse(amenityId)).thenReturn(Optional.of(amenity));
         when(amenityBookingRepository.countByAmenityIdAndStartTimeLessThanAndEndTimeGreaterThanAndStatusInAndDeletedFalse(
                 eq(amenityId), any(), any(), any())).thenReturn(0L);
-        when(amenityBookingRepository.save(any(AmenityBookingEntity.class))).thenAnswer(invocation -> {
+        when(amenityBookingRepository.saveAndFlush(any(AmenityBookingEntity.class))).thenAnswer(invocation -> {
             AmenityBookingEntity entity = invocation.getArgument(0);
             entity.setId(UUID.randomUUID());
             return entity;
@@ -186,6 +202,50 @@ class AmenitiesServiceTest {
         assertThrows(BadRequestException.class, () -> amenitiesService.createBooking(amenityId, request));
     }
 
+    @Test
+    void createBookingShouldRejectBlackoutDate() {
+        UUID amenityId = UUID.randomUUID();
+        UUID tenantId = UUID.randomUUID();
+
+        AmenityEntity amenity = new AmenityEntity();
+        amenity.setId(amenityId);
+        amenity.setTenantId(tenantId);
+        amenity.setActive(true);
+        amenity.setBookingAllowed(true);
+        amenity.setAdvanceBookingDays(30);
+
+        LocalDate blackout = LocalDate.now(ZoneOffset.UTC).plusDays(2);
+        AmenityBookingRuleEntity rule = new AmenityBookingRuleEntity();
+        rule.setAmenityId(amenityId);
+        rule.setRuleType(AmenityAvailabilityCalendar.RULE_BLACKOUT_DATE);
+        rule.setRuleValue(blackout.toString());
+        rule.setActive(true);
+
+        when(amenityRepository.findByIdAndDeletedFalse(amenityId)).thenReturn(Optional.of(amenity));
+        when(amenityBookingRuleRepository.findAllByAmenityIdAndDeletedFalseOrderByCreatedAtDesc(amenityId))
+                .thenReturn(List.of(rule));
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new ShieldPrincipal(UUID.randomUUID(), tenantId, "test@shield.dev", "ADMIN"),
+                null));
+
+        Instant start = blackout.atTime(10, 0).toInstant(ZoneOffset.UTC);
+        AmenityBookingCreateRequest request = new AmenityBookingCreateRequest(
+                UUID.randomUUID(),
+                null,
+                start,
+                start.plusSeconds(7200),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null);
+
+        assertThrows(BadRequestException.class, () -> amenitiesService.createBooking(amenityId, request));
+        verifyNoInteractions(amenityBookingRepository);
+    }
+
     @Test
     void checkAvailabilityShouldReturnUnavailableWhenConflictsFound() {
         UUID amenityId = UUID.randomUUID();
@@ -205,6 +265,67 @@ class AmenitiesServiceTest {
         assertEquals(2L, response.conflictingBookings());
     }
 
+    @Test
+    void checkAvailabilityShouldAnswerFromIndexWithoutQueryingBookings() {
+        UUID amenityId = UUID.randomUUID();
+        UUID tenantId = UUID.randomUUID();
+        AmenityEntity amenity = new AmenityEntity();
+        amenity.setId(amenityId);
+        amenity.setTenantId(tenantId);
+
+        Instant start = Instant.now().plusSeconds(3600);
+        Instant end = start.plusSeconds(3600);
+        when(amenityRepository.findByIdAndDeletedFalse(amenityId)).thenReturn(Optional.of(amenity));
+        when(amenityBookingIndex.overlapping(tenantId, amenityId, start, end)).thenReturn(Optional.of(List.of(
+                new AmenityBookingIndex.BookedInterval(UUID.randomUUID(), start.minusSeconds(600), start.plusSeconds(600)))));
+
+        AmenityAvailabilityResponse response = amenitiesService.checkAvailability(amenityId, start, end);
+
+        assertEquals(false, response.available());
+        assertEquals(1L, response.conflictingBookings());
+        verifyNoInteractions(amenityBookingRepository);
+    }
+
+    @Test
+    void createBookingShouldReportConflictWhenExclusionConstraintRejectsConcurrentInsert() {
+        UUID amenityId = UUID.randomUUID();
+        UUID tenantId = UUID.randomUUID();
+
+        AmenityEntity amenity = new AmenityEntity();
+        amenity.setId(amenityId);
+        amenity.setTenantId(tenantId);
+        amenity.setActive(true);
+        amenity.setBookingAllowed(true);
+        amenity.setAdvanceBookingDays(30);
+
+        when(amenityRepository.findByIdAndDeletedFalse(amenityId)).thenReturn(Optional.of(amenity));
+        when(amenityBookingRepository.countByAmenityIdAndStartTimeLessThanAndEndTimeGreaterThanAndStatusInAndDeletedFalse(
+                eq(amenityId), any(), any(), any())).thenReturn(0L);
+        when(amenityBookingRepository.saveAndFlush(any(AmenityBookingEntity.class))).thenThrow(new DataIntegrityViolationException(
+                "conflicting key value violates exclusion constraint",
+                new SQLException("conflicting key value violates exclusion constraint", "23P01")));
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new ShieldPrincipal(UUID.randomUUID(), tenantId, "test@shield.dev", "ADMIN"),
+                null));
+
+        Instant start = Instant.now().plusSeconds(3600);
+        AmenityBookingCreateRequest request = new AmenityBookingCreateRequest(
+                UUID.randomUUID(), null, start, start.plusSeconds(3600), null, null, null, null, null, null);
+
+        assertThrows(BadRequestException.class, () -> amenitiesService.createBooking(amenityId, request));
+        verify(amenityBookingIndex).evict(amenityId);
+    }
+
+    @Test
+    void getAvailabilityCalendarShouldRejectRangeLongerThanMonth() {
+        UUID amenityId = UUID.randomUUID();
+        LocalDate from = LocalDate.of(2026, 3, 1);
+
+        assertThrows(BadRequestException.class, () -> amenitiesService.getAvailabilityCalendar(amenityId, from, from.plusDays(31)));
+        assertThrows(BadRequestException.class, () -> amenitiesService.getAvailabilityCalendar(amenityId, from, from.minusDays(1)));
+    }
+
     @Test
     void getShouldThrowWhenAmenityMissing() {
         UUID amenityId = UUID.randomUUID();
@@ -0,0 +1,111 @@
+package com.shield.module.amenities.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.shield.module.amenities.dto.AmenityCalendarInterval;
+import com.shield.module.amenities.dto.AmenityCalendarIntervalStatus;
+import com.shield.module.amenities.entity.AmenityBookingRuleEntity;
+import com.shield.module.amenities.entity.AmenityTimeSlotEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class AmenityAvailabilityCalendarTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    private final UUID amenityId = UUID.randomUUID();
+    private final AmenityAvailabilityCalendar calendar =
+            new AmenityAvailabilityCalendar(new SimpleMeterRegistry(), true, 300L, 1000L);
+
+    @Test
+    void intervalsShouldMergeSlotsBookingsAndBlackoutDates() {
+        AmenityAvailabilityCalendar.Inputs inputs = new AmenityAvailabilityCalendar.Inputs(
+                List.of(slot(LocalTime.of(9, 0), LocalTime.of(12, 0)), slot(LocalTime.of(12, 0), LocalTime.of(18, 0))),
+                List.of(rule(AmenityAvailabilityCalendar.RULE_BLACKOUT_DATE, MONDAY.plusDays(1).toString())),
+                List.of(new AmenityBookingIndex.BookedInterval(UUID.randomUUID(), at(MONDAY, 10), at(MONDAY, 13))),
+                Instant.MAX);
+
+        List<AmenityCalendarInterval> intervals = calendar.intervals(amenityId, MONDAY, MONDAY.plusDays(1), (from, to) -> inputs);
+
+        assertEquals(List.of(
+                new AmenityCalendarInterval(at(MONDAY, 9), at(MONDAY, 10), AmenityCalendarIntervalStatus.FREE),
+                new AmenityCalendarInterval(at(MONDAY, 10), at(MONDAY, 13), AmenityCalendarIntervalStatus.OCCUPIED),
+                new AmenityCalendarInterval(at(MONDAY, 13), at(MONDAY, 18), AmenityCalendarIntervalStatus.FREE),
+                new AmenityCalendarInterval(at(MONDAY.plusDays(1), 9), at(MONDAY.plusDays(1), 18), AmenityCalendarIntervalStatus.UNAVAILABLE)),
+                intervals);
+    }
+
+    @Test
+    void intervalsShouldCarryOvernightSlotsPastMidnight() {
+        AmenityAvailabilityCalendar.Inputs inputs = new AmenityAvailabilityCalendar.Inputs(
+                List.of(slot(LocalTime.of(22, 0), LocalTime.of(2, 0))),
+                List.of(),
+                List.of(new AmenityBookingIndex.BookedInterval(UUID.randomUUID(), at(MONDAY, 23), at(MONDAY.plusDays(1), 1))),
+                Instant.MAX);
+
+        List<AmenityCalendarInterval> intervals = calendar.intervals(amenityId, MONDAY, MONDAY.plusDays(1), (from, to) -> inputs);
+
+        assertEquals(List.of(
+                new AmenityCalendarInterval(at(MONDAY, 0), at(MONDAY, 2), AmenityCalendarIntervalStatus.FREE),
+                new AmenityCalendarInterval(at(MONDAY, 22), at(MONDAY, 23), AmenityCalendarIntervalStatus.FREE),
+                new AmenityCalendarInterval(at(MONDAY, 23), at(MONDAY.plusDays(1), 0), AmenityCalendarIntervalStatus.OCCUPIED),
+                new AmenityCalendarInterval(at(MONDAY.plusDays(1), 0), at(MONDAY.plusDays(1), 1), AmenityCalendarIntervalStatus.OCCUPIED),
+                new AmenityCalendarInterval(at(MONDAY.plusDays(1), 1), at(MONDAY.plusDays(1), 2), AmenityCalendarIntervalStatus.FREE),
+                new AmenityCalendarInterval(at(MONDAY.plusDays(1), 22), at(MONDAY.plusDays(2), 0), AmenityCalendarIntervalStatus.FREE)),
+                intervals);
+    }
+
+    @Test
+    void intervalsShouldOnlyLoadDaysMissingFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+        AmenityAvailabilityCalendar.Inputs inputs = new AmenityAvailabilityCalendar.Inputs(
+                List.of(),
+                List.of(rule(AmenityAvailabilityCalendar.RULE_CLOSED_DAY, "sunday")),
+                List.of(),
+                at(MONDAY.plusDays(2), 12));
+
+        calendar.intervals(amenityId, MONDAY, MONDAY.plusDays(1), (from, to) -> {
+            loads.incrementAndGet();
+            return inputs;
+        });
+        List<AmenityCalendarInterval> intervals = calendar.intervals(amenityId, MONDAY, MONDAY.plusDays(2), (from, to) -> {
+            loads.incrementAndGet();
+            assertEquals(MONDAY.plusDays(2), from);
+            return inputs;
+        });
+
+        assertEquals(2, loads.get());
+        assertEquals(4, intervals.size());
+        assertEquals(new AmenityCalendarInterval(at(MONDAY.plusDays(2), 12), at(MONDAY.plusDays(3), 0),
+                AmenityCalendarIntervalStatus.UNAVAILABLE), intervals.get(3));
+    }
+
+    private static Instant at(LocalDate date, int hour) {
+        return date.atTime(hour, 0).toInstant(ZoneOffset.UTC);
+    }
+
+    private AmenityTimeSlotEntity slot(LocalTime start, LocalTime end) {
+        AmenityTimeSlotEntity slot = new AmenityTimeSlotEntity();
+        slot.setAmenityId(amenityId);
+        slot.setStartTime(start);
+        slot.setEndTime(end);
+        slot.setActive(true);
+        return slot;
+    }
+
+    private AmenityBookingRuleEntity rule(String type, String value) {
+        AmenityBookingRuleEntity rule = new AmenityBookingRuleEntity();
+        rule.setAmenityId(amenityId);
+        rule.setRuleType(type);
+        rule.setRuleValue(value);
+        rule.setActive(true);
+        return rule;
+    }
+}
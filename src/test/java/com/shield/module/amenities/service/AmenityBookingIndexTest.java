@@ -0,0 +1,71 @@
+package com.shield.module.amenities.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.shield.module.amenities.entity.AmenityBookingEntity;
+import com.shield.module.amenities.entity.AmenityBookingStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class AmenityBookingIndexTest {
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final UUID amenityId = UUID.randomUUID();
+    private final Instant base = Instant.now().plus(Duration.ofDays(1));
+    private final AmenityBookingIndex index = new AmenityBookingIndex(
+            mock(JdbcTemplate.class), new SimpleMeterRegistry(), 60L, 24L, 100L);
+
+    @Test
+    void overlappingShouldFindLongBookingsThatStartWellBeforeTheWindow() {
+        assertTrue(index.overlapping(tenantId, amenityId, base, base.plusSeconds(60)).orElseThrow().isEmpty());
+
+        AmenityBookingEntity allDay = booking(base, base.plus(Duration.ofHours(10)), AmenityBookingStatus.CONFIRMED);
+        AmenityBookingEntity morning = booking(base.plus(Duration.ofHours(1)), base.plus(Duration.ofHours(2)), AmenityBookingStatus.PENDING);
+        index.recordAfterCommit(allDay);
+        index.recordAfterCommit(morning);
+
+        List<AmenityBookingIndex.BookedInterval> overlaps =
+                index.overlapping(tenantId, amenityId, base.plus(Duration.ofHours(5)), base.plus(Duration.ofHours(6))).orElseThrow();
+
+        assertEquals(1, overlaps.size());
+        assertEquals(allDay.getId(), overlaps.get(0).bookingId());
+        assertEquals(2, index.overlapping(tenantId, amenityId, base, base.plus(Duration.ofHours(3))).orElseThrow().size());
+    }
+
+    @Test
+    void recordAfterCommitShouldDropBookingsThatNoLongerBlock() {
+        index.overlapping(tenantId, amenityId, base, base.plusSeconds(60));
+        AmenityBookingEntity booking = booking(base, base.plus(Duration.ofHours(2)), AmenityBookingStatus.CONFIRMED);
+        index.recordAfterCommit(booking);
+
+        booking.setStatus(AmenityBookingStatus.CANCELLED);
+        index.recordAfterCommit(booking);
+
+        assertTrue(index.overlapping(tenantId, amenityId, base, base.plus(Duration.ofHours(1))).orElseThrow().isEmpty());
+    }
+
+    @Test
+    void overlappingShouldDeferToDatabaseBeforeTheLoadedHorizon() {
+        Instant lastWeek = Instant.now().minus(Duration.ofDays(7));
+
+        assertTrue(index.overlapping(tenantId, amenityId, lastWeek, lastWeek.plusSeconds(60)).isEmpty());
+    }
+
+    private AmenityBookingEntity booking(Instant start, Instant end, AmenityBookingStatus status) {
+        AmenityBookingEntity entity = new AmenityBookingEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setTenantId(tenantId);
+        entity.setAmenityId(amenityId);
+        entity.setStartTime(start);
+        entity.setEndTime(end);
+        entity.setStatus(status);
+        return entity;
+    }
+}
@@ -0,0 +1,133 @@
+package com.shield.module.analytics.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shield.audit.service.AuditLogService;
+import com.shield.common.cache.CacheNames;
+import com.shield.common.cache.TenantCacheGenerations;
+import com.shield.common.cache.TenantCacheKeyGenerator;
+import com.shield.module.analytics.dto.ReportExecutionResponse;
+import com.shield.module.analytics.entity.AnalyticsDashboardEntity;
+import com.shield.module.analytics.repository.AnalyticsDashboardRepository;
+import com.shield.module.analytics.repository.ReportTemplateRepository;
+import com.shield.module.analytics.repository.ScheduledReportRepository;
+import com.shield.security.model.ShieldPrincipal;
+import com.shield.tenant.context.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@SpringJUnitConfig(AnalyticsServiceCacheTest.Config.class)
+class AnalyticsServiceCacheTest {
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private AnalyticsDashboardRepository analyticsDashboardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void clearTenantContext() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void secondDashboardRunShouldServeWidgetFromAnalyticsCache() {
+        UUID tenantId = UUID.randomUUID();
+        UUID dashboardId = UUID.randomUUID();
+        AnalyticsDashboardEntity dashboard = new AnalyticsDashboardEntity();
+        dashboard.setId(dashboardId);
+        dashboard.setTenantId(tenantId);
+        dashboard.setDashboardName("Committee Command Center");
+        dashboard.setDashboardType("committee");
+        dashboard.setWidgetsJson("{\"widgets\":[\"collectionEfficiency\"]}");
+        when(analyticsDashboardRepository.findByIdAndDeletedFalse(dashboardId)).thenReturn(Optional.of(dashboard));
+        when(jdbcTemplate.queryForMap(contains("analytics_collection_daily"), eq(tenantId)))
+                .thenReturn(Map.of("billed_amount", BigDecimal.valueOf(1000), "collected_amount", BigDecimal.valueOf(750)));
+
+        TenantContext.setTenantId(tenantId);
+        ShieldPrincipal principal = new ShieldPrincipal(UUID.randomUUID(), tenantId, "admin@shield.dev", "ADMIN");
+        ReportExecutionResponse first = analyticsService.executeDashboard(dashboardId, principal);
+        ReportExecutionResponse second = analyticsService.executeDashboard(dashboardId, principal);
+
+        assertEquals(first.data(), second.data());
+        verify(jdbcTemplate, times(1)).queryForMap(contains("analytics_collection_daily"), eq(tenantId));
+    }
+
+    @Configuration
+    @EnableCaching
+    @Import({AnalyticsService.class, TenantCacheKeyGenerator.class})
+    @SuppressWarnings("unchecked")
+    static class Config {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CacheNames.ANALYTICS);
+        }
+
+        @Bean
+        TenantCacheGenerations tenantCacheGenerations() {
+            return new TenantCacheGenerations(mock(ObjectProvider.class), false);
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate() {
+            return mock(JdbcTemplate.class);
+        }
+
+        @Bean
+        ReportExecutionEngine reportExecutionEngine(JdbcTemplate jdbcTemplate) {
+            return new ReportExecutionEngine(mock(PlatformTransactionManager.class), jdbcTemplate, new SimpleMeterRegistry(), 2, 16, 5000, 10);
+        }
+
+        @Bean
+        ReportTemplateRepository reportTemplateRepository() {
+            return mock(ReportTemplateRepository.class);
+        }
+
+        @Bean
+        ScheduledReportRepository scheduledReportRepository() {
+            return mock(ScheduledReportRepository.class);
+        }
+
+        @Bean
+        AnalyticsDashboardRepository analyticsDashboardRepository() {
+            return mock(AnalyticsDashboardRepository.class);
+        }
+
+        @Bean
+        AuditLogService auditLogService() {
+            return mock(AuditLogService.class);
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+}
@@ -2,17 +2,24 @@ package com.shield.module.analytics.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shield.audit.service.AuditLogService;
+import com.shield.common.exception.ResourceNotFoundException;
 import com.shield.module.analytics.dto.CollectionEfficiencyResponse;
+import com.shield.module.analytics.dto.ReportExecutionResponse;
 import com.shield.module.analytics.dto.ReportTemplateCreateRequest;
 import com.shield.module.analytics.dto.ReportTemplateResponse;
+import com.shield.module.analytics.dto.ReportWidgetExecutionResponse;
 import com.shield.module.analytics.entity.AnalyticsDashboardEntity;
 import com.shield.module.analytics.entity.ReportTemplateEntity;
 import com.shield.module.analytics.repository.AnalyticsDashboardRepository;
@@ -22,8 +29,10 @@ import com.shield.security.model.ShieldPrincipal;
 import com.shield.tenant.context.TenantContext;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -50,6 +59,12 @@ class AnalyticsServiceTest {
     @Mock
     private JdbcTemplate jdbcTemplate;
 
+    @Mock
+    private ReportExecutionEngine reportExecutionEngine;
+
+    @Mock
+    private AnalyticsService self;
+
     private AnalyticsService analyticsService;
 
     @BeforeEach
@@ -59,7 +74,10 @@ class AnalyticsServiceTest {
                 scheduledReportRepository,
                 analyticsDashboardRepository,
                 auditLogService,
-                jdbcTemplate);
+                jdbcTemplate,
+                reportExecutionEngine,
+                new ObjectMapper(),
+                self);
     }
 
     @AfterEach
@@ -95,10 +113,8 @@ class AnalyticsServiceTest {
         UUID tenantId = UUID.randomUUID();
         TenantContext.setTenantId(tenantId);
 
-        when(jdbcTemplate.queryForObject(contains("maintenance_bill"), eq(BigDecimal.class), eq(tenantId)))
-                .thenReturn(BigDecimal.valueOf(2500));
-        when(jdbcTemplate.queryForObject(contains("payment"), eq(BigDecimal.class), eq(tenantId)))
-                .thenReturn(BigDecimal.valueOf(1000));
+        when(jdbcTemplate.queryForMap(contains("analytics_collection_daily"), eq(tenantId)))
+                .thenReturn(Map.of("billed_amount", BigDecimal.valueOf(2500), "collected_amount", BigDecimal.valueOf(1000)));
 
         CollectionEfficiencyResponse response = analyticsService.getCollectionEfficiency();
 
@@ -137,4 +153,58 @@ class AnalyticsServiceTest {
         assertTrue(response.defaultDashboard());
         assertFalse(existingDefault.isDefaultDashboard());
     }
+
+    @Test
+    void executeDashboardShouldFanOutKnownWidgetsAndFlagUnknownOnesAsPartial() {
+        UUID dashboardId = UUID.randomUUID();
+        UUID tenantId = UUID.randomUUID();
+
+        AnalyticsDashboardEntity dashboard = new AnalyticsDashboardEntity();
+        dashboard.setId(dashboardId);
+        dashboard.setTenantId(tenantId);
+        dashboard.setDashboardName("Committee Command Center");
+        dashboard.setDashboardType("committee");
+        dashboard.setWidgetsJson("{\"widgets\":[\"collectionEfficiency\",\"occupancy-rate\",\"weather\"]}");
+
+        CollectionEfficiencyResponse efficiency = new CollectionEfficiencyResponse(
+                BigDecimal.valueOf(1000), BigDecimal.valueOf(750), BigDecimal.valueOf(75));
+
+        when(analyticsDashboardRepository.findByIdAndDeletedFalse(dashboardId)).thenReturn(Optional.of(dashboard));
+        when(self.getCollectionEfficiency()).thenReturn(efficiency);
+        when(reportExecutionEngine.execute(anyMap())).thenAnswer(invocation -> {
+            Map<String, Supplier<Object>> queries = invocation.getArgument(0);
+            assertEquals(List.of("collectionEfficiency", "occupancyRate"), List.copyOf(queries.keySet()));
+            return new ReportExecutionEngine.Result(
+                    Map.of("collectionEfficiency", queries.get("collectionEfficiency").get()),
+                    List.of(
+                            new ReportWidgetExecutionResponse("collectionEfficiency", ReportExecutionEngine.STATUS_COMPLETED, 4L, null),
+                            new ReportWidgetExecutionResponse("occupancyRate", ReportExecutionEngine.STATUS_TIMED_OUT, 5000L, "Exceeded 5000 ms")),
+                    true);
+        });
+
+        ShieldPrincipal principal = new ShieldPrincipal(UUID.randomUUID(), tenantId, "admin@shield.dev", "ADMIN");
+        ReportExecutionResponse response = analyticsService.executeDashboard(dashboardId, principal);
+
+        assertEquals("COMMITTEE", response.reportType());
+        assertTrue(response.partial());
+        assertEquals(Map.of("collectionEfficiency", efficiency), response.data());
+        assertEquals(3, response.widgets().size());
+        assertEquals("UNSUPPORTED", response.widgets().get(2).status());
+        assertEquals("weather", response.widgets().get(2).widget());
+    }
+
+    @Test
+    void executeDashboardShouldRejectAnotherTenantsDashboard() {
+        UUID dashboardId = UUID.randomUUID();
+        AnalyticsDashboardEntity dashboard = new AnalyticsDashboardEntity();
+        dashboard.setId(dashboardId);
+        dashboard.setTenantId(UUID.randomUUID());
+        dashboard.setWidgetsJson("{\"widgets\":[\"collectionEfficiency\"]}");
+        when(analyticsDashboardRepository.findByIdAndDeletedFalse(dashboardId)).thenReturn(Optional.of(dashboard));
+
+        ShieldPrincipal principal = new ShieldPrincipal(UUID.randomUUID(), UUID.randomUUID(), "admin@shield.dev", "ADMIN");
+
+        assertThrows(ResourceNotFoundException.class, () -> analyticsService.executeDashboard(dashboardId, principal));
+        verifyNoInteractions(reportExecutionEngine);
+    }
 }
@@ -0,0 +1,117 @@
+package com.shield.module.analytics.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.shield.module.analytics.dto.ReportWidgetExecutionResponse;
+import com.shield.tenant.context.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class ReportExecutionEngineTest {
+
+    private final ReportExecutionEngine engine = new ReportExecutionEngine(
+            mock(PlatformTransactionManager.class),
+            mock(JdbcTemplate.class),
+            new SimpleMeterRegistry(),
+            4,
+            16,
+            500,
+            10);
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+        TenantContext.clear();
+    }
+
+    @Test
+    void shouldRunWidgetsConcurrentlyWithCallerTenantContext() {
+        UUID tenantId = UUID.randomUUID();
+        TenantContext.setTenantId(tenantId);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        Map<String, Supplier<Object>> widgets = new LinkedHashMap<>();
+        widgets.put("first", () -> awaitPeer(bothStarted));
+        widgets.put("second", () -> awaitPeer(bothStarted));
+
+        ReportExecutionEngine.Result result = engine.execute(widgets);
+
+        assertFalse(result.partial());
+        assertEquals(tenantId, result.data().get("first"));
+        assertEquals(tenantId, result.data().get("second"));
+        assertTrue(result.widgets().stream().allMatch(w -> ReportExecutionEngine.STATUS_COMPLETED.equals(w.status())));
+    }
+
+    @Test
+    void shouldReturnPartialResultsWhenWidgetTimesOutOrFails() {
+        TenantContext.setTenantId(UUID.randomUUID());
+
+        Map<String, Supplier<Object>> widgets = new LinkedHashMap<>();
+        widgets.put("fast", () -> "ready");
+        widgets.put("slow", () -> {
+            sleep(2_000);
+            return "late";
+        });
+        widgets.put("broken", () -> {
+            throw new IllegalStateException("query failed");
+        });
+
+        long startedAt = System.nanoTime();
+        ReportExecutionEngine.Result result = engine.execute(widgets);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertTrue(result.partial());
+        assertEquals(Map.of("fast", "ready"), result.data());
+        assertTrue(elapsedMillis < 1_500, "execution should stop waiting at the query timeout");
+
+        Map<String, String> statuses = new LinkedHashMap<>();
+        for (ReportWidgetExecutionResponse widget : result.widgets()) {
+            statuses.put(widget.widget(), widget.status());
+        }
+        assertEquals(ReportExecutionEngine.STATUS_COMPLETED, statuses.get("fast"));
+        assertEquals(ReportExecutionEngine.STATUS_TIMED_OUT, statuses.get("slow"));
+        assertEquals(ReportExecutionEngine.STATUS_FAILED, statuses.get("broken"));
+    }
+
+    @Test
+    void shouldNotLeakTenantContextIntoPooledThreads() {
+        TenantContext.setTenantId(UUID.randomUUID());
+        engine.execute(Map.of("warmup", () -> "ok"));
+        TenantContext.clear();
+
+        ReportExecutionEngine.Result result = engine.execute(
+                Map.of("tenant", () -> TenantContext.getTenantId().map(Object.class::cast).orElse("none")));
+
+        assertEquals("none", result.data().get("tenant"));
+    }
+
+    private Object awaitPeer(CountDownLatch bothStarted) {
+        bothStarted.countDown();
+        try {
+            assertTrue(bothStarted.await(400, TimeUnit.MILLISECONDS), "widgets did not run in parallel");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return TenantContext.getRequiredTenantId();
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
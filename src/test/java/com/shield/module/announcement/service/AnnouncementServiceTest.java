@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -21,10 +22,9 @@ import com.shield.module.announcement.entity.AnnouncementTargetAudience;
 import com.shield.module.announcement.repository.AnnouncementReadReceiptRepository;
 import com.shield.module.announcement.repository.AnnouncementRepository;
 import com.shield.module.notification.dto.NotificationDispatchResponse;
+import com.shield.module.notification.dto.NotificationRecipient;
+import com.shield.module.notification.service.NotificationRecipientSource;
 import com.shield.module.notification.service.NotificationService;
-import com.shield.module.user.entity.UserEntity;
-import com.shield.module.user.entity.UserRole;
-import com.shield.module.user.entity.UserStatus;
 import com.shield.security.model.ShieldPrincipal;
 import java.time.Instant;
 import java.util.List;
@@ -33,7 +33,6 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -49,6 +48,9 @@ class AnnouncementServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private AnnouncementRecipientResolver recipientResolver;
+
     @Mock
     private AuditLogService auditLogService;
 
@@ -60,11 +62,12 @@ class AnnouncementServiceTest {
                 announcementRepository,
                 readReceiptRepository,
                 notificationService,
+                recipientResolver,
                 auditLogService);
     }
 
     @Test
-    void publishShouldDispatchOnlyTargetAudienceUsers() {
+    void publishShouldDispatchResolvedAudienceRecipients() {
         UUID tenantId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
         UUID announcementId = UUID.randomUUID();
@@ -79,23 +82,14 @@ class AnnouncementServiceTest {
         announcement.setTargetAudience(AnnouncementTargetAudience.TENANTS);
         announcement.setStatus(AnnouncementStatus.DRAFT);
 
-        UserEntity tenantUser = new UserEntity();
-        tenantUser.setId(UUID.randomUUID());
-        tenantUser.setEmail("tenant@shield.dev");
-        tenantUser.setRole(UserRole.TENANT);
-        tenantUser.setStatus(UserStatus.ACTIVE);
-
-        UserEntity ownerUser = new UserEntity();
-        ownerUser.setId(UUID.randomUUID());
-        ownerUser.setEmail("owner@shield.dev");
-        ownerUser.setRole(UserRole.OWNER);
-        ownerUser.setStatus(UserStatus.ACTIVE);
+        NotificationRecipientSource recipients = consumer -> consumer.accept(
+                List.of(new NotificationRecipient(UUID.randomUUID(), "tenant@shield.dev", true)));
 
         when(announcementRepository.findByIdAndDeletedFalse(announcementId)).thenReturn(Optional.of(announcement));
         when(announcementRepository.save(any(AnnouncementEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(notificationService.getTenantActiveUsers(tenantId)).thenReturn(List.of(tenantUser, ownerUser));
+        when(recipientResolver.recipients(announcement)).thenReturn(recipients);
         when(notificationService.sendAnnouncement(eq(tenantId), eq(userId), eq(announcementId), any(), any(), any()))
-                .thenReturn(new NotificationDispatchResponse(1, 1, 0, 0));
+                .thenReturn(new NotificationDispatchResponse(1, 0, 0, 0, 1));
 
         ShieldPrincipal principal = new ShieldPrincipal(userId, tenantId, "admin@shield.dev", "ADMIN");
         AnnouncementPublishResponse response = announcementService.publish(announcementId, principal);
@@ -103,16 +97,13 @@ class AnnouncementServiceTest {
         assertEquals(AnnouncementStatus.PUBLISHED, response.announcement().status());
         assertEquals(1, response.notificationDispatch().total());
 
-        ArgumentCaptor<List<UserEntity>> recipientsCaptor = ArgumentCaptor.forClass(List.class);
         verify(notificationService).sendAnnouncement(
                 eq(tenantId),
                 eq(userId),
                 eq(announcementId),
-                any(),
-                any(),
-                recipientsCaptor.capture());
-        assertEquals(1, recipientsCaptor.getValue().size());
-        assertEquals(UserRole.TENANT, recipientsCaptor.getValue().get(0).getRole());
+                eq("[Announcement] Water Shutdown"),
+                eq("Water supply maintenance window."),
+                same(recipients));
     }
 
     @Test
@@ -176,11 +167,7 @@ class AnnouncementServiceTest {
         AnnouncementEntity announcement = publishedAnnouncement(announcementId, tenantId, AnnouncementTargetAudience.TENANTS);
         when(announcementRepository.findByIdAndDeletedFalse(announcementId)).thenReturn(Optional.of(announcement));
 
-        UserEntity tenantOne = userWithRole(UserRole.TENANT);
-        UserEntity tenantTwo = userWithRole(UserRole.TENANT);
-        UserEntity owner = userWithRole(UserRole.OWNER);
-
-        when(notificationService.getTenantActiveUsers(tenantId)).thenReturn(List.of(tenantOne, tenantTwo, owner));
+        when(recipientResolver.count(announcement)).thenReturn(2L);
         when(readReceiptRepository.countByAnnouncementIdAndDeletedFalse(announcementId)).thenReturn(1L);
 
         AnnouncementStatisticsResponse response = announcementService.getStatistics(announcementId);
@@ -204,13 +191,4 @@ class AnnouncementServiceTest {
         announcement.setPublishedAt(Instant.now().minusSeconds(30));
         return announcement;
     }
-
-    private UserEntity userWithRole(UserRole role) {
-        UserEntity user = new UserEntity();
-        user.setId(UUID.randomUUID());
-        user.setEmail(role.name().toLowerCase() + "@shield.dev");
-        user.setRole(role);
-        user.setStatus(UserStatus.ACTIVE);
-        return user;
-    }
 }
@@ -6,10 +6,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
 import com.shield.audit.service.AuditLogService;
+import com.shield.common.event.DomainEventPublisher;
 import com.shield.common.exception.BadRequestException;
 import com.shield.common.exception.ResourceNotFoundException;
 import com.shield.module.billing.dto.BillingCycleCreateRequest;
@@ -76,6 +76,12 @@ class BillingManagementServiceTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    @Mock
+    private InvoiceNumberAllocator invoiceNumberAllocator;
+
     private BillingManagementService billingManagementService;
 
     @BeforeEach
@@ -87,7 +93,9 @@ class BillingManagementServiceTest {
                 invoiceRepository,
                 paymentReminderRepository,
                 lateFeeRuleRepository,
-                auditLogService);
+                auditLogService,
+                domainEventPublisher,
+                invoiceNumberAllocator);
     }
 
     @Test
@@ -370,7 +378,7 @@ class BillingManagementServiceTest {
                 BigDecimal.valueOf(180),
                 BigDecimal.valueOf(0));
 
-        when(invoiceRepository.findByInvoiceNumberAndDeletedFalse(anyString())).thenReturn(Optional.empty());
+        when(invoiceNumberAllocator.allocate(principal.tenantId(), 2026, 1)).thenReturn(List.of("INV-2026-000001"));
         when(invoiceRepository.save(any(InvoiceEntity.class))).thenAnswer(invocation -> {
             InvoiceEntity entity = invocation.getArgument(0);
             entity.setId(UUID.randomUUID());
@@ -380,6 +388,7 @@ class BillingManagementServiceTest {
         var response = billingManagementService.generateInvoice(request, principal);
 
         assertNotNull(response.id());
+        assertEquals("INV-2026-000001", response.invoiceNumber());
         assertEquals(InvoiceStatus.UNPAID, response.status());
         assertEquals(BigDecimal.valueOf(1205), response.totalAmount());
         assertEquals(BigDecimal.valueOf(1205), response.outstandingAmount());
@@ -400,7 +409,8 @@ class BillingManagementServiceTest {
                 BigDecimal.valueOf(100),
                 BigDecimal.ZERO);
 
-        when(invoiceRepository.findByInvoiceNumberAndDeletedFalse(anyString())).thenReturn(Optional.empty());
+        when(invoiceNumberAllocator.allocate(principal.tenantId(), LocalDate.now().getYear(), 2))
+                .thenReturn(List.of("INV-2026-000001", "INV-2026-000002"));
         when(invoiceRepository.saveAll(anyList())).thenAnswer(invocation -> {
             List<InvoiceEntity> entities = invocation.getArgument(0);
             entities.forEach(entity -> entity.setId(UUID.randomUUID()));
@@ -410,6 +420,7 @@ class BillingManagementServiceTest {
         var response = billingManagementService.bulkGenerateInvoices(request, principal);
 
         assertEquals(2, response.size());
+        assertEquals("INV-2026-000002", response.get(1).invoiceNumber());
     }
 
     @Test
@@ -0,0 +1,140 @@
+package com.shield.module.billing.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.shield.audit.service.AuditLogService;
+import com.shield.common.exception.BadRequestException;
+import com.shield.module.billing.dto.BillingRunCreateRequest;
+import com.shield.module.billing.entity.BillingCycleEntity;
+import com.shield.module.billing.entity.BillingCycleStatus;
+import com.shield.module.billing.entity.BillingRunEntity;
+import com.shield.module.billing.entity.BillingRunStatus;
+import com.shield.module.billing.repository.BillingCycleRepository;
+import com.shield.module.billing.repository.BillingRunRepository;
+import com.shield.security.model.ShieldPrincipal;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class BillingRunServiceTest {
+
+    @Mock
+    private BillingRunRepository billingRunRepository;
+    @Mock
+    private BillingCycleRepository billingCycleRepository;
+    @Mock
+    private BillingRunEngine billingRunEngine;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private AuditLogService auditLogService;
+
+    private BillingRunService billingRunService;
+
+    @BeforeEach
+    void setUp() {
+        billingRunService = new BillingRunService(
+                billingRunRepository, billingCycleRepository, billingRunEngine, jdbcTemplate, auditLogService, 300);
+    }
+
+    @Test
+    void startRunShouldRecordScopeAndSubmitToEngine() {
+        ShieldPrincipal principal = principal();
+        BillingCycleEntity cycle = cycle(BillingCycleStatus.PUBLISHED);
+        when(billingCycleRepository.findByIdAndDeletedFalse(cycle.getId())).thenReturn(Optional.of(cycle));
+        when(billingRunRepository.findAllByBillingCycleIdAndDeletedFalseOrderByStartedAtDesc(cycle.getId())).thenReturn(List.of());
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(principal.tenantId()))).thenReturn(3000);
+        when(billingRunRepository.saveAndFlush(any(BillingRunEntity.class))).thenAnswer(invocation -> {
+            BillingRunEntity entity = invocation.getArgument(0);
+            entity.setId(UUID.randomUUID());
+            return entity;
+        });
+
+        var response = billingRunService.startRun(request(cycle.getId()), principal);
+
+        assertEquals(BillingRunStatus.RUNNING, response.status());
+        assertEquals(3000, response.totalUnits());
+        assertEquals(cycle.getDueDate(), response.dueDate());
+        assertEquals(0, response.progressPercent());
+        verify(billingRunEngine).submit(response.id(), principal.tenantId());
+    }
+
+    @Test
+    void startRunShouldRejectClosedCycleAndConcurrentRun() {
+        ShieldPrincipal principal = principal();
+        BillingCycleEntity closed = cycle(BillingCycleStatus.CLOSED);
+        when(billingCycleRepository.findByIdAndDeletedFalse(closed.getId())).thenReturn(Optional.of(closed));
+        assertThrows(BadRequestException.class, () -> billingRunService.startRun(request(closed.getId()), principal));
+
+        BillingCycleEntity open = cycle(BillingCycleStatus.PUBLISHED);
+        when(billingCycleRepository.findByIdAndDeletedFalse(open.getId())).thenReturn(Optional.of(open));
+        when(billingRunRepository.findAllByBillingCycleIdAndDeletedFalseOrderByStartedAtDesc(open.getId()))
+                .thenReturn(List.of(run(BillingRunStatus.RUNNING, Instant.now())));
+        assertThrows(BadRequestException.class, () -> billingRunService.startRun(request(open.getId()), principal));
+
+        verify(billingRunRepository, never()).saveAndFlush(any(BillingRunEntity.class));
+    }
+
+    @Test
+    void resumeRunShouldOnlyRestartFailedOrStalledRuns() {
+        ShieldPrincipal principal = principal();
+        BillingRunEntity active = run(BillingRunStatus.RUNNING, Instant.now());
+        when(billingRunRepository.findByIdAndDeletedFalse(active.getId())).thenReturn(Optional.of(active));
+        assertThrows(BadRequestException.class, () -> billingRunService.resumeRun(active.getId(), principal));
+
+        BillingRunEntity stalled = run(BillingRunStatus.RUNNING, Instant.now().minusSeconds(900));
+        stalled.setProcessedUnits(500);
+        when(billingRunRepository.findByIdAndDeletedFalse(stalled.getId())).thenReturn(Optional.of(stalled));
+        when(billingRunRepository.saveAndFlush(stalled)).thenReturn(stalled);
+
+        var response = billingRunService.resumeRun(stalled.getId(), principal);
+
+        assertEquals(BillingRunStatus.RUNNING, response.status());
+        assertEquals(50, response.progressPercent());
+        verify(billingRunEngine).submit(stalled.getId(), principal.tenantId());
+    }
+
+    private BillingRunCreateRequest request(UUID cycleId) {
+        return new BillingRunCreateRequest(
+                cycleId, null, null, BigDecimal.valueOf(1000), BigDecimal.ZERO, BigDecimal.valueOf(180), BigDecimal.ZERO);
+    }
+
+    private BillingCycleEntity cycle(BillingCycleStatus status) {
+        BillingCycleEntity cycle = new BillingCycleEntity();
+        cycle.setId(UUID.randomUUID());
+        cycle.setDueDate(LocalDate.of(2026, 4, 30));
+        cycle.setStatus(status);
+        return cycle;
+    }
+
+    private BillingRunEntity run(BillingRunStatus status, Instant updatedAt) {
+        BillingRunEntity run = new BillingRunEntity();
+        run.setId(UUID.randomUUID());
+        run.setStatus(status);
+        run.setTotalUnits(1000);
+        run.setStartedAt(updatedAt);
+        run.setUpdatedAt(updatedAt);
+        return run;
+    }
+
+    private ShieldPrincipal principal() {
+        return new ShieldPrincipal(UUID.randomUUID(), UUID.randomUUID(), "admin@shield.dev", "ADMIN");
+    }
+}
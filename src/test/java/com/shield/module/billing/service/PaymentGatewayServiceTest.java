@@ -9,6 +9,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.shield.audit.service.AuditLogService;
+import com.shield.common.event.DomainEventPublisher;
 import com.shield.common.exception.BadRequestException;
 import com.shield.module.billing.dto.PaymentCallbackRequest;
 import com.shield.module.billing.dto.PaymentInitiateRequest;
@@ -50,6 +51,9 @@ class PaymentGatewayServiceTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
     @Mock
     private PaymentGatewayAdapterRegistry paymentGatewayAdapterRegistry;
 
@@ -69,7 +73,8 @@ class PaymentGatewayServiceTest {
                 paymentRepository,
                 paymentGatewayAdapterRegistry,
                 paymentWebhookSignatureVerifier,
-                auditLogService);
+                auditLogService,
+                domainEventPublisher);
     }
 
     @Test
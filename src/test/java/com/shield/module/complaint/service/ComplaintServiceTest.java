@@ -1,9 +1,12 @@
 package com.shield.module.complaint.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.shield.audit.service.AuditLogService;
@@ -11,12 +14,14 @@ import com.shield.common.exception.ResourceNotFoundException;
 import com.shield.module.complaint.dto.ComplaintAssignRequest;
 import com.shield.module.complaint.dto.ComplaintCreateRequest;
 import com.shield.module.complaint.dto.ComplaintResponse;
+import com.shield.module.complaint.dto.ComplaintUpdateRequest;
 import com.shield.module.complaint.entity.ComplaintEntity;
 import com.shield.module.complaint.entity.ComplaintPriority;
 import com.shield.module.complaint.entity.ComplaintStatus;
 import com.shield.module.complaint.repository.ComplaintCommentRepository;
 import com.shield.module.complaint.repository.ComplaintRepository;
 import com.shield.security.model.ShieldPrincipal;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
@@ -77,6 +82,38 @@ class ComplaintServiceTest {
         assertEquals(ComplaintStatus.OPEN, response.status());
         assertNotNull(response.complaintNumber());
         assertEquals("PLUMBING", response.complaintType());
+        verify(complaintRepository).save(argThat(saved -> saved.getSlaDeadline() != null));
+    }
+
+    @Test
+    void updateShouldMoveDeadlineAndClearBreachWhenSlaIsExtended() {
+        UUID complaintId = UUID.randomUUID();
+        Instant createdAt = Instant.now().minus(Duration.ofHours(5));
+
+        ComplaintEntity entity = new ComplaintEntity();
+        entity.setId(complaintId);
+        entity.setTenantId(UUID.randomUUID());
+        entity.setStatus(ComplaintStatus.OPEN);
+        entity.setCreatedAt(createdAt);
+        entity.setSlaHours(4);
+        entity.setSlaDeadline(createdAt.plus(Duration.ofHours(4)));
+        entity.setSlaBreach(true);
+
+        when(complaintRepository.findByIdAndDeletedFalse(complaintId)).thenReturn(Optional.of(entity));
+        when(complaintRepository.save(any(ComplaintEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ComplaintResponse response = complaintService.update(complaintId, new ComplaintUpdateRequest(
+                null,
+                UUID.randomUUID(),
+                "Water leakage",
+                "Leak near pump room",
+                ComplaintPriority.HIGH,
+                "PLUMBING",
+                "Pump room",
+                24));
+
+        assertFalse(response.slaBreach());
+        assertEquals(createdAt.plus(Duration.ofHours(24)), entity.getSlaDeadline());
     }
 
     @Test
@@ -3,7 +3,9 @@ package com.shield.module.digitalid.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.shield.audit.service.AuditLogService;
@@ -37,11 +39,15 @@ class DigitalIdCardServiceTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private DigitalIdCardQrIndex digitalIdCardQrIndex;
+
     private DigitalIdCardService digitalIdCardService;
 
     @BeforeEach
     void setUp() {
-        digitalIdCardService = new DigitalIdCardService(digitalIdCardRepository, userRepository, auditLogService);
+        digitalIdCardService = new DigitalIdCardService(
+                digitalIdCardRepository, userRepository, auditLogService, digitalIdCardQrIndex);
     }
 
     @Test
@@ -106,8 +112,8 @@ class DigitalIdCardServiceTest {
         entity.setExpiryDate(LocalDate.now().minusDays(1));
         entity.setActive(true);
 
+        when(digitalIdCardQrIndex.find(tenantId, "SID-EXPIRED")).thenReturn(Optional.empty());
         when(digitalIdCardRepository.findByQrCodeDataAndDeletedFalse("SID-EXPIRED")).thenReturn(Optional.of(entity));
-        when(digitalIdCardRepository.save(any(DigitalIdCardEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         ShieldPrincipal principal = new ShieldPrincipal(UUID.randomUUID(), tenantId, "security@shield.dev", "SECURITY");
         DigitalIdVerificationResponse response = digitalIdCardService.verifyByQrCode("SID-EXPIRED", principal);
@@ -116,5 +122,22 @@ class DigitalIdCardServiceTest {
         assertEquals(true, response.expired());
         assertEquals(false, response.active());
         verify(auditLogService).logEvent(eq(tenantId), eq(principal.userId()), eq("DIGITAL_ID_VERIFIED"), eq("digital_id_card"), eq(cardId), any());
+        verify(digitalIdCardRepository, never()).save(any(DigitalIdCardEntity.class));
+    }
+
+    @Test
+    void verifyByQrCodeShouldAnswerIndexedCardWithoutDatabase() {
+        UUID tenantId = UUID.randomUUID();
+        UUID cardId = UUID.randomUUID();
+        DigitalIdVerificationResponse indexed = new DigitalIdVerificationResponse(
+                cardId, UUID.randomUUID(), "SID-HOT", true, false, true, LocalDate.now().plusDays(30), "Card is valid");
+        when(digitalIdCardQrIndex.find(tenantId, "SID-HOT")).thenReturn(Optional.of(indexed));
+
+        ShieldPrincipal principal = new ShieldPrincipal(UUID.randomUUID(), tenantId, "security@shield.dev", "SECURITY");
+        DigitalIdVerificationResponse response = digitalIdCardService.verifyByQrCode("SID-HOT", principal);
+
+        assertEquals(indexed, response);
+        verifyNoInteractions(digitalIdCardRepository);
+        verify(auditLogService).logEvent(eq(tenantId), eq(principal.userId()), eq("DIGITAL_ID_VERIFIED"), eq("digital_id_card"), eq(cardId), any());
     }
 }
@@ -3,10 +3,13 @@ package com.shield.module.emergency.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.shield.audit.service.AuditLogService;
 import com.shield.common.exception.BadRequestException;
+import com.shield.common.stream.StreamTopic;
+import com.shield.common.stream.TenantEventStream;
 import com.shield.module.emergency.dto.SosAlertRaiseRequest;
 import com.shield.module.emergency.dto.SosAlertResponse;
 import com.shield.module.emergency.entity.SosAlertEntity;
@@ -47,6 +50,9 @@ class EmergencyServiceTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private TenantEventStream tenantEventStream;
+
     private EmergencyService emergencyService;
 
     @BeforeEach
@@ -57,7 +63,8 @@ class EmergencyServiceTest {
                 fireDrillRecordRepository,
                 safetyEquipmentRepository,
                 safetyInspectionRepository,
-                auditLogService);
+                auditLogService,
+                tenantEventStream);
     }
 
     @Test
@@ -82,6 +89,7 @@ class EmergencyServiceTest {
         assertEquals("ACTIVE", response.status().name());
         assertEquals(principal.userId(), response.raisedBy());
         assertEquals(principal.tenantId(), response.tenantId());
+        verify(tenantEventStream).publishAfterCommit(principal.tenantId(), StreamTopic.SOS, "SOS_ALERT_RAISED", response);
     }
 
     @Test
@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -62,7 +64,7 @@ class FileStorageServiceTest {
     }
 
     @Test
-    void uploadShouldPersistAndReturnMetadata() {
+    void uploadShouldPersistAndReturnMetadata() throws Exception {
         UUID tenantId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
         UUID storedId = UUID.randomUUID();
@@ -88,6 +90,8 @@ class FileStorageServiceTest {
         assertEquals("file-001", response.fileId());
         assertEquals("notes.txt", response.fileName());
         assertEquals(12, response.fileSize());
+        assertEquals("73b65ec67c1f1ac9ad4197de6de1acd708f80a9523b25b41eea316d4cc353af0", response.checksum());
+        assertArrayEquals("hello shield".getBytes(), Files.readAllBytes(tempDir.resolve(tenantId.toString()).resolve("file-001_notes.txt")));
         verify(auditLogService).logEvent(tenantId, userId, "FILE_UPLOADED", "stored_file", storedId, null);
     }
 
@@ -194,7 +198,8 @@ class FileStorageServiceTest {
 
         assertEquals("download.txt", response.fileName());
         assertEquals("text/plain", response.contentType());
-        assertArrayEquals(payload, response.content());
+        assertEquals(filePath, response.path());
+        assertArrayEquals(payload, Files.readAllBytes(response.path()));
         verify(auditLogService).logEvent(tenantId, userId, "FILE_DOWNLOADED", "stored_file", entity.getId(), null);
     }
 
@@ -224,8 +229,10 @@ class FileStorageServiceTest {
     }
 
     @Test
-    void uploadShouldRejectWhenMalwareScannerFlagsTheFile() {
-        when(fileMalwareScanner.scan(any(), any(), any())).thenReturn(FileScanResult.rejected("EICAR_SIGNATURE"));
+    void uploadShouldRejectWhenMalwareScannerFlagsTheFile() throws Exception {
+        FileScanSession scanSession = mock(FileScanSession.class);
+        when(fileMalwareScanner.begin(any(), any())).thenReturn(scanSession);
+        when(scanSession.finish()).thenReturn(FileScanResult.rejected("EICAR_SIGNATURE"));
 
         FileStorageService scannerEnabledStorage = new FileStorageService(
                 storedFileRepository,
@@ -247,5 +254,9 @@ class FileStorageServiceTest {
         when(storedFileRepository.findByFileIdAndDeletedFalse("infected")).thenReturn(Optional.empty());
 
         assertThrows(BadRequestException.class, () -> scannerEnabledStorage.upload(file, null, "infected", principal));
+        verify(scanSession).update(any(byte[].class), eq(0), eq(5));
+        try (var stored = Files.list(tempDir.resolve(principal.tenantId().toString()))) {
+            assertEquals(0, stored.count());
+        }
     }
 }
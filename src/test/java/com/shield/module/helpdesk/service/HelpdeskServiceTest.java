@@ -5,14 +5,19 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.shield.audit.service.AuditLogService;
 import com.shield.common.exception.BadRequestException;
+import com.shield.module.helpdesk.dto.HelpdeskCategoryUpdateRequest;
 import com.shield.module.helpdesk.dto.HelpdeskTicketCreateRequest;
 import com.shield.module.helpdesk.dto.HelpdeskTicketRateRequest;
 import com.shield.module.helpdesk.dto.HelpdeskTicketResponse;
+import com.shield.module.helpdesk.dto.HelpdeskTicketStatsResponse;
+import com.shield.module.helpdesk.entity.HelpdeskCategoryEntity;
 import com.shield.module.helpdesk.entity.HelpdeskTicketEntity;
 import com.shield.module.helpdesk.entity.TicketPriority;
 import com.shield.module.helpdesk.entity.TicketStatus;
@@ -21,6 +26,8 @@ import com.shield.module.helpdesk.repository.HelpdeskCommentRepository;
 import com.shield.module.helpdesk.repository.HelpdeskTicketAttachmentRepository;
 import com.shield.module.helpdesk.repository.HelpdeskTicketRepository;
 import com.shield.security.model.ShieldPrincipal;
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +35,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class HelpdeskServiceTest {
@@ -47,6 +55,9 @@ class HelpdeskServiceTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     private HelpdeskService helpdeskService;
 
     @BeforeEach
@@ -56,7 +67,8 @@ class HelpdeskServiceTest {
                 helpdeskTicketRepository,
                 helpdeskCommentRepository,
                 helpdeskTicketAttachmentRepository,
-                auditLogService);
+                auditLogService,
+                jdbcTemplate);
     }
 
     @Test
@@ -114,4 +126,41 @@ class HelpdeskServiceTest {
         HelpdeskTicketRateRequest request = new HelpdeskTicketRateRequest(5);
         assertThrows(BadRequestException.class, () -> helpdeskService.rateTicket(ticketId, request, principal));
     }
+
+    @Test
+    void updateCategoryShouldRescheduleOpenTicketsWhenSlaChanges() {
+        UUID categoryId = UUID.randomUUID();
+        UUID tenantId = UUID.randomUUID();
+        HelpdeskCategoryEntity category = new HelpdeskCategoryEntity();
+        category.setId(categoryId);
+        category.setTenantId(tenantId);
+        category.setName("Plumbing");
+        category.setSlaHours(24);
+
+        when(helpdeskCategoryRepository.findByIdAndDeletedFalse(categoryId)).thenReturn(Optional.of(category));
+        when(helpdeskCategoryRepository.save(any(HelpdeskCategoryEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ShieldPrincipal principal = new ShieldPrincipal(UUID.randomUUID(), tenantId, "admin@shield.dev", "ADMIN");
+        helpdeskService.updateCategory(categoryId, new HelpdeskCategoryUpdateRequest("Plumbing", null, 8), principal);
+
+        verify(jdbcTemplate).update(anyString(), eq(8), eq(8), any(), any(), eq(tenantId), eq(categoryId));
+    }
+
+    @Test
+    void statisticsShouldCombineStatusAggregates() {
+        when(helpdeskTicketRepository.summarizeByStatus()).thenReturn(List.of(
+                new Object[] {TicketStatus.OPEN, 3L, 1L, 0L, 0L},
+                new Object[] {TicketStatus.IN_PROGRESS, 2L, 1L, 0L, 0L},
+                new Object[] {TicketStatus.RESOLVED, 4L, 2L, 3L, 13L}));
+
+        HelpdeskTicketStatsResponse response = helpdeskService.statistics();
+
+        assertEquals(9, response.totalTickets());
+        assertEquals(3, response.openTickets());
+        assertEquals(2, response.inProgressTickets());
+        assertEquals(4, response.resolvedTickets());
+        assertEquals(0, response.closedTickets());
+        assertEquals(2, response.overdueTickets());
+        assertEquals(new BigDecimal("4.33"), response.averageSatisfactionRating());
+    }
 }
@@ -32,6 +32,7 @@ import com.shield.module.marketplace.repository.MarketplaceCategoryRepository;
 import com.shield.module.marketplace.repository.MarketplaceInquiryRepository;
 import com.shield.module.marketplace.repository.MarketplaceListingRepository;
 import com.shield.security.model.ShieldPrincipal;
+import com.shield.tenant.context.TenantContext;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
@@ -43,6 +44,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
@@ -356,13 +358,19 @@ class MarketplaceServiceTest {
         listing.setListingType("SELL");
         listing.setTitle("Dining Table");
 
-        when(marketplaceListingRepository.searchByText("table", Pageable.ofSize(10)))
-                .thenReturn(new PageImpl<>(java.util.List.of(listing)));
-
-        PagedResponse<MarketplaceListingResponse> page = marketplaceService.searchListings("table", Pageable.ofSize(10));
-
-        assertEquals(1, page.content().size());
-        assertEquals("Dining Table", page.content().get(0).title());
+        UUID tenantId = UUID.randomUUID();
+        TenantContext.setTenantId(tenantId);
+        try {
+            when(marketplaceListingRepository.searchByText(tenantId, "dining:* & tab:*", PageRequest.of(0, 10)))
+                    .thenReturn(new PageImpl<>(java.util.List.of(listing)));
+
+            PagedResponse<MarketplaceListingResponse> page = marketplaceService.searchListings("Dining tab", Pageable.ofSize(10));
+
+            assertEquals(1, page.content().size());
+            assertEquals("Dining Table", page.content().get(0).title());
+        } finally {
+            TenantContext.clear();
+        }
     }
 
     @Test
@@ -3,9 +3,14 @@ package com.shield.module.meeting.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.shield.audit.service.AuditLogService;
+import com.shield.common.exception.BadRequestException;
 import com.shield.common.exception.ResourceNotFoundException;
 import com.shield.module.meeting.dto.MeetingAttendanceReportResponse;
 import com.shield.module.meeting.dto.MeetingCreateRequest;
@@ -14,7 +19,6 @@ import com.shield.module.meeting.dto.MeetingResponse;
 import com.shield.module.meeting.dto.MeetingVoteRequest;
 import com.shield.module.meeting.dto.MeetingVoteResponse;
 import com.shield.module.meeting.entity.MeetingAttendeeAttendanceStatus;
-import com.shield.module.meeting.entity.MeetingAttendeeEntity;
 import com.shield.module.meeting.entity.MeetingAttendeeRsvpStatus;
 import com.shield.module.meeting.entity.MeetingEntity;
 import com.shield.module.meeting.entity.MeetingResolutionEntity;
@@ -31,6 +35,7 @@ import com.shield.module.meeting.repository.MeetingRepository;
 import com.shield.module.meeting.repository.MeetingResolutionRepository;
 import com.shield.module.meeting.repository.MeetingVoteRepository;
 import com.shield.security.model.ShieldPrincipal;
+import java.sql.SQLException;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -41,6 +46,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -74,6 +82,9 @@ class MeetingServiceTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     private MeetingService meetingService;
 
     @BeforeEach
@@ -87,7 +98,8 @@ class MeetingServiceTest {
                 meetingVoteRepository,
                 meetingActionItemRepository,
                 meetingReminderRepository,
-                auditLogService);
+                auditLogService,
+                jdbcTemplate);
     }
 
     @AfterEach
@@ -151,7 +163,7 @@ class MeetingServiceTest {
     }
 
     @Test
-    void voteShouldPersistVoteAndRefreshCounts() {
+    void voteShouldPersistVoteAndIncrementCounter() {
         UUID tenantId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
         UUID resolutionId = UUID.randomUUID();
@@ -163,17 +175,11 @@ class MeetingServiceTest {
 
         when(meetingResolutionRepository.findByIdAndDeletedFalse(resolutionId)).thenReturn(Optional.of(resolution));
         when(meetingVoteRepository.findFirstByResolutionIdAndUserIdAndDeletedFalse(resolutionId, userId)).thenReturn(Optional.empty());
-        when(meetingVoteRepository.save(any(MeetingVoteEntity.class))).thenAnswer(invocation -> {
+        when(meetingVoteRepository.saveAndFlush(any(MeetingVoteEntity.class))).thenAnswer(invocation -> {
             MeetingVoteEntity entity = invocation.getArgument(0);
-            if (entity.getId() == null) {
-                entity.setId(UUID.randomUUID());
-            }
+            entity.setId(UUID.randomUUID());
             return entity;
         });
-        when(meetingVoteRepository.countByResolutionIdAndVoteAndDeletedFalse(resolutionId, MeetingVoteChoice.FOR)).thenReturn(3L);
-        when(meetingVoteRepository.countByResolutionIdAndVoteAndDeletedFalse(resolutionId, MeetingVoteChoice.AGAINST)).thenReturn(1L);
-        when(meetingVoteRepository.countByResolutionIdAndVoteAndDeletedFalse(resolutionId, MeetingVoteChoice.ABSTAIN)).thenReturn(1L);
-        when(meetingResolutionRepository.save(any(MeetingResolutionEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
                 new ShieldPrincipal(userId, tenantId, "admin@shield.dev", "ADMIN"),
@@ -183,9 +189,57 @@ class MeetingServiceTest {
 
         assertEquals(MeetingVoteChoice.FOR, response.vote());
         assertEquals(userId, response.userId());
-        assertEquals(3, resolution.getVotesFor());
-        assertEquals(1, resolution.getVotesAgainst());
-        assertEquals(1, resolution.getVotesAbstain());
+        verify(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(1), eq(0), eq(0), eq(resolutionId), eq(tenantId));
+    }
+
+    @Test
+    void concurrentFirstVoteShouldFailWithBadRequest() {
+        UUID resolutionId = stubFirstVoteFailure(new SQLException(
+                "duplicate key value violates unique constraint \"uk_meeting_vote_resolution_user\"", "23505"));
+
+        MeetingVoteRequest request = new MeetingVoteRequest(null, MeetingVoteChoice.FOR);
+        assertThrows(BadRequestException.class, () -> meetingService.vote(resolutionId, request));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void firstVoteShouldRethrowOtherIntegrityViolations() {
+        UUID resolutionId = stubFirstVoteFailure(new SQLException(
+                "null value in column \"vote\" of relation \"meeting_vote\" violates not-null constraint", "23502"));
+
+        MeetingVoteRequest request = new MeetingVoteRequest(null, MeetingVoteChoice.FOR);
+        assertThrows(DataIntegrityViolationException.class, () -> meetingService.vote(resolutionId, request));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void changedVoteShouldMoveBetweenCounters() {
+        UUID tenantId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID resolutionId = UUID.randomUUID();
+
+        MeetingResolutionEntity resolution = new MeetingResolutionEntity();
+        resolution.setId(resolutionId);
+        resolution.setTenantId(tenantId);
+
+        MeetingVoteEntity existing = new MeetingVoteEntity();
+        existing.setId(UUID.randomUUID());
+        existing.setTenantId(tenantId);
+        existing.setResolutionId(resolutionId);
+        existing.setUserId(userId);
+        existing.setVote(MeetingVoteChoice.FOR);
+
+        when(meetingResolutionRepository.findByIdAndDeletedFalse(resolutionId)).thenReturn(Optional.of(resolution));
+        when(meetingVoteRepository.findFirstByResolutionIdAndUserIdAndDeletedFalse(resolutionId, userId)).thenReturn(Optional.of(existing));
+        when(meetingVoteRepository.save(existing)).thenReturn(existing);
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new ShieldPrincipal(userId, tenantId, "admin@shield.dev", "ADMIN"),
+                null));
+
+        meetingService.vote(resolutionId, new MeetingVoteRequest(null, MeetingVoteChoice.AGAINST));
+
+        verify(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(-1), eq(1), eq(0), eq(resolutionId), eq(tenantId));
     }
 
     @Test
@@ -195,20 +249,11 @@ class MeetingServiceTest {
         MeetingEntity meeting = new MeetingEntity();
         meeting.setId(meetingId);
 
-        MeetingAttendeeEntity attendee1 = new MeetingAttendeeEntity();
-        attendee1.setRsvpStatus(MeetingAttendeeRsvpStatus.ACCEPTED);
-        attendee1.setAttendanceStatus(MeetingAttendeeAttendanceStatus.PRESENT);
-
-        MeetingAttendeeEntity attendee2 = new MeetingAttendeeEntity();
-        attendee2.setRsvpStatus(MeetingAttendeeRsvpStatus.DECLINED);
-        attendee2.setAttendanceStatus(MeetingAttendeeAttendanceStatus.ABSENT);
-
-        MeetingAttendeeEntity attendee3 = new MeetingAttendeeEntity();
-        attendee3.setRsvpStatus(MeetingAttendeeRsvpStatus.PENDING);
-
         when(meetingRepository.findByIdAndDeletedFalse(meetingId)).thenReturn(Optional.of(meeting));
-        when(meetingAttendeeRepository.findAllByMeetingIdAndDeletedFalseOrderByCreatedAtAsc(meetingId))
-                .thenReturn(List.of(attendee1, attendee2, attendee3));
+        when(meetingAttendeeRepository.summarizeByMeetingId(meetingId)).thenReturn(List.of(
+                new Object[] {MeetingAttendeeRsvpStatus.ACCEPTED, MeetingAttendeeAttendanceStatus.PRESENT, 1L},
+                new Object[] {MeetingAttendeeRsvpStatus.DECLINED, MeetingAttendeeAttendanceStatus.ABSENT, 1L},
+                new Object[] {MeetingAttendeeRsvpStatus.PENDING, null, 1L}));
 
         MeetingAttendanceReportResponse response = meetingService.attendanceReport(meetingId);
 
@@ -227,4 +272,24 @@ class MeetingServiceTest {
 
         assertThrows(ResourceNotFoundException.class, () -> meetingService.get(meetingId));
     }
+
+    private UUID stubFirstVoteFailure(SQLException cause) {
+        UUID tenantId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID resolutionId = UUID.randomUUID();
+
+        MeetingResolutionEntity resolution = new MeetingResolutionEntity();
+        resolution.setId(resolutionId);
+        resolution.setTenantId(tenantId);
+
+        when(meetingResolutionRepository.findByIdAndDeletedFalse(resolutionId)).thenReturn(Optional.of(resolution));
+        when(meetingVoteRepository.findFirstByResolutionIdAndUserIdAndDeletedFalse(resolutionId, userId)).thenReturn(Optional.empty());
+        when(meetingVoteRepository.saveAndFlush(any(MeetingVoteEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", cause));
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new ShieldPrincipal(userId, tenantId, "admin@shield.dev", "ADMIN"),
+                null));
+        return resolutionId;
+    }
 }
@@ -0,0 +1,148 @@
+package com.shield.module.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import com.shield.module.notification.entity.NotificationDeliveryStatus;
+import com.shield.module.notification.entity.NotificationEmailLogEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new NotificationDispatcher(
+                mailSender,
+                jdbcTemplate,
+                new SimpleMeterRegistry(),
+                true,
+                "no-reply@shield.local",
+                1,
+                50,
+                1000L,
+                0,
+                3,
+                1000L,
+                60000L,
+                300000L);
+    }
+
+    @Test
+    void deliverShouldSendBatchOverOneConnectionAndScheduleRetryForRejectedRecipients() {
+        NotificationDispatcher.OutboxMessage delivered = message("owner1@shield.dev", 1);
+        NotificationDispatcher.OutboxMessage rejected = message("owner2@shield.dev", 1);
+        doThrow(new MailSendException(Map.of(mail(rejected), new IllegalStateException("mailbox unavailable"))))
+                .when(mailSender).send(any(SimpleMailMessage[].class));
+
+        dispatcher.deliver(List.of(delivered, rejected));
+
+        List<Object[]> outcomes = captureOutcomes();
+        assertEquals(NotificationDeliveryStatus.SENT.name(), outcomes.get(0)[0]);
+        assertNotNull(outcomes.get(0)[3]);
+        assertEquals(delivered.id(), outcomes.get(0)[5]);
+
+        assertEquals(NotificationDeliveryStatus.PENDING.name(), outcomes.get(1)[0]);
+        assertEquals("mailbox unavailable", outcomes.get(1)[1]);
+        assertNotNull(outcomes.get(1)[2]);
+        assertEquals(rejected.id(), outcomes.get(1)[5]);
+    }
+
+    @Test
+    void deliverShouldDeadLetterMessagesThatExhaustedTheirAttempts() {
+        NotificationDispatcher.OutboxMessage exhausted = message("owner1@shield.dev", 3);
+        doThrow(new MailSendException("connection refused"))
+                .when(mailSender).send(any(SimpleMailMessage[].class));
+
+        dispatcher.deliver(List.of(exhausted));
+
+        Object[] outcome = captureOutcomes().get(0);
+        assertEquals(NotificationDeliveryStatus.DEAD_LETTER.name(), outcome[0]);
+        assertTrue(((String) outcome[1]).contains("connection refused"));
+        assertNull(outcome[2]);
+    }
+
+    @Test
+    void enqueueShouldAssignIdsAndInsertRowsInOneBatch() {
+        NotificationEmailLogEntity queued = new NotificationEmailLogEntity();
+        queued.setTenantId(UUID.randomUUID());
+        queued.setRecipientEmail("owner1@shield.dev");
+        queued.setSubject("Subject");
+        queued.setBody("Body");
+        queued.setStatus(NotificationDeliveryStatus.PENDING);
+        queued.setNextAttemptAt(Instant.now());
+
+        dispatcher.enqueue(List.of(queued));
+
+        assertNotNull(queued.getId());
+        assertNotNull(queued.getCreatedAt());
+        verify(jdbcTemplate).batchUpdate(anyString(), eq(List.of(queued)), eq(1), any());
+    }
+
+    @Test
+    void backoffShouldDoublePerAttemptUpToTheCap() {
+        assertEquals(Duration.ofSeconds(1), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(4), dispatcher.backoff(3));
+        assertEquals(Duration.ofSeconds(60), dispatcher.backoff(20));
+    }
+
+    @Test
+    void rateLimiterShouldSpaceReservationsByTheirPermits() {
+        NotificationRateLimiter limiter = new NotificationRateLimiter(10);
+
+        assertEquals(0L, limiter.reserve(5));
+        assertTrue(limiter.reserve(1) > Duration.ofMillis(400).toNanos());
+        assertEquals(0L, new NotificationRateLimiter(0).reserve(100));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureOutcomes() {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        return captor.getValue();
+    }
+
+    private NotificationDispatcher.OutboxMessage message(String recipient, int attemptCount) {
+        return new NotificationDispatcher.OutboxMessage(
+                UUID.randomUUID(), recipient, "Subject", "Body", attemptCount, Instant.now().minusSeconds(5));
+    }
+
+    private SimpleMailMessage mail(NotificationDispatcher.OutboxMessage message) {
+        SimpleMailMessage mail = new SimpleMailMessage();
+        mail.setFrom("no-reply@shield.local");
+        mail.setTo(message.recipientEmail());
+        mail.setSubject(message.subject());
+        mail.setText(message.body());
+        return mail;
+    }
+}
@@ -1,8 +1,11 @@
 package com.shield.module.notification.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -13,16 +16,21 @@ import static org.mockito.Mockito.lenient;
 import com.shield.audit.service.AuditLogService;
 import com.shield.common.exception.ResourceNotFoundException;
 import com.shield.common.dto.PagedResponse;
+import com.shield.common.stream.StreamTopic;
+import com.shield.common.stream.TenantEventStream;
 import com.shield.module.notification.dto.NotificationDispatchResponse;
 import com.shield.module.notification.dto.NotificationLogResponse;
+import com.shield.module.notification.dto.NotificationRecipient;
 import com.shield.module.notification.dto.NotificationSendRequest;
 import com.shield.module.notification.entity.NotificationDeliveryStatus;
 import com.shield.module.notification.entity.NotificationEmailLogEntity;
+import com.shield.module.notification.entity.NotificationPreferenceEntity;
 import com.shield.module.notification.repository.NotificationEmailLogRepository;
 import com.shield.module.notification.repository.NotificationPreferenceRepository;
 import com.shield.module.user.entity.UserEntity;
 import com.shield.module.user.repository.UserRepository;
 import com.shield.security.model.ShieldPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -36,14 +44,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.mail.javamail.JavaMailSender;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
 
-    @Mock
-    private JavaMailSender mailSender;
-
     @Mock
     private NotificationEmailLogRepository notificationEmailLogRepository;
 
@@ -56,6 +60,12 @@ class NotificationServiceTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
+    @Mock
+    private TenantEventStream tenantEventStream;
+
     private NotificationService disabledNotificationService;
     private NotificationService enabledNotificationService;
 
@@ -65,22 +75,24 @@ class NotificationServiceTest {
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
         disabledNotificationService = new NotificationService(
-                mailSender,
                 notificationEmailLogRepository,
                 notificationPreferenceRepository,
                 userRepository,
                 auditLogService,
-                false,
-                "no-reply@shield.local");
+                notificationDispatcher,
+                tenantEventStream,
+                new SimpleMeterRegistry(),
+                false);
 
         enabledNotificationService = new NotificationService(
-                mailSender,
                 notificationEmailLogRepository,
                 notificationPreferenceRepository,
                 userRepository,
                 auditLogService,
-                true,
-                "no-reply@shield.local");
+                notificationDispatcher,
+                tenantEventStream,
+                new SimpleMeterRegistry(),
+                true);
     }
 
     @Test
@@ -97,15 +109,15 @@ class NotificationServiceTest {
         assertEquals(0, response.sent());
         assertEquals(0, response.failed());
         assertEquals(2, response.skipped());
+        assertEquals(0, response.queued());
 
-        ArgumentCaptor<NotificationEmailLogEntity> captor = ArgumentCaptor.forClass(NotificationEmailLogEntity.class);
-        verify(notificationEmailLogRepository, times(2)).save(captor.capture());
-        captor.getAllValues().forEach(log -> assertEquals(NotificationDeliveryStatus.SKIPPED, log.getStatus()));
-        verify(mailSender, never()).send(any(org.springframework.mail.SimpleMailMessage.class));
+        List<NotificationEmailLogEntity> queued = captureEnqueuedLogs();
+        assertEquals(2, queued.size());
+        queued.forEach(log -> assertEquals(NotificationDeliveryStatus.SKIPPED, log.getStatus()));
     }
 
     @Test
-    void sendManualShouldSendWhenEmailIsEnabled() {
+    void sendManualShouldQueueWhenEmailIsEnabled() {
         ShieldPrincipal principal = new ShieldPrincipal(UUID.randomUUID(), UUID.randomUUID(), "admin@shield.dev", "ADMIN");
         NotificationSendRequest request = new NotificationSendRequest(
                 List.of("owner1@shield.dev"),
@@ -115,11 +127,14 @@ class NotificationServiceTest {
         NotificationDispatchResponse response = enabledNotificationService.sendManual(request, principal);
 
         assertEquals(1, response.total());
-        assertEquals(1, response.sent());
+        assertEquals(0, response.sent());
         assertEquals(0, response.failed());
         assertEquals(0, response.skipped());
+        assertEquals(1, response.queued());
 
-        verify(mailSender, times(1)).send(any(org.springframework.mail.SimpleMailMessage.class));
+        NotificationEmailLogEntity queued = captureEnqueuedLogs().get(0);
+        assertEquals(NotificationDeliveryStatus.PENDING, queued.getStatus());
+        assertNotNull(queued.getNextAttemptAt());
         verify(auditLogService).logEvent(eq(principal.tenantId()), eq(principal.userId()), eq("NOTIFICATION_MANUAL_SENT"), eq("notification_email_log"), eq(null), eq(null));
     }
 
@@ -139,13 +154,61 @@ class NotificationServiceTest {
 
         disabledNotificationService.sendManual(request, principal);
 
-        ArgumentCaptor<NotificationEmailLogEntity> captor = ArgumentCaptor.forClass(NotificationEmailLogEntity.class);
-        verify(notificationEmailLogRepository).save(captor.capture());
-        NotificationEmailLogEntity saved = captor.getValue();
+        NotificationEmailLogEntity saved = captureEnqueuedLogs().get(0);
         assertEquals(userId, saved.getUserId());
         assertEquals(recipient, saved.getRecipientEmail());
     }
 
+    @Test
+    void sendManualShouldLoadPreferencesOnceAndSkipOptedOutRecipients() {
+        UUID tenantId = UUID.randomUUID();
+        ShieldPrincipal principal = new ShieldPrincipal(UUID.randomUUID(), tenantId, "admin@shield.dev", "ADMIN");
+        UserEntity optedOut = buildUser("optout@shield.dev");
+        UserEntity subscribed = buildUser("default@shield.dev");
+        when(userRepository.findByTenantIdAndEmailIgnoreCaseAndDeletedFalse(tenantId, optedOut.getEmail()))
+                .thenReturn(Optional.of(optedOut));
+        when(userRepository.findByTenantIdAndEmailIgnoreCaseAndDeletedFalse(tenantId, subscribed.getEmail()))
+                .thenReturn(Optional.of(subscribed));
+        NotificationPreferenceEntity preference = new NotificationPreferenceEntity();
+        preference.setTenantId(tenantId);
+        preference.setUserId(optedOut.getId());
+        preference.setEmailEnabled(false);
+        when(notificationPreferenceRepository.findAllByTenantIdAndUserIdInAndDeletedFalse(eq(tenantId), anyCollection()))
+                .thenReturn(List.of(preference));
+
+        NotificationDispatchResponse response = enabledNotificationService.sendManual(
+                new NotificationSendRequest(List.of(optedOut.getEmail(), subscribed.getEmail()), "Subject", "Body"),
+                principal);
+
+        assertEquals(1, response.skipped());
+        assertEquals(1, response.queued());
+        verify(notificationPreferenceRepository, times(1))
+                .findAllByTenantIdAndUserIdInAndDeletedFalse(eq(tenantId), anyCollection());
+        verify(notificationPreferenceRepository, never()).findByTenantIdAndUserIdAndDeletedFalse(any(), any());
+    }
+
+    @Test
+    void sendAnnouncementShouldEnqueueOneBatchPerRecipientChunk() {
+        UUID tenantId = UUID.randomUUID();
+        NotificationRecipientSource recipients = consumer -> {
+            consumer.accept(List.of(
+                    new NotificationRecipient(UUID.randomUUID(), "owner1@shield.dev", true),
+                    new NotificationRecipient(UUID.randomUUID(), "owner2@shield.dev", false)));
+            consumer.accept(List.of(new NotificationRecipient(UUID.randomUUID(), "owner3@shield.dev", true)));
+        };
+
+        NotificationDispatchResponse response = enabledNotificationService.sendAnnouncement(
+                tenantId, UUID.randomUUID(), UUID.randomUUID(), "Subject", "Body", recipients);
+
+        assertEquals(3, response.total());
+        assertEquals(1, response.skipped());
+        assertEquals(2, response.queued());
+        verify(notificationDispatcher, times(2)).enqueue(anyList());
+        verify(tenantEventStream, times(2)).publishToUsersAfterCommit(
+                eq(tenantId), anyList(), eq(StreamTopic.NOTIFICATIONS), eq("NOTIFICATION_RECEIVED"), any());
+        verify(notificationEmailLogRepository, never()).save(any(NotificationEmailLogEntity.class));
+    }
+
     @Test
     void listShouldUseGlobalQueryForPrivilegedUsers() {
         ShieldPrincipal principal = new ShieldPrincipal(UUID.randomUUID(), UUID.randomUUID(), "admin@shield.dev", "ADMIN");
@@ -195,10 +258,27 @@ class NotificationServiceTest {
         entity.setReadAt(null);
         when(notificationEmailLogRepository.findByIdAndUserIdAndDeletedFalse(notificationId, userId))
                 .thenReturn(Optional.of(entity));
+        when(notificationEmailLogRepository.countByUserIdAndReadAtIsNullAndDeletedFalse(userId)).thenReturn(3L);
 
         disabledNotificationService.markRead(notificationId, principal);
 
         verify(notificationEmailLogRepository).save(entity);
+        verify(tenantEventStream).publishToUsersAfterCommit(
+                principal.tenantId(), List.of(userId), StreamTopic.NOTIFICATIONS, "UNREAD_COUNT_CHANGED", 3L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<NotificationEmailLogEntity> captureEnqueuedLogs() {
+        ArgumentCaptor<List<NotificationEmailLogEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationDispatcher).enqueue(captor.capture());
+        return captor.getValue();
+    }
+
+    private UserEntity buildUser(String email) {
+        UserEntity user = new UserEntity();
+        user.setId(UUID.randomUUID());
+        user.setEmail(email);
+        return user;
     }
 
     private NotificationEmailLogEntity buildLog(UUID userId) {
@@ -10,6 +10,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,6 +33,7 @@ import com.shield.security.jwt.JwtService;
 import com.shield.security.model.ShieldPrincipal;
 import com.shield.security.policy.PasswordPolicyService;
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.Instant;
@@ -80,10 +82,13 @@ class PlatformRootServiceTest {
     @Mock
     private Claims claims;
 
+    private RootTokenVersionCache rootTokenVersionCache;
+
     private PlatformRootService platformRootService;
 
     @BeforeEach
     void setUp() {
+        rootTokenVersionCache = new RootTokenVersionCache(new SimpleMeterRegistry(), 30);
         platformRootService = new PlatformRootService(
                 platformRootAccountRepository,
                 platformRootSessionRepository,
@@ -93,7 +98,8 @@ class PlatformRootServiceTest {
                 jwtService,
                 auditLogService,
                 rootContactVerificationService,
-                passwordPolicyService);
+                passwordPolicyService,
+                rootTokenVersionCache);
 
         ReflectionTestUtils.setField(platformRootService, "accessTokenTtlMinutes", 30L);
         ReflectionTestUtils.setField(platformRootService, "refreshTokenTtlMinutes", 4320L);
@@ -278,6 +284,10 @@ class PlatformRootServiceTest {
         assertEquals(10L, rootAccount.getTokenVersion());
         verify(rootContactVerificationService).verifyEmailOwnership("root@shield.dev");
         verify(rootContactVerificationService).verifyMobileOwnership("9999999999");
+
+        assertFalse(platformRootService.isRootTokenVersionValid(rootId, 9L));
+        assertTrue(platformRootService.isRootTokenVersionValid(rootId, 10L));
+        verify(platformRootAccountRepository, times(1)).findByIdAndDeletedFalse(rootId);
     }
 
     @Test
@@ -348,6 +358,17 @@ class PlatformRootServiceTest {
 
         assertTrue(platformRootService.isRootTokenVersionValid(rootId, 11L));
         assertFalse(platformRootService.isRootTokenVersionValid(rootId, 12L));
+        verify(platformRootAccountRepository, times(1)).findByIdAndDeletedFalse(rootId);
+    }
+
+    @Test
+    void isRootTokenVersionValidShouldCacheMissingAccountAsInactive() {
+        UUID rootId = UUID.randomUUID();
+        when(platformRootAccountRepository.findByIdAndDeletedFalse(rootId)).thenReturn(Optional.empty());
+
+        assertFalse(platformRootService.isRootTokenVersionValid(rootId, 0L));
+        assertFalse(platformRootService.isRootTokenVersionValid(rootId, 0L));
+        verify(platformRootAccountRepository, times(1)).findByIdAndDeletedFalse(rootId);
     }
 
     private String sha256(String rawToken) {
@@ -4,7 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.shield.audit.service.AuditLogService;
@@ -23,6 +26,7 @@ import com.shield.module.poll.repository.PollOptionRepository;
 import com.shield.module.poll.repository.PollRepository;
 import com.shield.module.poll.repository.PollVoteRepository;
 import com.shield.security.model.ShieldPrincipal;
+import java.sql.SQLException;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +36,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class PollServiceTest {
@@ -48,11 +54,14 @@ class PollServiceTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     private PollService pollService;
 
     @BeforeEach
     void setUp() {
-        pollService = new PollService(pollRepository, pollOptionRepository, pollVoteRepository, auditLogService);
+        pollService = new PollService(pollRepository, pollOptionRepository, pollVoteRepository, auditLogService, jdbcTemplate);
     }
 
     @Test
@@ -161,6 +170,7 @@ class PollServiceTest {
     @Test
     void voteShouldFailWhenUserAlreadyVoted() {
         UUID pollId = UUID.randomUUID();
+        UUID optionId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
 
         PollEntity poll = new PollEntity();
@@ -168,15 +178,52 @@ class PollServiceTest {
         poll.setStatus(PollStatus.ACTIVE);
         poll.setExpiresAt(Instant.now().plusSeconds(300));
 
+        PollOptionEntity option = new PollOptionEntity();
+        option.setId(optionId);
+        option.setPollId(pollId);
+
         when(pollRepository.findByIdAndDeletedFalse(pollId)).thenReturn(Optional.of(poll));
-        when(pollVoteRepository.existsByPollIdAndUserIdAndDeletedFalse(pollId, userId)).thenReturn(true);
-        PollVoteRequest voteRequest = new PollVoteRequest(UUID.randomUUID());
+        when(pollOptionRepository.findByIdAndDeletedFalse(optionId)).thenReturn(Optional.of(option));
+        when(pollVoteRepository.saveAndFlush(any(PollVoteEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", new SQLException(
+                        "duplicate key value violates unique constraint \"uk_poll_vote_user_poll\"", "23505")));
+        PollVoteRequest voteRequest = new PollVoteRequest(optionId);
         ShieldPrincipal principal = principal(UUID.randomUUID(), userId);
 
         assertThrows(BadRequestException.class, () -> pollService.vote(
                 pollId,
                 voteRequest,
                 principal));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void voteShouldRethrowOtherIntegrityViolations() {
+        UUID pollId = UUID.randomUUID();
+        UUID optionId = UUID.randomUUID();
+
+        PollEntity poll = new PollEntity();
+        poll.setId(pollId);
+        poll.setStatus(PollStatus.ACTIVE);
+        poll.setExpiresAt(Instant.now().plusSeconds(300));
+
+        PollOptionEntity option = new PollOptionEntity();
+        option.setId(optionId);
+        option.setPollId(pollId);
+
+        when(pollRepository.findByIdAndDeletedFalse(pollId)).thenReturn(Optional.of(poll));
+        when(pollOptionRepository.findByIdAndDeletedFalse(optionId)).thenReturn(Optional.of(option));
+        when(pollVoteRepository.saveAndFlush(any(PollVoteEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", new SQLException(
+                        "insert or update on table \"poll_vote\" violates foreign key constraint \"poll_vote_option_id_fkey\"", "23503")));
+        PollVoteRequest voteRequest = new PollVoteRequest(optionId);
+        ShieldPrincipal principal = principal(UUID.randomUUID(), UUID.randomUUID());
+
+        assertThrows(DataIntegrityViolationException.class, () -> pollService.vote(
+                pollId,
+                voteRequest,
+                principal));
+        verifyNoInteractions(jdbcTemplate);
     }
 
     @Test
@@ -197,9 +244,8 @@ class PollServiceTest {
         option.setPollId(pollId);
 
         when(pollRepository.findByIdAndDeletedFalse(pollId)).thenReturn(Optional.of(poll));
-        when(pollVoteRepository.existsByPollIdAndUserIdAndDeletedFalse(pollId, userId)).thenReturn(false);
         when(pollOptionRepository.findByIdAndDeletedFalse(optionId)).thenReturn(Optional.of(option));
-        when(pollVoteRepository.save(any(PollVoteEntity.class))).thenAnswer(invocation -> {
+        when(pollVoteRepository.saveAndFlush(any(PollVoteEntity.class))).thenAnswer(invocation -> {
             PollVoteEntity entity = invocation.getArgument(0);
             entity.setId(voteId);
             entity.setCreatedAt(Instant.now());
@@ -213,6 +259,7 @@ class PollServiceTest {
 
         assertEquals(voteId, response.id());
         assertEquals(optionId, response.optionId());
+        verify(jdbcTemplate).update(anyString(), eq(optionId), eq(tenantId));
         verify(auditLogService).logEvent(tenantId, userId, "POLL_VOTED", "poll", pollId, null);
     }
 
@@ -230,22 +277,16 @@ class PollServiceTest {
         one.setId(option1);
         one.setPollId(pollId);
         one.setOptionText("A");
+        one.setVoteCount(2);
 
         PollOptionEntity two = new PollOptionEntity();
         two.setId(option2);
         two.setPollId(pollId);
         two.setOptionText("B");
-
-        PollVoteEntity v1 = new PollVoteEntity();
-        v1.setOptionId(option1);
-        PollVoteEntity v2 = new PollVoteEntity();
-        v2.setOptionId(option1);
-        PollVoteEntity v3 = new PollVoteEntity();
-        v3.setOptionId(option2);
+        two.setVoteCount(1);
 
         when(pollRepository.findByIdAndDeletedFalse(pollId)).thenReturn(Optional.of(poll));
         when(pollOptionRepository.findAllByPollIdAndDeletedFalse(pollId)).thenReturn(List.of(one, two));
-        when(pollVoteRepository.findAllByPollIdAndDeletedFalse(pollId)).thenReturn(List.of(v1, v2, v3));
 
         PollResultsResponse response = pollService.getResults(pollId);
 
@@ -252,23 +252,12 @@ class StaffServiceTest {
 
     @Test
     void summarizeAttendanceShouldReturnStatusCounts() {
-        StaffAttendanceEntity present = new StaffAttendanceEntity();
-        present.setStatus(StaffAttendanceStatus.PRESENT);
-        present.setCheckInTime(Instant.parse("2026-02-10T03:00:00Z"));
-        present.setCheckOutTime(Instant.parse("2026-02-10T11:00:00Z"));
-
-        StaffAttendanceEntity absent = new StaffAttendanceEntity();
-        absent.setStatus(StaffAttendanceStatus.ABSENT);
-
-        StaffAttendanceEntity openShift = new StaffAttendanceEntity();
-        openShift.setStatus(StaffAttendanceStatus.PRESENT);
-        openShift.setCheckInTime(Instant.parse("2026-02-11T03:00:00Z"));
-        openShift.setCheckOutTime(null);
-
-        when(staffAttendanceRepository.findAllByAttendanceDateBetweenAndDeletedFalse(
+        when(staffAttendanceRepository.summarizeByStatus(
                 LocalDate.of(2026, 2, 1),
                 LocalDate.of(2026, 2, 28)))
-                .thenReturn(List.of(present, absent, openShift));
+                .thenReturn(List.of(
+                        new Object[] {StaffAttendanceStatus.PRESENT, 2L, 1L},
+                        new Object[] {StaffAttendanceStatus.ABSENT, 1L, 0L}));
 
         StaffAttendanceSummaryResponse response = staffService.summarizeAttendance(
                 LocalDate.of(2026, 2, 1),
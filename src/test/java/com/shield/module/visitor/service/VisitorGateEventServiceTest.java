@@ -0,0 +1,187 @@
+package com.shield.module.visitor.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.shield.common.cache.TenantCacheGenerations;
+import com.shield.common.event.DomainEventPublisher;
+import com.shield.common.stream.TenantEventStream;
+import com.shield.module.visitor.dto.VisitorGateEventBatchRequest;
+import com.shield.module.visitor.dto.VisitorGateEventBatchResponse;
+import com.shield.module.visitor.dto.VisitorGateEventOutcome;
+import com.shield.module.visitor.dto.VisitorGateEventRequest;
+import com.shield.module.visitor.dto.VisitorGateEventResult;
+import com.shield.module.visitor.dto.VisitorGateEventType;
+import com.shield.security.model.ShieldPrincipal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+@ExtendWith(MockitoExtension.class)
+class VisitorGateEventServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    @Mock
+    private VisitorPassQrIndex visitorPassQrIndex;
+
+    @Mock
+    private TenantCacheGenerations tenantCacheGenerations;
+
+    @Mock
+    private TenantEventStream tenantEventStream;
+
+    private final Map<String, List<Map<String, Object>>> rowsByTable = new HashMap<>();
+    private final UUID tenantId = UUID.randomUUID();
+    private final ShieldPrincipal principal = new ShieldPrincipal(UUID.randomUUID(), tenantId, "guard@shield.dev", "SECURITY");
+
+    private VisitorGateEventService visitorGateEventService;
+
+    @BeforeEach
+    void setUp() {
+        visitorGateEventService = new VisitorGateEventService(
+                jdbcTemplate,
+                domainEventPublisher,
+                visitorPassQrIndex,
+                tenantCacheGenerations,
+                tenantEventStream);
+
+        // Runs the statement creator against a fake connection to learn the SQL, then feeds the rows for its table.
+        doAnswer(invocation -> {
+            PreparedStatementCreator creator = invocation.getArgument(0);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            String[] sql = new String[1];
+            Connection connection = mock(Connection.class, call -> {
+                if ("prepareStatement".equals(call.getMethod().getName())) {
+                    sql[0] = call.getArgument(0);
+                    return mock(PreparedStatement.class);
+                }
+                return null;
+            });
+            creator.createPreparedStatement(connection);
+            for (Map<String, Object> row : rowsFor(sql[0])) {
+                handler.processRow(mock(ResultSet.class, call -> row.get(call.getArgument(0))));
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    void repeatedKeyShouldReportTheFirstCopyAsDuplicateOnceApplied() {
+        UUID passId = UUID.randomUUID();
+        rowsByTable.put("FROM visitor_pass", List.of(Map.of("id", passId, "status", "APPROVED")));
+        stubBatchWrites();
+
+        VisitorGateEventRequest entry = event("gate-1", VisitorGateEventType.ENTRY, passId);
+        VisitorGateEventBatchResponse response = visitorGateEventService.ingest(
+                new VisitorGateEventBatchRequest(List.of(entry, entry)), principal);
+
+        assertEquals(1, response.applied());
+        assertEquals(1, response.duplicates());
+        VisitorGateEventResult first = response.results().get(0);
+        VisitorGateEventResult repeat = response.results().get(1);
+        assertEquals(VisitorGateEventOutcome.APPLIED, first.outcome());
+        assertNotNull(first.visitorLogId());
+        assertEquals(VisitorGateEventOutcome.DUPLICATE, repeat.outcome());
+        assertEquals(first.visitorLogId(), repeat.visitorLogId());
+    }
+
+    @Test
+    void alreadyAppliedKeyShouldBeDuplicateWithStoredLog() {
+        UUID passId = UUID.randomUUID();
+        UUID storedLogId = UUID.randomUUID();
+        rowsByTable.put("FROM visitor_gate_event", List.of(Map.of("idempotency_key", "gate-1", "visitor_log_id", storedLogId)));
+
+        VisitorGateEventRequest entry = event("gate-1", VisitorGateEventType.ENTRY, passId);
+        VisitorGateEventBatchResponse response = visitorGateEventService.ingest(
+                new VisitorGateEventBatchRequest(List.of(entry, entry)), principal);
+
+        assertEquals(0, response.applied());
+        assertEquals(2, response.duplicates());
+        for (VisitorGateEventResult result : response.results()) {
+            assertEquals(VisitorGateEventOutcome.DUPLICATE, result.outcome());
+            assertEquals(storedLogId, result.visitorLogId());
+            assertEquals("Already applied", result.message());
+        }
+        verifyNoBatchWrites();
+    }
+
+    @Test
+    void repeatedKeyOfRejectedEventShouldBeRejectedToo() {
+        UUID knownPassId = UUID.randomUUID();
+        UUID missingPassId = UUID.randomUUID();
+        rowsByTable.put("FROM visitor_pass", List.of(Map.of("id", knownPassId, "status", "APPROVED")));
+
+        VisitorGateEventRequest unknownPass = event("gate-1", VisitorGateEventType.ENTRY, missingPassId);
+        VisitorGateEventRequest exitWithoutEntry = event("gate-2", VisitorGateEventType.EXIT, knownPassId);
+        VisitorGateEventBatchResponse response = visitorGateEventService.ingest(
+                new VisitorGateEventBatchRequest(List.of(unknownPass, exitWithoutEntry, unknownPass, exitWithoutEntry)),
+                principal);
+
+        assertEquals(0, response.applied());
+        assertEquals(0, response.duplicates());
+        assertEquals(4, response.rejected());
+        assertEquals(response.results().get(0), response.results().get(2));
+        assertEquals(response.results().get(1), response.results().get(3));
+        assertEquals("Visitor pass not found: " + missingPassId, response.results().get(2).message());
+        assertEquals("Open visitor log not found for pass: " + knownPassId, response.results().get(3).message());
+        verifyNoBatchWrites();
+    }
+
+    private VisitorGateEventRequest event(String key, VisitorGateEventType type, UUID passId) {
+        return new VisitorGateEventRequest(key, type, passId, Instant.now().minusSeconds(60), "Main Gate", null, null);
+    }
+
+    private List<Map<String, Object>> rowsFor(String sql) {
+        return rowsByTable.entrySet().stream()
+                .filter(entry -> sql.contains(entry.getKey() + "\n"))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(List.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubBatchWrites() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    int[] counts = new int[((Collection<?>) invocation.getArgument(1)).size()];
+                    Arrays.fill(counts, 1);
+                    return new int[][] {counts};
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyNoBatchWrites() {
+        verify(jdbcTemplate, never())
+                .batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+}
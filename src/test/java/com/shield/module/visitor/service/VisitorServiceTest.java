@@ -1,18 +1,33 @@
 package com.shield.module.visitor.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.shield.audit.service.AuditLogService;
+import com.shield.common.dto.PagedResponse;
+import com.shield.common.event.DomainEventPublisher;
+import com.shield.common.export.CsvStreamExporter;
+import com.shield.common.stream.StreamTopic;
+import com.shield.common.stream.TenantEventStream;
 import com.shield.module.visitor.dto.BlacklistCheckResponse;
 import com.shield.module.visitor.dto.DomesticHelpAssignUnitRequest;
 import com.shield.module.visitor.dto.VisitorLogEntryRequest;
 import com.shield.module.visitor.dto.VisitorLogExitRequest;
+import com.shield.module.visitor.dto.VisitorLogResponse;
 import com.shield.module.visitor.dto.VisitorPassCreateRequest;
 import com.shield.module.visitor.dto.VisitorPassPreApproveRequest;
+import com.shield.module.visitor.dto.VisitorPassResponse;
 import com.shield.module.visitor.entity.BlacklistEntity;
 import com.shield.module.visitor.entity.DomesticHelpEntity;
 import com.shield.module.visitor.entity.DomesticHelpUnitMappingEntity;
@@ -28,8 +43,10 @@ import com.shield.module.visitor.repository.VisitorEntryExitLogRepository;
 import com.shield.module.visitor.repository.VisitorPassRepository;
 import com.shield.module.visitor.repository.VisitorRepository;
 import com.shield.security.model.ShieldPrincipal;
+import com.shield.tenant.context.TenantContext;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +54,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 @ExtendWith(MockitoExtension.class)
 class VisitorServiceTest {
@@ -58,6 +76,15 @@ class VisitorServiceTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+    @Mock
+    private CsvStreamExporter csvStreamExporter;
+    @Mock
+    private VisitorPassQrIndex visitorPassQrIndex;
+    @Mock
+    private TenantEventStream tenantEventStream;
+
     private VisitorService visitorService;
 
     @BeforeEach
@@ -70,7 +97,11 @@ class VisitorServiceTest {
                 domesticHelpUnitMappingRepository,
                 blacklistRepository,
                 deliveryLogRepository,
-                auditLogService);
+                auditLogService,
+                domainEventPublisher,
+                csvStreamExporter,
+                visitorPassQrIndex,
+                tenantEventStream);
     }
 
     @Test
@@ -140,7 +171,7 @@ class VisitorServiceTest {
     }
 
     @Test
-    void verifyPassByQrCodeShouldMarkExpiredWhenPastValidity() {
+    void verifyPassByQrCodeShouldReportExpiredWithoutWritingWhenPastValidity() {
         VisitorPassEntity pass = new VisitorPassEntity();
         pass.setId(UUID.randomUUID());
         pass.setTenantId(UUID.randomUUID());
@@ -153,11 +184,29 @@ class VisitorServiceTest {
         pass.setNumberOfPersons(1);
 
         when(visitorPassRepository.findByQrCodeAndDeletedFalse("VIS-test-qr")).thenReturn(Optional.of(pass));
-        when(visitorPassRepository.save(any(VisitorPassEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         var response = visitorService.verifyPassByQrCode("VIS-test-qr");
 
         assertEquals(VisitorPassStatus.EXPIRED, response.status());
+        verify(visitorPassRepository, never()).save(any(VisitorPassEntity.class));
+    }
+
+    @Test
+    void verifyPassByQrCodeShouldAnswerFromIndexForTenant() {
+        UUID tenantId = UUID.randomUUID();
+        VisitorPassResponse indexed = new VisitorPassResponse(
+                UUID.randomUUID(), tenantId, "VP-1", null, UUID.randomUUID(), "Guest", null, LocalDate.now(),
+                Instant.now().minusSeconds(60), Instant.now().plusSeconds(3600), "VIS-hot-qr", null, 1, null,
+                VisitorPassStatus.ACTIVE);
+        TenantContext.setTenantId(tenantId);
+        try {
+            when(visitorPassQrIndex.find(tenantId, "VIS-hot-qr")).thenReturn(Optional.of(indexed));
+
+            assertEquals(indexed, visitorService.verifyPassByQrCode("VIS-hot-qr"));
+            verifyNoInteractions(visitorPassRepository);
+        } finally {
+            TenantContext.clear();
+        }
     }
 
     @Test
@@ -202,6 +251,11 @@ class VisitorServiceTest {
         var exit = visitorService.logExit(new VisitorLogExitRequest(passId, "Gate-2", null), principal);
         assertNotNull(exit.exitTime());
         assertEquals(VisitorPassStatus.USED, pass.getStatus());
+        verify(domainEventPublisher).publish(argThat(event -> "VISITOR_ENTRY_LOGGED".equals(event.eventType())
+                && entry.id().equals(event.aggregateId())));
+        verify(domainEventPublisher).publish(argThat(event -> "VISITOR_EXIT_LOGGED".equals(event.eventType())));
+        verify(tenantEventStream, times(2)).publishAfterCommit(
+                eq(principal.tenantId()), eq(StreamTopic.VISITORS), eq("VISITOR_MOVEMENTS"), any());
     }
 
     @Test
@@ -247,7 +301,47 @@ class VisitorServiceTest {
         assertNotNull(response.startDate());
     }
 
+    @Test
+    void listVisitorLogsWithCursorShouldSeekPastLastRowWithoutCounting() {
+        UUID tenantId = UUID.randomUUID();
+        Instant now = Instant.now();
+        VisitorEntryExitLogEntity newest = visitorLog(tenantId, now);
+        VisitorEntryExitLogEntity middle = visitorLog(tenantId, now.minusSeconds(60));
+        VisitorEntryExitLogEntity oldest = visitorLog(tenantId, now.minusSeconds(120));
+        TenantContext.setTenantId(tenantId);
+        try {
+            when(visitorEntryExitLogRepository.findAllByTenantIdAndDeletedFalseOrderByCreatedAtDescIdDesc(tenantId, PageRequest.of(0, 3)))
+                    .thenReturn(List.of(newest, middle, oldest));
+            when(visitorEntryExitLogRepository.findKeysetPageAfter(tenantId, middle.getCreatedAt(), middle.getId(), 3))
+                    .thenReturn(List.of(oldest));
+
+            PagedResponse<VisitorLogResponse> first = visitorService.listVisitorLogs(PageRequest.of(0, 2), "", false);
+            PagedResponse<VisitorLogResponse> second = visitorService.listVisitorLogs(PageRequest.of(0, 2), first.nextCursor(), false);
+
+            assertEquals(List.of(newest.getId(), middle.getId()), first.content().stream().map(VisitorLogResponse::id).toList());
+            assertEquals(PagedResponse.UNKNOWN_TOTAL, first.totalElements());
+            assertTrue(first.first());
+            assertFalse(first.last());
+            assertEquals(List.of(oldest.getId()), second.content().stream().map(VisitorLogResponse::id).toList());
+            assertTrue(second.last());
+            assertNull(second.nextCursor());
+            verify(visitorEntryExitLogRepository, never()).countByTenantIdAndDeletedFalse(any());
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
     private ShieldPrincipal principal() {
         return new ShieldPrincipal(UUID.randomUUID(), UUID.randomUUID(), "admin@shield.dev", "ADMIN");
     }
+
+    private VisitorEntryExitLogEntity visitorLog(UUID tenantId, Instant createdAt) {
+        VisitorEntryExitLogEntity log = new VisitorEntryExitLogEntity();
+        log.setId(UUID.randomUUID());
+        log.setTenantId(tenantId);
+        log.setVisitorPassId(UUID.randomUUID());
+        log.setEntryTime(createdAt);
+        log.setCreatedAt(createdAt);
+        return log;
+    }
 }
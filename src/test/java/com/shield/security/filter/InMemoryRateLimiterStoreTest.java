@@ -0,0 +1,79 @@
+package com.shield.security.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRateLimiterStoreTest {
+
+    private final InMemoryRateLimiterStore store = new InMemoryRateLimiterStore();
+
+    @Test
+    void shouldCountRequestsWithinWindowPerKey() {
+        Instant now = Instant.ofEpochSecond(1_000_020);
+
+        assertEquals(1, store.incrementAndGet("/api/v1/auth/login|10.0.0.1", now, 60));
+        assertEquals(2, store.incrementAndGet("/api/v1/auth/login|10.0.0.1", now, 60));
+        assertEquals(1, store.incrementAndGet("/api/v1/auth/login|10.0.0.2", now, 60));
+    }
+
+    @Test
+    void shouldWeighPreviousWindowBySlidingOverlap() {
+        Instant windowStart = Instant.ofEpochSecond(60L * 20_000);
+        for (int i = 0; i < 10; i++) {
+            store.incrementAndGet("key", windowStart.minusSeconds(30), 60);
+        }
+
+        assertEquals(6, store.incrementAndGet("key", windowStart.plusSeconds(30), 60));
+        assertEquals(1, store.incrementAndGet("key", windowStart.plusSeconds(150), 60));
+    }
+
+    @Test
+    void shouldNotLoseIncrementsUnderContention() throws Exception {
+        Instant now = Instant.ofEpochSecond(1_000_020);
+        int threads = 8;
+        int perThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        store.incrementAndGet("shared", now, 60);
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * perThread + 1, store.incrementAndGet("shared", now, 60));
+    }
+
+    @Test
+    void shouldSweepIdleKeys() {
+        Instant old = Instant.ofEpochSecond(1_000_020);
+        for (int i = 0; i < 64; i++) {
+            store.incrementAndGet("idle-" + i, old, 60);
+        }
+
+        Instant later = old.plusSeconds(3600);
+        for (int i = 0; i < 256 * 16; i++) {
+            store.incrementAndGet("active", later, 60);
+        }
+
+        assertTrue(store.trackedKeys() <= 1);
+    }
+}
@@ -0,0 +1,100 @@
+package com.shield.security.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.shield.module.platform.service.PlatformRootService;
+import com.shield.security.jwt.JwtPrincipalCache;
+import com.shield.security.jwt.JwtService;
+import com.shield.security.model.ShieldPrincipal;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class JwtAuthenticationFilterTest {
+
+    private final JwtService jwtService = spy(new JwtService("unit-test-secret-key-minimum-32-bytes-long", 30, 60));
+    private final JwtPrincipalCache jwtPrincipalCache = new JwtPrincipalCache(100);
+    private final PlatformRootService platformRootService = mock(PlatformRootService.class);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, jwtPrincipalCache, platformRootService);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldAuthenticateAndReuseCachedPrincipalForRepeatedToken() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID tenantId = UUID.randomUUID();
+        String token = jwtService.generateAccessToken(userId, tenantId, "admin@shield.dev", "ADMIN");
+
+        Authentication first = authenticate(token);
+        SecurityContextHolder.clearContext();
+        Authentication second = authenticate(token);
+
+        assertNotNull(first);
+        assertNotNull(second);
+        ShieldPrincipal principal = (ShieldPrincipal) second.getPrincipal();
+        assertEquals(userId, principal.userId());
+        assertEquals(tenantId, principal.tenantId());
+        assertTrue(second.getAuthorities().stream().anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority())));
+        verify(jwtService, times(1)).parseClaims(token);
+        assertEquals(1, jwtPrincipalCache.size());
+    }
+
+    @Test
+    void shouldRejectRefreshTokenWithoutCaching() throws Exception {
+        String token = jwtService.generateRefreshToken(UUID.randomUUID(), UUID.randomUUID(), "user@shield.dev", "OWNER");
+
+        assertNull(authenticate(token));
+        assertEquals(0, jwtPrincipalCache.size());
+    }
+
+    @Test
+    void shouldRevalidateRootTokenVersionOnCachedHit() throws Exception {
+        UUID rootId = UUID.randomUUID();
+        String token = jwtService.generateRootAccessToken(rootId, "root", 3L);
+        when(platformRootService.isRootTokenVersionValid(rootId, 3L)).thenReturn(true, false);
+
+        assertNotNull(authenticate(token));
+        SecurityContextHolder.clearContext();
+        assertNull(authenticate(token));
+        verify(platformRootService, times(2)).isRootTokenVersionValid(rootId, 3L);
+    }
+
+    @Test
+    void shouldSkipTokenParsingForPublicEndpoints() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.addHeader("Authorization", "Bearer not-a-jwt");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        verify(jwtService, never()).parseClaims(anyString());
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/units");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertNotNull(chain.getRequest());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
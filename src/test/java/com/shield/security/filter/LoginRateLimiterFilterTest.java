@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -24,17 +25,17 @@ class LoginRateLimiterFilterTest {
         return new ObjectMapper().registerModule(new JavaTimeModule());
     }
 
-    private ObjectProvider<LoginRateLimiterStore> provider(LoginRateLimiterStore store) {
+    private ObjectProvider<RateLimiterStore> provider(RateLimiterStore store) {
         @SuppressWarnings("unchecked")
-        ObjectProvider<LoginRateLimiterStore> provider = mock(ObjectProvider.class);
+        ObjectProvider<RateLimiterStore> provider = mock(ObjectProvider.class);
         when(provider.getIfAvailable()).thenReturn(store);
         return provider;
     }
 
     @Test
     void shouldApplyRateLimitToOtpSendEndpoint() throws Exception {
-        LoginRateLimiterStore store = mock(LoginRateLimiterStore.class);
-        when(store.incrementAndGet(anyString(), any(Instant.class))).thenReturn(1, 2);
+        RateLimiterStore store = mock(RateLimiterStore.class);
+        when(store.incrementAndGet(anyString(), any(Instant.class), anyInt())).thenReturn(1, 2);
         LoginRateLimiterFilter filter = new LoginRateLimiterFilter(objectMapper(), provider(store), 1, 60);
 
         MockHttpServletRequest firstRequest = new MockHttpServletRequest("POST", "/api/v1/auth/login/otp/send");
@@ -59,7 +60,7 @@ class LoginRateLimiterFilterTest {
 
     @Test
     void shouldSkipRateLimitForOtherEndpoints() throws Exception {
-        LoginRateLimiterStore store = mock(LoginRateLimiterStore.class);
+        RateLimiterStore store = mock(RateLimiterStore.class);
         LoginRateLimiterFilter filter = new LoginRateLimiterFilter(objectMapper(), provider(store), 1, 60);
 
         MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tenants");
@@ -74,8 +75,8 @@ class LoginRateLimiterFilterTest {
 
     @Test
     void shouldApplyRateLimitToRootLoginEndpoint() throws Exception {
-        LoginRateLimiterStore store = mock(LoginRateLimiterStore.class);
-        when(store.incrementAndGet(anyString(), any(Instant.class))).thenReturn(1, 2);
+        RateLimiterStore store = mock(RateLimiterStore.class);
+        when(store.incrementAndGet(anyString(), any(Instant.class), anyInt())).thenReturn(1, 2);
         LoginRateLimiterFilter filter = new LoginRateLimiterFilter(objectMapper(), provider(store), 1, 60);
 
         MockHttpServletRequest firstRequest = new MockHttpServletRequest("POST", "/api/v1/platform/root/login");
@@ -0,0 +1,98 @@
+package com.shield.security.jwt;
+
+import com.shield.security.filter.JwtAuthenticationFilter;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-minimum-32-bytes-long";
+
+    private SecretKey signingKey;
+    private JwtService jwtService;
+    private JwtAuthenticationFilter uncachedFilter;
+    private JwtAuthenticationFilter cachedFilter;
+    private String token;
+
+    @Setup
+    public void setup() {
+        signingKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtService = new JwtService(SECRET, 30, 60);
+        uncachedFilter = new JwtAuthenticationFilter(jwtService, new JwtPrincipalCache(0), null);
+        cachedFilter = new JwtAuthenticationFilter(jwtService, new JwtPrincipalCache(10_000), null);
+        token = jwtService.generateAccessToken(UUID.randomUUID(), UUID.randomUUID(), "admin@shield.dev", "ADMIN");
+    }
+
+    @Benchmark
+    public void legacyParserPerRequest(Blackhole blackhole) {
+        Claims claims = Jwts.parser()
+                .verifyWith(signingKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        blackhole.consume(UUID.fromString(claims.get("userId", String.class)));
+        blackhole.consume(UUID.fromString(claims.get("tenantId", String.class)));
+        blackhole.consume(List.of(new SimpleGrantedAuthority("ROLE_" + claims.get("role", String.class))));
+    }
+
+    @Benchmark
+    public void sharedParser(Blackhole blackhole) {
+        blackhole.consume(jwtService.parseClaims(token));
+    }
+
+    @Benchmark
+    public void filterWithoutPrincipalCache(Blackhole blackhole) throws Exception {
+        blackhole.consume(authenticate(uncachedFilter));
+    }
+
+    @Benchmark
+    public void filterWithPrincipalCache(Blackhole blackhole) throws Exception {
+        blackhole.consume(authenticate(cachedFilter));
+    }
+
+    private Object authenticate(JwtAuthenticationFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/units");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
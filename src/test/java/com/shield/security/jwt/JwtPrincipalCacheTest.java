@@ -0,0 +1,43 @@
+package com.shield.security.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.shield.security.jwt.JwtPrincipalCache.CachedPrincipal;
+import com.shield.security.model.ShieldPrincipal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class JwtPrincipalCacheTest {
+
+    @Test
+    void getShouldReturnPrincipalUntilTokenExpires() {
+        JwtPrincipalCache cache = new JwtPrincipalCache(10);
+        CachedPrincipal live = cached(Instant.now().plusSeconds(600));
+        CachedPrincipal expired = cached(Instant.now().minusSeconds(1));
+
+        cache.put("live-token", live);
+        cache.put("expired-token", expired);
+
+        assertEquals(live, cache.get("live-token").orElseThrow());
+        assertTrue(cache.get("expired-token").isEmpty());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void disabledCacheShouldNeverStore() {
+        JwtPrincipalCache cache = new JwtPrincipalCache(0);
+
+        cache.put("token", cached(Instant.now().plusSeconds(600)));
+
+        assertTrue(cache.get("token").isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    private static CachedPrincipal cached(Instant expiresAt) {
+        ShieldPrincipal principal = new ShieldPrincipal(UUID.randomUUID(), UUID.randomUUID(), "admin@shield.dev", "ADMIN");
+        return new CachedPrincipal(principal, List.of(), expiresAt);
+    }
+}